@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sqlfederation.cache.SQLFederationResultCache;
+import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
+
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy SQL federation result cache exporter.
+ */
+public final class ProxySQLFederationResultCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_sql_federation_result_cache", MetricCollectorType.GAUGE_METRIC_FAMILY,
+            "SQL federation result cache of ShardingSphere-Proxy. hit_count and miss_count are total lookups; eviction_count is total evicted results; size is number of cached results",
+            Collections.singletonList("name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        Optional<SQLFederationResultCache> resultCache = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData()
+                .findSingleRule(SQLFederationRule.class).map(SQLFederationRule::getResultCache).filter(SQLFederationResultCache::isEnabled);
+        if (!resultCache.isPresent()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        result.addMetric(Collections.singletonList("hit_count"), resultCache.get().getHitCount());
+        result.addMetric(Collections.singletonList("miss_count"), resultCache.get().getMissCount());
+        result.addMetric(Collections.singletonList("eviction_count"), resultCache.get().getEvictionCount());
+        result.addMetric(Collections.singletonList("size"), resultCache.get().getEstimatedSize());
+        return Optional.of(result);
+    }
+}
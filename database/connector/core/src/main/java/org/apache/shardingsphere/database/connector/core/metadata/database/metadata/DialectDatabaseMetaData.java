@@ -29,6 +29,7 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.metad
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.join.DialectJoinOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.keygen.DialectGeneratedKeyOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.pagination.DialectPaginationOption;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.sample.DialectSampleOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.schema.DefaultSchemaOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.schema.DialectSchemaOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.table.DialectDriverQuerySystemCatalogOption;
@@ -165,4 +166,13 @@ public interface DialectDatabaseMetaData extends DatabaseTypedSPI {
     default Optional<DialectAlterTableOption> getAlterTableOption() {
         return Optional.empty();
     }
+    
+    /**
+     * Get sample option.
+     *
+     * @return sample option
+     */
+    default DialectSampleOption getSampleOption() {
+        return new DialectSampleOption("RAND()");
+    }
 }
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.enums
 import org.apache.shardingsphere.database.connector.core.metadata.database.enums.QuoteCharacter;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.DialectDatabaseMetaData;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.IdentifierPatternType;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.sample.DialectSampleOption;
 
 /**
  * Database meta data of ClickHouse.
@@ -42,6 +43,11 @@ public final class ClickHouseDatabaseMetaData implements DialectDatabaseMetaData
         return NullsOrderType.LOW;
     }
     
+    @Override
+    public DialectSampleOption getSampleOption() {
+        return new DialectSampleOption("randCanonical()");
+    }
+    
     @Override
     public String getDatabaseType() {
         return "ClickHouse";
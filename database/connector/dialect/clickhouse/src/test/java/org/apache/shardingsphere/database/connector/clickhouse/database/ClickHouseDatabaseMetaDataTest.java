@@ -41,4 +41,9 @@ class ClickHouseDatabaseMetaDataTest {
     void assertGetDefaultNullsOrderType() {
         assertThat(dialectDatabaseMetaData.getDefaultNullsOrderType(), is(NullsOrderType.LOW));
     }
+    
+    @Test
+    void assertGetSampleOption() {
+        assertThat(dialectDatabaseMetaData.getSampleOption().getRandomFunction(), is("randCanonical()"));
+    }
 }
@@ -41,4 +41,9 @@ class MySQLDatabaseMetaDataTest {
     void assertGetDefaultNullsOrderType() {
         assertThat(dialectDatabaseMetaData.getDefaultNullsOrderType(), is(NullsOrderType.LOW));
     }
+    
+    @Test
+    void assertGetSampleOption() {
+        assertThat(dialectDatabaseMetaData.getSampleOption().getRandomFunction(), is("RAND()"));
+    }
 }
@@ -48,4 +48,9 @@ class OpenGaussDatabaseMetaDataTest {
     void assertGetDefaultSchema() {
         assertThat(dialectDatabaseMetaData.getSchemaOption().getDefaultSchema(), is(Optional.of("public")));
     }
+    
+    @Test
+    void assertGetSampleOption() {
+        assertThat(dialectDatabaseMetaData.getSampleOption().getRandomFunction(), is("random()"));
+    }
 }
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.metad
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.datatype.DialectDataTypeOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.index.DialectIndexOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.pagination.DialectPaginationOption;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.sample.DialectSampleOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.schema.DialectSchemaOption;
 import org.apache.shardingsphere.database.connector.oracle.metadata.database.option.OracleDataTypeOption;
 import org.apache.shardingsphere.database.connector.oracle.metadata.database.option.OracleSchemaOption;
@@ -82,6 +83,11 @@ public final class OracleDatabaseMetaData implements DialectDatabaseMetaData {
         return Optional.of(new DialectAlterTableOption(true, true));
     }
     
+    @Override
+    public DialectSampleOption getSampleOption() {
+        return new DialectSampleOption("DBMS_RANDOM.VALUE");
+    }
+    
     @Override
     public String getDatabaseType() {
         return "Oracle";
@@ -56,4 +56,9 @@ class OracleDatabaseMetaDataTest {
         when(connection.getMetaData().getUserName()).thenThrow(SQLException.class);
         assertNull(dialectDatabaseMetaData.getSchemaOption().getSchema(connection));
     }
+    
+    @Test
+    void assertGetSampleOption() {
+        assertThat(dialectDatabaseMetaData.getSampleOption().getRandomFunction(), is("DBMS_RANDOM.VALUE"));
+    }
 }
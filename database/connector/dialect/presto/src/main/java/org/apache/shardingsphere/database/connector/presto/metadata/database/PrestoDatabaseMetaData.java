@@ -21,6 +21,7 @@ import org.apache.shardingsphere.database.connector.core.metadata.database.enums
 import org.apache.shardingsphere.database.connector.core.metadata.database.enums.QuoteCharacter;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.DialectDatabaseMetaData;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.IdentifierPatternType;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.sample.DialectSampleOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.schema.DefaultSchemaOption;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.schema.DialectSchemaOption;
 
@@ -49,6 +50,11 @@ public final class PrestoDatabaseMetaData implements DialectDatabaseMetaData {
         return new DefaultSchemaOption(false, "default");
     }
     
+    @Override
+    public DialectSampleOption getSampleOption() {
+        return new DialectSampleOption("random()");
+    }
+    
     @Override
     public String getDatabaseType() {
         return "Presto";
@@ -35,4 +35,9 @@ class SQLServerDatabaseMetaDataTest {
     void assertGetQuoteCharacter() {
         assertThat(dialectDatabaseMetaData.getQuoteCharacter(), is(QuoteCharacter.BRACKETS));
     }
+    
+    @Test
+    void assertGetSampleOption() {
+        assertThat(dialectDatabaseMetaData.getSampleOption().getRandomFunction(), is("RAND(CHECKSUM(NEWID()))"));
+    }
 }
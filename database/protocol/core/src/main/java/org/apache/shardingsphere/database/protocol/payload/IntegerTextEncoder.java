@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.payload;
+
+import io.netty.buffer.ByteBuf;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Integer text encoder.
+ * <p>
+ * Write decimal text of integer values into byte buffer directly, without creating intermediate strings and byte arrays.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IntegerTextEncoder {
+    
+    private static final byte[] MIN_LONG_VALUE_TEXT = String.valueOf(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    
+    /**
+     * Judge whether value could be encoded.
+     *
+     * @param value value
+     * @return could be encoded or not
+     */
+    public static boolean isSupported(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * Get length of decimal text.
+     *
+     * @param value value
+     * @return length of decimal text
+     */
+    public static int getTextLength(final long value) {
+        if (Long.MIN_VALUE == value) {
+            return MIN_LONG_VALUE_TEXT.length;
+        }
+        int result = value < 0L ? 2 : 1;
+        long remaining = Math.abs(value);
+        while (remaining >= 10L) {
+            remaining /= 10L;
+            result++;
+        }
+        return result;
+    }
+    
+    /**
+     * Write decimal text of value.
+     *
+     * @param byteBuf byte buffer to be written
+     * @param value value
+     * @param textLength length of decimal text, should be calculated by {@link #getTextLength(long)}
+     */
+    public static void write(final ByteBuf byteBuf, final long value, final int textLength) {
+        if (Long.MIN_VALUE == value) {
+            byteBuf.writeBytes(MIN_LONG_VALUE_TEXT);
+            return;
+        }
+        byteBuf.ensureWritable(textLength);
+        int startIndex = byteBuf.writerIndex();
+        int index = startIndex + textLength;
+        long remaining = Math.abs(value);
+        do {
+            byteBuf.setByte(--index, (int) ('0' + remaining % 10L));
+            remaining /= 10L;
+        } while (remaining > 0L);
+        if (value < 0L) {
+            byteBuf.setByte(startIndex, '-');
+        }
+        byteBuf.writerIndex(startIndex + textLength);
+    }
+}
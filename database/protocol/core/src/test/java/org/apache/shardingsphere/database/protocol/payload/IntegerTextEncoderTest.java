@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.payload;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntegerTextEncoderTest {
+    
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 7L, -7L, 10L, -10L, 123456789L, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE})
+    void assertWrite(final long value) {
+        ByteBuf byteBuf = Unpooled.buffer(1);
+        byteBuf.writeByte('x');
+        int textLength = IntegerTextEncoder.getTextLength(value);
+        IntegerTextEncoder.write(byteBuf, value, textLength);
+        assertThat(textLength, is(String.valueOf(value).length()));
+        assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("x" + value));
+    }
+    
+    @Test
+    void assertIsSupported() {
+        assertTrue(IntegerTextEncoder.isSupported(1L));
+        assertTrue(IntegerTextEncoder.isSupported(1));
+        assertTrue(IntegerTextEncoder.isSupported((short) 1));
+        assertTrue(IntegerTextEncoder.isSupported((byte) 1));
+    }
+    
+    @Test
+    void assertIsNotSupported() {
+        assertFalse(IntegerTextEncoder.isSupported("1"));
+        assertFalse(IntegerTextEncoder.isSupported(1D));
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,12 +26,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -64,6 +69,16 @@ class MySQLTextResultSetRowPacketTest {
         verify(payload).writeBytesLenenc(new byte[]{1});
     }
     
+    @Test
+    void assertWriteInteger() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        new MySQLTextResultSetRowPacket(Arrays.asList(1, -20L, (short) 300)).write(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        MySQLPacketPayload actual = new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        assertThat(actual.readStringLenenc(), is("1"));
+        assertThat(actual.readStringLenenc(), is("-20"));
+        assertThat(actual.readStringLenenc(), is("300"));
+    }
+    
     @Test
     void assertTimestampWithoutNanos() {
         long now = System.currentTimeMillis() / 1000L * 1000L;
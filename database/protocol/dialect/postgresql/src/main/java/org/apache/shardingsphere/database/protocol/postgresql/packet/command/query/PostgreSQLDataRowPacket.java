@@ -20,6 +20,7 @@ package org.apache.shardingsphere.database.protocol.postgresql.packet.command.qu
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.database.protocol.payload.IntegerTextEncoder;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValue;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.bind.protocol.PostgreSQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
@@ -66,6 +67,11 @@ public final class PostgreSQLDataRowPacket extends PostgreSQLIdentifierPacket {
     private void writeTextValue(final PostgreSQLPacketPayload payload, final Object each) {
         if (null == each) {
             payload.writeInt4(0xFFFFFFFF);
+        } else if (IntegerTextEncoder.isSupported(each)) {
+            long value = ((Number) each).longValue();
+            int textLength = IntegerTextEncoder.getTextLength(value);
+            payload.writeInt4(textLength);
+            IntegerTextEncoder.write(payload.getByteBuf(), value, textLength);
         } else if (each instanceof byte[]) {
             payload.writeInt4(((byte[]) each).length);
             payload.writeBytes((byte[]) each);
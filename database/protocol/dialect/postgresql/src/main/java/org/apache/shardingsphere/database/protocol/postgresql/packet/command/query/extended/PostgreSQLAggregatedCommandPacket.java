@@ -20,77 +20,80 @@ package org.apache.shardingsphere.database.protocol.postgresql.packet.command.qu
 import lombok.Getter;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
-import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.identifier.PostgreSQLIdentifierTag;
 import org.apache.shardingsphere.database.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 public final class PostgreSQLAggregatedCommandPacket extends PostgreSQLCommandPacket {
     
-    private final List<PostgreSQLCommandPacket> packets;
+    private static final int MIN_BATCHED_EXECUTE_COUNT = 3;
     
-    private final boolean containsBatchedStatements;
+    private static final char DESCRIBE_PORTAL_TYPE = 'P';
     
-    private final int batchPacketBeginIndex;
+    private final List<PostgreSQLCommandPacket> packets;
     
-    private final int batchPacketEndIndex;
+    private final List<PostgreSQLBatchedPacketRange> batchPacketRanges;
+    
+    private final boolean containsBatchedStatements;
     
     public PostgreSQLAggregatedCommandPacket(final List<PostgreSQLCommandPacket> packets) {
         this.packets = packets;
-        String firstStatementId = null;
-        String firstPortal = null;
-        int parsePacketCount = 0;
-        int bindPacketCountForFirstStatement = 0;
-        int executePacketCountForFirstStatement = 0;
-        int batchPacketBeginIndex = -1;
-        int batchPacketEndIndex = -1;
+        batchPacketRanges = createBatchPacketRanges(packets);
+        containsBatchedStatements = !batchPacketRanges.isEmpty();
+    }
+    
+    private List<PostgreSQLBatchedPacketRange> createBatchPacketRanges(final List<PostgreSQLCommandPacket> packets) {
+        List<PostgreSQLBatchedPacketRange> result = new ArrayList<>();
         int index = 0;
-        for (PostgreSQLCommandPacket each : packets) {
-            if (each instanceof PostgreSQLComParsePacket) {
-                if (++parsePacketCount > 1) {
-                    break;
-                }
-                if (null == firstStatementId) {
-                    firstStatementId = ((PostgreSQLComParsePacket) each).getStatementId();
-                } else if (!firstStatementId.equals(((PostgreSQLComParsePacket) each).getStatementId())) {
-                    break;
-                }
+        while (index < packets.size()) {
+            int batchPacketEndIndex = findBatchPacketEndIndex(packets, index);
+            if (-1 == batchPacketEndIndex) {
+                index++;
+            } else {
+                result.add(new PostgreSQLBatchedPacketRange(index, batchPacketEndIndex));
+                index = batchPacketEndIndex + 1;
             }
-            if (each instanceof PostgreSQLComBindPacket) {
-                if (-1 == batchPacketBeginIndex) {
-                    batchPacketBeginIndex = index;
-                }
-                if (null == firstStatementId) {
-                    firstStatementId = ((PostgreSQLComBindPacket) each).getStatementId();
-                } else if (!firstStatementId.equals(((PostgreSQLComBindPacket) each).getStatementId())) {
-                    break;
-                }
-                if (null == firstPortal) {
-                    firstPortal = ((PostgreSQLComBindPacket) each).getPortal();
-                } else if (!firstPortal.equals(((PostgreSQLComBindPacket) each).getPortal())) {
-                    break;
-                }
-                bindPacketCountForFirstStatement++;
-            }
-            if (each instanceof PostgreSQLComExecutePacket) {
-                if (index > batchPacketEndIndex) {
-                    batchPacketEndIndex = index;
-                }
-                if (null == firstPortal) {
-                    firstPortal = ((PostgreSQLComExecutePacket) each).getPortal();
-                } else if (!firstPortal.equals(((PostgreSQLComExecutePacket) each).getPortal())) {
-                    break;
-                }
-                executePacketCountForFirstStatement++;
+        }
+        return result;
+    }
+    
+    private int findBatchPacketEndIndex(final List<PostgreSQLCommandPacket> packets, final int beginIndex) {
+        if (!(packets.get(beginIndex) instanceof PostgreSQLComBindPacket)) {
+            return -1;
+        }
+        PostgreSQLComBindPacket firstBindPacket = (PostgreSQLComBindPacket) packets.get(beginIndex);
+        int result = -1;
+        int executeCount = 0;
+        int index = beginIndex;
+        while (index < packets.size() && isSameBind(packets.get(index), firstBindPacket)) {
+            int executeIndex = isDescribePortal(packets, index + 1, firstBindPacket.getPortal()) ? index + 2 : index + 1;
+            if (executeIndex >= packets.size() || !isExecutePortal(packets.get(executeIndex), firstBindPacket.getPortal())) {
+                break;
             }
-            index++;
+            result = executeIndex;
+            executeCount++;
+            index = executeIndex + 1;
         }
-        this.batchPacketBeginIndex = batchPacketBeginIndex;
-        this.batchPacketEndIndex = batchPacketEndIndex;
-        containsBatchedStatements = bindPacketCountForFirstStatement == executePacketCountForFirstStatement && bindPacketCountForFirstStatement >= 3;
+        return executeCount >= MIN_BATCHED_EXECUTE_COUNT ? result : -1;
+    }
+    
+    private boolean isSameBind(final PostgreSQLCommandPacket packet, final PostgreSQLComBindPacket firstBindPacket) {
+        return packet instanceof PostgreSQLComBindPacket && firstBindPacket.getStatementId().equals(((PostgreSQLComBindPacket) packet).getStatementId())
+                && firstBindPacket.getPortal().equals(((PostgreSQLComBindPacket) packet).getPortal());
+    }
+    
+    private boolean isDescribePortal(final List<PostgreSQLCommandPacket> packets, final int index, final String portal) {
+        return index < packets.size() && packets.get(index) instanceof PostgreSQLComDescribePacket
+                && DESCRIBE_PORTAL_TYPE == ((PostgreSQLComDescribePacket) packets.get(index)).getType() && portal.equals(((PostgreSQLComDescribePacket) packets.get(index)).getName());
+    }
+    
+    private boolean isExecutePortal(final PostgreSQLCommandPacket packet, final String portal) {
+        return packet instanceof PostgreSQLComExecutePacket && portal.equals(((PostgreSQLComExecutePacket) packet).getPortal());
     }
     
     @Override
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.database.protocol.postgresql.packet.command.query;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.database.protocol.binary.BinaryCell;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.identifier.PostgreSQLMessagePacketType;
@@ -72,6 +74,16 @@ class PostgreSQLDataRowPacketTest {
         verify(payload).writeBytes(new byte[]{'a'});
     }
     
+    @Test
+    void assertWriteWithInteger() {
+        ByteBuf byteBuf = Unpooled.buffer();
+        when(payload.getByteBuf()).thenReturn(byteBuf);
+        PostgreSQLDataRowPacket actual = new PostgreSQLDataRowPacket(Collections.singleton(-123L));
+        actual.write(payload);
+        verify(payload).writeInt4(4);
+        assertThat(byteBuf.toString(StandardCharsets.UTF_8), is("-123"));
+    }
+    
     @Test
     void assertWriteWithSQLXML() throws SQLException {
         when(sqlxml.getString()).thenReturn("value");
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended;
+
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.sync.PostgreSQLComSyncPacket;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLAggregatedCommandPacketTest {
+    
+    @Test
+    void assertNotContainsBatchedStatementsWithTooFewExecutions() {
+        List<PostgreSQLCommandPacket> packets = new ArrayList<>();
+        packets.add(mock(PostgreSQLComParsePacket.class));
+        addBindAndExecutePackets(packets, "S_1", 2);
+        packets.add(mock(PostgreSQLComSyncPacket.class));
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(packets);
+        assertFalse(actual.isContainsBatchedStatements());
+        assertTrue(actual.getBatchPacketRanges().isEmpty());
+    }
+    
+    @Test
+    void assertContainsBatchedStatementsWithDescribePortal() {
+        List<PostgreSQLCommandPacket> packets = new ArrayList<>();
+        packets.add(mock(PostgreSQLComParsePacket.class));
+        for (int i = 0; i < 3; i++) {
+            packets.add(createBindPacket("S_1"));
+            packets.add(createDescribePortalPacket());
+            packets.add(createExecutePacket());
+        }
+        packets.add(mock(PostgreSQLComSyncPacket.class));
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(packets);
+        assertTrue(actual.isContainsBatchedStatements());
+        assertThat(actual.getBatchPacketRanges().size(), is(1));
+        assertBatchPacketRange(actual.getBatchPacketRanges().get(0), 1, 9);
+    }
+    
+    @Test
+    void assertContainsMultipleBatchedStatements() {
+        List<PostgreSQLCommandPacket> packets = new ArrayList<>();
+        packets.add(mock(PostgreSQLComParsePacket.class));
+        addBindAndExecutePackets(packets, "S_1", 3);
+        packets.add(mock(PostgreSQLComParsePacket.class));
+        addBindAndExecutePackets(packets, "S_2", 4);
+        addBindAndExecutePackets(packets, "S_1", 1);
+        packets.add(mock(PostgreSQLComSyncPacket.class));
+        PostgreSQLAggregatedCommandPacket actual = new PostgreSQLAggregatedCommandPacket(packets);
+        assertTrue(actual.isContainsBatchedStatements());
+        assertThat(actual.getBatchPacketRanges().size(), is(2));
+        assertBatchPacketRange(actual.getBatchPacketRanges().get(0), 1, 6);
+        assertBatchPacketRange(actual.getBatchPacketRanges().get(1), 8, 15);
+    }
+    
+    @Test
+    void assertNotContainsBatchedStatementsWithDifferentPortals() {
+        List<PostgreSQLCommandPacket> packets = new ArrayList<>();
+        for (String each : Arrays.asList("P_1", "P_2", "P_3")) {
+            PostgreSQLComBindPacket bindPacket = createBindPacket("S_1");
+            when(bindPacket.getPortal()).thenReturn(each);
+            PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+            when(executePacket.getPortal()).thenReturn(each);
+            packets.add(bindPacket);
+            packets.add(executePacket);
+        }
+        assertFalse(new PostgreSQLAggregatedCommandPacket(packets).isContainsBatchedStatements());
+    }
+    
+    private void addBindAndExecutePackets(final List<PostgreSQLCommandPacket> packets, final String statementId, final int count) {
+        for (int i = 0; i < count; i++) {
+            packets.add(createBindPacket(statementId));
+            packets.add(createExecutePacket());
+        }
+    }
+    
+    private PostgreSQLComBindPacket createBindPacket(final String statementId) {
+        PostgreSQLComBindPacket result = mock(PostgreSQLComBindPacket.class);
+        when(result.getStatementId()).thenReturn(statementId);
+        when(result.getPortal()).thenReturn("");
+        return result;
+    }
+    
+    private PostgreSQLComDescribePacket createDescribePortalPacket() {
+        PostgreSQLComDescribePacket result = mock(PostgreSQLComDescribePacket.class);
+        when(result.getType()).thenReturn('P');
+        when(result.getName()).thenReturn("");
+        return result;
+    }
+    
+    private PostgreSQLComExecutePacket createExecutePacket() {
+        PostgreSQLComExecutePacket result = mock(PostgreSQLComExecutePacket.class);
+        when(result.getPortal()).thenReturn("");
+        return result;
+    }
+    
+    private void assertBatchPacketRange(final PostgreSQLBatchedPacketRange actual, final int expectedBeginIndex, final int expectedEndIndex) {
+        assertThat(actual.getBeginIndex(), is(expectedBeginIndex));
+        assertThat(actual.getEndIndex(), is(expectedEndIndex));
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.readwritesplitting.exception.ReadwriteSplitting
 import org.apache.shardingsphere.readwritesplitting.exception.actual.DuplicateReadwriteSplittingActualDataSourceException;
 import org.apache.shardingsphere.readwritesplitting.exception.actual.MissingRequiredReadwriteSplittingActualDataSourceException;
 import org.apache.shardingsphere.readwritesplitting.exception.actual.ReadwriteSplittingActualDataSourceNotFoundException;
+import org.apache.shardingsphere.readwritesplitting.exception.logic.InvalidReadwriteSplittingReplicationLagSampleIntervalException;
 import org.apache.shardingsphere.readwritesplitting.exception.logic.MissingRequiredReadwriteSplittingDataSourceRuleNameException;
 
 import javax.sql.DataSource;
@@ -69,6 +70,10 @@ public final class ReadwriteSplittingDataSourceRuleConfigurationChecker {
                 () -> new MissingRequiredReadwriteSplittingActualDataSourceException(ReadwriteSplittingDataSourceType.READ, exceptionIdentifier));
         checkActualSourceNames(ReadwriteSplittingDataSourceType.WRITE, config.getWriteDataSourceName(), builtWriteDataSourceNames, builtRules);
         config.getReadDataSourceNames().forEach(each -> checkActualSourceNames(ReadwriteSplittingDataSourceType.READ, each, builtReadDataSourceNames, builtRules));
+        if (null != config.getReplicationLag()) {
+            ShardingSpherePreconditions.checkState(config.getReplicationLag().getSampleIntervalMilliseconds() > 0L,
+                    () -> new InvalidReadwriteSplittingReplicationLagSampleIntervalException(exceptionIdentifier));
+        }
     }
     
     private void checkActualSourceNames(final ReadwriteSplittingDataSourceType type, final String actualDataSourceName,
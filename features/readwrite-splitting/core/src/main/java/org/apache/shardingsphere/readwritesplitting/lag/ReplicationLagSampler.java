@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Replication lag sampler.
+ *
+ * <p>Samples are triggered by routing asynchronously once sample interval elapsed, so idle or discarded rules never sample.
+ * Samples run on the executor of the readwrite-splitting rule, which is shut down when the rule is closed.
+ * A read data source failed to sample is treated as lagging behind infinitely until it is sampled successfully.
+ * A read data source which is not a replica is treated as not lagging, and lag of read data source which can not be sampled is absent.</p>
+ */
+@Slf4j
+public final class ReplicationLagSampler {
+    
+    private final Collection<String> readDataSourceNames;
+    
+    private final Map<String, StorageUnit> storageUnits;
+    
+    private final long sampleIntervalMilliseconds;
+    
+    private final ExecutorService executorService;
+    
+    private final Map<String, ReplicationLag> replicationLags = new ConcurrentHashMap<>();
+    
+    private final AtomicBoolean sampling = new AtomicBoolean();
+    
+    private volatile long nextSampleMillis;
+    
+    public ReplicationLagSampler(final Collection<String> readDataSourceNames, final Map<String, StorageUnit> storageUnits, final long sampleIntervalMilliseconds,
+                                 final ExecutorService executorService) {
+        this.readDataSourceNames = readDataSourceNames;
+        this.storageUnits = storageUnits;
+        this.sampleIntervalMilliseconds = sampleIntervalMilliseconds;
+        this.executorService = executorService;
+    }
+    
+    /**
+     * Get replication lags of read data sources, and sample again asynchronously if sample interval elapsed.
+     *
+     * @return replication lags, lag of read data source is absent if it is unknown
+     */
+    public Map<String, ReplicationLag> getReplicationLags() {
+        if (System.currentTimeMillis() >= nextSampleMillis && sampling.compareAndSet(false, true)) {
+            sampleAsynchronously();
+        }
+        return replicationLags;
+    }
+    
+    private void sampleAsynchronously() {
+        try {
+            executorService.execute(() -> {
+                try {
+                    sample();
+                } finally {
+                    sampling.set(false);
+                }
+            });
+        } catch (final RejectedExecutionException ignored) {
+            sampling.set(false);
+        }
+    }
+    
+    /**
+     * Sample replication lags of read data sources.
+     */
+    public void sample() {
+        for (String each : readDataSourceNames) {
+            Optional<ReplicationLag> replicationLag = sample(each);
+            if (replicationLag.isPresent()) {
+                replicationLags.put(each, replicationLag.get());
+            } else {
+                replicationLags.remove(each);
+            }
+        }
+        nextSampleMillis = System.currentTimeMillis() + sampleIntervalMilliseconds;
+    }
+    
+    private Optional<ReplicationLag> sample(final String readDataSourceName) {
+        StorageUnit storageUnit = storageUnits.get(readDataSourceName);
+        if (null == storageUnit) {
+            return Optional.empty();
+        }
+        Optional<DialectReplicationLagDetector> detector = DatabaseTypedSPILoader.findService(DialectReplicationLagDetector.class, storageUnit.getStorageType());
+        if (!detector.isPresent()) {
+            return Optional.empty();
+        }
+        long sampledMillis = System.currentTimeMillis();
+        try (Connection connection = storageUnit.getDataSource().getConnection()) {
+            return Optional.of(new ReplicationLag(detector.get().detect(connection).orElse(0L), sampledMillis));
+        } catch (final SQLException ex) {
+            log.warn("Sample replication lag of data source `{}` failed.", readDataSourceName, ex);
+            return Optional.of(new ReplicationLag(Long.MAX_VALUE, sampledMillis));
+        }
+    }
+}
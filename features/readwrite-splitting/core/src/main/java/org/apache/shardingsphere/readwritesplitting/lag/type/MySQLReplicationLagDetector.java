@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.type;
+
+import org.apache.shardingsphere.readwritesplitting.lag.DialectReplicationLagDetector;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import java.sql.Statement;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag detector of MySQL.
+ */
+public final class MySQLReplicationLagDetector implements DialectReplicationLagDetector {
+    
+    @Override
+    public Optional<Long> detect(final Connection connection) throws SQLException {
+        try {
+            return detectByStatus(connection, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+        } catch (final SQLSyntaxErrorException ignored) {
+            return detectByStatus(connection, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+        }
+    }
+    
+    private Optional<Long> detectByStatus(final Connection connection, final String sql, final String lagColumnLabel) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            long lagSeconds = resultSet.getLong(lagColumnLabel);
+            // Lag seconds is truncated and null if replication is stopped, round up to avoid treating changes in last second as replayed
+            return Optional.of(resultSet.wasNull() ? Long.MAX_VALUE : TimeUnit.SECONDS.toMillis(lagSeconds + 1L));
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
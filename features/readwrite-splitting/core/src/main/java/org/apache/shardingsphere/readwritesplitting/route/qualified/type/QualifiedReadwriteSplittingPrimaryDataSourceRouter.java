@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.readwritesplitting.route.qualified.type;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.QualifiedReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
@@ -29,8 +31,11 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.Se
 /**
  * Qualified data source primary router for readwrite-splitting.
  */
+@RequiredArgsConstructor
 public final class QualifiedReadwriteSplittingPrimaryDataSourceRouter implements QualifiedReadwriteSplittingDataSourceRouter {
     
+    private final ConnectionContext connectionContext;
+    
     @Override
     public boolean isQualified(final SQLStatementContext sqlStatementContext, final ReadwriteSplittingDataSourceGroupRule rule, final HintValueContext hintValueContext) {
         return isPrimaryRoute(sqlStatementContext, hintValueContext);
@@ -59,6 +64,9 @@ public final class QualifiedReadwriteSplittingPrimaryDataSourceRouter implements
     
     @Override
     public String route(final ReadwriteSplittingDataSourceGroupRule rule) {
+        if (rule.isReadYourWritesEnabled()) {
+            connectionContext.getReadWriteSplitLastWriteMillis().put(rule.getName(), QualifiedReadwriteSplittingReadYourWritesDataSourceRouter.UNRESOLVED_WRITE_MILLIS);
+        }
         return rule.getWriteDataSource();
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.qualified.type;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
+import org.apache.shardingsphere.readwritesplitting.route.qualified.QualifiedReadwriteSplittingDataSourceRouter;
+import org.apache.shardingsphere.readwritesplitting.route.standard.StandardReadwriteSplittingDataSourceRouter;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Qualified data source read your writes router for readwrite-splitting.
+ *
+ * <p>Routes reads of session after its last write to read data sources which replayed the write, or to write data source if none replayed.</p>
+ */
+@RequiredArgsConstructor
+public final class QualifiedReadwriteSplittingReadYourWritesDataSourceRouter implements QualifiedReadwriteSplittingDataSourceRouter {
+    
+    /**
+     * Last write millis of write which routed but not finished yet, it is resolved as current millis by the next read of session.
+     */
+    public static final long UNRESOLVED_WRITE_MILLIS = Long.MAX_VALUE;
+    
+    private final ConnectionContext connectionContext;
+    
+    private final StandardReadwriteSplittingDataSourceRouter standardRouter = new StandardReadwriteSplittingDataSourceRouter();
+    
+    @Override
+    public boolean isQualified(final SQLStatementContext sqlStatementContext, final ReadwriteSplittingDataSourceGroupRule rule, final HintValueContext hintValueContext) {
+        return rule.isReadYourWritesEnabled() && connectionContext.getReadWriteSplitLastWriteMillis().containsKey(rule.getName());
+    }
+    
+    @Override
+    public String route(final ReadwriteSplittingDataSourceGroupRule rule) {
+        long lastWriteMillis = getLastWriteMillis(rule.getName());
+        List<String> readDataSources = standardRouter.getFilteredReadDataSources(rule);
+        Map<String, ReplicationLag> replicationLags = rule.getReplicationLags();
+        List<String> replayedReadDataSources = readDataSources.stream()
+                .filter(each -> replicationLags.containsKey(each) && replicationLags.get(each).getReplayedMillis() >= lastWriteMillis).collect(Collectors.toList());
+        if (replayedReadDataSources.isEmpty()) {
+            return rule.getWriteDataSource();
+        }
+        if (replayedReadDataSources.size() == readDataSources.size()) {
+            connectionContext.getReadWriteSplitLastWriteMillis().remove(rule.getName());
+        }
+        return rule.getLoadBalancer().getTargetName(rule.getDatabaseName(), rule.getName(), replayedReadDataSources);
+    }
+    
+    private long getLastWriteMillis(final String dataSourceGroupName) {
+        Map<String, Long> lastWriteMillis = connectionContext.getReadWriteSplitLastWriteMillis();
+        long result = lastWriteMillis.getOrDefault(dataSourceGroupName, 0L);
+        if (UNRESOLVED_WRITE_MILLIS == result) {
+            result = System.currentTimeMillis();
+            lastWriteMillis.put(dataSourceGroupName, result);
+        }
+        return result;
+    }
+}
@@ -19,10 +19,11 @@ package org.apache.shardingsphere.readwritesplitting.route.standard;
 
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.type.DisabledReadDataSourcesFilter;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.type.ReplicationLagReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
 
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -30,7 +31,7 @@ import java.util.List;
  */
 public final class StandardReadwriteSplittingDataSourceRouter {
     
-    private static final Collection<ReadDataSourcesFilter> FILTERS = Collections.singleton(new DisabledReadDataSourcesFilter());
+    private static final Collection<ReadDataSourcesFilter> FILTERS = Arrays.asList(new DisabledReadDataSourcesFilter(), new ReplicationLagReadDataSourcesFilter());
     
     /**
      * Route to data source.
@@ -39,10 +40,19 @@ public final class StandardReadwriteSplittingDataSourceRouter {
      * @return routed data source name
      */
     public String route(final ReadwriteSplittingDataSourceGroupRule rule) {
-        return rule.getLoadBalancer().getTargetName(rule.getName(), getFilteredReadDataSources(rule));
+        List<String> readDataSources = getFilteredReadDataSources(rule);
+        return readDataSources.isEmpty() && null != rule.getReplicationLag()
+                ? rule.getWriteDataSource()
+                : rule.getLoadBalancer().getTargetName(rule.getDatabaseName(), rule.getName(), readDataSources);
     }
     
-    private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceGroupRule rule) {
+    /**
+     * Get filtered read data sources.
+     *
+     * @param rule Readwrite-splitting data source rule
+     * @return filtered read data sources
+     */
+    public List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceGroupRule rule) {
         List<String> result = rule.getReadwriteSplittingGroup().getReadDataSources();
         for (ReadDataSourcesFilter each : FILTERS) {
             result = each.filter(rule, result);
@@ -17,15 +17,21 @@
 
 package org.apache.shardingsphere.readwritesplitting.rule;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingReplicationLagConfiguration;
 import org.apache.shardingsphere.readwritesplitting.group.ReadwriteSplittingGroup;
 import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSplittingGroup;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagSampler;
 import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 
 /**
  * Readwrite-splitting data source group rule.
@@ -33,6 +39,8 @@ import java.util.HashSet;
 @Getter
 public final class ReadwriteSplittingDataSourceGroupRule {
     
+    private final String databaseName;
+    
     private final String name;
     
     private final TransactionalReadQueryStrategy transactionalReadQueryStrategy;
@@ -43,12 +51,26 @@ public final class ReadwriteSplittingDataSourceGroupRule {
     
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
+    private final ReadwriteSplittingReplicationLagConfiguration replicationLag;
+    
+    @Getter(AccessLevel.NONE)
+    private final ReplicationLagSampler replicationLagSampler;
+    
     public ReadwriteSplittingDataSourceGroupRule(final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
                                                  final TransactionalReadQueryStrategy transactionalReadQueryStrategy, final LoadBalanceAlgorithm loadBalancer) {
+        this(null, config, transactionalReadQueryStrategy, loadBalancer, null);
+    }
+    
+    public ReadwriteSplittingDataSourceGroupRule(final String databaseName, final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
+                                                 final TransactionalReadQueryStrategy transactionalReadQueryStrategy, final LoadBalanceAlgorithm loadBalancer,
+                                                 final ReplicationLagSampler replicationLagSampler) {
+        this.databaseName = databaseName;
         name = config.getName();
         this.transactionalReadQueryStrategy = transactionalReadQueryStrategy;
         this.loadBalancer = loadBalancer;
         readwriteSplittingGroup = createStaticReadwriteSplittingGroup(config);
+        replicationLag = config.getReplicationLag();
+        this.replicationLagSampler = replicationLagSampler;
     }
     
     private StaticReadwriteSplittingGroup createStaticReadwriteSplittingGroup(final ReadwriteSplittingDataSourceGroupRuleConfiguration config) {
@@ -64,6 +86,24 @@ public final class ReadwriteSplittingDataSourceGroupRule {
         return readwriteSplittingGroup.getWriteDataSource();
     }
     
+    /**
+     * Get replication lags of read data sources.
+     *
+     * @return replication lags, lag of read data source is absent if it is unknown
+     */
+    public Map<String, ReplicationLag> getReplicationLags() {
+        return null == replicationLagSampler ? Collections.emptyMap() : replicationLagSampler.getReplicationLags();
+    }
+    
+    /**
+     * Judge whether read your writes enabled.
+     *
+     * @return read your writes enabled or not
+     */
+    public boolean isReadYourWritesEnabled() {
+        return null != replicationLag && replicationLag.isReadYourWritesEnabled();
+    }
+    
     /**
      * Enable data source.
      *
@@ -21,8 +21,11 @@ import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.expr.entry.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.scope.DatabaseRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -32,6 +35,7 @@ import org.apache.shardingsphere.readwritesplitting.constant.ReadwriteSplittingD
 import org.apache.shardingsphere.readwritesplitting.constant.ReadwriteSplittingOrder;
 import org.apache.shardingsphere.readwritesplitting.exception.ReadwriteSplittingRuleExceptionIdentifier;
 import org.apache.shardingsphere.readwritesplitting.exception.actual.InvalidReadwriteSplittingActualDataSourceInlineExpressionException;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagSampler;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingDataSourceMapperRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingExportableRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStaticDataSourceRuleAttribute;
@@ -41,28 +45,36 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements DatabaseRule {
+public final class ReadwriteSplittingRule implements DatabaseRule, AutoCloseable {
     
     @Getter
     private final ReadwriteSplittingRuleConfiguration configuration;
     
     private final Map<String, LoadBalanceAlgorithm> loadBalancers;
     
+    private final ExecutorService replicationLagSampleExecutor;
+    
     @Getter
     private final Map<String, ReadwriteSplittingDataSourceGroupRule> dataSourceRuleGroups;
     
     @Getter
     private final RuleAttributes attributes;
     
-    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final ComputeNodeInstanceContext computeNodeInstanceContext) {
+    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final ResourceMetaData resourceMetaData,
+                                  final ComputeNodeInstanceContext computeNodeInstanceContext) {
         configuration = ruleConfig;
         loadBalancers = createLoadBalancers(ruleConfig);
-        dataSourceRuleGroups = createDataSourceGroupRules(databaseName, ruleConfig);
+        replicationLagSampleExecutor = ruleConfig.getDataSourceGroups().stream().anyMatch(each -> null != each.getReplicationLag())
+                ? Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("readwrite-splitting-replication-lag-" + databaseName + "-%d"))
+                : null;
+        dataSourceRuleGroups = createDataSourceGroupRules(databaseName, ruleConfig, resourceMetaData.getStorageUnits());
         attributes = new RuleAttributes(
                 new ReadwriteSplittingDataSourceMapperRuleAttribute(dataSourceRuleGroups.values()),
                 new ReadwriteSplittingStaticDataSourceRuleAttribute(databaseName, dataSourceRuleGroups, computeNodeInstanceContext),
@@ -81,21 +93,23 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
         return result;
     }
     
-    private Map<String, ReadwriteSplittingDataSourceGroupRule> createDataSourceGroupRules(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig) {
+    private Map<String, ReadwriteSplittingDataSourceGroupRule> createDataSourceGroupRules(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig,
+                                                                                          final Map<String, StorageUnit> storageUnits) {
         Map<String, ReadwriteSplittingDataSourceGroupRule> result = new HashMap<>(ruleConfig.getDataSourceGroups().size(), 1F);
         for (ReadwriteSplittingDataSourceGroupRuleConfiguration each : ruleConfig.getDataSourceGroups()) {
-            result.putAll(createDataSourceGroupRules(databaseName, each));
+            result.putAll(createDataSourceGroupRules(databaseName, each, storageUnits));
         }
         return result;
     }
     
-    private Map<String, ReadwriteSplittingDataSourceGroupRule> createDataSourceGroupRules(final String databaseName, final ReadwriteSplittingDataSourceGroupRuleConfiguration config) {
+    private Map<String, ReadwriteSplittingDataSourceGroupRule> createDataSourceGroupRules(final String databaseName, final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
+                                                                                          final Map<String, StorageUnit> storageUnits) {
         LoadBalanceAlgorithm loadBalanceAlgorithm = loadBalancers.getOrDefault(config.getName() + "." + config.getLoadBalancerName(), TypedSPILoader.getService(LoadBalanceAlgorithm.class, null));
-        return createStaticDataSourceGroupRules(databaseName, config, loadBalanceAlgorithm);
+        return createStaticDataSourceGroupRules(databaseName, config, loadBalanceAlgorithm, storageUnits);
     }
     
     private Map<String, ReadwriteSplittingDataSourceGroupRule> createStaticDataSourceGroupRules(final String databaseName, final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
-                                                                                                final LoadBalanceAlgorithm loadBalanceAlgorithm) {
+                                                                                                final LoadBalanceAlgorithm loadBalanceAlgorithm, final Map<String, StorageUnit> storageUnits) {
         List<String> inlineLogicDataSourceNames = InlineExpressionParserFactory.newInstance(config.getName()).splitAndEvaluate();
         List<String> inlineWriteDataSourceNames = InlineExpressionParserFactory.newInstance(config.getWriteDataSourceName()).splitAndEvaluate();
         List<List<String>> inlineReadDataSourceNames = config.getReadDataSourceNames().stream()
@@ -110,16 +124,24 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
         for (int i = 0; i < inlineLogicDataSourceNames.size(); i++) {
             ReadwriteSplittingDataSourceGroupRuleConfiguration staticConfig = createStaticDataSourceGroupRuleConfiguration(
                     config, i, inlineLogicDataSourceNames, inlineWriteDataSourceNames, inlineReadDataSourceNames);
-            result.put(inlineLogicDataSourceNames.get(i), new ReadwriteSplittingDataSourceGroupRule(staticConfig, config.getTransactionalReadQueryStrategy(), loadBalanceAlgorithm));
+            result.put(inlineLogicDataSourceNames.get(i), new ReadwriteSplittingDataSourceGroupRule(
+                    databaseName, staticConfig, config.getTransactionalReadQueryStrategy(), loadBalanceAlgorithm, createReplicationLagSampler(staticConfig, storageUnits)));
         }
         return result;
     }
     
+    private ReplicationLagSampler createReplicationLagSampler(final ReadwriteSplittingDataSourceGroupRuleConfiguration config, final Map<String, StorageUnit> storageUnits) {
+        return null == config.getReplicationLag()
+                ? null
+                : new ReplicationLagSampler(config.getReadDataSourceNames(), storageUnits, config.getReplicationLag().getSampleIntervalMilliseconds(), replicationLagSampleExecutor);
+    }
+    
     private ReadwriteSplittingDataSourceGroupRuleConfiguration createStaticDataSourceGroupRuleConfiguration(final ReadwriteSplittingDataSourceGroupRuleConfiguration config, final int index,
                                                                                                             final List<String> logicDataSourceNames, final List<String> writeDatasourceNames,
                                                                                                             final List<List<String>> readDatasourceNames) {
         List<String> readDataSourceNames = readDatasourceNames.stream().map(each -> each.get(index)).collect(Collectors.toList());
-        return new ReadwriteSplittingDataSourceGroupRuleConfiguration(logicDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames, config.getLoadBalancerName());
+        return new ReadwriteSplittingDataSourceGroupRuleConfiguration(logicDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames,
+                config.getTransactionalReadQueryStrategy(), config.getLoadBalancerName(), config.getReplicationLag());
     }
     
     /**
@@ -145,4 +167,11 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     public int getOrder() {
         return ReadwriteSplittingOrder.ORDER;
     }
+    
+    @Override
+    public void close() {
+        if (null != replicationLagSampleExecutor) {
+            replicationLagSampleExecutor.shutdownNow();
+        }
+    }
 }
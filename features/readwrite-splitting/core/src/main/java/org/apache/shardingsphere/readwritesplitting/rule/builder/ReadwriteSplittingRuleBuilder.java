@@ -36,7 +36,7 @@ public final class ReadwriteSplittingRuleBuilder implements DatabaseRuleBuilder<
     @Override
     public ReadwriteSplittingRule build(final ReadwriteSplittingRuleConfiguration ruleConfig, final String databaseName, final DatabaseType protocolType,
                                         final ResourceMetaData resourceMetaData, final Collection<ShardingSphereRule> builtRules, final ComputeNodeInstanceContext computeNodeInstanceContext) {
-        return new ReadwriteSplittingRule(databaseName, ruleConfig, computeNodeInstanceContext);
+        return new ReadwriteSplittingRule(databaseName, ruleConfig, resourceMetaData, computeNodeInstanceContext);
     }
     
     @Override
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.yaml.swapper;
+
+import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingReplicationLagConfiguration;
+import org.apache.shardingsphere.readwritesplitting.yaml.config.rule.YamlReadwriteSplittingReplicationLagConfiguration;
+
+/**
+ * YAML readwrite-splitting replication lag configuration swapper.
+ */
+public final class YamlReadwriteSplittingReplicationLagConfigurationSwapper
+        implements
+            YamlConfigurationSwapper<YamlReadwriteSplittingReplicationLagConfiguration, ReadwriteSplittingReplicationLagConfiguration> {
+    
+    @Override
+    public YamlReadwriteSplittingReplicationLagConfiguration swapToYamlConfiguration(final ReadwriteSplittingReplicationLagConfiguration data) {
+        YamlReadwriteSplittingReplicationLagConfiguration result = new YamlReadwriteSplittingReplicationLagConfiguration();
+        result.setMaxLagMilliseconds(data.getMaxLagMilliseconds());
+        result.setSampleIntervalMilliseconds(data.getSampleIntervalMilliseconds());
+        result.setReadYourWritesEnabled(data.isReadYourWritesEnabled());
+        return result;
+    }
+    
+    @Override
+    public ReadwriteSplittingReplicationLagConfiguration swapToObject(final YamlReadwriteSplittingReplicationLagConfiguration yamlConfig) {
+        return new ReadwriteSplittingReplicationLagConfiguration(yamlConfig.getMaxLagMilliseconds(), yamlConfig.getSampleIntervalMilliseconds(), yamlConfig.isReadYourWritesEnabled());
+    }
+}
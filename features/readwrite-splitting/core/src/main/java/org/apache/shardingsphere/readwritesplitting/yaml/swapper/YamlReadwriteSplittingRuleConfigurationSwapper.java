@@ -42,6 +42,8 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper implements Yam
     
     private final YamlAlgorithmConfigurationSwapper algorithmSwapper = new YamlAlgorithmConfigurationSwapper();
     
+    private final YamlReadwriteSplittingReplicationLagConfigurationSwapper replicationLagSwapper = new YamlReadwriteSplittingReplicationLagConfigurationSwapper();
+    
     @Override
     public YamlReadwriteSplittingRuleConfiguration swapToYamlConfiguration(final ReadwriteSplittingRuleConfiguration data) {
         YamlReadwriteSplittingRuleConfiguration result = new YamlReadwriteSplittingRuleConfiguration();
@@ -61,6 +63,9 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper implements Yam
         }
         result.setTransactionalReadQueryStrategy(dataSourceGroupRuleConfig.getTransactionalReadQueryStrategy().name());
         result.setLoadBalancerName(dataSourceGroupRuleConfig.getLoadBalancerName());
+        if (null != dataSourceGroupRuleConfig.getReplicationLag()) {
+            result.setReplicationLag(replicationLagSwapper.swapToYamlConfiguration(dataSourceGroupRuleConfig.getReplicationLag()));
+        }
         return result;
     }
     
@@ -76,7 +81,8 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper implements Yam
     
     private ReadwriteSplittingDataSourceGroupRuleConfiguration swapToObject(final String name, final YamlReadwriteSplittingDataSourceGroupRuleConfiguration yamlDataSourceGroupRuleConfig) {
         return new ReadwriteSplittingDataSourceGroupRuleConfiguration(name, yamlDataSourceGroupRuleConfig.getWriteDataSourceName(), yamlDataSourceGroupRuleConfig.getReadDataSourceNames(),
-                getTransactionalReadQueryStrategy(yamlDataSourceGroupRuleConfig), yamlDataSourceGroupRuleConfig.getLoadBalancerName());
+                getTransactionalReadQueryStrategy(yamlDataSourceGroupRuleConfig), yamlDataSourceGroupRuleConfig.getLoadBalancerName(),
+                null == yamlDataSourceGroupRuleConfig.getReplicationLag() ? null : replicationLagSwapper.swapToObject(yamlDataSourceGroupRuleConfig.getReplicationLag()));
     }
     
     private TransactionalReadQueryStrategy getTransactionalReadQueryStrategy(final YamlReadwriteSplittingDataSourceGroupRuleConfiguration yamlDataSourceGroupRuleConfig) {
@@ -21,10 +21,13 @@ import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.attribute.datasource.DataSourceMapperRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingReplicationLagConfiguration;
 import org.apache.shardingsphere.readwritesplitting.exception.actual.DuplicateReadwriteSplittingActualDataSourceException;
 import org.apache.shardingsphere.readwritesplitting.exception.actual.MissingRequiredReadwriteSplittingActualDataSourceException;
 import org.apache.shardingsphere.readwritesplitting.exception.actual.ReadwriteSplittingActualDataSourceNotFoundException;
+import org.apache.shardingsphere.readwritesplitting.exception.logic.InvalidReadwriteSplittingReplicationLagSampleIntervalException;
 import org.apache.shardingsphere.readwritesplitting.exception.logic.MissingRequiredReadwriteSplittingDataSourceRuleNameException;
+import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
 import org.junit.jupiter.api.Test;
 
 import javax.sql.DataSource;
@@ -75,6 +78,14 @@ class ReadwriteSplittingDataSourceRuleConfigurationCheckerTest {
                 config, Collections.singletonMap("write_ds", mock(DataSource.class))).check(new HashSet<>(Collections.singleton("write_ds")), Collections.emptyList(), Collections.emptyList()));
     }
     
+    @Test
+    void assertCheckWithInvalidReplicationLagSampleInterval() {
+        ReadwriteSplittingDataSourceGroupRuleConfiguration config = new ReadwriteSplittingDataSourceGroupRuleConfiguration("foo_group", "write_ds", Collections.singletonList("read_ds0"),
+                TransactionalReadQueryStrategy.DYNAMIC, "foo_algo", new ReadwriteSplittingReplicationLagConfiguration(1000L, 0L, true));
+        assertThrows(InvalidReadwriteSplittingReplicationLagSampleIntervalException.class, () -> new ReadwriteSplittingDataSourceRuleConfigurationChecker("foo_db", config,
+                Collections.singletonMap("write_ds", mock(DataSource.class))).check(new HashSet<>(), new HashSet<>(), Collections.singleton(mockRule())));
+    }
+    
     @Test
     void assertCheckSuccess() {
         ReadwriteSplittingDataSourceGroupRuleConfiguration config = new ReadwriteSplittingDataSourceGroupRuleConfiguration("foo_group", "write_ds", Arrays.asList("read_ds0", "read_ds1"), "foo_algo");
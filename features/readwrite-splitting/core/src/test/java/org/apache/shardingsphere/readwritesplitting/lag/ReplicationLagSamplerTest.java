@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicationLagSamplerTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    private final Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+    
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        storageUnits.put("read_ds_0", mockStorageUnit(mockDataSource()));
+        DataSource unavailableDataSource = mock(DataSource.class);
+        when(unavailableDataSource.getConnection()).thenThrow(SQLException.class);
+        storageUnits.put("read_ds_1", mockStorageUnit(unavailableDataSource));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    private DataSource mockDataSource() throws SQLException {
+        DataSource result = mock(DataSource.class);
+        when(result.getConnection()).thenReturn(mock(Connection.class));
+        return result;
+    }
+    
+    private StorageUnit mockStorageUnit(final DataSource dataSource) {
+        StorageUnit result = mock(StorageUnit.class);
+        when(result.getStorageType()).thenReturn(databaseType);
+        when(result.getDataSource()).thenReturn(dataSource);
+        return result;
+    }
+    
+    @Test
+    void assertSample() {
+        ReplicationLagSampler sampler = new ReplicationLagSampler(Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2"), storageUnits, 1000L, executorService);
+        long startMillis = System.currentTimeMillis();
+        sampler.sample();
+        ReplicationLag actual = sampler.getReplicationLags().get("read_ds_0");
+        assertThat(actual.getLagMilliseconds(), is(100L));
+        assertTrue(actual.getSampledMillis() >= startMillis);
+        assertThat(actual.getReplayedMillis(), is(actual.getSampledMillis() - 100L));
+        assertThat(sampler.getReplicationLags().get("read_ds_1").getLagMilliseconds(), is(Long.MAX_VALUE));
+        assertFalse(sampler.getReplicationLags().containsKey("read_ds_2"));
+    }
+    
+    @Test
+    void assertGetReplicationLagsWithAsyncSample() {
+        ReplicationLagSampler sampler = new ReplicationLagSampler(Arrays.asList("read_ds_0", "read_ds_1"), storageUnits, 1000L, executorService);
+        Awaitility.await().atMost(1L, TimeUnit.SECONDS).pollInterval(10L, TimeUnit.MILLISECONDS).until(() -> sampler.getReplicationLags().containsKey("read_ds_0"));
+    }
+    
+    @Test
+    void assertGetReplicationLagsWithShutdownExecutor() {
+        executorService.shutdownNow();
+        assertTrue(new ReplicationLagSampler(Collections.singleton("read_ds_0"), storageUnits, 1000L, executorService).getReplicationLags().isEmpty());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.type;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLReplicationLagDetectorTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection connection;
+    
+    @Mock
+    private ResultSet resultSet;
+    
+    @Test
+    void assertDetectWithPrimary() throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(connection.createStatement().executeQuery(anyString())).thenReturn(resultSet);
+        assertThat(new PostgreSQLReplicationLagDetector().detect(connection), is(Optional.empty()));
+    }
+    
+    @Test
+    void assertDetectWithReplica() throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        when(resultSet.getLong(2)).thenReturn(1500L);
+        when(connection.createStatement().executeQuery(anyString())).thenReturn(resultSet);
+        assertThat(new PostgreSQLReplicationLagDetector().detect(connection), is(Optional.of(1500L)));
+    }
+    
+    @Test
+    void assertDetectWithoutReplayedTransaction() throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        when(resultSet.wasNull()).thenReturn(true);
+        when(connection.createStatement().executeQuery(anyString())).thenReturn(resultSet);
+        assertThat(new PostgreSQLReplicationLagDetector().detect(connection), is(Optional.of(Long.MAX_VALUE)));
+    }
+}
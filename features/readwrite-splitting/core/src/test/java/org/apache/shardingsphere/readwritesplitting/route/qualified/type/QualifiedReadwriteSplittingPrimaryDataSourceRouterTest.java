@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementCont
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.predicate.LockSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -48,25 +50,27 @@ class QualifiedReadwriteSplittingPrimaryDataSourceRouterTest {
     
     private final HintValueContext hintValueContext = new HintValueContext();
     
+    private final ConnectionContext connectionContext = new ConnectionContext(Collections::emptySet);
+    
     @Test
     void assertIsQualifiedWithSelect() {
         SelectStatement selectStatement = mock(SelectStatement.class);
         when(selectStatement.getLock()).thenReturn(Optional.of(new LockSegment(0, 1)));
         when(sqlStatementContext.getSqlStatement()).thenReturn(selectStatement);
-        assertTrue(new QualifiedReadwriteSplittingPrimaryDataSourceRouter().isQualified(sqlStatementContext, null, hintValueContext));
+        assertTrue(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(connectionContext).isQualified(sqlStatementContext, null, hintValueContext));
     }
     
     @Test
     void assertIsQualifiedWithSelectAndContainsLastInsertIdProjection() {
         SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
         when(sqlStatementContext.getProjectionsContext().isContainsLastInsertIdProjection()).thenReturn(true);
-        assertTrue(new QualifiedReadwriteSplittingPrimaryDataSourceRouter().isQualified(sqlStatementContext, null, hintValueContext));
+        assertTrue(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(connectionContext).isQualified(sqlStatementContext, null, hintValueContext));
     }
     
     @Test
     void assertIsQualifiedWithUpdate() {
         when(sqlStatementContext.getSqlStatement()).thenReturn(mock(UpdateStatement.class));
-        assertTrue(new QualifiedReadwriteSplittingPrimaryDataSourceRouter().isQualified(sqlStatementContext, null, hintValueContext));
+        assertTrue(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(connectionContext).isQualified(sqlStatementContext, null, hintValueContext));
     }
     
     @Test
@@ -74,7 +78,7 @@ class QualifiedReadwriteSplittingPrimaryDataSourceRouterTest {
         when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
         try (HintManager hintManager = HintManager.getInstance()) {
             hintManager.setWriteRouteOnly();
-            assertTrue(new QualifiedReadwriteSplittingPrimaryDataSourceRouter().isQualified(sqlStatementContext, null, hintValueContext));
+            assertTrue(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(connectionContext).isQualified(sqlStatementContext, null, hintValueContext));
         }
     }
     
@@ -82,19 +86,30 @@ class QualifiedReadwriteSplittingPrimaryDataSourceRouterTest {
     void assertIsQualifiedWithHintValue() {
         when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
         hintValueContext.setWriteRouteOnly(true);
-        assertTrue(new QualifiedReadwriteSplittingPrimaryDataSourceRouter().isQualified(sqlStatementContext, null, hintValueContext));
+        assertTrue(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(connectionContext).isQualified(sqlStatementContext, null, hintValueContext));
     }
     
     @Test
     void assertIsNotQualifiedWithHint() {
         when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
-        assertFalse(new QualifiedReadwriteSplittingPrimaryDataSourceRouter().isQualified(sqlStatementContext, null, hintValueContext));
+        assertFalse(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(connectionContext).isQualified(sqlStatementContext, null, hintValueContext));
     }
     
     @Test
     void assertRoute() {
         ReadwriteSplittingDataSourceGroupRule rule = mock(ReadwriteSplittingDataSourceGroupRule.class);
         when(rule.getWriteDataSource()).thenReturn("write_ds");
-        assertThat(new QualifiedReadwriteSplittingPrimaryDataSourceRouter().route(rule), is("write_ds"));
+        assertThat(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(connectionContext).route(rule), is("write_ds"));
+        assertTrue(connectionContext.getReadWriteSplitLastWriteMillis().isEmpty());
+    }
+    
+    @Test
+    void assertRouteWithReadYourWritesEnabled() {
+        ReadwriteSplittingDataSourceGroupRule rule = mock(ReadwriteSplittingDataSourceGroupRule.class);
+        when(rule.getName()).thenReturn("foo_group");
+        when(rule.getWriteDataSource()).thenReturn("write_ds");
+        when(rule.isReadYourWritesEnabled()).thenReturn(true);
+        assertThat(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(connectionContext).route(rule), is("write_ds"));
+        assertThat(connectionContext.getReadWriteSplitLastWriteMillis().get("foo_group"), is(QualifiedReadwriteSplittingReadYourWritesDataSourceRouter.UNRESOLVED_WRITE_MILLIS));
     }
 }
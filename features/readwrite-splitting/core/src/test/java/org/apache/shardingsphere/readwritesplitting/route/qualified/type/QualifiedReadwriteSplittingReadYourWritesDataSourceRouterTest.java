@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.qualified.type;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.round.robin.RoundRobinLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingReplicationLagConfiguration;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QualifiedReadwriteSplittingReadYourWritesDataSourceRouterTest {
+    
+    private final ConnectionContext connectionContext = new ConnectionContext(Collections::emptySet);
+    
+    private final Map<String, ReplicationLag> replicationLags = new HashMap<>(2, 1F);
+    
+    private ReadwriteSplittingDataSourceGroupRule rule;
+    
+    @BeforeEach
+    void setUp() {
+        rule = mock(ReadwriteSplittingDataSourceGroupRule.class, RETURNS_DEEP_STUBS);
+        when(rule.getName()).thenReturn("foo_group");
+        when(rule.getWriteDataSource()).thenReturn("write_ds");
+        when(rule.getReadwriteSplittingGroup().getReadDataSources()).thenReturn(Arrays.asList("read_ds_0", "read_ds_1"));
+        when(rule.getDisabledDataSourceNames()).thenReturn(Collections.emptySet());
+        when(rule.getReplicationLag()).thenReturn(new ReadwriteSplittingReplicationLagConfiguration(0L, 1000L, true));
+        when(rule.getReplicationLags()).thenReturn(replicationLags);
+        when(rule.getLoadBalancer()).thenReturn(new RoundRobinLoadBalanceAlgorithm());
+        when(rule.isReadYourWritesEnabled()).thenReturn(true);
+    }
+    
+    @Test
+    void assertIsNotQualifiedWithoutWrite() {
+        assertFalse(new QualifiedReadwriteSplittingReadYourWritesDataSourceRouter(connectionContext).isQualified(null, rule, new HintValueContext()));
+    }
+    
+    @Test
+    void assertIsNotQualifiedWithReadYourWritesDisabled() {
+        connectionContext.getReadWriteSplitLastWriteMillis().put("foo_group", 1L);
+        when(rule.isReadYourWritesEnabled()).thenReturn(false);
+        assertFalse(new QualifiedReadwriteSplittingReadYourWritesDataSourceRouter(connectionContext).isQualified(null, rule, new HintValueContext()));
+    }
+    
+    @Test
+    void assertIsQualifiedAfterWrite() {
+        connectionContext.getReadWriteSplitLastWriteMillis().put("foo_group", 1L);
+        assertTrue(new QualifiedReadwriteSplittingReadYourWritesDataSourceRouter(connectionContext).isQualified(null, rule, new HintValueContext()));
+    }
+    
+    @Test
+    void assertRouteToWriteDataSourceWithUnresolvedWrite() {
+        connectionContext.getReadWriteSplitLastWriteMillis().put("foo_group", QualifiedReadwriteSplittingReadYourWritesDataSourceRouter.UNRESOLVED_WRITE_MILLIS);
+        replicationLags.put("read_ds_0", new ReplicationLag(0L, 1000L));
+        long startMillis = System.currentTimeMillis();
+        assertThat(new QualifiedReadwriteSplittingReadYourWritesDataSourceRouter(connectionContext).route(rule), is("write_ds"));
+        assertTrue(connectionContext.getReadWriteSplitLastWriteMillis().get("foo_group") >= startMillis);
+        assertTrue(connectionContext.getReadWriteSplitLastWriteMillis().get("foo_group") < QualifiedReadwriteSplittingReadYourWritesDataSourceRouter.UNRESOLVED_WRITE_MILLIS);
+    }
+    
+    @Test
+    void assertRouteToReplayedReadDataSource() {
+        connectionContext.getReadWriteSplitLastWriteMillis().put("foo_group", 1000L);
+        replicationLags.put("read_ds_0", new ReplicationLag(500L, 1200L));
+        replicationLags.put("read_ds_1", new ReplicationLag(0L, 2000L));
+        assertThat(new QualifiedReadwriteSplittingReadYourWritesDataSourceRouter(connectionContext).route(rule), is("read_ds_1"));
+        assertTrue(connectionContext.getReadWriteSplitLastWriteMillis().containsKey("foo_group"));
+    }
+    
+    @Test
+    void assertRouteWithAllReplayed() {
+        connectionContext.getReadWriteSplitLastWriteMillis().put("foo_group", 1000L);
+        replicationLags.put("read_ds_0", new ReplicationLag(0L, 1000L));
+        replicationLags.put("read_ds_1", new ReplicationLag(0L, 2000L));
+        assertThat(new QualifiedReadwriteSplittingReadYourWritesDataSourceRouter(connectionContext).route(rule), is("read_ds_0"));
+        assertFalse(connectionContext.getReadWriteSplitLastWriteMillis().containsKey("foo_group"));
+    }
+}
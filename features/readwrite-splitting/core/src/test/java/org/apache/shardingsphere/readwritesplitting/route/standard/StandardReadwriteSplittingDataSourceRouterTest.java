@@ -19,15 +19,21 @@ package org.apache.shardingsphere.readwritesplitting.route.standard;
 
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.round.robin.RoundRobinLoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingReplicationLagConfiguration;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
 import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class StandardReadwriteSplittingDataSourceRouterTest {
     
@@ -50,4 +56,26 @@ class StandardReadwriteSplittingDataSourceRouterTest {
         rule.disableDataSource("read_ds_0");
         assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("read_ds_1"));
     }
+    
+    @Test
+    void assertRouteWithAllReadDataSourcesLagging() {
+        ReadwriteSplittingDataSourceGroupRule rule = mock(ReadwriteSplittingDataSourceGroupRule.class, RETURNS_DEEP_STUBS);
+        when(rule.getWriteDataSource()).thenReturn("write_ds");
+        when(rule.getReadwriteSplittingGroup().getReadDataSources()).thenReturn(Collections.singletonList("read_ds_0"));
+        when(rule.getDisabledDataSourceNames()).thenReturn(Collections.emptySet());
+        when(rule.getReplicationLag()).thenReturn(new ReadwriteSplittingReplicationLagConfiguration(1000L, 1000L, false));
+        when(rule.getReplicationLags()).thenReturn(Collections.singletonMap("read_ds_0", new ReplicationLag(2000L, 0L)));
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("write_ds"));
+    }
+    
+    @Test
+    void assertRouteWithoutReplicationLagSample() {
+        ReadwriteSplittingDataSourceGroupRule rule = mock(ReadwriteSplittingDataSourceGroupRule.class, RETURNS_DEEP_STUBS);
+        when(rule.getWriteDataSource()).thenReturn("write_ds");
+        when(rule.getReadwriteSplittingGroup().getReadDataSources()).thenReturn(Arrays.asList("read_ds_0", "read_ds_1"));
+        when(rule.getDisabledDataSourceNames()).thenReturn(Collections.emptySet());
+        when(rule.getReplicationLag()).thenReturn(new ReadwriteSplittingReplicationLagConfiguration(1000L, 1000L, false));
+        when(rule.getReplicationLags()).thenReturn(Collections.emptyMap());
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("write_ds"));
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.standard.filter;
+
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingReplicationLagConfiguration;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.type.ReplicationLagReadDataSourcesFilter;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicationLagReadDataSourcesFilterTest {
+    
+    private final List<String> readDataSources = Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2");
+    
+    @Test
+    void assertFilterWithoutReplicationLag() {
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(mock(ReadwriteSplittingDataSourceGroupRule.class), readDataSources), is(readDataSources));
+    }
+    
+    @Test
+    void assertFilterWithoutMaxLag() {
+        ReadwriteSplittingDataSourceGroupRule rule = mock(ReadwriteSplittingDataSourceGroupRule.class);
+        when(rule.getReplicationLag()).thenReturn(new ReadwriteSplittingReplicationLagConfiguration(0L, 1000L, true));
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, readDataSources), is(readDataSources));
+    }
+    
+    @Test
+    void assertFilterWithMaxLag() {
+        ReadwriteSplittingDataSourceGroupRule rule = mock(ReadwriteSplittingDataSourceGroupRule.class);
+        when(rule.getReplicationLag()).thenReturn(new ReadwriteSplittingReplicationLagConfiguration(1000L, 1000L, false));
+        Map<String, ReplicationLag> replicationLags = new HashMap<>(2, 1F);
+        replicationLags.put("read_ds_0", new ReplicationLag(5000L, 0L));
+        replicationLags.put("read_ds_1", new ReplicationLag(1000L, 0L));
+        when(rule.getReplicationLags()).thenReturn(replicationLags);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, readDataSources), is(Collections.singletonList("read_ds_1")));
+    }
+    
+    @Test
+    void assertFilterWithoutSample() {
+        ReadwriteSplittingDataSourceGroupRule rule = mock(ReadwriteSplittingDataSourceGroupRule.class);
+        when(rule.getReplicationLag()).thenReturn(new ReadwriteSplittingReplicationLagConfiguration(1000L, 1000L, false));
+        when(rule.getReplicationLags()).thenReturn(Collections.emptyMap());
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, readDataSources), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertFilterWithAllLagging() {
+        ReadwriteSplittingDataSourceGroupRule rule = mock(ReadwriteSplittingDataSourceGroupRule.class);
+        when(rule.getReplicationLag()).thenReturn(new ReadwriteSplittingReplicationLagConfiguration(1000L, 1000L, false));
+        when(rule.getReplicationLags()).thenReturn(Collections.singletonMap("read_ds_0", new ReplicationLag(Long.MAX_VALUE, 0L)));
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Collections.singletonList("read_ds_0")), is(Collections.emptyList()));
+    }
+}
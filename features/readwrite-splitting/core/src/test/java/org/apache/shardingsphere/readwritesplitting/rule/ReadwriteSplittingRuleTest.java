@@ -19,12 +19,15 @@ package org.apache.shardingsphere.readwritesplitting.rule;
 
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDataSource;
 import org.apache.shardingsphere.infra.rule.attribute.datasource.StaticDataSourceRuleAttribute;
 import org.apache.shardingsphere.infra.state.datasource.DataSourceState;
 import org.apache.shardingsphere.readwritesplitting.config.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingReplicationLagConfiguration;
 import org.apache.shardingsphere.readwritesplitting.exception.actual.InvalidReadwriteSplittingActualDataSourceInlineExpressionException;
+import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
@@ -45,7 +48,8 @@ class ReadwriteSplittingRuleTest {
         ReadwriteSplittingDataSourceGroupRuleConfiguration config =
                 new ReadwriteSplittingDataSourceGroupRuleConfiguration("readwrite", "write_ds0,write_ds1", Arrays.asList("read_ds_0", "read_ds_1"), "foo");
         assertThrows(InvalidReadwriteSplittingActualDataSourceInlineExpressionException.class, () -> new ReadwriteSplittingRule("foo_db", new ReadwriteSplittingRuleConfiguration(
-                Collections.singleton(config), Collections.singletonMap("bar", new AlgorithmConfiguration("RANDOM", new Properties()))), mock(ComputeNodeInstanceContext.class)));
+                Collections.singleton(config), Collections.singletonMap("bar", new AlgorithmConfiguration("RANDOM", new Properties()))),
+                mock(ResourceMetaData.class), mock(ComputeNodeInstanceContext.class)));
     }
     
     @Test
@@ -53,7 +57,8 @@ class ReadwriteSplittingRuleTest {
         ReadwriteSplittingDataSourceGroupRuleConfiguration config =
                 new ReadwriteSplittingDataSourceGroupRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1, read_ds_2"), "foo");
         assertThrows(InvalidReadwriteSplittingActualDataSourceInlineExpressionException.class, () -> new ReadwriteSplittingRule("foo_db", new ReadwriteSplittingRuleConfiguration(
-                Collections.singleton(config), Collections.singletonMap("bar", new AlgorithmConfiguration("RANDOM", new Properties()))), mock(ComputeNodeInstanceContext.class)));
+                Collections.singleton(config), Collections.singletonMap("bar", new AlgorithmConfiguration("RANDOM", new Properties()))),
+                mock(ResourceMetaData.class), mock(ComputeNodeInstanceContext.class)));
     }
     
     @Test
@@ -72,7 +77,8 @@ class ReadwriteSplittingRuleTest {
         ReadwriteSplittingDataSourceGroupRuleConfiguration config =
                 new ReadwriteSplittingDataSourceGroupRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), "random");
         return new ReadwriteSplittingRule("foo_db", new ReadwriteSplittingRuleConfiguration(
-                Collections.singleton(config), Collections.singletonMap("random", new AlgorithmConfiguration("RANDOM", new Properties()))), mock(ComputeNodeInstanceContext.class));
+                Collections.singleton(config), Collections.singletonMap("random", new AlgorithmConfiguration("RANDOM", new Properties()))),
+                mock(ResourceMetaData.class), mock(ComputeNodeInstanceContext.class));
     }
     
     private void assertDataSourceGroupRule(final ReadwriteSplittingDataSourceGroupRule actual) {
@@ -82,6 +88,17 @@ class ReadwriteSplittingRuleTest {
         assertThat(actual.getLoadBalancer().getType(), is("RANDOM"));
     }
     
+    @Test
+    void assertGetReplicationLagsAfterClose() {
+        ReadwriteSplittingDataSourceGroupRuleConfiguration config = new ReadwriteSplittingDataSourceGroupRuleConfiguration("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"),
+                TransactionalReadQueryStrategy.DYNAMIC, "random", new ReadwriteSplittingReplicationLagConfiguration(1000L, 1000L, false));
+        ReadwriteSplittingRule rule = new ReadwriteSplittingRule("foo_db", new ReadwriteSplittingRuleConfiguration(
+                Collections.singleton(config), Collections.singletonMap("random", new AlgorithmConfiguration("RANDOM", new Properties()))),
+                mock(ResourceMetaData.class), mock(ComputeNodeInstanceContext.class));
+        rule.close();
+        assertTrue(rule.getSingleDataSourceGroupRule().getReplicationLags().isEmpty());
+    }
+    
     @Test
     void assertUpdateRuleStatusWithNotExistDataSource() {
         ReadwriteSplittingRule readwriteSplittingRule = createReadwriteSplittingRule();
@@ -117,7 +134,8 @@ class ReadwriteSplittingRuleTest {
                 Arrays.asList("<GROOVY>read_ds_${['0']}", "read_ds_${['1']}", "read_ds_2", "<LITERAL>read_ds_3"),
                 "random");
         ReadwriteSplittingRule readwriteSplittingRule = new ReadwriteSplittingRule("foo_db", new ReadwriteSplittingRuleConfiguration(
-                Collections.singleton(config), Collections.singletonMap("random", new AlgorithmConfiguration("RANDOM", new Properties()))), mock(ComputeNodeInstanceContext.class));
+                Collections.singleton(config), Collections.singletonMap("random", new AlgorithmConfiguration("RANDOM", new Properties()))),
+                mock(ResourceMetaData.class), mock(ComputeNodeInstanceContext.class));
         Optional<ReadwriteSplittingDataSourceGroupRule> actual = readwriteSplittingRule.findDataSourceGroupRule("readwrite_ds");
         assertTrue(actual.isPresent());
         assertThat(actual.get().getName(), is("readwrite_ds"));
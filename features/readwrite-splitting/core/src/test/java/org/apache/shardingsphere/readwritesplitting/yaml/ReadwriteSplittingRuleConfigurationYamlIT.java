@@ -21,6 +21,8 @@ import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfigurat
 import org.apache.shardingsphere.infra.yaml.config.pojo.rule.YamlRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.config.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingReplicationLagConfiguration;
+import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
 import org.apache.shardingsphere.readwritesplitting.yaml.config.YamlReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.test.it.yaml.YamlRuleConfigurationIT;
 
@@ -32,6 +34,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ReadwriteSplittingRuleConfigurationYamlIT extends YamlRuleConfigurationIT {
     
@@ -42,7 +45,8 @@ class ReadwriteSplittingRuleConfigurationYamlIT extends YamlRuleConfigurationIT
     private static ReadwriteSplittingRuleConfiguration getExpectedRuleConfiguration() {
         Collection<ReadwriteSplittingDataSourceGroupRuleConfiguration> dataSourceGroups = Arrays.asList(
                 new ReadwriteSplittingDataSourceGroupRuleConfiguration("ds_0", "write_ds_0", Arrays.asList("write_ds_0_read_0", "write_ds_0_read_1"), "roundRobin"),
-                new ReadwriteSplittingDataSourceGroupRuleConfiguration("ds_1", "write_ds_1", Arrays.asList("write_ds_1_read_0", "write_ds_1_read_1"), "random"));
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("ds_1", "write_ds_1", Arrays.asList("write_ds_1_read_0", "write_ds_1_read_1"), TransactionalReadQueryStrategy.DYNAMIC,
+                        "random", new ReadwriteSplittingReplicationLagConfiguration(1000L, 500L, true)));
         Map<String, AlgorithmConfiguration> loadBalancers = new LinkedHashMap<>(2, 1F);
         loadBalancers.put("random", new AlgorithmConfiguration("RANDOM", new Properties()));
         loadBalancers.put("roundRobin", new AlgorithmConfiguration("ROUND_ROBIN", new Properties()));
@@ -69,5 +73,7 @@ class ReadwriteSplittingRuleConfigurationYamlIT extends YamlRuleConfigurationIT
     private void assertReadwriteSplittingRuleForDs1(final YamlReadwriteSplittingRuleConfiguration actual) {
         assertThat(actual.getDataSourceGroups().get("ds_1").getWriteDataSourceName(), is("write_ds_1"));
         assertThat(actual.getDataSourceGroups().get("ds_1").getLoadBalancerName(), is("random"));
+        assertThat(actual.getDataSourceGroups().get("ds_1").getReplicationLag().getMaxLagMilliseconds(), is(1000L));
+        assertTrue(actual.getDataSourceGroups().get("ds_1").getReplicationLag().isReadYourWritesEnabled());
     }
 }
@@ -0,0 +1,345 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spill file for group by rows.
+ * Each value is written in compact binary format tagged with its type, values of other serializable types are written with java serialization,
+ * values which are not serializable, such as vendor specific driver values, are kept in memory and referenced by index.
+ */
+public final class GroupByRowSpillFile implements AutoCloseable {
+    
+    private static final String FILE_PREFIX = "shardingsphere-group-by-";
+    
+    private static final String FILE_SUFFIX = ".spill";
+    
+    private static final byte NULL = 0;
+    
+    private static final byte BOOLEAN = 1;
+    
+    private static final byte BYTE = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte INTEGER = 4;
+    
+    private static final byte LONG = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte CHARACTER = 8;
+    
+    private static final byte STRING = 9;
+    
+    private static final byte BIG_DECIMAL = 10;
+    
+    private static final byte BIG_INTEGER = 11;
+    
+    private static final byte BYTES = 12;
+    
+    private static final byte DATE = 13;
+    
+    private static final byte TIME = 14;
+    
+    private static final byte TIMESTAMP = 15;
+    
+    private static final byte LOCAL_DATE = 16;
+    
+    private static final byte LOCAL_TIME = 17;
+    
+    private static final byte LOCAL_DATE_TIME = 18;
+    
+    private static final byte SERIALIZED = 126;
+    
+    private static final byte IN_MEMORY = 127;
+    
+    private final Path path;
+    
+    private final int columnCount;
+    
+    private final List<Object> inMemoryValues = new ArrayList<>();
+    
+    private DataOutputStream outputStream;
+    
+    private DataInputStream inputStream;
+    
+    private long writtenRowCount;
+    
+    private long readRowCount;
+    
+    public GroupByRowSpillFile(final int columnCount) throws IOException {
+        path = Files.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+        this.columnCount = columnCount;
+        outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public void write(final MemoryQueryResultRow row) throws IOException {
+        for (int i = 1; i <= columnCount; i++) {
+            writeValue(row.getCell(i));
+        }
+        writtenRowCount++;
+    }
+    
+    private void writeValue(final Object value) throws IOException {
+        if (null == value) {
+            outputStream.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            outputStream.writeByte(INTEGER);
+            outputStream.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            outputStream.writeByte(LONG);
+            outputStream.writeLong((Long) value);
+        } else if (value instanceof String) {
+            outputStream.writeByte(STRING);
+            writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof BigDecimal) {
+            outputStream.writeByte(BIG_DECIMAL);
+            outputStream.writeInt(((BigDecimal) value).scale());
+            writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof Double) {
+            outputStream.writeByte(DOUBLE);
+            outputStream.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            outputStream.writeByte(BOOLEAN);
+            outputStream.writeBoolean((Boolean) value);
+        } else {
+            writeOtherValue(value);
+        }
+    }
+    
+    private void writeOtherValue(final Object value) throws IOException {
+        if (value instanceof Byte) {
+            outputStream.writeByte(BYTE);
+            outputStream.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            outputStream.writeByte(SHORT);
+            outputStream.writeShort((Short) value);
+        } else if (value instanceof Float) {
+            outputStream.writeByte(FLOAT);
+            outputStream.writeFloat((Float) value);
+        } else if (value instanceof Character) {
+            outputStream.writeByte(CHARACTER);
+            outputStream.writeChar((Character) value);
+        } else if (value instanceof BigInteger) {
+            outputStream.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray());
+        } else if (value instanceof byte[]) {
+            outputStream.writeByte(BYTES);
+            writeBytes((byte[]) value);
+        } else {
+            writeTemporalValue(value);
+        }
+    }
+    
+    private void writeTemporalValue(final Object value) throws IOException {
+        if (Date.class == value.getClass()) {
+            outputStream.writeByte(DATE);
+            outputStream.writeLong(((Date) value).getTime());
+        } else if (Time.class == value.getClass()) {
+            outputStream.writeByte(TIME);
+            outputStream.writeLong(((Time) value).getTime());
+        } else if (Timestamp.class == value.getClass()) {
+            outputStream.writeByte(TIMESTAMP);
+            outputStream.writeLong(((Timestamp) value).getTime());
+            outputStream.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof LocalDate) {
+            outputStream.writeByte(LOCAL_DATE);
+            outputStream.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            outputStream.writeByte(LOCAL_TIME);
+            outputStream.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            outputStream.writeByte(LOCAL_DATE_TIME);
+            outputStream.writeLong(((LocalDateTime) value).toEpochSecond(ZoneOffset.UTC));
+            outputStream.writeInt(((LocalDateTime) value).getNano());
+        } else {
+            writeUnknownValue(value);
+        }
+    }
+    
+    private void writeUnknownValue(final Object value) throws IOException {
+        if (value instanceof Serializable) {
+            outputStream.writeByte(SERIALIZED);
+            writeBytes(serialize(value));
+        } else {
+            outputStream.writeByte(IN_MEMORY);
+            outputStream.writeInt(inMemoryValues.size());
+            inMemoryValues.add(value);
+        }
+    }
+    
+    private void writeBytes(final byte[] bytes) throws IOException {
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+    }
+    
+    private byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Read next row in written order.
+     *
+     * @return next row, null if all rows have been read
+     * @throws IOException IO exception
+     * @throws ClassNotFoundException class not found exception
+     */
+    public MemoryQueryResultRow read() throws IOException, ClassNotFoundException {
+        if (null == inputStream) {
+            closeOutputStream();
+            inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        }
+        if (readRowCount >= writtenRowCount) {
+            return null;
+        }
+        Object[] data = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            data[i] = readValue();
+        }
+        readRowCount++;
+        return new MemoryQueryResultRow(data);
+    }
+    
+    private Object readValue() throws IOException, ClassNotFoundException {
+        byte type = inputStream.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return inputStream.readBoolean();
+            case BYTE:
+                return inputStream.readByte();
+            case SHORT:
+                return inputStream.readShort();
+            case INTEGER:
+                return inputStream.readInt();
+            case LONG:
+                return inputStream.readLong();
+            case FLOAT:
+                return inputStream.readFloat();
+            case DOUBLE:
+                return inputStream.readDouble();
+            case CHARACTER:
+                return inputStream.readChar();
+            case STRING:
+                return new String(readBytes(), StandardCharsets.UTF_8);
+            case BIG_DECIMAL:
+                int scale = inputStream.readInt();
+                return new BigDecimal(new BigInteger(readBytes()), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case BYTES:
+                return readBytes();
+            default:
+                return readOtherValue(type);
+        }
+    }
+    
+    private Object readOtherValue(final byte type) throws IOException, ClassNotFoundException {
+        switch (type) {
+            case DATE:
+                return new Date(inputStream.readLong());
+            case TIME:
+                return new Time(inputStream.readLong());
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(inputStream.readLong());
+                timestamp.setNanos(inputStream.readInt());
+                return timestamp;
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(inputStream.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(inputStream.readLong());
+            case LOCAL_DATE_TIME:
+                long epochSecond = inputStream.readLong();
+                return LocalDateTime.ofEpochSecond(epochSecond, inputStream.readInt(), ZoneOffset.UTC);
+            case SERIALIZED:
+                return deserialize(readBytes());
+            default:
+                return inMemoryValues.get(inputStream.readInt());
+        }
+    }
+    
+    private byte[] readBytes() throws IOException {
+        byte[] result = new byte[inputStream.readInt()];
+        inputStream.readFully(result);
+        return result;
+    }
+    
+    private Object deserialize(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectInputStream.readObject();
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        closeOutputStream();
+        if (null != inputStream) {
+            inputStream.close();
+            inputStream = null;
+        }
+        inMemoryValues.clear();
+        Files.deleteIfExists(path);
+    }
+    
+    private void closeOutputStream() throws IOException {
+        if (null != outputStream) {
+            outputStream.close();
+            outputStream = null;
+        }
+    }
+}
@@ -0,0 +1,412 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.kernel.data.UnsupportedDataTypeConversionException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+import org.apache.shardingsphere.sharding.exception.data.GroupByMergeSpillException;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Spill merged result for group by.
+ * Groups are aggregated in memory until their estimated size reaches memory limit, rows of other groups are hash partitioned into local temporary files
+ * and aggregated partition by partition, then sorted runs of aggregated groups are merged when iterating.
+ */
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_PARTITION_DEPTH = Integer.SIZE / PARTITION_BITS;
+    
+    private static final long GROUP_OVERHEAD_BYTES = 128L;
+    
+    private static final long AGGREGATION_UNIT_BYTES = 48L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    private static final long OBJECT_BYTES = 24L;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long memoryLimit;
+    
+    private final QueryResultMetaData queryResultMetaData;
+    
+    private final int columnCount;
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    private final Queue<SortedRowCursor> cursors;
+    
+    private final Collection<GroupByRowSpillFile> spillFiles = new LinkedList<>();
+    
+    private SortedRowCursor currentCursor;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final long memoryLimit) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.memoryLimit = memoryLimit;
+        queryResultMetaData = queryResults.isEmpty() ? null : queryResults.get(0).getMetaData();
+        columnCount = null == queryResultMetaData ? 0 : queryResultMetaData.getColumnCount();
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema);
+        GroupByRowComparator rowComparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        cursors = new PriorityQueue<>(PARTITION_COUNT + 1, (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        try {
+            aggregateGroups(new QueryResultsRowSource(queryResults.iterator()), rowComparator, 0);
+            if (cursors.isEmpty() && selectStatementContext.getGroupByContext().getItems().isEmpty() && !selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty()) {
+                addCursor(new IteratorRowSource(Collections.singletonList(new MemoryQueryResultRow(GroupByMemoryMergedResult.generateReturnData(selectStatementContext))).iterator()));
+            }
+        } catch (final IOException | ClassNotFoundException ex) {
+            closeSpillFiles();
+            throw new GroupByMergeSpillException(ex);
+        }
+    }
+    
+    private void aggregateGroups(final RowSource rowSource, final GroupByRowComparator rowComparator, final int depth) throws SQLException, IOException, ClassNotFoundException {
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
+        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+        GroupByRowSpillFile[] partitions = null;
+        long estimatedBytes = 0L;
+        MemoryQueryResultRow row;
+        while (null != (row = rowSource.read())) {
+            GroupByValue groupByValue = new GroupByValue(row, selectStatementContext.getGroupByContext().getItems());
+            Map<AggregationProjection, AggregationUnit> aggregationUnits = aggregationMap.get(groupByValue);
+            if (null == aggregationUnits) {
+                if (null == partitions && estimatedBytes >= memoryLimit && depth < MAX_PARTITION_DEPTH) {
+                    partitions = createPartitions();
+                }
+                if (null != partitions) {
+                    partitions[getPartitionIndex(groupByValue, depth)].write(row);
+                    continue;
+                }
+                aggregationUnits = createAggregationUnits();
+                dataMap.put(groupByValue, row);
+                aggregationMap.put(groupByValue, aggregationUnits);
+                estimatedBytes += estimateBytes(row);
+            }
+            aggregate(row, aggregationUnits);
+        }
+        List<MemoryQueryResultRow> sortedRows = getSortedRows(dataMap, aggregationMap, rowComparator);
+        dataMap.clear();
+        aggregationMap.clear();
+        if (null == partitions && 0 == depth) {
+            addCursor(new IteratorRowSource(sortedRows.iterator()));
+            return;
+        }
+        addCursor(createSortedRun(sortedRows));
+        if (null != partitions) {
+            for (GroupByRowSpillFile each : partitions) {
+                aggregateGroups(each::read, rowComparator, depth + 1);
+                each.close();
+            }
+        }
+    }
+    
+    private GroupByRowSpillFile[] createPartitions() throws IOException {
+        GroupByRowSpillFile[] result = new GroupByRowSpillFile[PARTITION_COUNT];
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            result[i] = createSpillFile();
+        }
+        return result;
+    }
+    
+    private GroupByRowSpillFile createSpillFile() throws IOException {
+        GroupByRowSpillFile result = new GroupByRowSpillFile(columnCount);
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        int hashCode = groupByValue.hashCode();
+        return ((hashCode ^ hashCode >>> 16) >>> depth * PARTITION_BITS) & PARTITION_COUNT - 1;
+    }
+    
+    private Map<AggregationProjection, AggregationUnit> createAggregationUnits() throws SQLException {
+        Map<AggregationProjection, AggregationUnit> result = new HashMap<>(selectStatementContext.getProjectionsContext().getAggregationProjections().size(), 1F);
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            result.put(each, AggregationUnitFactory.create(each, queryResultMetaData));
+        }
+        return result;
+    }
+    
+    private void aggregate(final MemoryQueryResultRow row, final Map<AggregationProjection, AggregationUnit> aggregationUnits) {
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            aggregationValues.clear();
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(row, each));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(row, derived));
+                }
+            }
+            aggregationUnits.get(each).merge(aggregationValues);
+        }
+    }
+    
+    private Comparable<?> getAggregationValue(final MemoryQueryResultRow row, final AggregationProjection aggregationProjection) {
+        Object result = row.getCell(aggregationProjection.getIndex());
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    private long estimateBytes(final MemoryQueryResultRow row) {
+        long result = GROUP_OVERHEAD_BYTES + AGGREGATION_UNIT_BYTES * selectStatementContext.getProjectionsContext().getAggregationProjections().size();
+        for (int i = 1; i <= columnCount; i++) {
+            result += REFERENCE_BYTES + estimateBytes(row.getCell(i));
+        }
+        return result;
+    }
+    
+    private long estimateBytes(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_BYTES + ((String) value).length() * 2L;
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_BYTES + ((byte[]) value).length;
+        }
+        return OBJECT_BYTES;
+    }
+    
+    private List<MemoryQueryResultRow> getSortedRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap,
+                                                     final GroupByRowComparator rowComparator) {
+        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.size());
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+            }
+            result.add(entry.getValue());
+        }
+        result.sort(rowComparator);
+        return result;
+    }
+    
+    private RowSource createSortedRun(final List<MemoryQueryResultRow> sortedRows) throws IOException {
+        if (sortedRows.isEmpty()) {
+            return new IteratorRowSource(sortedRows.iterator());
+        }
+        GroupByRowSpillFile result = createSpillFile();
+        for (MemoryQueryResultRow each : sortedRows) {
+            result.write(each);
+        }
+        return result::read;
+    }
+    
+    private void addCursor(final RowSource rowSource) throws SQLException, IOException, ClassNotFoundException {
+        SortedRowCursor cursor = new SortedRowCursor(rowSource);
+        if (cursor.next()) {
+            cursors.offer(cursor);
+        }
+    }
+    
+    private void closeSpillFiles() {
+        spillFiles.forEach(QuietlyCloser::close);
+        spillFiles.clear();
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        try {
+            if (null != currentCursor && currentCursor.next()) {
+                cursors.offer(currentCursor);
+            }
+        } catch (final IOException | ClassNotFoundException ex) {
+            closeSpillFiles();
+            throw new GroupByMergeSpillException(ex);
+        }
+        currentCursor = cursors.poll();
+        if (null == currentCursor) {
+            currentRow = null;
+            closeSpillFiles();
+            return false;
+        }
+        currentRow = currentCursor.getCurrentRow();
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkNotContains(INVALID_MEMORY_TYPES, type, () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, @SuppressWarnings("UseOfObsoleteDateTimeApi") final Calendar calendar) throws SQLException {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return null == result || null == calendar ? result : convertWithCalendar(result, type, calendar);
+    }
+    
+    private Object convertWithCalendar(final Object value, final Class<?> type, @SuppressWarnings("UseOfObsoleteDateTimeApi") final Calendar calendar) throws SQLException {
+        java.util.Date date = toDate(value);
+        if (null == date || Date.class != type && Time.class != type && Timestamp.class != type) {
+            throw new UnsupportedDataTypeConversionException(type, value).toSQLException();
+        }
+        Calendar localCalendar = Calendar.getInstance();
+        localCalendar.setTime(date);
+        Calendar targetCalendar = (Calendar) calendar.clone();
+        targetCalendar.clear();
+        targetCalendar.set(localCalendar.get(Calendar.YEAR), localCalendar.get(Calendar.MONTH), localCalendar.get(Calendar.DAY_OF_MONTH),
+                localCalendar.get(Calendar.HOUR_OF_DAY), localCalendar.get(Calendar.MINUTE), localCalendar.get(Calendar.SECOND));
+        targetCalendar.set(Calendar.MILLISECOND, localCalendar.get(Calendar.MILLISECOND));
+        if (Date.class == type) {
+            return new Date(targetCalendar.getTimeInMillis());
+        }
+        if (Time.class == type) {
+            return new Time(targetCalendar.getTimeInMillis());
+        }
+        Timestamp result = new Timestamp(targetCalendar.getTimeInMillis());
+        if (date instanceof Timestamp) {
+            result.setNanos(((Timestamp) date).getNanos());
+        }
+        return result;
+    }
+    
+    private java.util.Date toDate(final Object value) {
+        if (value instanceof java.util.Date) {
+            return (java.util.Date) value;
+        }
+        if (value instanceof LocalDateTime) {
+            return Timestamp.valueOf((LocalDateTime) value);
+        }
+        if (value instanceof LocalDate) {
+            return Date.valueOf((LocalDate) value);
+        }
+        return value instanceof LocalTime ? Time.valueOf((LocalTime) value) : null;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    private interface RowSource {
+        
+        MemoryQueryResultRow read() throws SQLException, IOException, ClassNotFoundException;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class QueryResultsRowSource implements RowSource {
+        
+        private final Iterator<QueryResult> queryResults;
+        
+        private QueryResult currentQueryResult;
+        
+        @Override
+        public MemoryQueryResultRow read() throws SQLException {
+            while (null != currentQueryResult || queryResults.hasNext()) {
+                if (null == currentQueryResult) {
+                    currentQueryResult = queryResults.next();
+                }
+                if (currentQueryResult.next()) {
+                    return new MemoryQueryResultRow(currentQueryResult);
+                }
+                currentQueryResult = null;
+            }
+            return null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class IteratorRowSource implements RowSource {
+        
+        private final Iterator<MemoryQueryResultRow> rows;
+        
+        @Override
+        public MemoryQueryResultRow read() {
+            return rows.hasNext() ? rows.next() : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortedRowCursor {
+        
+        private final RowSource rowSource;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        boolean next() throws SQLException, IOException, ClassNotFoundException {
+            currentRow = rowSource.read();
+            return null != currentRow;
+        }
+    }
+}
@@ -19,15 +19,42 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+
 /**
  * Aggregation unit factory.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class AggregationUnitFactory {
     
+    private static final Collection<Integer> INTEGRAL_COLUMN_TYPES = new HashSet<>(Arrays.asList(Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT));
+    
+    /**
+     * Create aggregation unit instance.
+     *
+     * @param aggregationProjection aggregation projection
+     * @param queryResultMetaData query result meta data
+     * @return aggregation unit instance
+     * @throws SQLException SQL exception
+     */
+    public static AggregationUnit create(final AggregationProjection aggregationProjection, final QueryResultMetaData queryResultMetaData) throws SQLException {
+        boolean isDistinct = aggregationProjection instanceof AggregationDistinctProjection;
+        if (!isDistinct && isIntegralAggregation(aggregationProjection, queryResultMetaData)) {
+            return AggregationType.AVG == aggregationProjection.getType() ? new LongAverageAggregationUnit() : new LongAccumulationAggregationUnit();
+        }
+        return create(aggregationProjection.getType(), isDistinct, aggregationProjection.getSeparator().orElse(null));
+    }
+    
     /**
      * Create aggregation unit instance.
      *
@@ -57,4 +84,18 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedSQLOperationException(type.name());
         }
     }
+    
+    private static boolean isIntegralAggregation(final AggregationProjection aggregationProjection, final QueryResultMetaData queryResultMetaData) throws SQLException {
+        switch (aggregationProjection.getType()) {
+            case COUNT:
+                return true;
+            case SUM:
+                return INTEGRAL_COLUMN_TYPES.contains(queryResultMetaData.getColumnType(aggregationProjection.getIndex()));
+            case AVG:
+                return 2 == aggregationProjection.getDerivedAggregationProjections().size()
+                        && INTEGRAL_COLUMN_TYPES.contains(queryResultMetaData.getColumnType(aggregationProjection.getDerivedAggregationProjections().get(1).getIndex()));
+            default:
+                return false;
+        }
+    }
 }
@@ -51,8 +51,8 @@ public final class DistinctAverageAggregationUnit implements AggregationUnit {
             if (null == sum) {
                 sum = BigDecimal.ZERO;
             }
-            count = count.add(new BigDecimal(values.get(0).toString()));
-            sum = sum.add(new BigDecimal(values.get(1).toString()));
+            count = count.add(AggregationValueUtils.toBigDecimal(values.get(0)));
+            sum = sum.add(AggregationValueUtils.toBigDecimal(values.get(1)));
         }
     }
     
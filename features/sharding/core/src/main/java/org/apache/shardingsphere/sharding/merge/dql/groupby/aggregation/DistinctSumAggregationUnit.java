@@ -43,7 +43,7 @@ public final class DistinctSumAggregationUnit implements AggregationUnit {
             if (null == result) {
                 result = BigDecimal.ZERO;
             }
-            result = result.add(new BigDecimal(values.get(0).toString()));
+            result = result.add(AggregationValueUtils.toBigDecimal(values.get(0)));
         }
     }
     
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Long accumulator, which accumulates in big decimal after long overflow or non long value.
+ */
+public final class LongAccumulator {
+    
+    private long longValue;
+    
+    private BigDecimal decimalValue;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     */
+    public void add(final Comparable<?> value) {
+        if (null == decimalValue && (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+            long addend = ((Number) value).longValue();
+            long sum = longValue + addend;
+            if (((longValue ^ sum) & (addend ^ sum)) >= 0L) {
+                longValue = sum;
+                return;
+            }
+        }
+        decimalValue = get().add(AggregationValueUtils.toBigDecimal(value));
+    }
+    
+    /**
+     * Get accumulated value.
+     *
+     * @return accumulated value
+     */
+    public BigDecimal get() {
+        return null == decimalValue ? BigDecimal.valueOf(longValue) : decimalValue;
+    }
+    
+    /**
+     * Judge whether accumulated value is zero.
+     *
+     * @return is zero or not
+     */
+    public boolean isZero() {
+        return null == decimalValue ? 0L == longValue : 0 == BigDecimal.ZERO.compareTo(decimalValue);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Average aggregation unit for integral values.
+ */
+public final class LongAverageAggregationUnit implements AggregationUnit {
+    
+    private LongAccumulator count;
+    
+    private LongAccumulator sum;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0) || null == values.get(1)) {
+            return;
+        }
+        if (null == count) {
+            count = new LongAccumulator();
+            sum = new LongAccumulator();
+        }
+        count.add(values.get(0));
+        sum.add(values.get(1));
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (null == count) {
+            return null;
+        }
+        if (count.isZero()) {
+            return count.get();
+        }
+        return sum.get().divide(count.get(), 4, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>Each internal node keeps the loser of the match played beneath it, so replacing the winner only replays the matches on its own leaf-to-root path,
+ * which costs log2(k) comparisons per merged row for k query results. Exhausted order by values lose to every other value,
+ * and equal order by values are taken in the order of their query results.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int UNSETTLED = -1;
+    
+    private final OrderByValue[] leaves;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    public OrderByValueLoserTree(final Collection<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        losers = new int[leaves.length];
+        winner = UNSETTLED;
+        if (0 == leaves.length) {
+            return;
+        }
+        Arrays.fill(losers, UNSETTLED);
+        for (int i = leaves.length - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return UNSETTLED == winner || null == leaves[winner];
+    }
+    
+    /**
+     * Get winner order by value.
+     *
+     * @return winner order by value, null if all order by values are exhausted
+     */
+    public OrderByValue peek() {
+        return isEmpty() ? null : leaves[winner];
+    }
+    
+    /**
+     * Iterate winner order by value to next data and replay the matches on its path.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        if (isEmpty()) {
+            return;
+        }
+        if (!leaves[winner].next()) {
+            leaves[winner] = null;
+        }
+        replay(winner);
+    }
+    
+    private void replay(final int leaf) {
+        int current = leaf;
+        for (int parent = (leaf + leaves.length) >> 1; parent > 0; parent >>= 1) {
+            if (beats(losers[parent], current)) {
+                int loser = current;
+                current = losers[parent];
+                losers[parent] = loser;
+            }
+        }
+        winner = current;
+    }
+    
+    private boolean beats(final int challenger, final int current) {
+        if (UNSETTLED == challenger) {
+            return true;
+        }
+        if (UNSETTLED == current) {
+            return false;
+        }
+        if (null == leaves[challenger]) {
+            return false;
+        }
+        if (null == leaves[current]) {
+            return true;
+        }
+        int result = leaves[challenger].compareTo(leaves[current]);
+        return result < 0 || 0 == result && challenger < current;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GroupByRowSpillFileTest {
+    
+    @Test
+    void assertWriteAndRead() throws IOException, ClassNotFoundException {
+        Object notSerializableValue = new Object();
+        Object[] expected = {null, true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.6D, 'c', "foo", new BigDecimal("7.70"), new BigInteger("8"), Timestamp.valueOf("2024-01-01 10:00:00.000000123"),
+                Date.valueOf("2024-01-01"), Time.valueOf("10:00:00"), LocalDate.of(2024, 1, 1), LocalTime.of(10, 0, 0, 123), LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123),
+                OffsetDateTime.of(2024, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC), notSerializableValue};
+        try (GroupByRowSpillFile spillFile = new GroupByRowSpillFile(expected.length + 1)) {
+            Object[] row = new Object[expected.length + 1];
+            System.arraycopy(expected, 0, row, 0, expected.length);
+            row[expected.length] = new byte[]{1, 2};
+            spillFile.write(new MemoryQueryResultRow(row));
+            spillFile.write(new MemoryQueryResultRow(row));
+            for (int i = 0; i < 2; i++) {
+                MemoryQueryResultRow actual = spillFile.read();
+                for (int j = 0; j < expected.length - 1; j++) {
+                    assertThat(actual.getCell(j + 1), is(expected[j]));
+                }
+                assertThat(actual.getCell(expected.length), sameInstance(notSerializableValue));
+                assertThat(actual.getCell(expected.length + 1), is(new byte[]{1, 2}));
+            }
+            assertThat(spillFile.read(), nullValue());
+        }
+    }
+}
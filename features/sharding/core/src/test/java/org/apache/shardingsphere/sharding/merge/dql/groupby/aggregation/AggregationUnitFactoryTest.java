@@ -17,11 +17,20 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
 import org.junit.jupiter.api.Test;
 
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class AggregationUnitFactoryTest {
     
@@ -73,4 +82,42 @@ class AggregationUnitFactoryTest {
         assertThat(AggregationUnitFactory.create(AggregationType.GROUP_CONCAT, true, null), isA(DistinctGroupConcatAggregationUnit.class));
         assertThat(AggregationUnitFactory.create(AggregationType.GROUP_CONCAT, true, " "), isA(DistinctGroupConcatAggregationUnit.class));
     }
+    
+    @Test
+    void assertCreateLongAccumulationAggregationUnitWithIntegralColumn() throws SQLException {
+        QueryResultMetaData queryResultMetaData = mock(QueryResultMetaData.class);
+        when(queryResultMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        assertThat(AggregationUnitFactory.create(createAggregationProjection(AggregationType.SUM, 1), queryResultMetaData), isA(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(createAggregationProjection(AggregationType.COUNT, 2), queryResultMetaData), isA(LongAccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateAccumulationAggregationUnitWithDecimalColumn() throws SQLException {
+        QueryResultMetaData queryResultMetaData = mock(QueryResultMetaData.class);
+        when(queryResultMetaData.getColumnType(1)).thenReturn(Types.DECIMAL);
+        assertThat(AggregationUnitFactory.create(createAggregationProjection(AggregationType.SUM, 1), queryResultMetaData), isA(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateLongAverageAggregationUnitWithIntegralColumn() throws SQLException {
+        QueryResultMetaData queryResultMetaData = mock(QueryResultMetaData.class);
+        when(queryResultMetaData.getColumnType(2)).thenReturn(Types.BIGINT);
+        when(queryResultMetaData.getColumnType(3)).thenReturn(Types.INTEGER);
+        AggregationProjection aggregationProjection = createAggregationProjection(AggregationType.AVG, 1);
+        aggregationProjection.getDerivedAggregationProjections().addAll(Arrays.asList(createAggregationProjection(AggregationType.COUNT, 2), createAggregationProjection(AggregationType.SUM, 3)));
+        assertThat(AggregationUnitFactory.create(aggregationProjection, queryResultMetaData), isA(LongAverageAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateDistinctCountAggregationUnitWithIntegralColumn() throws SQLException {
+        AggregationDistinctProjection aggregationProjection = mock(AggregationDistinctProjection.class);
+        when(aggregationProjection.getType()).thenReturn(AggregationType.COUNT);
+        assertThat(AggregationUnitFactory.create(aggregationProjection, mock(QueryResultMetaData.class)), isA(DistinctCountAggregationUnit.class));
+    }
+    
+    private AggregationProjection createAggregationProjection(final AggregationType type, final int index) {
+        AggregationProjection result = new AggregationProjection(type, null, null, null);
+        result.setIndex(index);
+        return result;
+    }
 }
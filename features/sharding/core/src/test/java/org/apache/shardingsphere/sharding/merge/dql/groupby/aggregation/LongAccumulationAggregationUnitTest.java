@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LongAccumulationAggregationUnitTest {
+    
+    @Test
+    void assertLongAccumulationAggregation() {
+        LongAccumulationAggregationUnit longAccumulationAggregationUnit = new LongAccumulationAggregationUnit();
+        longAccumulationAggregationUnit.merge(null);
+        longAccumulationAggregationUnit.merge(Collections.singletonList(null));
+        longAccumulationAggregationUnit.merge(Collections.singletonList(1));
+        longAccumulationAggregationUnit.merge(Collections.singletonList(1L));
+        longAccumulationAggregationUnit.merge(Collections.singletonList(10L));
+        assertThat(longAccumulationAggregationUnit.getResult(), is(new BigDecimal("12")));
+    }
+    
+    @Test
+    void assertLongAccumulationAggregationWithoutValue() {
+        LongAccumulationAggregationUnit longAccumulationAggregationUnit = new LongAccumulationAggregationUnit();
+        longAccumulationAggregationUnit.merge(Collections.singletonList(null));
+        assertThat(longAccumulationAggregationUnit.getResult(), nullValue());
+    }
+    
+    @Test
+    void assertLongAccumulationAggregationWithOverflow() {
+        LongAccumulationAggregationUnit longAccumulationAggregationUnit = new LongAccumulationAggregationUnit();
+        longAccumulationAggregationUnit.merge(Collections.singletonList(Long.MAX_VALUE));
+        longAccumulationAggregationUnit.merge(Collections.singletonList(1L));
+        longAccumulationAggregationUnit.merge(Collections.singletonList(1L));
+        assertThat(longAccumulationAggregationUnit.getResult(), is(BigDecimal.valueOf(Long.MAX_VALUE).add(new BigDecimal("2"))));
+    }
+    
+    @Test
+    void assertLongAccumulationAggregationWithDecimalValue() {
+        LongAccumulationAggregationUnit longAccumulationAggregationUnit = new LongAccumulationAggregationUnit();
+        longAccumulationAggregationUnit.merge(Collections.singletonList(1L));
+        longAccumulationAggregationUnit.merge(Collections.singletonList(new BigDecimal("1.5")));
+        longAccumulationAggregationUnit.merge(Collections.singletonList(2L));
+        assertThat(longAccumulationAggregationUnit.getResult(), is(new BigDecimal("4.5")));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByValueLoserTreeTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    @Test
+    void assertEmpty() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.emptyList());
+        assertTrue(actual.isEmpty());
+        assertThat(actual.peek(), nullValue());
+        actual.next();
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    void assertMergeWithSingleOrderByValue() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(createOrderByValues(OrderDirection.ASC, Collections.singletonList(Arrays.asList(1, 3, 5))));
+        assertThat(merge(actual), is(Arrays.asList(1, 3, 5)));
+    }
+    
+    @Test
+    void assertMergeWithAscOrderDirection() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(createOrderByValues(OrderDirection.ASC,
+                Arrays.asList(Arrays.asList(1, 4, 7), Arrays.asList(2, 2, 9), Arrays.asList(0, 8), Arrays.asList(3, 5, 6, 10), Collections.singletonList(4))));
+        assertThat(merge(actual), is(Arrays.asList(0, 1, 2, 2, 3, 4, 4, 5, 6, 7, 8, 9, 10)));
+    }
+    
+    @Test
+    void assertMergeWithDescOrderDirection() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(createOrderByValues(OrderDirection.DESC,
+                Arrays.asList(Arrays.asList(9, 3), Arrays.asList(8, 7, 1), Arrays.asList(6, 5, 4, 2))));
+        assertThat(merge(actual), is(Arrays.asList(9, 8, 7, 6, 5, 4, 3, 2, 1)));
+    }
+    
+    private List<Integer> merge(final OrderByValueLoserTree loserTree) throws SQLException {
+        List<Integer> result = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            result.add((Integer) loserTree.peek().getQueryResult().getValue(1, Object.class));
+            loserTree.next();
+        }
+        assertThat(loserTree.peek(), nullValue());
+        return result;
+    }
+    
+    private Collection<OrderByValue> createOrderByValues(final OrderDirection orderDirection, final List<List<Integer>> rows) throws SQLException {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(selectStatementContext.getSqlStatement().getDatabaseType()).thenReturn(databaseType);
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, orderDirection, NullsOrderType.FIRST));
+        orderByItem.setIndex(1);
+        Collection<OrderByValue> result = new ArrayList<>(rows.size());
+        for (List<Integer> each : rows) {
+            OrderByValue orderByValue = new OrderByValue(createQueryResult(each), Collections.singletonList(orderByItem), selectStatementContext, mock(ShardingSphereSchema.class));
+            assertTrue(orderByValue.next());
+            result.add(orderByValue);
+        }
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final List<Integer> values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() < values.size());
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> values.get(cursor.get()));
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Key segment, which holds keys in [first key, max key] leased exclusively.
+ */
+@Getter
+public final class KeySegment {
+    
+    private static final int PREFETCH_PERCENTAGE = 10;
+    
+    private final long maxKey;
+    
+    private final long prefetchKey;
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong nextKey;
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicBoolean prefetched = new AtomicBoolean();
+    
+    public KeySegment(final long firstKey, final int step) {
+        maxKey = firstKey + step - 1L;
+        prefetchKey = firstKey + step * PREFETCH_PERCENTAGE / 100;
+        nextKey = new AtomicLong(firstKey);
+    }
+    
+    /**
+     * Reserve keys.
+     *
+     * @param count count of keys to be reserved
+     * @return first reserved key, the segment is exhausted if it is greater than max key
+     */
+    public long reserve(final int count) {
+        return nextKey.getAndAdd(count);
+    }
+    
+    /**
+     * Mark next key segment prefetched.
+     *
+     * @return whether marked by current caller
+     */
+    public boolean markPrefetched() {
+        return prefetched.compareAndSet(false, true);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Key segment buffer, which switches to the next key segment prefetched asynchronously when current key segment is exhausted.
+ */
+public final class KeySegmentBuffer {
+    
+    private final Supplier<KeySegment> keySegmentLoader;
+    
+    private final Executor prefetchExecutor;
+    
+    private volatile KeySegment currentSegment;
+    
+    private CompletableFuture<KeySegment> nextSegment;
+    
+    public KeySegmentBuffer(final Supplier<KeySegment> keySegmentLoader, final Executor prefetchExecutor) {
+        this.keySegmentLoader = keySegmentLoader;
+        this.prefetchExecutor = prefetchExecutor;
+        currentSegment = keySegmentLoader.get();
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @param keyGenerateCount key generate count
+     * @param keys keys to be added generated keys
+     */
+    @HighFrequencyInvocation
+    public void generateKeys(final int keyGenerateCount, final Collection<Long> keys) {
+        int remainedCount = keyGenerateCount;
+        while (remainedCount > 0) {
+            KeySegment segment = currentSegment;
+            long firstKey = segment.reserve(remainedCount);
+            if (firstKey > segment.getMaxKey()) {
+                switchSegment(segment);
+                continue;
+            }
+            long lastKey = Math.min(segment.getMaxKey(), firstKey + remainedCount - 1L);
+            for (long each = firstKey; each <= lastKey; each++) {
+                keys.add(each);
+            }
+            remainedCount -= (int) (lastKey - firstKey + 1L);
+            if (lastKey >= segment.getPrefetchKey() && segment.markPrefetched()) {
+                prefetch(segment);
+            }
+        }
+    }
+    
+    private synchronized void prefetch(final KeySegment segment) {
+        if (segment == currentSegment && null == nextSegment) {
+            nextSegment = CompletableFuture.supplyAsync(keySegmentLoader, prefetchExecutor);
+        }
+    }
+    
+    private synchronized void switchSegment(final KeySegment exhaustedSegment) {
+        if (exhaustedSegment != currentSegment) {
+            return;
+        }
+        KeySegment prefetchedSegment = null == nextSegment ? null : nextSegment.exceptionally(ex -> null).join();
+        currentSegment = null == prefetchedSegment ? keySegmentLoader.get() : prefetchedSegment;
+        nextSegment = null;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.spi.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Segment key generate algorithm.
+ * Key segments of each table are leased from compute node instance context step by step, keys are generated by increasing in leased key segment locally.
+ * Segment names are lower case, so that table names in different cases share the same key segments.
+ */
+public final class SegmentKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
+    
+    private static final String STEP_KEY = "step";
+    
+    private static final int DEFAULT_STEP = 1000;
+    
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-key-segment-prefetch-%d").build());
+    
+    private final AtomicReference<ComputeNodeInstanceContext> computeNodeInstanceContext = new AtomicReference<>();
+    
+    private final Map<String, KeySegmentBuffer> keySegmentBuffers = new ConcurrentHashMap<>();
+    
+    private int step;
+    
+    @Override
+    public void init(final Properties props) {
+        step = getStep(props);
+    }
+    
+    private int getStep(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(STEP_KEY, DEFAULT_STEP).toString());
+        ShardingSpherePreconditions.checkState(result > 0, () -> new AlgorithmInitializationException(this, "Step must be positive."));
+        return result;
+    }
+    
+    @Override
+    public void setComputeNodeInstanceContext(final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        this.computeNodeInstanceContext.set(computeNodeInstanceContext);
+    }
+    
+    @HighFrequencyInvocation
+    @Override
+    public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
+        Collection<Long> result = new ArrayList<>(keyGenerateCount);
+        getKeySegmentBuffer(String.join(".", context.getDatabaseName(), context.getTableName()).toLowerCase()).generateKeys(keyGenerateCount, result);
+        return result;
+    }
+    
+    private KeySegmentBuffer getKeySegmentBuffer(final String segmentName) {
+        KeySegmentBuffer result = keySegmentBuffers.get(segmentName);
+        return null == result ? keySegmentBuffers.computeIfAbsent(segmentName, this::createKeySegmentBuffer) : result;
+    }
+    
+    private KeySegmentBuffer createKeySegmentBuffer(final String segmentName) {
+        ComputeNodeInstanceContext instanceContext = computeNodeInstanceContext.get();
+        ShardingSpherePreconditions.checkNotNull(instanceContext, () -> new AlgorithmExecuteException(this, "Compute node instance context is required to allocate key segment"));
+        return new KeySegmentBuffer(() -> new KeySegment(instanceContext.allocateKeySegment(segmentName, step), step), PREFETCH_EXECUTOR);
+    }
+    
+    @Override
+    public String getType() {
+        return "SEGMENT";
+    }
+}
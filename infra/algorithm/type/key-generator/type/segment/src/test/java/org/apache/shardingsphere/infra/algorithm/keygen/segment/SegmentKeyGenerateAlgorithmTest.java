@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.segment;
+
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.spi.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SegmentKeyGenerateAlgorithmTest {
+    
+    private static final AlgorithmSQLContext FOO_CONTEXT = new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "id");
+    
+    private static final AlgorithmSQLContext UPPER_CASE_FOO_CONTEXT = new AlgorithmSQLContext("foo_db", "foo_schema", "FOO_TBL", "id");
+    
+    private static final AlgorithmSQLContext BAR_CONTEXT = new AlgorithmSQLContext("foo_db", "foo_schema", "bar_tbl", "id");
+    
+    @Test
+    void assertInitWithInvalidStep() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("step", "0"))));
+    }
+    
+    @Test
+    void assertGenerateKeysWithoutComputeNodeInstanceContext() {
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT");
+        assertThrows(AlgorithmExecuteException.class, () -> algorithm.generateKeys(FOO_CONTEXT, 1));
+    }
+    
+    @Test
+    void assertGenerateKeysOneByOne() {
+        KeyGenerateAlgorithm algorithm = createAlgorithm(createComputeNodeInstanceContext());
+        List<Comparable<?>> actual = new ArrayList<>(25);
+        for (int i = 0; i < 25; i++) {
+            actual.addAll(algorithm.generateKeys(FOO_CONTEXT, 1));
+        }
+        assertThat(actual, is(createExpectedKeys(1L, 25L)));
+    }
+    
+    @Test
+    void assertGenerateKeysInBatch() {
+        KeyGenerateAlgorithm algorithm = createAlgorithm(createComputeNodeInstanceContext());
+        assertThat(new ArrayList<>(algorithm.generateKeys(FOO_CONTEXT, 3)), is(createExpectedKeys(1L, 3L)));
+        assertThat(new ArrayList<>(algorithm.generateKeys(FOO_CONTEXT, 25)), is(createExpectedKeys(4L, 28L)));
+    }
+    
+    @Test
+    void assertGenerateKeysForDifferentTables() {
+        KeyGenerateAlgorithm algorithm = createAlgorithm(createComputeNodeInstanceContext());
+        assertThat(new ArrayList<>(algorithm.generateKeys(FOO_CONTEXT, 12)), is(createExpectedKeys(1L, 12L)));
+        assertThat(new ArrayList<>(algorithm.generateKeys(BAR_CONTEXT, 12)), is(createExpectedKeys(1L, 12L)));
+    }
+    
+    @Test
+    void assertGenerateKeysForMixedCaseTableNames() {
+        ComputeNodeInstanceContext computeNodeInstanceContext = createComputeNodeInstanceContext();
+        KeyGenerateAlgorithm algorithm = createAlgorithm(computeNodeInstanceContext);
+        assertThat(new ArrayList<>(algorithm.generateKeys(FOO_CONTEXT, 12)), is(createExpectedKeys(1L, 12L)));
+        assertThat(new ArrayList<>(algorithm.generateKeys(UPPER_CASE_FOO_CONTEXT, 12)), is(createExpectedKeys(13L, 24L)));
+        verify(computeNodeInstanceContext, never()).allocateKeySegment(eq("foo_db.FOO_TBL"), anyInt());
+    }
+    
+    @Test
+    void assertGenerateKeysWhenPrefetchFailed() {
+        ComputeNodeInstanceContext computeNodeInstanceContext = mock(ComputeNodeInstanceContext.class);
+        AtomicLong leasedMaxKey = new AtomicLong();
+        AtomicBoolean failed = new AtomicBoolean();
+        when(computeNodeInstanceContext.allocateKeySegment(anyString(), anyInt())).thenAnswer(invocation -> {
+            if (leasedMaxKey.get() > 0L && failed.compareAndSet(false, true)) {
+                throw new IllegalStateException("Prefetch failed.");
+            }
+            return leasedMaxKey.getAndAdd(invocation.getArgument(1, Integer.class)) + 1L;
+        });
+        KeyGenerateAlgorithm algorithm = createAlgorithm(computeNodeInstanceContext);
+        assertThat(new ArrayList<>(algorithm.generateKeys(FOO_CONTEXT, 25)), is(createExpectedKeys(1L, 25L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        KeyGenerateAlgorithm algorithm = createAlgorithm(createComputeNodeInstanceContext());
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        Collection<Future<Collection<? extends Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(() -> {
+                Collection<Comparable<?>> result = new ArrayList<>(1000);
+                for (int j = 0; j < 500; j++) {
+                    result.addAll(algorithm.generateKeys(FOO_CONTEXT, 2));
+                }
+                return result;
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(threadNumber * 1000, 1F);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 1000));
+    }
+    
+    private ComputeNodeInstanceContext createComputeNodeInstanceContext() {
+        ComputeNodeInstanceContext result = mock(ComputeNodeInstanceContext.class);
+        Map<String, AtomicLong> leasedMaxKeys = new ConcurrentHashMap<>();
+        when(result.allocateKeySegment(anyString(), anyInt()))
+                .thenAnswer(invocation -> leasedMaxKeys.computeIfAbsent(invocation.getArgument(0), key -> new AtomicLong()).getAndAdd(invocation.getArgument(1, Integer.class)) + 1L);
+        return result;
+    }
+    
+    private KeyGenerateAlgorithm createAlgorithm(final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        KeyGenerateAlgorithm result = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SEGMENT", PropertiesBuilder.build(new Property("step", "10")));
+        ((ComputeNodeInstanceContextAware) result).setComputeNodeInstanceContext(computeNodeInstanceContext);
+        return result;
+    }
+    
+    private List<Comparable<?>> createExpectedKeys(final long firstKey, final long lastKey) {
+        return LongStream.rangeClosed(firstKey, lastKey).boxed().collect(Collectors.toList());
+    }
+}
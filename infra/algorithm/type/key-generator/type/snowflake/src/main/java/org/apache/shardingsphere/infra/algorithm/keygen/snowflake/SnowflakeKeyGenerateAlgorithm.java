@@ -31,8 +31,8 @@ import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -48,6 +48,7 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one millis
  * </pre>
+ * Last millis and sequence are held in one atomic long, so that a contiguous block of sequences is reserved by one CAS for multiple keys.
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
     
@@ -80,9 +81,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
     
-    private final AtomicLong sequence = new AtomicLong();
-    
-    private final AtomicLong lastMillis = new AtomicLong();
+    private final AtomicLong lastMillisAndSequence = new AtomicLong();
     
     private Properties props;
     
@@ -124,40 +123,54 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     @HighFrequencyInvocation
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
-        Collection<Long> result = new LinkedList<>();
-        for (int index = 0; index < keyGenerateCount; index++) {
-            result.add(generateKey());
+        Collection<Long> result = new ArrayList<>(keyGenerateCount);
+        int remainedCount = keyGenerateCount;
+        while (remainedCount > 0) {
+            remainedCount -= reserveKeys(remainedCount, result);
         }
         return result;
     }
     
     @HighFrequencyInvocation
-    private synchronized Long generateKey() {
-        long currentMillis = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMillis)) {
-            currentMillis = timeService.getCurrentMillis();
-        }
-        if (lastMillis.get() == currentMillis) {
-            sequence.set(sequence.incrementAndGet() & SEQUENCE_MASK);
-            if (0L == sequence.get()) {
-                currentMillis = waitUntilNextTime(currentMillis);
+    private int reserveKeys(final int expectedCount, final Collection<Long> keys) {
+        while (true) {
+            long last = lastMillisAndSequence.get();
+            long lastMillis = last >>> SEQUENCE_BITS;
+            long currentMillis = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMillis, currentMillis)) {
+                currentMillis = timeService.getCurrentMillis();
+            }
+            long firstSequence;
+            if (lastMillis == currentMillis) {
+                firstSequence = (last & SEQUENCE_MASK) + 1L;
+                if (firstSequence > SEQUENCE_MASK) {
+                    currentMillis = waitUntilNextTime(currentMillis);
+                    firstSequence = 0L;
+                }
+            } else {
+                vibrateSequenceOffset();
+                firstSequence = sequenceOffset.get();
+            }
+            int result = (int) Math.min(expectedCount, SEQUENCE_MASK - firstSequence + 1L);
+            long lastSequence = firstSequence + result - 1L;
+            if (lastMillisAndSequence.compareAndSet(last, currentMillis << SEQUENCE_BITS | lastSequence)) {
+                long keyPrefix = ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS);
+                for (long each = firstSequence; each <= lastSequence; each++) {
+                    keys.add(keyPrefix | each);
+                }
+                return result;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence.set(sequenceOffset.get());
         }
-        lastMillis.set(currentMillis);
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
-        if (lastMillis.get() <= currentMillis) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMillis, final long currentMillis) {
+        if (lastMillis <= currentMillis) {
             return false;
         }
-        long timeDifferenceMillis = lastMillis.get() - currentMillis;
+        long timeDifferenceMillis = lastMillis - currentMillis;
         ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
-                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis.get(), currentMillis));
+                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis, currentMillis));
         Thread.sleep(timeDifferenceMillis);
         return true;
     }
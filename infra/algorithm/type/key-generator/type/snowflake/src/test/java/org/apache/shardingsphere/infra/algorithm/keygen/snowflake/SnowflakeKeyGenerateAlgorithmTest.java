@@ -37,12 +37,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -90,9 +92,7 @@ class SnowflakeKeyGenerateAlgorithmTest {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
         List<Comparable<?>> expected = Arrays.asList(0L, 4194305L, 4194306L, 8388608L, 8388609L, 12582913L, 12582914L, 16777216L, 16777217L, 20971521L);
-        List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
-        actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
-        assertThat(actual, is(expected));
+        assertThat(generateKeysOneByOne(algorithm), is(expected));
     }
     
     @Test
@@ -143,11 +143,9 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof ComputeNodeInstanceContextAware) {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis() + 2L);
+        setLastMillisAndSequence(algorithm, timeService.getCurrentMillis() + 2L, 0L);
         List<Comparable<?>> expected = Arrays.asList(4194304L, 8388609L, 8388610L, 12582912L, 12582913L, 16777217L, 16777218L, 20971520L, 20971521L, 25165825L);
-        List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
-        actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
-        assertThat(actual, is(expected));
+        assertThat(generateKeysOneByOne(algorithm), is(expected));
     }
     
     @Test
@@ -158,7 +156,7 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof ComputeNodeInstanceContextAware) {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis() + 2L);
+        setLastMillisAndSequence(algorithm, timeService.getCurrentMillis() + 2L, 0L);
         assertThrows(AlgorithmExecuteException.class, () -> batchGenerate(algorithm));
     }
     
@@ -174,22 +172,59 @@ class SnowflakeKeyGenerateAlgorithmTest {
         if (algorithm instanceof ComputeNodeInstanceContextAware) {
             ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(INSTANCE);
         }
-        setLastMillis(algorithm, timeService.getCurrentMillis());
-        setSequence(algorithm, (1L << DEFAULT_SEQUENCE_BITS) - 1L);
+        setLastMillisAndSequence(algorithm, timeService.getCurrentMillis(), (1L << DEFAULT_SEQUENCE_BITS) - 1L);
         List<Comparable<?>> expected = Arrays.asList(4194304L, 4194305L, 4194306L, 8388608L, 8388609L, 8388610L, 12582913L, 12582914L, 12582915L, 16777216L);
-        List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
-        actual.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT));
-        assertThat(actual, is(expected));
+        assertThat(generateKeysOneByOne(algorithm), is(expected));
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private void setLastMillis(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillis"), algorithm, new AtomicLong(value.longValue()));
+    @Test
+    void assertGenerateKeysInOneBlock() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        List<Comparable<?>> expected = Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT)), is(expected));
+    }
+    
+    @Test
+    void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(2));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        List<Comparable<?>> actual = new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 5000));
+        assertThat(actual.size(), is(5000));
+        assertThat(actual.get(4095), is(4095L));
+        assertThat(actual.get(4096), is(1L << 22));
+        assertThat(actual.get(4999), is((1L << 22) + 903L));
+    }
+    
+    @Test
+    void assertGenerateKeysInBatchWithMultipleThreads() throws ExecutionException, InterruptedException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        Collection<Future<Collection<? extends Comparable<?>>>> futures = new LinkedList<>();
+        for (int i = 0; i < threadNumber * 4; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1000)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(threadNumber * 4000, 1F);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 4000));
+    }
+    
+    private List<Comparable<?>> generateKeysOneByOne(final KeyGenerateAlgorithm algorithm) {
+        List<Comparable<?>> result = new ArrayList<>(DEFAULT_KEY_AMOUNT);
+        for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
+            result.addAll(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1));
+        }
+        return result;
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
-    private void setSequence(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence"), algorithm, new AtomicLong(value.longValue()));
+    private void setLastMillisAndSequence(final KeyGenerateAlgorithm algorithm, final long lastMillis, final long sequence) {
+        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillisAndSequence"), algorithm, new AtomicLong(lastMillis << DEFAULT_SEQUENCE_BITS | sequence));
     }
     
     @Test
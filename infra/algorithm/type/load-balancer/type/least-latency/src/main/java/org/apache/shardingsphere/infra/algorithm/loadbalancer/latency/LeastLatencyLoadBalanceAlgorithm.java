@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Least latency load balance algorithm.
+ * <p>
+ * Choose two random targets, and route to the one with lower EWMA latency weighted by in-flight executions.
+ * </p>
+ */
+public final class LeastLatencyLoadBalanceAlgorithm implements LoadBalanceAlgorithm {
+    
+    private static final String DECAY_TIME_MILLISECONDS_KEY = "decay-time-milliseconds";
+    
+    private static final long DEFAULT_DECAY_TIME_MILLISECONDS = 10000L;
+    
+    private long decayNanos;
+    
+    @Override
+    public void init(final Properties props) {
+        long decayTimeMillis = getDecayTimeMilliseconds(props);
+        ShardingSpherePreconditions.checkState(decayTimeMillis > 0L, () -> new AlgorithmInitializationException(this, "`%s` should be positive.", DECAY_TIME_MILLISECONDS_KEY));
+        decayNanos = TimeUnit.MILLISECONDS.toNanos(decayTimeMillis);
+    }
+    
+    private long getDecayTimeMilliseconds(final Properties props) {
+        String value = props.getProperty(DECAY_TIME_MILLISECONDS_KEY, String.valueOf(DEFAULT_DECAY_TIME_MILLISECONDS));
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException ex) {
+            throw new AlgorithmInitializationException(this, "`%s` should be number, but is `%s`.", DECAY_TIME_MILLISECONDS_KEY, value);
+        }
+    }
+    
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        return getTargetName(null, groupName, availableTargetNames);
+    }
+    
+    @HighFrequencyInvocation
+    @Override
+    public String getTargetName(final String databaseName, final String groupName, final List<String> availableTargetNames) {
+        int size = availableTargetNames.size();
+        if (1 == size) {
+            return availableTargetNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String firstTargetName = availableTargetNames.get(firstIndex);
+        String secondTargetName = availableTargetNames.get(secondIndex);
+        long currentNanos = System.nanoTime();
+        double firstScore = TargetLatencyRegistry.get(databaseName, firstTargetName).getScore(currentNanos, decayNanos);
+        return TargetLatencyRegistry.get(databaseName, secondTargetName).getScore(currentNanos, decayNanos) < firstScore ? secondTargetName : firstTargetName;
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_LATENCY";
+    }
+}
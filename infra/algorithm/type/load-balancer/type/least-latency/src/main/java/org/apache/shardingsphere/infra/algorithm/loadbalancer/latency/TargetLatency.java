@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Latency of load balance target.
+ */
+public final class TargetLatency {
+    
+    private static final double EWMA_ALPHA = 0.3D;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private volatile double ewmaNanos;
+    
+    private volatile long lastUpdatedNanos;
+    
+    private volatile boolean observed;
+    
+    /**
+     * Start execution on target.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Finish execution on target.
+     *
+     * @param elapsedNanos elapsed nanoseconds of execution
+     * @param currentNanos current nanoseconds
+     */
+    public synchronized void finish(final long elapsedNanos, final long currentNanos) {
+        inFlightCount.decrementAndGet();
+        ewmaNanos = observed ? EWMA_ALPHA * elapsedNanos + (1D - EWMA_ALPHA) * ewmaNanos : elapsedNanos;
+        lastUpdatedNanos = currentNanos;
+        observed = true;
+    }
+    
+    /**
+     * Get in-flight count.
+     *
+     * @return in-flight count
+     */
+    public int getInFlightCount() {
+        return Math.max(0, inFlightCount.get());
+    }
+    
+    /**
+     * Get load score, lower score means better target.
+     * EWMA latency decays with time since last update, so that target not chosen for a while could be probed again.
+     *
+     * @param currentNanos current nanoseconds
+     * @param decayNanos decay nanoseconds
+     * @return load score
+     */
+    public double getScore(final long currentNanos, final long decayNanos) {
+        if (!observed) {
+            return 0D;
+        }
+        double decayedEWMANanos = ewmaNanos * Math.exp(-(double) Math.max(0L, currentNanos - lastUpdatedNanos) / decayNanos);
+        return decayedEWMANanos * (getInFlightCount() + 1);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Target latency registry, which is keyed by database name and target name because target names are only unique in a database.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TargetLatencyRegistry {
+    
+    private static final Map<String, TargetLatency> TARGET_LATENCIES = new ConcurrentHashMap<>();
+    
+    /**
+     * Get target latency.
+     *
+     * @param databaseName database name which owns the target, null if it is unknown
+     * @param targetName target name
+     * @return target latency
+     */
+    public static TargetLatency get(final String databaseName, final String targetName) {
+        String key = null == databaseName ? targetName : databaseName + "." + targetName;
+        TargetLatency result = TARGET_LATENCIES.get(key);
+        return null == result ? TARGET_LATENCIES.computeIfAbsent(key, unused -> new TargetLatency()) : result;
+    }
+}
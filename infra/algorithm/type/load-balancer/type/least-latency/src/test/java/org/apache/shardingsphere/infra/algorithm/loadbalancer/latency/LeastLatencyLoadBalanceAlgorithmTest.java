@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LeastLatencyLoadBalanceAlgorithmTest {
+    
+    @Test
+    void assertInitWithInvalidDecayTime() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_LATENCY", PropertiesBuilder.build(new Property("decay-time-milliseconds", "foo"))));
+    }
+    
+    @Test
+    void assertInitWithNonPositiveDecayTime() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_LATENCY", PropertiesBuilder.build(new Property("decay-time-milliseconds", "0"))));
+    }
+    
+    @Test
+    void assertGetSingleAvailableTarget() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_LATENCY");
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Collections.singletonList("single_read_ds")), is("single_read_ds"));
+    }
+    
+    @Test
+    void assertGetTargetNameWithHeterogeneousLatencies() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_LATENCY");
+        Map<String, Long> simulatedLatencies = new HashMap<>(3, 1F);
+        simulatedLatencies.put("sim_read_ds_0", TimeUnit.MILLISECONDS.toNanos(1L));
+        simulatedLatencies.put("sim_read_ds_1", TimeUnit.MILLISECONDS.toNanos(2L));
+        simulatedLatencies.put("sim_read_ds_2", TimeUnit.MILLISECONDS.toNanos(50L));
+        List<String> availableTargetNames = Arrays.asList("sim_read_ds_0", "sim_read_ds_1", "sim_read_ds_2");
+        Map<String, Integer> routedCounts = new HashMap<>(3, 1F);
+        for (int i = 0; i < 3000; i++) {
+            String actual = loadBalanceAlgorithm.getTargetName("foo_db", "ds", availableTargetNames);
+            routedCounts.merge(actual, 1, Integer::sum);
+            TargetLatency targetLatency = TargetLatencyRegistry.get("foo_db", actual);
+            targetLatency.start();
+            targetLatency.finish(simulatedLatencies.get(actual), System.nanoTime());
+        }
+        assertThat(routedCounts.getOrDefault("sim_read_ds_2", 0), lessThan(150));
+        assertThat(routedCounts.getOrDefault("sim_read_ds_0", 0), greaterThan(routedCounts.getOrDefault("sim_read_ds_1", 0)));
+    }
+    
+    @Test
+    void assertGetTargetNameWithInFlightExecutions() {
+        TargetLatency busyTargetLatency = TargetLatencyRegistry.get("foo_db", "busy_read_ds");
+        busyTargetLatency.start();
+        busyTargetLatency.finish(TimeUnit.MILLISECONDS.toNanos(1L), System.nanoTime());
+        for (int i = 0; i < 10; i++) {
+            busyTargetLatency.start();
+        }
+        TargetLatency idleTargetLatency = TargetLatencyRegistry.get("foo_db", "idle_read_ds");
+        idleTargetLatency.start();
+        idleTargetLatency.finish(TimeUnit.MILLISECONDS.toNanos(5L), System.nanoTime());
+        LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_LATENCY");
+        assertThat(loadBalanceAlgorithm.getTargetName("foo_db", "ds", Arrays.asList("busy_read_ds", "idle_read_ds")), is("idle_read_ds"));
+    }
+}
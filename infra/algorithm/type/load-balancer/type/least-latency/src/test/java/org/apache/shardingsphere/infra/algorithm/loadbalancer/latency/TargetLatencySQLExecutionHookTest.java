@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.Mockito.mock;
+
+class TargetLatencySQLExecutionHookTest {
+    
+    @Test
+    void assertFinishSuccess() {
+        TargetLatencySQLExecutionHook hook = new TargetLatencySQLExecutionHook();
+        hook.start("foo_db", "hook_success_ds", "SELECT 1", Collections.emptyList(), null, true);
+        assertThat(TargetLatencyRegistry.get("foo_db", "hook_success_ds").getInFlightCount(), is(1));
+        hook.finishSuccess();
+        assertThat(TargetLatencyRegistry.get("foo_db", "hook_success_ds").getInFlightCount(), is(0));
+        assertThat(TargetLatencyRegistry.get("foo_db", "hook_success_ds").getScore(System.nanoTime(), Long.MAX_VALUE), greaterThan(0D));
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        TargetLatencySQLExecutionHook hook = new TargetLatencySQLExecutionHook();
+        hook.start("foo_db", "hook_failure_ds", "SELECT 1", Collections.emptyList(), null, true);
+        hook.finishFailure(mock(Exception.class));
+        hook.finishFailure(mock(Exception.class));
+        assertThat(TargetLatencyRegistry.get("foo_db", "hook_failure_ds").getInFlightCount(), is(0));
+    }
+    
+    @Test
+    void assertStartWithSameDataSourceNameInOtherDatabase() {
+        TargetLatencySQLExecutionHook hook = new TargetLatencySQLExecutionHook();
+        hook.start("foo_db", "hook_shared_ds", "SELECT 1", Collections.emptyList(), null, true);
+        assertThat(TargetLatencyRegistry.get("foo_db", "hook_shared_ds").getInFlightCount(), is(1));
+        assertThat(TargetLatencyRegistry.get("bar_db", "hook_shared_ds").getInFlightCount(), is(0));
+        hook.finishSuccess();
+    }
+}
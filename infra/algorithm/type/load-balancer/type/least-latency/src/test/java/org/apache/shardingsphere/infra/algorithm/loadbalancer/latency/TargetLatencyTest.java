@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+
+class TargetLatencyTest {
+    
+    @Test
+    void assertGetScoreWithoutObservation() {
+        assertThat(new TargetLatency().getScore(100L, 1000L), is(0D));
+    }
+    
+    @Test
+    void assertGetScoreWithEWMA() {
+        TargetLatency targetLatency = new TargetLatency();
+        targetLatency.start();
+        targetLatency.finish(100L, 10L);
+        targetLatency.start();
+        targetLatency.finish(200L, 10L);
+        assertThat(targetLatency.getScore(10L, 1000L), closeTo(130D, 0.0001D));
+        targetLatency.start();
+        assertThat(targetLatency.getInFlightCount(), is(1));
+        assertThat(targetLatency.getScore(10L, 1000L), closeTo(260D, 0.0001D));
+    }
+    
+    @Test
+    void assertGetScoreWithDecay() {
+        TargetLatency targetLatency = new TargetLatency();
+        targetLatency.start();
+        targetLatency.finish(100L, 0L);
+        assertThat(targetLatency.getScore(1000L, 1000L), closeTo(100D / Math.E, 0.0001D));
+    }
+}
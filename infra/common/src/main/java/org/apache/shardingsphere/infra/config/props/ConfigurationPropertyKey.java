@@ -48,6 +48,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL in virtual threads instead of worker group, only take effect on JDK 21 or above.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -63,6 +68,22 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     LOAD_TABLE_METADATA_BATCH_SIZE("load-table-metadata-batch-size", String.valueOf(1000), int.class, false),
     
+    /**
+     * Max estimated bytes of groups held in memory when merging group by results, groups beyond it will be spilled to local temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MERGE_MEMORY_LIMIT("group-by-merge-memory-limit", String.valueOf(0), long.class, false),
+    
+    /**
+     * Whether hold query results loaded into memory in compact columns instead of row objects.
+     */
+    MEMORY_QUERY_RESULT_COLUMNAR_ENABLED("memory-query-result-columnar-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Whether cache rewritten SQL of each route unit for prepared statements, so that only parameters are rewritten when the statement is executed with the same route units.
+     */
+    SQL_REWRITE_PLAN_CACHE_ENABLED("sql-rewrite-plan-cache-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -79,11 +100,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Whether normalize numeric literals of non-prepared DML statements into parameters for ShardingSphere-Proxy, so that these statements share cached parse results.
+     */
+    PROXY_SQL_LITERAL_NORMALIZATION_ENABLED("proxy-sql-literal-normalization-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
     PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether run commands of each proxy frontend connection in a dedicated virtual thread, only take effect on JDK 21 or above.
+     */
+    PROXY_FRONTEND_CONNECTION_VIRTUAL_THREAD_ENABLED("proxy-frontend-connection-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
@@ -37,6 +37,11 @@ public enum TemporaryConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_META_DATA_COLLECTOR_ENABLED("proxy-meta-data-collector-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether collect row count, distinct count and value range of tables from data nodes for SQL federation cost estimation.
+     */
+    PROXY_META_DATA_COLLECTOR_TABLE_CARDINALITY_ENABLED("proxy-meta-data-collector-table-cardinality-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * System schema metadata assembly enabled.
      */
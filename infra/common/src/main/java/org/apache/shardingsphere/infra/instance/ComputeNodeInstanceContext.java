@@ -22,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocator;
 import org.apache.shardingsphere.infra.instance.workerid.WorkerIdGenerator;
 import org.apache.shardingsphere.infra.state.instance.InstanceState;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
@@ -47,6 +48,9 @@ public final class ComputeNodeInstanceContext {
     @Getter(AccessLevel.NONE)
     private final AtomicReference<WorkerIdGenerator> workerIdGenerator;
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<KeySegmentAllocator> keySegmentAllocator;
+    
     private final ClusterInstanceRegistry clusterInstanceRegistry;
     
     public ComputeNodeInstanceContext(final ComputeNodeInstance instance, final ModeConfiguration modeConfiguration, final EventBusContext eventBusContext) {
@@ -54,6 +58,7 @@ public final class ComputeNodeInstanceContext {
         this.modeConfiguration = modeConfiguration;
         this.eventBusContext = eventBusContext;
         workerIdGenerator = new AtomicReference<>();
+        keySegmentAllocator = new AtomicReference<>();
         clusterInstanceRegistry = new ClusterInstanceRegistry();
     }
     
@@ -66,6 +71,17 @@ public final class ComputeNodeInstanceContext {
         this.workerIdGenerator.set(workerIdGenerator);
     }
     
+    /**
+     * Initialize compute node instance context.
+     *
+     * @param workerIdGenerator worker id generator
+     * @param keySegmentAllocator key segment allocator
+     */
+    public void init(final WorkerIdGenerator workerIdGenerator, final KeySegmentAllocator keySegmentAllocator) {
+        this.workerIdGenerator.set(workerIdGenerator);
+        this.keySegmentAllocator.set(keySegmentAllocator);
+    }
+    
     /**
      * Update instance status.
      *
@@ -135,4 +151,16 @@ public final class ComputeNodeInstanceContext {
         instance.setWorkerId(result);
         return result;
     }
+    
+    /**
+     * Allocate key segment.
+     *
+     * @param segmentName segment name
+     * @param step step of key segment
+     * @return first key of allocated key segment
+     */
+    public long allocateKeySegment(final String segmentName, final int step) {
+        ShardingSpherePreconditions.checkNotNull(keySegmentAllocator.get(), () -> new IllegalArgumentException("Key segment allocator is not initialized."));
+        return keySegmentAllocator.get().allocate(segmentName, step);
+    }
 }
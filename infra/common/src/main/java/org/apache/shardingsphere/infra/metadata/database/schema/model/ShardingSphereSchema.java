@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere schema.
@@ -38,6 +39,8 @@ public final class ShardingSphereSchema {
     
     private final Map<ShardingSphereIdentifier, ShardingSphereView> views;
     
+    private final AtomicLong version = new AtomicLong();
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema(final String name) {
         this.name = name;
@@ -89,6 +92,7 @@ public final class ShardingSphereSchema {
      */
     public void putTable(final ShardingSphereTable table) {
         tables.put(new ShardingSphereIdentifier(table.getName()), table);
+        version.incrementAndGet();
     }
     
     /**
@@ -98,6 +102,7 @@ public final class ShardingSphereSchema {
      */
     public void removeTable(final String tableName) {
         tables.remove(new ShardingSphereIdentifier(tableName));
+        version.incrementAndGet();
     }
     
     /**
@@ -136,6 +141,7 @@ public final class ShardingSphereSchema {
      */
     public void putView(final ShardingSphereView view) {
         views.put(new ShardingSphereIdentifier(view.getName()), view);
+        version.incrementAndGet();
     }
     
     /**
@@ -145,6 +151,7 @@ public final class ShardingSphereSchema {
      */
     public void removeView(final String viewName) {
         views.remove(new ShardingSphereIdentifier(viewName));
+        version.incrementAndGet();
     }
     
     /**
@@ -178,6 +185,15 @@ public final class ShardingSphereSchema {
         return containsTable(tableName) ? getTable(tableName).getVisibleColumnAndIndexMap() : Collections.emptyMap();
     }
     
+    /**
+     * Get version, which increases on every table or view change.
+     *
+     * @return version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
     /**
      * Whether empty schema.
      *
@@ -19,9 +19,11 @@ package org.apache.shardingsphere.infra.metadata.statistics;
 
 import com.cedarsoftware.util.CaseInsensitiveMap;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.TableCardinality;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * ShardingSphere statistics.
@@ -31,6 +33,8 @@ public final class ShardingSphereStatistics {
     
     private final Map<String, DatabaseStatistics> databaseStatisticsMap = Collections.synchronizedMap(new CaseInsensitiveMap<>());
     
+    private final Map<String, TableCardinality> tableCardinalityMap = Collections.synchronizedMap(new CaseInsensitiveMap<>());
+    
     /**
      * Get database statistics.
      *
@@ -69,4 +73,32 @@ public final class ShardingSphereStatistics {
     public boolean containsDatabaseStatistics(final String databaseName) {
         return databaseStatisticsMap.containsKey(databaseName);
     }
+    
+    /**
+     * Find table cardinality.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return found table cardinality
+     */
+    public Optional<TableCardinality> findTableCardinality(final String databaseName, final String schemaName, final String tableName) {
+        return Optional.ofNullable(tableCardinalityMap.get(getTableCardinalityKey(databaseName, schemaName, tableName)));
+    }
+    
+    /**
+     * Put table cardinality.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param tableCardinality table cardinality
+     */
+    public void putTableCardinality(final String databaseName, final String schemaName, final String tableName, final TableCardinality tableCardinality) {
+        tableCardinalityMap.put(getTableCardinalityKey(databaseName, schemaName, tableName), tableCardinality);
+    }
+    
+    private String getTableCardinalityKey(final String databaseName, final String schemaName, final String tableName) {
+        return String.join(".", databaseName, schemaName, tableName);
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.statistics.cardinality;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Table cardinality.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class TableCardinality {
+    
+    private final long rowCount;
+    
+    private final Map<String, Long> dataNodeRowCounts;
+    
+    private final Map<String, ColumnCardinality> columnCardinalities;
+    
+    /**
+     * Find column cardinality.
+     *
+     * @param columnName column name
+     * @return found column cardinality
+     */
+    public Optional<ColumnCardinality> findColumnCardinality(final String columnName) {
+        return Optional.ofNullable(columnCardinalities.get(columnName));
+    }
+}
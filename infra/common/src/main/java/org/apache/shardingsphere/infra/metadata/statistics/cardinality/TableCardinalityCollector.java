@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.statistics.cardinality;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.DialectDatabaseMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.QuoteCharacter;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.DataSourceMapperRuleAttribute;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Table cardinality collector.
+ */
+@RequiredArgsConstructor
+public final class TableCardinalityCollector {
+    
+    private static final int SAMPLE_SIZE = 1000;
+    
+    private static final int MAX_SAMPLED_ROW_COUNT = SAMPLE_SIZE * 2;
+    
+    private static final Collection<Integer> NUMERIC_DATA_TYPES = new HashSet<>(
+            Arrays.asList(Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT, Types.FLOAT, Types.REAL, Types.DOUBLE, Types.NUMERIC, Types.DECIMAL));
+    
+    private final ShardingSphereDatabase database;
+    
+    /**
+     * Collect table cardinality from all data nodes of table.
+     * Row count is taken from index statistics of catalog or counted for small table, min and max values of numeric columns are aggregated,
+     * and distinct counts are estimated from rows sampled randomly.
+     *
+     * @param table table
+     * @return collected table cardinality, empty if table has no data node
+     * @throws SQLException SQL exception
+     */
+    public Optional<TableCardinality> collect(final ShardingSphereTable table) throws SQLException {
+        Collection<DataNode> dataNodes = getDataNodes(table.getName());
+        if (dataNodes.isEmpty() || table.getAllColumns().isEmpty()) {
+            return Optional.empty();
+        }
+        List<ShardingSphereColumn> columns = new ArrayList<>(table.getAllColumns());
+        Map<String, Long> dataNodeRowCounts = new LinkedHashMap<>(dataNodes.size(), 1F);
+        long rowCount = 0L;
+        long[] distinctCounts = new long[columns.size()];
+        Double[] minValues = new Double[columns.size()];
+        Double[] maxValues = new Double[columns.size()];
+        for (DataNode each : dataNodes) {
+            Optional<StorageUnit> storageUnit = findStorageUnit(each.getDataSourceName());
+            if (!storageUnit.isPresent()) {
+                return Optional.empty();
+            }
+            long dataNodeRowCount = collectDataNode(storageUnit.get(), each, columns, distinctCounts, minValues, maxValues);
+            dataNodeRowCounts.put(each.getDataSourceName() + "." + each.getTableName(), dataNodeRowCount);
+            rowCount += dataNodeRowCount;
+        }
+        return Optional.of(new TableCardinality(rowCount, dataNodeRowCounts, createColumnCardinalities(table, columns, rowCount, distinctCounts, minValues, maxValues)));
+    }
+    
+    private Collection<DataNode> getDataNodes(final String tableName) {
+        for (DataNodeRuleAttribute each : database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)) {
+            Collection<DataNode> result = each.getDataNodesByTableName(tableName);
+            if (!result.isEmpty()) {
+                return result;
+            }
+        }
+        return Collections.emptyList();
+    }
+    
+    private Optional<StorageUnit> findStorageUnit(final String dataSourceName) {
+        Map<String, StorageUnit> storageUnits = database.getResourceMetaData().getStorageUnits();
+        if (storageUnits.containsKey(dataSourceName)) {
+            return Optional.of(storageUnits.get(dataSourceName));
+        }
+        for (DataSourceMapperRuleAttribute each : database.getRuleMetaData().getAttributes(DataSourceMapperRuleAttribute.class)) {
+            Collection<String> actualDataSourceNames = each.getDataSourceMapper().getOrDefault(dataSourceName, Collections.emptyList());
+            if (!actualDataSourceNames.isEmpty()) {
+                return Optional.ofNullable(storageUnits.get(actualDataSourceNames.iterator().next()));
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private long collectDataNode(final StorageUnit storageUnit, final DataNode dataNode, final List<ShardingSphereColumn> columns,
+                                 final long[] distinctCounts, final Double[] minValues, final Double[] maxValues) throws SQLException {
+        DialectDatabaseMetaData dialectDatabaseMetaData = new DatabaseTypeRegistry(storageUnit.getStorageType()).getDialectDatabaseMetaData();
+        Collection<String> uniqueColumnNames = new CaseInsensitiveSet<>();
+        List<Map<Object, Integer>> valueFrequencies = new ArrayList<>(columns.size());
+        columns.forEach(each -> valueFrequencies.add(new HashMap<>()));
+        long result;
+        try (Connection connection = storageUnit.getDataSource().getConnection()) {
+            long catalogRowCount = loadIndexStatistics(connection, dialectDatabaseMetaData, dataNode, uniqueColumnNames);
+            // row count kept by catalog may be absent or stale for small table, so small table is counted exactly
+            boolean countRequired = catalogRowCount <= SAMPLE_SIZE;
+            long countedRowCount = loadAggregation(connection, dialectDatabaseMetaData, dataNode, columns, countRequired, minValues, maxValues);
+            result = countRequired ? countedRowCount : catalogRowCount;
+            sample(connection, dialectDatabaseMetaData, dataNode, columns, result, valueFrequencies);
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            long distinctCount = uniqueColumnNames.contains(columns.get(i).getName()) ? result : estimateDistinctCount(valueFrequencies.get(i), result);
+            distinctCounts[i] = Math.max(distinctCounts[i], distinctCount);
+        }
+        return result;
+    }
+    
+    private long loadIndexStatistics(final Connection connection, final DialectDatabaseMetaData dialectDatabaseMetaData, final DataNode dataNode,
+                                     final Collection<String> uniqueColumnNames) throws SQLException {
+        long result = 0L;
+        Map<String, Collection<String>> uniqueIndexColumnNames = new HashMap<>();
+        try (ResultSet resultSet = connection.getMetaData().getIndexInfo(connection.getCatalog(), getSchemaName(connection, dialectDatabaseMetaData, dataNode), dataNode.getTableName(), false, true)) {
+            while (resultSet.next()) {
+                // cardinality is row count for table statistic, and not greater than row count for index
+                result = Math.max(result, resultSet.getLong("CARDINALITY"));
+                if (DatabaseMetaData.tableIndexStatistic != resultSet.getShort("TYPE") && !resultSet.getBoolean("NON_UNIQUE")) {
+                    uniqueIndexColumnNames.computeIfAbsent(resultSet.getString("INDEX_NAME"), key -> new LinkedList<>()).add(resultSet.getString("COLUMN_NAME"));
+                }
+            }
+        }
+        uniqueIndexColumnNames.values().stream().filter(each -> 1 == each.size()).forEach(uniqueColumnNames::addAll);
+        return result;
+    }
+    
+    private String getSchemaName(final Connection connection, final DialectDatabaseMetaData dialectDatabaseMetaData, final DataNode dataNode) throws SQLException {
+        if (!dialectDatabaseMetaData.getSchemaOption().getDefaultSchema().isPresent()) {
+            return null;
+        }
+        return null == dataNode.getSchemaName() ? connection.getSchema() : dataNode.getSchemaName();
+    }
+    
+    private long loadAggregation(final Connection connection, final DialectDatabaseMetaData dialectDatabaseMetaData, final DataNode dataNode, final List<ShardingSphereColumn> columns,
+                                 final boolean countRequired, final Double[] minValues, final Double[] maxValues) throws SQLException {
+        QuoteCharacter quoteCharacter = dialectDatabaseMetaData.getQuoteCharacter();
+        List<String> projections = new LinkedList<>();
+        if (countRequired) {
+            projections.add("COUNT(*)");
+        }
+        List<Integer> numericColumnIndexes = new LinkedList<>();
+        for (int i = 0; i < columns.size(); i++) {
+            if (isNumeric(columns.get(i))) {
+                numericColumnIndexes.add(i);
+                String columnName = quoteCharacter.wrap(columns.get(i).getName());
+                projections.add(String.format("MIN(%s), MAX(%s)", columnName, columnName));
+            }
+        }
+        if (projections.isEmpty()) {
+            return 0L;
+        }
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(String.format("SELECT %s FROM %s", String.join(", ", projections), getQualifiedTableName(dialectDatabaseMetaData, dataNode)))) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            int columnIndex = countRequired ? 2 : 1;
+            for (int each : numericColumnIndexes) {
+                minValues[each] = min(minValues[each], resultSet.getObject(columnIndex++));
+                maxValues[each] = max(maxValues[each], resultSet.getObject(columnIndex++));
+            }
+            return countRequired ? resultSet.getLong(1) : 0L;
+        }
+    }
+    
+    private void sample(final Connection connection, final DialectDatabaseMetaData dialectDatabaseMetaData, final DataNode dataNode, final List<ShardingSphereColumn> columns,
+                        final long rowCount, final List<Map<Object, Integer>> valueFrequencies) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setMaxRows(MAX_SAMPLED_ROW_COUNT);
+            try (ResultSet resultSet = statement.executeQuery(buildSampleSQL(dialectDatabaseMetaData, dataNode, columns, rowCount))) {
+                while (resultSet.next()) {
+                    for (int i = 0; i < columns.size(); i++) {
+                        Object value = resultSet.getObject(i + 1);
+                        if (null != value) {
+                            valueFrequencies.get(i).merge(value, 1, Integer::sum);
+                        }
+                    }
+                }
+            }
+        }
+    }
+    
+    private String buildSampleSQL(final DialectDatabaseMetaData dialectDatabaseMetaData, final DataNode dataNode, final List<ShardingSphereColumn> columns, final long rowCount) {
+        QuoteCharacter quoteCharacter = dialectDatabaseMetaData.getQuoteCharacter();
+        String columnNames = columns.stream().map(each -> quoteCharacter.wrap(each.getName())).collect(Collectors.joining(", "));
+        String result = String.format("SELECT %s FROM %s", columnNames, getQualifiedTableName(dialectDatabaseMetaData, dataNode));
+        if (rowCount <= SAMPLE_SIZE) {
+            return result;
+        }
+        // each row is kept with the same probability, so sampled rows are spread over the whole table instead of its first rows
+        String probability = BigDecimal.valueOf((double) SAMPLE_SIZE / rowCount).setScale(10, RoundingMode.UP).stripTrailingZeros().toPlainString();
+        return String.format("%s WHERE %s < %s", result, dialectDatabaseMetaData.getSampleOption().getRandomFunction(), probability);
+    }
+    
+    private String getQualifiedTableName(final DialectDatabaseMetaData dialectDatabaseMetaData, final DataNode dataNode) {
+        QuoteCharacter quoteCharacter = dialectDatabaseMetaData.getQuoteCharacter();
+        String tableName = quoteCharacter.wrap(dataNode.getTableName());
+        boolean containsSchema = dialectDatabaseMetaData.getSchemaOption().getDefaultSchema().isPresent() && null != dataNode.getSchemaName();
+        return containsSchema ? quoteCharacter.wrap(dataNode.getSchemaName()) + "." + tableName : tableName;
+    }
+    
+    private long estimateDistinctCount(final Map<Object, Integer> valueFrequencies, final long rowCount) {
+        long sampledValueCount = valueFrequencies.values().stream().mapToLong(Integer::longValue).sum();
+        long sampledDistinctCount = valueFrequencies.size();
+        if (sampledValueCount >= rowCount || 0L == sampledValueCount) {
+            return sampledDistinctCount;
+        }
+        long singletonCount = valueFrequencies.values().stream().filter(each -> 1 == each).count();
+        if (singletonCount == sampledValueCount) {
+            return rowCount;
+        }
+        // Duj1 estimator of Haas and Stokes, which is also used by PostgreSQL ANALYZE
+        double result = sampledValueCount * sampledDistinctCount / (sampledValueCount - singletonCount + singletonCount * (double) sampledValueCount / rowCount);
+        return Math.min(rowCount, Math.max(sampledDistinctCount, Math.round(result)));
+    }
+    
+    private boolean isNumeric(final ShardingSphereColumn column) {
+        return NUMERIC_DATA_TYPES.contains(column.getDataType());
+    }
+    
+    private Double min(final Double currentValue, final Object value) {
+        if (!(value instanceof Number)) {
+            return currentValue;
+        }
+        double doubleValue = ((Number) value).doubleValue();
+        return null == currentValue ? doubleValue : Math.min(currentValue, doubleValue);
+    }
+    
+    private Double max(final Double currentValue, final Object value) {
+        if (!(value instanceof Number)) {
+            return currentValue;
+        }
+        double doubleValue = ((Number) value).doubleValue();
+        return null == currentValue ? doubleValue : Math.max(currentValue, doubleValue);
+    }
+    
+    private Map<String, ColumnCardinality> createColumnCardinalities(final ShardingSphereTable table, final List<ShardingSphereColumn> columns, final long rowCount,
+                                                                     final long[] distinctCounts, final Double[] minValues, final Double[] maxValues) {
+        Map<String, ColumnCardinality> result = new CaseInsensitiveMap<>(columns.size(), 1F);
+        boolean singlePrimaryKey = 1 == table.getPrimaryKeyColumns().size();
+        for (int i = 0; i < columns.size(); i++) {
+            ShardingSphereColumn column = columns.get(i);
+            // distinct values of other columns may repeat across data nodes, so the largest distinct count of data nodes is taken as estimation
+            long distinctCount = singlePrimaryKey && column.isPrimaryKey() ? rowCount : distinctCounts[i];
+            result.put(column.getName(), new ColumnCardinality(distinctCount, minValues[i], maxValues[i]));
+        }
+        return result;
+    }
+}
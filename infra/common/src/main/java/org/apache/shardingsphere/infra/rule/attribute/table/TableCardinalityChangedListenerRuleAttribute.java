@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rule.attribute.table;
+
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.TableCardinality;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttribute;
+
+/**
+ * Table cardinality changed listener rule attribute.
+ */
+public interface TableCardinalityChangedListenerRuleAttribute extends RuleAttribute {
+    
+    /**
+     * Notify cardinality of logic table is changed.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableName logic table name
+     * @param cardinality table cardinality
+     */
+    void onTableCardinalityChanged(String databaseName, String schemaName, String tableName, TableCardinality cardinality);
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.yaml.data.swapper;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.ColumnCardinality;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.TableCardinality;
+import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
+import org.apache.shardingsphere.infra.yaml.data.pojo.YamlColumnCardinality;
+import org.apache.shardingsphere.infra.yaml.data.pojo.YamlTableCardinality;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * YAML table cardinality swapper.
+ */
+public final class YamlTableCardinalitySwapper implements YamlConfigurationSwapper<YamlTableCardinality, TableCardinality> {
+    
+    @Override
+    public YamlTableCardinality swapToYamlConfiguration(final TableCardinality data) {
+        YamlTableCardinality result = new YamlTableCardinality();
+        result.setRowCount(data.getRowCount());
+        result.setDataNodeRowCounts(new LinkedHashMap<>(data.getDataNodeRowCounts()));
+        for (Entry<String, ColumnCardinality> entry : data.getColumnCardinalities().entrySet()) {
+            YamlColumnCardinality yamlColumnCardinality = new YamlColumnCardinality();
+            yamlColumnCardinality.setDistinctCount(entry.getValue().getDistinctCount());
+            yamlColumnCardinality.setMinValue(entry.getValue().getMinValue());
+            yamlColumnCardinality.setMaxValue(entry.getValue().getMaxValue());
+            result.getColumnCardinalities().put(entry.getKey(), yamlColumnCardinality);
+        }
+        return result;
+    }
+    
+    @Override
+    public TableCardinality swapToObject(final YamlTableCardinality yamlConfig) {
+        Map<String, ColumnCardinality> columnCardinalities = new CaseInsensitiveMap<>(yamlConfig.getColumnCardinalities().size(), 1F);
+        for (Entry<String, YamlColumnCardinality> entry : yamlConfig.getColumnCardinalities().entrySet()) {
+            columnCardinalities.put(entry.getKey(), new ColumnCardinality(entry.getValue().getDistinctCount(), entry.getValue().getMinValue(), entry.getValue().getMaxValue()));
+        }
+        return new TableCardinality(yamlConfig.getRowCount(), new LinkedHashMap<>(yamlConfig.getDataNodeRowCounts()), columnCardinalities);
+    }
+}
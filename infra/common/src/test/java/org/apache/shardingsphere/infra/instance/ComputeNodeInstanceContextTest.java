@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.instance;
 
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocator;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaData;
 import org.apache.shardingsphere.infra.instance.metadata.proxy.ProxyInstanceMetaData;
 import org.apache.shardingsphere.infra.instance.workerid.WorkerIdGenerator;
@@ -30,10 +31,12 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 class ComputeNodeInstanceContextTest {
     
@@ -121,4 +124,20 @@ class ComputeNodeInstanceContextTest {
         instanceContext.init(mock(WorkerIdGenerator.class));
         assertThat(instanceContext.generateWorkerId(new Properties()), is(0));
     }
+    
+    @Test
+    void assertAllocateKeySegment() {
+        ComputeNodeInstanceContext instanceContext = new ComputeNodeInstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(ModeConfiguration.class), new EventBusContext());
+        KeySegmentAllocator keySegmentAllocator = mock(KeySegmentAllocator.class);
+        when(keySegmentAllocator.allocate("foo_db.foo_tbl", 100)).thenReturn(101L);
+        instanceContext.init(mock(WorkerIdGenerator.class), keySegmentAllocator);
+        assertThat(instanceContext.allocateKeySegment("foo_db.foo_tbl", 100), is(101L));
+    }
+    
+    @Test
+    void assertAllocateKeySegmentWithoutAllocator() {
+        ComputeNodeInstanceContext instanceContext = new ComputeNodeInstanceContext(new ComputeNodeInstance(mock(InstanceMetaData.class)), mock(ModeConfiguration.class), new EventBusContext());
+        instanceContext.init(mock(WorkerIdGenerator.class));
+        assertThrows(IllegalArgumentException.class, () -> instanceContext.allocateKeySegment("foo_db.foo_tbl", 100));
+    }
 }
@@ -92,4 +92,15 @@ class ShardingSphereSchemaTest {
                 new ShardingSphereColumn("col", 0, false, false, false, false, true, false)), Collections.emptyList(), Collections.emptyList());
         assertThat(new ShardingSphereSchema("foo_db", Collections.singleton(table), Collections.emptyList()).getVisibleColumnNames("tbl"), is(Collections.emptyList()));
     }
+    
+    @Test
+    void assertGetVersion() {
+        ShardingSphereTable table = mock(ShardingSphereTable.class);
+        when(table.getName()).thenReturn("tbl");
+        ShardingSphereSchema actual = new ShardingSphereSchema("foo_db", Collections.singleton(table), Collections.emptyList());
+        assertThat(actual.getVersion(), is(0L));
+        actual.putTable(table);
+        actual.removeTable("tbl");
+        assertThat(actual.getVersion(), is(2L));
+    }
 }
@@ -17,8 +17,11 @@
 
 package org.apache.shardingsphere.infra.metadata.statistics;
 
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.TableCardinality;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -74,4 +77,13 @@ class ShardingSphereStatisticsTest {
         assertTrue(shardingSphereStatistics.containsDatabaseStatistics(TEST_DATABASE_NAME));
         assertFalse(shardingSphereStatistics.containsDatabaseStatistics(NON_EXISTENT_DATABASE_NAME));
     }
+    
+    @Test
+    void assertFindTableCardinality() {
+        ShardingSphereStatistics shardingSphereStatistics = new ShardingSphereStatistics();
+        TableCardinality tableCardinality = new TableCardinality(10L, Collections.emptyMap(), Collections.emptyMap());
+        shardingSphereStatistics.putTableCardinality(TEST_DATABASE_NAME, "foo_schema", "foo_tbl", tableCardinality);
+        assertThat(shardingSphereStatistics.findTableCardinality(TEST_DATABASE_NAME.toLowerCase(), "FOO_SCHEMA", "foo_tbl").orElse(null), is(tableCardinality));
+        assertFalse(shardingSphereStatistics.findTableCardinality(TEST_DATABASE_NAME_2, "foo_schema", "foo_tbl").isPresent());
+    }
 }
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.statistics.cardinality;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TableCardinalityCollectorTest {
+    
+    private static final String SAMPLE_SQL = "SELECT `order_id`, `status` FROM `%s`";
+    
+    private static final String COUNT_SQL = "SELECT COUNT(*), MIN(`order_id`), MAX(`order_id`) FROM `%s`";
+    
+    private static final String BOUNDARY_SQL = "SELECT MIN(`order_id`), MAX(`order_id`) FROM `%s`";
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ShardingSphereDatabase database;
+    
+    private final ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(
+            new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+            new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList());
+    
+    @Test
+    void assertCollectWithoutDataNode() throws SQLException {
+        when(database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)).thenReturn(Collections.emptyList());
+        assertFalse(new TableCardinalityCollector(database).collect(table).isPresent());
+    }
+    
+    @Test
+    void assertCollect() throws SQLException {
+        DataNodeRuleAttribute ruleAttribute = mock(DataNodeRuleAttribute.class);
+        when(ruleAttribute.getDataNodesByTableName("t_order")).thenReturn(Arrays.asList(new DataNode("ds_0", "t_order_0"), new DataNode("ds_1", "t_order_1")));
+        when(database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)).thenReturn(Collections.singleton(ruleAttribute));
+        Map<String, StorageUnit> storageUnits = new HashMap<>(2, 1F);
+        storageUnits.put("ds_0", mockStorageUnit("t_order_0", 3L, String.format(COUNT_SQL, "t_order_0"), mockCountResultSet(3L, 1L, 3L),
+                String.format(SAMPLE_SQL, "t_order_0"), mockSampleResultSet(new Object[]{1L, "a"}, new Object[]{2L, "a"}, new Object[]{3L, "b"})));
+        storageUnits.put("ds_1", mockStorageUnit("t_order_1", 2L, String.format(COUNT_SQL, "t_order_1"), mockCountResultSet(2L, 11L, 30L),
+                String.format(SAMPLE_SQL, "t_order_1"), mockSampleResultSet(new Object[]{11L, "a"}, new Object[]{30L, null})));
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(storageUnits);
+        Optional<TableCardinality> actual = new TableCardinalityCollector(database).collect(table);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRowCount(), is(5L));
+        assertThat(actual.get().getDataNodeRowCounts().get("ds_0.t_order_0"), is(3L));
+        assertThat(actual.get().getDataNodeRowCounts().get("ds_1.t_order_1"), is(2L));
+        ColumnCardinality orderIdCardinality = actual.get().findColumnCardinality("ORDER_ID").orElse(null);
+        assertThat(orderIdCardinality.getDistinctCount(), is(5L));
+        assertThat(orderIdCardinality.getMinValue(), is(1D));
+        assertThat(orderIdCardinality.getMaxValue(), is(30D));
+        ColumnCardinality statusCardinality = actual.get().findColumnCardinality("status").orElse(null);
+        assertThat(statusCardinality.getDistinctCount(), is(2L));
+        assertNull(statusCardinality.getMinValue());
+        assertNull(statusCardinality.getMaxValue());
+    }
+    
+    @Test
+    void assertCollectWithRandomSample() throws SQLException {
+        DataNodeRuleAttribute ruleAttribute = mock(DataNodeRuleAttribute.class);
+        when(ruleAttribute.getDataNodesByTableName("t_order")).thenReturn(Collections.singleton(new DataNode("ds_0", "t_order_0")));
+        when(database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)).thenReturn(Collections.singleton(ruleAttribute));
+        StorageUnit storageUnit = mockStorageUnit("t_order_0", 100000L, String.format(BOUNDARY_SQL, "t_order_0"), mockBoundaryResultSet(1L, 100000L),
+                String.format(SAMPLE_SQL, "t_order_0") + " WHERE RAND() < 0.01", mockSampleResultSet(1000));
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("ds_0", storageUnit));
+        Optional<TableCardinality> actual = new TableCardinalityCollector(database).collect(table);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRowCount(), is(100000L));
+        assertThat(actual.get().findColumnCardinality("order_id").map(ColumnCardinality::getDistinctCount).orElse(0L), is(100000L));
+        assertThat(actual.get().findColumnCardinality("order_id").map(ColumnCardinality::getMinValue).orElse(null), is(1D));
+        assertThat(actual.get().findColumnCardinality("order_id").map(ColumnCardinality::getMaxValue).orElse(null), is(100000D));
+        assertThat(actual.get().findColumnCardinality("status").map(ColumnCardinality::getDistinctCount).orElse(0L), is(4L));
+    }
+    
+    @Test
+    void assertCollectWithoutCatalogCardinality() throws SQLException {
+        DataNodeRuleAttribute ruleAttribute = mock(DataNodeRuleAttribute.class);
+        when(ruleAttribute.getDataNodesByTableName("t_order")).thenReturn(Collections.singleton(new DataNode("ds_0", "t_order_0")));
+        when(database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)).thenReturn(Collections.singleton(ruleAttribute));
+        StorageUnit storageUnit = mockStorageUnit("t_order_0", 0L, String.format(COUNT_SQL, "t_order_0"), mockCountResultSet(5000L, 1L, 5000L),
+                String.format(SAMPLE_SQL, "t_order_0") + " WHERE RAND() < 0.2", mockSampleResultSet(1000));
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("ds_0", storageUnit));
+        Optional<TableCardinality> actual = new TableCardinalityCollector(database).collect(table);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRowCount(), is(5000L));
+        assertThat(actual.get().findColumnCardinality("order_id").map(ColumnCardinality::getMaxValue).orElse(null), is(5000D));
+    }
+    
+    private StorageUnit mockStorageUnit(final String actualTableName, final long primaryKeyCardinality,
+                                        final String aggregationSQL, final ResultSet aggregationResultSet, final String sampleSQL, final ResultSet sampleResultSet) throws SQLException {
+        StorageUnit result = mock(StorageUnit.class, Answers.RETURNS_DEEP_STUBS);
+        when(result.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        Connection connection = mock(Connection.class, Answers.RETURNS_DEEP_STUBS);
+        when(result.getDataSource().getConnection()).thenReturn(connection);
+        ResultSet indexResultSet = mock(ResultSet.class);
+        when(indexResultSet.next()).thenReturn(true, false);
+        when(indexResultSet.getLong("CARDINALITY")).thenReturn(primaryKeyCardinality);
+        when(indexResultSet.getShort("TYPE")).thenReturn(DatabaseMetaData.tableIndexOther);
+        when(indexResultSet.getString("INDEX_NAME")).thenReturn("PRIMARY");
+        when(indexResultSet.getString("COLUMN_NAME")).thenReturn("order_id");
+        when(connection.getMetaData().getIndexInfo(null, null, actualTableName, false, true)).thenReturn(indexResultSet);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(aggregationSQL)).thenReturn(aggregationResultSet);
+        when(statement.executeQuery(sampleSQL)).thenReturn(sampleResultSet);
+        return result;
+    }
+    
+    private ResultSet mockCountResultSet(final long rowCount, final long minValue, final long maxValue) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true);
+        when(result.getLong(1)).thenReturn(rowCount);
+        when(result.getObject(2)).thenReturn(minValue);
+        when(result.getObject(3)).thenReturn(maxValue);
+        return result;
+    }
+    
+    private ResultSet mockBoundaryResultSet(final long minValue, final long maxValue) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true);
+        when(result.getObject(1)).thenReturn(minValue);
+        when(result.getObject(2)).thenReturn(maxValue);
+        return result;
+    }
+    
+    private ResultSet mockSampleResultSet(final int rowCount) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        AtomicInteger sampledRowCount = new AtomicInteger();
+        when(result.next()).thenAnswer(invocation -> sampledRowCount.incrementAndGet() <= rowCount);
+        when(result.getObject(1)).thenAnswer(invocation -> (long) sampledRowCount.get());
+        when(result.getObject(2)).thenAnswer(invocation -> "status_" + sampledRowCount.get() % 4);
+        return result;
+    }
+    
+    private ResultSet mockSampleResultSet(final Object[]... rows) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rows.length);
+        when(result.getObject(1)).thenAnswer(invocation -> rows[rowIndex.get()][0]);
+        when(result.getObject(2)).thenAnswer(invocation -> rows[rowIndex.get()][1]);
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.yaml.data.swapper;
+
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.ColumnCardinality;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.TableCardinality;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.data.pojo.YamlTableCardinality;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class YamlTableCardinalitySwapperTest {
+    
+    private final YamlTableCardinalitySwapper swapper = new YamlTableCardinalitySwapper();
+    
+    @Test
+    void assertSwap() {
+        TableCardinality tableCardinality = new TableCardinality(30L, Collections.singletonMap("ds_0.t_order_0", 30L), Collections.singletonMap("order_id", new ColumnCardinality(30L, 1D, 30D)));
+        String yamlContent = YamlEngine.marshal(swapper.swapToYamlConfiguration(tableCardinality));
+        TableCardinality actual = swapper.swapToObject(YamlEngine.unmarshal(yamlContent, YamlTableCardinality.class));
+        assertThat(actual.getRowCount(), is(30L));
+        assertThat(actual.getDataNodeRowCounts().get("ds_0.t_order_0"), is(30L));
+        ColumnCardinality actualColumnCardinality = actual.findColumnCardinality("ORDER_ID").orElse(null);
+        assertThat(actualColumnCardinality.getDistinctCount(), is(30L));
+        assertThat(actualColumnCardinality.getMinValue(), is(1D));
+        assertThat(actualColumnCardinality.getMaxValue(), is(30D));
+    }
+    
+    @Test
+    void assertSwapWithoutMinAndMaxValues() {
+        TableCardinality tableCardinality = new TableCardinality(30L, Collections.emptyMap(), Collections.singletonMap("status", new ColumnCardinality(4L, null, null)));
+        TableCardinality actual = swapper.swapToObject(YamlEngine.unmarshal(YamlEngine.marshal(swapper.swapToYamlConfiguration(tableCardinality)), YamlTableCardinality.class));
+        ColumnCardinality actualColumnCardinality = actual.findColumnCardinality("status").orElse(null);
+        assertThat(actualColumnCardinality.getDistinctCount(), is(4L));
+        assertNull(actualColumnCardinality.getMinValue());
+        assertNull(actualColumnCardinality.getMaxValue());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableDataModifiedListenerRuleAttribute;
+import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.ddl.TruncateStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.DMLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+
+import java.util.Collection;
+import java.util.Map.Entry;
+
+/**
+ * Table data modified notifier.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableDataModifiedNotifier {
+    
+    /**
+     * Notify tables modified by executed SQL statement.
+     * Tables modified in transaction are recorded to be notified again when transaction is finished.
+     *
+     * @param queryContext query context of executed SQL statement
+     * @param globalRuleMetaData global rule meta data
+     */
+    public static void notifyExecuted(final QueryContext queryContext, final RuleMetaData globalRuleMetaData) {
+        if (!isDataModified(queryContext.getSqlStatementContext().getSqlStatement())) {
+            return;
+        }
+        Collection<TableDataModifiedListenerRuleAttribute> listeners = globalRuleMetaData.getAttributes(TableDataModifiedListenerRuleAttribute.class);
+        if (listeners.isEmpty()) {
+            return;
+        }
+        TransactionConnectionContext transactionContext = queryContext.getConnectionContext().getTransactionContext();
+        String currentDatabaseName = queryContext.getUsedDatabase().getName();
+        for (SimpleTableSegment each : queryContext.getSqlStatementContext().getTablesContext().getSimpleTables()) {
+            String databaseName = each.getTableName().getTableBoundInfo().map(optional -> optional.getOriginalDatabase().getValue()).orElse(currentDatabaseName);
+            String tableName = each.getTableName().getIdentifier().getValue();
+            listeners.forEach(listener -> listener.onTableDataModified(databaseName, tableName));
+            if (transactionContext.isInTransaction()) {
+                transactionContext.addModifiedTable(databaseName, tableName);
+            }
+        }
+    }
+    
+    private static boolean isDataModified(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof DMLStatement && !(sqlStatement instanceof SelectStatement) || sqlStatement instanceof TruncateStatement;
+    }
+    
+    /**
+     * Notify tables modified in transaction which is committed or rolled back.
+     *
+     * @param transactionContext transaction connection context
+     * @param globalRuleMetaData global rule meta data
+     */
+    public static void notifyTransactionFinished(final TransactionConnectionContext transactionContext, final RuleMetaData globalRuleMetaData) {
+        if (transactionContext.getModifiedTables().isEmpty()) {
+            return;
+        }
+        Collection<TableDataModifiedListenerRuleAttribute> listeners = globalRuleMetaData.getAttributes(TableDataModifiedListenerRuleAttribute.class);
+        for (Entry<String, Collection<String>> entry : transactionContext.getModifiedTables().entrySet()) {
+            for (String each : entry.getValue()) {
+                listeners.forEach(listener -> listener.onTableDataModified(entry.getKey(), each));
+            }
+        }
+    }
+}
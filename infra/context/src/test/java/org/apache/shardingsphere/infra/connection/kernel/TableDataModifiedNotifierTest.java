@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.CommonSQLStatementContext;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableDataModifiedListenerRuleAttribute;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.session.connection.transaction.TransactionManager;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.ddl.TruncateStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TableDataModifiedNotifierTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    private final TableDataModifiedListenerRuleAttribute listener = mock(TableDataModifiedListenerRuleAttribute.class);
+    
+    private final ConnectionContext connectionContext = new ConnectionContext(Collections::emptyList);
+    
+    private RuleMetaData globalRuleMetaData;
+    
+    @BeforeEach
+    void setUp() {
+        ShardingSphereRule globalRule = mock(ShardingSphereRule.class);
+        when(globalRule.getAttributes()).thenReturn(new RuleAttributes(listener));
+        globalRuleMetaData = new RuleMetaData(Collections.singleton(globalRule));
+    }
+    
+    @Test
+    void assertNotifyExecutedWithSelectStatement() {
+        TableDataModifiedNotifier.notifyExecuted(createQueryContext(new SelectStatement(databaseType)), globalRuleMetaData);
+        verify(listener, never()).onTableDataModified(anyString(), anyString());
+    }
+    
+    @Test
+    void assertNotifyExecutedWithDeleteStatement() {
+        TableDataModifiedNotifier.notifyExecuted(createQueryContext(new DeleteStatement(databaseType)), globalRuleMetaData);
+        verify(listener).onTableDataModified("foo_db", "foo_tbl");
+        assertTrue(connectionContext.getTransactionContext().getModifiedTables().isEmpty());
+    }
+    
+    @Test
+    void assertNotifyExecutedWithTruncateStatement() {
+        TableDataModifiedNotifier.notifyExecuted(createQueryContext(new TruncateStatement(databaseType, Collections.emptyList())), globalRuleMetaData);
+        verify(listener).onTableDataModified("foo_db", "foo_tbl");
+    }
+    
+    @Test
+    void assertNotifyTransactionFinished() {
+        connectionContext.getTransactionContext().beginTransaction("LOCAL", mock(TransactionManager.class));
+        TableDataModifiedNotifier.notifyExecuted(createQueryContext(new DeleteStatement(databaseType)), globalRuleMetaData);
+        assertThat(connectionContext.getTransactionContext().getModifiedTables().get("foo_db"), is(Collections.singleton("foo_tbl")));
+        TableDataModifiedNotifier.notifyTransactionFinished(connectionContext.getTransactionContext(), globalRuleMetaData);
+        verify(listener, times(2)).onTableDataModified("foo_db", "foo_tbl");
+    }
+    
+    private QueryContext createQueryContext(final SQLStatement sqlStatement) {
+        connectionContext.setCurrentDatabaseName("foo_db");
+        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.getName()).thenReturn("foo_db");
+        when(metaData.containsDatabase("foo_db")).thenReturn(true);
+        when(metaData.getDatabase("foo_db")).thenReturn(database);
+        CommonSQLStatementContext sqlStatementContext =
+                new CommonSQLStatementContext(sqlStatement, new TablesContext(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("foo_tbl")))));
+        return new QueryContext(sqlStatementContext, "", Collections.emptyList(), new HintValueContext(), connectionContext, metaData);
+    }
+}
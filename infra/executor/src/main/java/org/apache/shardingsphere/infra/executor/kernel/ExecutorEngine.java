@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResultList;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
@@ -31,7 +32,9 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
 
 /**
@@ -43,8 +46,8 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -54,7 +57,18 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, false);
+    }
+    
+    /**
+     * Create executor engine with executor size and virtual thread switch.
+     *
+     * @param executorSize executor size, ignored when virtual thread is enabled and supported by current JVM
+     * @param virtualThreadEnabled whether execute each execution group in a new virtual thread
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -78,6 +92,38 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
     }
     
+    /**
+     * Execute in parallel and return results in completion order.
+     * 
+     * <p>The first execution group is executed in current thread, and the returned list does not wait for the other execution groups until their results are required,
+     * so that stream consumers can start before the slowest execution group completes.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result in completion order
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> CompletionOrderedResultList<O> executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext,
+                                                                          final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return new CompletionOrderedResultList<>(Collections.emptyList(), null, 0);
+        }
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        CompletionService<Collection<O>> completionService = new ExecutorCompletionService<>(executorServiceManager.getExecutorService());
+        int pendingGroupSize = 0;
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> each = executionGroups.next();
+            completionService.submit(() -> callback.execute(each.getInputs(), false, processId));
+            pendingGroupSize++;
+        }
+        return new CompletionOrderedResultList<>(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback), completionService, pendingGroupSize);
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                          final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import com.google.common.collect.Iterators;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.exception.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Result list in completion order.
+ * 
+ * <p>Results of execution groups are appended in the order of completion. Iterating or getting by index only waits for the required result,
+ * while getting size waits for all execution groups. The list is not thread-safe and is expected to be consumed by one thread.</p>
+ *
+ * <p>Consumers which own the resources of execution groups should call {@link #awaitCompletion()} before releasing them,
+ * because execution groups may still be running even if the consumer stops iterating.</p>
+ *
+ * @param <O> type of result
+ */
+public final class CompletionOrderedResultList<O> extends AbstractList<O> {
+    
+    private final List<O> completedResults;
+    
+    private final CompletionService<Collection<O>> completionService;
+    
+    private int pendingGroupSize;
+    
+    private Runnable completedCallback;
+    
+    public CompletionOrderedResultList(final Collection<O> completedResults, final CompletionService<Collection<O>> completionService, final int pendingGroupSize) {
+        this.completedResults = new ArrayList<>(completedResults);
+        this.completionService = completionService;
+        this.pendingGroupSize = pendingGroupSize;
+    }
+    
+    /**
+     * Run callback after results of all execution groups are taken.
+     *
+     * <p>The callback runs at once if no execution group is pending.</p>
+     *
+     * @param callback callback
+     */
+    public void onCompleted(final Runnable callback) {
+        if (0 == pendingGroupSize) {
+            callback.run();
+        } else {
+            completedCallback = callback;
+        }
+    }
+    
+    /**
+     * Await completion of all execution groups.
+     *
+     * @return exceptions of failed execution groups
+     */
+    public Collection<SQLException> awaitCompletion() {
+        Collection<SQLException> result = new LinkedList<>();
+        while (pendingGroupSize > 0) {
+            try {
+                awaitNextGroupResults();
+            } catch (final SQLWrapperException ex) {
+                result.add((SQLException) ex.getCause());
+            } catch (final UnknownSQLException ex) {
+                result.add(ex.toSQLException());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Transform results without waiting for pending execution groups.
+     *
+     * @param function transform function
+     * @param <T> type of transformed result
+     * @return transformed results
+     */
+    public <T> List<T> transform(final Function<O, T> function) {
+        return new TransformedResultList<>(this, function);
+    }
+    
+    @Override
+    public O get(final int index) {
+        awaitCompletedResults(index + 1);
+        return completedResults.get(index);
+    }
+    
+    @Override
+    public int size() {
+        awaitCompletedResults(Integer.MAX_VALUE);
+        return completedResults.size();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        awaitCompletedResults(1);
+        return completedResults.isEmpty();
+    }
+    
+    @Override
+    public Iterator<O> iterator() {
+        return new Iterator<O>() {
+            
+            private int cursor;
+            
+            @Override
+            public boolean hasNext() {
+                awaitCompletedResults(cursor + 1);
+                return cursor < completedResults.size();
+            }
+            
+            @Override
+            public O next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return completedResults.get(cursor++);
+            }
+        };
+    }
+    
+    private void awaitCompletedResults(final int expectedSize) {
+        while (completedResults.size() < expectedSize && pendingGroupSize > 0) {
+            awaitNextGroupResults();
+        }
+    }
+    
+    private void awaitNextGroupResults() {
+        try {
+            Collection<O> groupResults = completionService.take().get();
+            completeGroup(1);
+            completedResults.addAll(groupResults);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            completeGroup(pendingGroupSize);
+            throw new UnknownSQLException(ex);
+        } catch (final ExecutionException ex) {
+            completeGroup(1);
+            if (ex.getCause() instanceof SQLException) {
+                throw new SQLWrapperException((SQLException) ex.getCause());
+            }
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
+    private void completeGroup(final int groupSize) {
+        pendingGroupSize -= groupSize;
+        if (0 == pendingGroupSize && null != completedCallback) {
+            completedCallback.run();
+            completedCallback = null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class TransformedResultList<O, T> extends AbstractList<T> {
+        
+        private final CompletionOrderedResultList<O> source;
+        
+        private final Function<O, T> function;
+        
+        @Override
+        public T get(final int index) {
+            return function.apply(source.get(index));
+        }
+        
+        @Override
+        public int size() {
+            return source.size();
+        }
+        
+        @Override
+        public boolean isEmpty() {
+            return source.isEmpty();
+        }
+        
+        @Override
+        public Iterator<T> iterator() {
+            return Iterators.transform(source.iterator(), function::apply);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread executor service factory.
+ * 
+ * <p>Virtual threads are looked up reflectively, so that the executor can be enabled on JDK 21 or above while the codebase still targets earlier JDKs.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadExecutorServiceFactory {
+    
+    private static final String NAME_FORMAT_PREFIX = "ShardingSphere-Virtual-";
+    
+    private static final Method OF_VIRTUAL_METHOD;
+    
+    private static final Method FACTORY_METHOD;
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    
+    static {
+        Method ofVirtualMethod;
+        Method factoryMethod;
+        Method newThreadPerTaskExecutorMethod;
+        try {
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            factoryMethod = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            newThreadPerTaskExecutorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (final ReflectiveOperationException ignored) {
+            ofVirtualMethod = null;
+            factoryMethod = null;
+            newThreadPerTaskExecutorMethod = null;
+        }
+        OF_VIRTUAL_METHOD = ofVirtualMethod;
+        FACTORY_METHOD = factoryMethod;
+        NEW_THREAD_PER_TASK_EXECUTOR_METHOD = newThreadPerTaskExecutorMethod;
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     *
+     * @return virtual thread is supported or not
+     */
+    public static boolean isSupported() {
+        return null != NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    }
+    
+    /**
+     * Create executor service which starts a new virtual thread for each task.
+     *
+     * @param nameFormat thread name format
+     * @return created executor service, empty if virtual thread is not supported by current JVM
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static Optional<ExecutorService> create(final String nameFormat) {
+        Optional<ThreadFactory> threadFactory = createThreadFactory(nameFormat);
+        return threadFactory.isPresent() ? Optional.of((ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory.get())) : Optional.empty();
+    }
+    
+    /**
+     * Create thread factory of virtual threads.
+     *
+     * @param nameFormat thread name format
+     * @return created thread factory, empty if virtual thread is not supported by current JVM
+     */
+    @SneakyThrows(ReflectiveOperationException.class)
+    public static Optional<ThreadFactory> createThreadFactory(final String nameFormat) {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+        ThreadFactory virtualThreadFactory = (ThreadFactory) FACTORY_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null));
+        return Optional.of(new ThreadFactoryBuilder().setThreadFactory(virtualThreadFactory).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build());
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResultList;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
@@ -69,4 +70,27 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute and return results in completion order.
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param <T> class type of return value
+     * @return execute result in completion order, or in execution group order if in distributed transaction
+     * @throws SQLException SQL exception
+     */
+    public <T> CompletionOrderedResultList<T> executeInCompletionOrder(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                                       final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        if (connectionContext.getTransactionContext().isInDistributedTransaction()) {
+            return new CompletionOrderedResultList<>(execute(executionGroupContext, firstCallback, callback), null, 0);
+        }
+        try {
+            return executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+            return new CompletionOrderedResultList<>(Collections.emptyList(), null, 0);
+        }
+    }
 }
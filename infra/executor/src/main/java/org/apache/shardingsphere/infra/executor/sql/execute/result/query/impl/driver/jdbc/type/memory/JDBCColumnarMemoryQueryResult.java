@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumn;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * JDBC query result for memory loading, which holds rows in compact columns instead of row objects.
+ */
+public final class JDBCColumnarMemoryQueryResult extends AbstractMemoryQueryResult {
+    
+    private final MemoryQueryResultColumn[] columns;
+    
+    private final int totalRowCount;
+    
+    private final ResultSet jdbcResultSet;
+    
+    private int currentRowIndex = -1;
+    
+    public JDBCColumnarMemoryQueryResult(final ResultSet resultSet, final DatabaseType databaseType) throws SQLException {
+        this(resultSet, databaseType, false);
+    }
+    
+    public JDBCColumnarMemoryQueryResult(final ResultSet resultSet, final DatabaseType databaseType, final boolean containsJDBCResultSet) throws SQLException {
+        this(resultSet, new QueryResultDataColumnLoader(databaseType).load(resultSet.getMetaData().getColumnCount(), resultSet), containsJDBCResultSet);
+    }
+    
+    private JDBCColumnarMemoryQueryResult(final ResultSet resultSet, final MemoryQueryResultColumn[] columns, final boolean containsJDBCResultSet) throws SQLException {
+        super(new JDBCQueryResultMetaData(resultSet.getMetaData()), getTotalRowCount(columns));
+        this.columns = columns;
+        totalRowCount = getTotalRowCount(columns);
+        jdbcResultSet = containsJDBCResultSet ? resultSet : null;
+    }
+    
+    private static int getTotalRowCount(final MemoryQueryResultColumn[] columns) {
+        return 0 == columns.length ? 0 : columns[0].getSize();
+    }
+    
+    @Override
+    protected boolean nextRow() {
+        if (currentRowIndex + 1 < totalRowCount) {
+            currentRowIndex++;
+            return true;
+        }
+        currentRowIndex = totalRowCount;
+        return false;
+    }
+    
+    @Override
+    protected Object getCurrentRowValue(final int columnIndex) {
+        return columns[columnIndex - 1].get(currentRowIndex);
+    }
+    
+    @Override
+    public Optional<ResultSet> getJDBCResultSet() {
+        return Optional.ofNullable(jdbcResultSet);
+    }
+}
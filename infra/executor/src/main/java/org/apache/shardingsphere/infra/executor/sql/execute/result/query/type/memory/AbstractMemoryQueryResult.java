@@ -21,7 +21,6 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
@@ -33,8 +32,6 @@ import java.io.ObjectOutputStream;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
 
 /**
  * Abstract memory query result.
@@ -44,50 +41,57 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     @Getter
     private final QueryResultMetaData metaData;
     
-    private final Iterator<MemoryQueryResultDataRow> rows;
-    
-    @Getter
-    private MemoryQueryResultDataRow currentRow;
-    
     @Getter
     private long rowCount;
     
     private boolean wasNull;
     
-    protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows) {
+    protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final long rowCount) {
         this.metaData = metaData;
-        this.rows = rows.iterator();
-        rowCount = rows.size();
+        this.rowCount = rowCount;
     }
     
     @Override
     public final boolean next() {
-        if (rows.hasNext()) {
-            currentRow = rows.next();
+        if (nextRow()) {
             rowCount--;
             return true;
         }
-        currentRow = null;
         return false;
     }
     
+    /**
+     * Move to next row of memory storage.
+     *
+     * @return has next row or not
+     */
+    protected abstract boolean nextRow();
+    
+    /**
+     * Get value of current row.
+     *
+     * @param columnIndex column index
+     * @return value
+     */
+    protected abstract Object getCurrentRowValue(int columnIndex);
+    
     @Override
     public final Object getValue(final int columnIndex, final Class<?> type) {
-        Object result = currentRow.getValue().get(columnIndex - 1);
+        Object result = getCurrentRowValue(columnIndex);
         wasNull = null == result;
         return result;
     }
     
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, @SuppressWarnings("UseOfObsoleteDateTimeApi") final Calendar calendar) {
-        Object result = currentRow.getValue().get(columnIndex - 1);
+        Object result = getCurrentRowValue(columnIndex);
         wasNull = null == result;
         return result;
     }
     
     @Override
     public final InputStream getInputStream(final int columnIndex, final String type) {
-        Object value = currentRow.getValue().get(columnIndex - 1);
+        Object value = getCurrentRowValue(columnIndex);
         wasNull = null == value;
         return getInputStream(value);
     }
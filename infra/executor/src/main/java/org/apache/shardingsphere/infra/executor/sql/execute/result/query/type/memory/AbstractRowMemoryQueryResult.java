@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Abstract memory query result which holds rows as row objects.
+ */
+public abstract class AbstractRowMemoryQueryResult extends AbstractMemoryQueryResult {
+    
+    private final Iterator<MemoryQueryResultDataRow> rows;
+    
+    @Getter
+    private MemoryQueryResultDataRow currentRow;
+    
+    protected AbstractRowMemoryQueryResult(final QueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows) {
+        super(metaData, rows.size());
+        this.rows = rows.iterator();
+    }
+    
+    @Override
+    protected final boolean nextRow() {
+        if (rows.hasNext()) {
+            currentRow = rows.next();
+            return true;
+        }
+        currentRow = null;
+        return false;
+    }
+    
+    @Override
+    protected final Object getCurrentRowValue(final int columnIndex) {
+        return currentRow.getValue().get(columnIndex - 1);
+    }
+}
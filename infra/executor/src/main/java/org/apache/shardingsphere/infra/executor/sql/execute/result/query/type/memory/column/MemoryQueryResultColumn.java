@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Memory query result column.
+ * 
+ * <p>Values of the same primitive wrapper type are packed into a primitive array, other values fall back to an object array.</p>
+ */
+public final class MemoryQueryResultColumn {
+    
+    private static final int DEFAULT_CAPACITY = 16;
+    
+    private static final Collection<Class<?>> PRIMITIVE_WRAPPER_TYPES = new HashSet<>(Arrays.asList(Boolean.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class));
+    
+    private final BitSet nullValues = new BitSet();
+    
+    private Class<?> primitiveWrapperType;
+    
+    private long[] primitiveValues = new long[DEFAULT_CAPACITY];
+    
+    private Object[] objectValues;
+    
+    @Getter
+    private int size;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     */
+    public void add(final Object value) {
+        ensureCapacity();
+        if (null == value) {
+            nullValues.set(size++);
+            return;
+        }
+        if (null == objectValues) {
+            if (null == primitiveWrapperType && PRIMITIVE_WRAPPER_TYPES.contains(value.getClass())) {
+                primitiveWrapperType = value.getClass();
+            }
+            if (value.getClass() == primitiveWrapperType) {
+                primitiveValues[size++] = encode(value);
+                return;
+            }
+            convertToObjectValues();
+        }
+        objectValues[size++] = value;
+    }
+    
+    private void ensureCapacity() {
+        if (null == objectValues && size == primitiveValues.length) {
+            primitiveValues = Arrays.copyOf(primitiveValues, size << 1);
+        } else if (null != objectValues && size == objectValues.length) {
+            objectValues = Arrays.copyOf(objectValues, size << 1);
+        }
+    }
+    
+    private void convertToObjectValues() {
+        objectValues = new Object[primitiveValues.length];
+        for (int i = 0; i < size; i++) {
+            objectValues[i] = nullValues.get(i) ? null : decode(primitiveValues[i]);
+        }
+        primitiveValues = null;
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return value
+     */
+    public Object get(final int rowIndex) {
+        if (nullValues.get(rowIndex)) {
+            return null;
+        }
+        return null == objectValues ? decode(primitiveValues[rowIndex]) : objectValues[rowIndex];
+    }
+    
+    private long encode(final Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value ? 1L : 0L;
+        }
+        if (value instanceof Float) {
+            return Float.floatToRawIntBits((Float) value);
+        }
+        if (value instanceof Double) {
+            return Double.doubleToRawLongBits((Double) value);
+        }
+        return ((Number) value).longValue();
+    }
+    
+    private Object decode(final long value) {
+        if (Boolean.class == primitiveWrapperType) {
+            return 1L == value;
+        }
+        if (Byte.class == primitiveWrapperType) {
+            return (byte) value;
+        }
+        if (Short.class == primitiveWrapperType) {
+            return (short) value;
+        }
+        if (Integer.class == primitiveWrapperType) {
+            return (int) value;
+        }
+        if (Float.class == primitiveWrapperType) {
+            return Float.intBitsToFloat((int) value);
+        }
+        if (Double.class == primitiveWrapperType) {
+            return Double.longBitsToDouble(value);
+        }
+        return value;
+    }
+}
@@ -27,12 +27,14 @@ import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -88,4 +90,16 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertExecuteInCompletionOrder() throws SQLException, InterruptedException {
+        List<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback);
+        assertThat(actual.size(), is(4));
+        latch.await();
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithEmptyInputGroups() throws SQLException {
+        assertTrue(executorEngine.executeInCompletionOrder(new ExecutionGroupContext<>(Collections.emptyList(), mock(ExecutionGroupReportContext.class)), firstCallback, callback).isEmpty());
+    }
 }
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import org.apache.shardingsphere.infra.exception.external.sql.type.wrapper.SQLWrapperException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompletionOrderedResultListTest {
+    
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    void assertIterateBeforeSlowGroupCompleted() {
+        CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        CompletionService<Collection<String>> completionService = new ExecutorCompletionService<>(executorService);
+        completionService.submit(() -> {
+            slowGroupLatch.await();
+            return Collections.singletonList("slow");
+        });
+        completionService.submit(() -> Arrays.asList("fast_0", "fast_1"));
+        Iterator<String> actual = new CompletionOrderedResultList<>(Collections.singletonList("first"), completionService, 2).iterator();
+        assertThat(actual.next(), is("first"));
+        assertThat(actual.next(), is("fast_0"));
+        assertThat(actual.next(), is("fast_1"));
+        slowGroupLatch.countDown();
+        assertThat(actual.next(), is("slow"));
+        assertFalse(actual.hasNext());
+        assertThrows(NoSuchElementException.class, actual::next);
+    }
+    
+    @Test
+    void assertGetAndSize() {
+        CompletionService<Collection<String>> completionService = new ExecutorCompletionService<>(executorService);
+        completionService.submit(() -> Collections.singletonList("bar"));
+        List<String> actual = new CompletionOrderedResultList<>(Collections.singletonList("foo"), completionService, 1);
+        assertThat(actual.get(0), is("foo"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(1), is("bar"));
+    }
+    
+    @Test
+    void assertIterateWithFailedGroup() {
+        CompletionService<Collection<String>> completionService = new ExecutorCompletionService<>(executorService);
+        completionService.submit(() -> {
+            throw new SQLException("foo");
+        });
+        Iterator<String> actual = new CompletionOrderedResultList<>(Collections.singletonList("first"), completionService, 1).iterator();
+        assertTrue(actual.hasNext());
+        assertThat(actual.next(), is("first"));
+        assertThrows(SQLWrapperException.class, actual::hasNext);
+    }
+    
+    @Test
+    void assertIsEmptyBeforeSlowGroupCompleted() {
+        CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        CompletionService<Collection<String>> completionService = new ExecutorCompletionService<>(executorService);
+        completionService.submit(() -> {
+            slowGroupLatch.await();
+            return Collections.singletonList("slow");
+        });
+        List<String> actual = new CompletionOrderedResultList<>(Collections.singletonList("first"), completionService, 1);
+        assertFalse(actual.isEmpty());
+        slowGroupLatch.countDown();
+    }
+    
+    @Test
+    void assertTransformBeforeSlowGroupCompleted() {
+        CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        CompletionService<Collection<String>> completionService = new ExecutorCompletionService<>(executorService);
+        completionService.submit(() -> {
+            slowGroupLatch.await();
+            return Collections.singletonList("slow");
+        });
+        List<Integer> actual = new CompletionOrderedResultList<>(Collections.singletonList("first"), completionService, 1).transform(String::length);
+        assertFalse(actual.isEmpty());
+        assertThat(actual.get(0), is(5));
+        Iterator<Integer> iterator = actual.iterator();
+        assertThat(iterator.next(), is(5));
+        slowGroupLatch.countDown();
+        assertThat(iterator.next(), is(4));
+        assertFalse(iterator.hasNext());
+        assertThat(actual.size(), is(2));
+    }
+    
+    @Test
+    void assertOnCompletedWithoutPendingGroup() {
+        AtomicBoolean completed = new AtomicBoolean();
+        new CompletionOrderedResultList<>(Collections.singletonList("first"), null, 0).onCompleted(() -> completed.set(true));
+        assertTrue(completed.get());
+    }
+    
+    @Test
+    void assertOnCompletedAfterPendingGroupTaken() {
+        CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        CompletionService<Collection<String>> completionService = new ExecutorCompletionService<>(executorService);
+        completionService.submit(() -> {
+            slowGroupLatch.await();
+            return Collections.singletonList("slow");
+        });
+        AtomicBoolean completed = new AtomicBoolean();
+        CompletionOrderedResultList<String> actual = new CompletionOrderedResultList<>(Collections.singletonList("first"), completionService, 1);
+        actual.onCompleted(() -> completed.set(true));
+        assertThat(actual.get(0), is("first"));
+        assertFalse(completed.get());
+        slowGroupLatch.countDown();
+        assertThat(actual.size(), is(2));
+        assertTrue(completed.get());
+    }
+    
+    @Test
+    void assertAwaitCompletionWithFailedGroup() {
+        CompletionService<Collection<String>> completionService = new ExecutorCompletionService<>(executorService);
+        SQLException expected = new SQLException("foo");
+        completionService.submit(() -> {
+            throw expected;
+        });
+        completionService.submit(() -> Collections.singletonList("bar"));
+        AtomicBoolean completed = new AtomicBoolean();
+        CompletionOrderedResultList<String> actual = new CompletionOrderedResultList<>(Collections.singletonList("first"), completionService, 2);
+        actual.onCompleted(() -> completed.set(true));
+        assertThat(actual.awaitCompletion(), is(Collections.singletonList(expected)));
+        assertTrue(completed.get());
+        assertThat(actual, is(Arrays.asList("first", "bar")));
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class VirtualThreadExecutorServiceFactoryTest {
+    
+    @Test
+    void assertCreate() throws ExecutionException, InterruptedException {
+        Optional<ExecutorService> actual = VirtualThreadExecutorServiceFactory.create("foo-%d");
+        assertThat(actual.isPresent(), is(VirtualThreadExecutorServiceFactory.isSupported()));
+        if (actual.isPresent()) {
+            assertThat(actual.get().submit(() -> Thread.currentThread().getName()).get(), is("ShardingSphere-Virtual-foo-0"));
+            actual.get().shutdown();
+        }
+    }
+    
+    @Test
+    void assertCreateThreadFactory() {
+        Optional<ThreadFactory> actual = VirtualThreadExecutorServiceFactory.createThreadFactory("foo");
+        assertThat(actual.isPresent(), is(VirtualThreadExecutorServiceFactory.isSupported()));
+        actual.ifPresent(optional -> assertThat(optional.newThread(() -> {
+        }).getName(), is("ShardingSphere-Virtual-foo")));
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResultList;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
@@ -35,6 +36,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class JDBCExecutorTest {
@@ -75,4 +78,15 @@ class JDBCExecutorTest {
         List<?> actual = jdbcExecutor.execute(new ExecutionGroupContext<>(Collections.emptyList(), reportContext), null);
         assertThat(actual, is(Collections.emptyList()));
     }
+    
+    @Test
+    void assertExecuteInCompletionOrder() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ExecutionGroupContext<JDBCExecutionUnit> context = new ExecutionGroupContext<>(Collections.emptyList(), mock(ExecutionGroupReportContext.class));
+        CompletionOrderedResultList<Object> expected = new CompletionOrderedResultList<>(Collections.singletonList("test"), null, 0);
+        when(executorEngine.executeInCompletionOrder(any(), any(), any())).thenReturn(expected);
+        List<?> actual = new JDBCExecutor(executorEngine, new ConnectionContext(Collections::emptySet)).executeInCompletionOrder(context, null, null);
+        assertThat(actual, is(expected));
+        verify(executorEngine, never()).execute(any(), any(), any(), anyBoolean());
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Calendar;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JDBCColumnarMemoryQueryResultTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    @Test
+    void assertConstructorWithSQLException() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenThrow(new SQLException(""));
+        assertThrows(SQLException.class, () -> new JDBCColumnarMemoryQueryResult(resultSet, databaseType));
+    }
+    
+    @Test
+    void assertNext() throws SQLException {
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(mockResultSet(), databaseType);
+        assertThat(actual.getRowCount(), is(2L));
+        assertTrue(actual.next());
+        assertThat(actual.getRowCount(), is(1L));
+        assertTrue(actual.next());
+        assertThat(actual.getRowCount(), is(0L));
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+        assertThat(actual.getRowCount(), is(0L));
+    }
+    
+    @Test
+    void assertGetValue() throws SQLException {
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(mockResultSet(), databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is(1));
+        assertFalse(actual.wasNull());
+        assertThat(actual.getValue(2, String.class), is("foo"));
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, int.class));
+        assertTrue(actual.wasNull());
+        assertThat(actual.getCalendarValue(2, String.class, Calendar.getInstance()), is("bar"));
+        assertFalse(actual.wasNull());
+    }
+    
+    @Test
+    void assertGetInputStream() throws SQLException, IOException, ClassNotFoundException {
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(mockResultSet(), databaseType);
+        assertTrue(actual.next());
+        try (ObjectInputStream inputStream = new ObjectInputStream(actual.getInputStream(2, "Unicode"))) {
+            assertThat(inputStream.readObject(), is("foo"));
+        }
+    }
+    
+    @Test
+    void assertGetJDBCResultSet() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        assertFalse(new JDBCColumnarMemoryQueryResult(resultSet, databaseType).getJDBCResultSet().isPresent());
+        assertTrue(new JDBCColumnarMemoryQueryResult(mockResultSet(), databaseType, true).getJDBCResultSet().isPresent());
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, false);
+        when(result.getInt(1)).thenReturn(1, 0);
+        when(result.getString(2)).thenReturn("foo", "bar");
+        when(result.wasNull()).thenReturn(false, false, true, false);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MemoryQueryResultColumnTest {
+    
+    @Test
+    void assertGetPrimitiveValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        for (int i = 0; i < 20; i++) {
+            actual.add(i % 5 == 0 ? null : i);
+        }
+        assertThat(actual.getSize(), is(20));
+        assertNull(actual.get(0));
+        assertThat(actual.get(1), is(1));
+        assertThat(actual.get(19), is(19));
+    }
+    
+    @Test
+    void assertGetPrimitiveValuesWithWrapperTypesPreserved() {
+        assertThat(createColumn(true).get(0), is(true));
+        assertThat(createColumn((byte) 1).get(0), is((byte) 1));
+        assertThat(createColumn((short) 1).get(0), is((short) 1));
+        assertThat(createColumn(-1L).get(0), is(-1L));
+        assertThat(createColumn(1.5F).get(0), is(1.5F));
+        assertThat(createColumn(-1.5D).get(0), is(-1.5D));
+    }
+    
+    private MemoryQueryResultColumn createColumn(final Object value) {
+        MemoryQueryResultColumn result = new MemoryQueryResultColumn();
+        result.add(value);
+        return result;
+    }
+    
+    @Test
+    void assertGetObjectValues() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.add("foo");
+        actual.add(null);
+        actual.add(new BigDecimal("1.1"));
+        assertThat(actual.get(0), is("foo"));
+        assertNull(actual.get(1));
+        assertThat(actual.get(2), is(new BigDecimal("1.1")));
+    }
+    
+    @Test
+    void assertGetValuesWithMixedTypes() {
+        MemoryQueryResultColumn actual = new MemoryQueryResultColumn();
+        actual.add(1);
+        actual.add(null);
+        actual.add(2L);
+        actual.add("foo");
+        assertThat(actual.getSize(), is(4));
+        assertThat(actual.get(0), is(1));
+        assertNull(actual.get(1));
+        assertThat(actual.get(2), is(2L));
+        assertThat(actual.get(3), is("foo"));
+    }
+}
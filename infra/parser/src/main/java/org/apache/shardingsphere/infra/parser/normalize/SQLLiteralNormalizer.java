@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.normalize;
+
+import org.apache.shardingsphere.sql.parser.statement.core.value.literal.impl.NumberLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * SQL literal normalizer.
+ *
+ * <p>Numeric literals of DML statements compared with columns, or listed in IN and VALUES clauses, are replaced with parameter markers,
+ * so that SQL different only in these literals shares the same normalized SQL.
+ * SQL which contains parameter markers, dollar quotes, hash comments, backslash escapes or multiple statements is not normalized.</p>
+ */
+public final class SQLLiteralNormalizer {
+    
+    private static final Collection<String> NORMALIZABLE_STATEMENT_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("=", "<>", "!=", "<", ">", "<=", ">=", "LIKE", "BETWEEN"));
+    
+    private static final Collection<String> LIST_KEYWORDS = new HashSet<>(Arrays.asList("IN", "VALUES"));
+    
+    private static final String UNSUPPORTED_CHARACTERS = "?$#\\;";
+    
+    private static final String OPERATOR_CHARACTERS = "<>=!";
+    
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("-?\\d+(\\.\\d+)?");
+    
+    private final String sql;
+    
+    private final StringBuilder normalizedSQL;
+    
+    private final List<Object> parameters = new ArrayList<>();
+    
+    private final Deque<Boolean> listParentheses = new LinkedList<>();
+    
+    private int index;
+    
+    private String previousToken = "";
+    
+    private boolean valuesClause;
+    
+    private boolean betweenLiteralNormalized;
+    
+    private SQLLiteralNormalizer(final String sql) {
+        this.sql = sql;
+        normalizedSQL = new StringBuilder(sql.length());
+    }
+    
+    /**
+     * Normalize literals of SQL into parameters.
+     *
+     * @param sql SQL to be normalized
+     * @return normalized SQL, empty if SQL is not supported or contains no literal to be normalized
+     */
+    public static Optional<NormalizedSQL> normalize(final String sql) {
+        for (int i = 0; i < sql.length(); i++) {
+            if (UNSUPPORTED_CHARACTERS.indexOf(sql.charAt(i)) >= 0) {
+                return Optional.empty();
+            }
+        }
+        return new SQLLiteralNormalizer(sql).normalize();
+    }
+    
+    private Optional<NormalizedSQL> normalize() {
+        while (index < sql.length()) {
+            if (!scanNextToken()) {
+                return Optional.empty();
+            }
+        }
+        return parameters.isEmpty() ? Optional.empty() : Optional.of(new NormalizedSQL(normalizedSQL.toString(), parameters));
+    }
+    
+    private boolean scanNextToken() {
+        char current = sql.charAt(index);
+        if (Character.isWhitespace(current)) {
+            normalizedSQL.append(current);
+            index++;
+            return true;
+        }
+        if (sql.startsWith("--", index)) {
+            return skipComment("\n");
+        }
+        if (sql.startsWith("/*", index)) {
+            return skipComment("*/");
+        }
+        if (previousToken.isEmpty()) {
+            return Character.isLetter(current) && scanWord();
+        }
+        return scanToken(current);
+    }
+    
+    private boolean skipComment(final String terminator) {
+        int endIndex = sql.indexOf(terminator, index + 2);
+        if (-1 == endIndex && "*/".equals(terminator)) {
+            return false;
+        }
+        int tokenEndIndex = -1 == endIndex ? sql.length() : endIndex + terminator.length();
+        normalizedSQL.append(sql, index, tokenEndIndex);
+        index = tokenEndIndex;
+        return true;
+    }
+    
+    private boolean scanToken(final char current) {
+        if ('\'' == current || '"' == current || '`' == current) {
+            return skipQuoted(current);
+        }
+        if (isNumberStart(current)) {
+            scanNumber();
+            return true;
+        }
+        if (Character.isLetter(current) || '_' == current || '@' == current) {
+            return scanWord();
+        }
+        scanSymbol(current);
+        return true;
+    }
+    
+    private boolean isNumberStart(final char current) {
+        if (Character.isDigit(current)) {
+            return true;
+        }
+        return '-' == current && index + 1 < sql.length() && Character.isDigit(sql.charAt(index + 1)) && isLiteralPosition();
+    }
+    
+    private boolean skipQuoted(final char quote) {
+        int endIndex = index + 1;
+        while (endIndex < sql.length()) {
+            if (quote != sql.charAt(endIndex)) {
+                endIndex++;
+            } else if (endIndex + 1 < sql.length() && quote == sql.charAt(endIndex + 1)) {
+                endIndex += 2;
+            } else {
+                normalizedSQL.append(sql, index, endIndex + 1);
+                index = endIndex + 1;
+                previousToken = String.valueOf(quote);
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void scanNumber() {
+        int endIndex = index + 1;
+        while (endIndex < sql.length() && isWordCharacter(sql.charAt(endIndex))) {
+            endIndex++;
+        }
+        String number = sql.substring(index, endIndex);
+        index = endIndex;
+        boolean betweenLiteral = "BETWEEN".equals(previousToken);
+        if (isLiteralPosition() && NUMBER_PATTERN.matcher(number).matches()) {
+            normalizedSQL.append('?');
+            parameters.add(new NumberLiteralValue(number).getValue());
+            betweenLiteralNormalized = betweenLiteral;
+        } else {
+            normalizedSQL.append(number);
+            betweenLiteralNormalized = false;
+        }
+        previousToken = number;
+    }
+    
+    private boolean isLiteralPosition() {
+        if (COMPARISON_OPERATORS.contains(previousToken) || betweenLiteralNormalized && "AND".equals(previousToken)) {
+            return true;
+        }
+        return ("(".equals(previousToken) || ",".equals(previousToken)) && !listParentheses.isEmpty() && listParentheses.peek();
+    }
+    
+    private boolean scanWord() {
+        int endIndex = index + 1;
+        while (endIndex < sql.length() && isWordCharacter(sql.charAt(endIndex))) {
+            endIndex++;
+        }
+        String word = sql.substring(index, endIndex);
+        normalizedSQL.append(word);
+        index = endIndex;
+        String keyword = word.toUpperCase();
+        if (previousToken.isEmpty() && !NORMALIZABLE_STATEMENT_KEYWORDS.contains(keyword)) {
+            return false;
+        }
+        if ("SELECT".equals(keyword) && "(".equals(previousToken)) {
+            listParentheses.pop();
+            listParentheses.push(false);
+        }
+        if (listParentheses.isEmpty()) {
+            valuesClause = "VALUES".equals(keyword);
+        }
+        betweenLiteralNormalized = betweenLiteralNormalized && "AND".equals(keyword);
+        previousToken = keyword;
+        return true;
+    }
+    
+    private boolean isWordCharacter(final char character) {
+        return Character.isLetterOrDigit(character) || '_' == character || '.' == character;
+    }
+    
+    private void scanSymbol(final char current) {
+        int endIndex = index + 1;
+        if (OPERATOR_CHARACTERS.indexOf(current) >= 0) {
+            while (endIndex < sql.length() && OPERATOR_CHARACTERS.indexOf(sql.charAt(endIndex)) >= 0) {
+                endIndex++;
+            }
+        }
+        if ('(' == current) {
+            listParentheses.push(LIST_KEYWORDS.contains(previousToken) || valuesClause && ",".equals(previousToken) && listParentheses.isEmpty());
+        } else if (')' == current && !listParentheses.isEmpty()) {
+            listParentheses.pop();
+        }
+        normalizedSQL.append(sql, index, endIndex);
+        previousToken = sql.substring(index, endIndex);
+        index = endIndex;
+        betweenLiteralNormalized = false;
+    }
+}
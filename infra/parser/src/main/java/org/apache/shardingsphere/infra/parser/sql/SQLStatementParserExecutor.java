@@ -17,22 +17,32 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.engine.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.engine.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.engine.spi.DialectSQLStatementRecognizer;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
+import java.util.Optional;
+
 /**
  * SQL statement parser executor.
  */
 public final class SQLStatementParserExecutor {
     
+    private final DatabaseType databaseType;
+    
+    private final DialectSQLStatementRecognizer statementRecognizer;
+    
     private final SQLParserEngine parserEngine;
     
     private final SQLStatementVisitorEngine visitorEngine;
     
     public SQLStatementParserExecutor(final DatabaseType databaseType, final CacheOption parseTreeCacheOption) {
+        this.databaseType = databaseType;
+        statementRecognizer = DatabaseTypedSPILoader.findService(DialectSQLStatementRecognizer.class, databaseType).orElse(null);
         parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
         visitorEngine = new SQLStatementVisitorEngine(databaseType);
     }
@@ -47,12 +57,13 @@ public final class SQLStatementParserExecutor {
     }
     
     /**
-     * Parse to SQL statement.
+     * Parse to SQL statement, simple DML statements recognized by dialect SQL statement recognizer skip ANTLR parsing.
      *
      * @param sql SQL to be parsed
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        Optional<SQLStatement> result = null == statementRecognizer ? Optional.empty() : statementRecognizer.recognize(sql, databaseType);
+        return result.orElseGet(() -> visitorEngine.visit(parserEngine.parse(sql, false)));
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.normalize;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLLiteralNormalizerTest {
+    
+    @Test
+    void assertNormalizeComparison() {
+        assertNormalizedSQL("SELECT * FROM t_order WHERE order_id = 10 AND user_id>=-2 AND price < 3.5 LIMIT 10",
+                "SELECT * FROM t_order WHERE order_id = ? AND user_id>=? AND price < ? LIMIT 10", 10, -2, new BigDecimal("3.5"));
+    }
+    
+    @Test
+    void assertNormalizeLongLiteral() {
+        assertNormalizedSQL("DELETE FROM t_order WHERE order_id = 1234567890123", "DELETE FROM t_order WHERE order_id = ?", 1234567890123L);
+    }
+    
+    @Test
+    void assertNormalizeBetween() {
+        assertNormalizedSQL("SELECT * FROM t_order WHERE order_id BETWEEN 1 AND 5 AND status = 'OK'", "SELECT * FROM t_order WHERE order_id BETWEEN ? AND ? AND status = 'OK'", 1, 5);
+    }
+    
+    @Test
+    void assertNormalizeInList() {
+        assertNormalizedSQL("select * from t_order where order_id in (1, 2, abs(3)) and user_id not in (select 4, 5)",
+                "select * from t_order where order_id in (?, ?, abs(3)) and user_id not in (select 4, 5)", 1, 2);
+    }
+    
+    @Test
+    void assertNormalizeValues() {
+        assertNormalizedSQL("INSERT INTO t_order (order_id, user_id, status) VALUES (1, 10, 'OK'), (2, 20, now())",
+                "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, 'OK'), (?, ?, now())", 1, 10, 2, 20);
+    }
+    
+    @Test
+    void assertNormalizeUpdateWithComments() {
+        assertNormalizedSQL("/* comment = 1 */ UPDATE t_order SET status = 'it''s = 1' -- = 2\n WHERE order_id = 3",
+                "/* comment = 1 */ UPDATE t_order SET status = 'it''s = 1' -- = 2\n WHERE order_id = ?", 3);
+    }
+    
+    @Test
+    void assertNotNormalizeNotDMLStatement() {
+        assertFalse(SQLLiteralNormalizer.normalize("SET autocommit = 1").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("(SELECT * FROM t_order WHERE order_id = 1)").isPresent());
+    }
+    
+    @Test
+    void assertNotNormalizeUnsupportedSQL() {
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE order_id = ? AND user_id = 1").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE order_id = $1 AND user_id = 1").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE status = 'a\\'b' AND user_id = 1").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE order_id = 1; SELECT 1").isPresent());
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT * FROM t_order WHERE status = 'OK /* unterminated").isPresent());
+    }
+    
+    @Test
+    void assertNotNormalizeWithoutLiteral() {
+        assertFalse(SQLLiteralNormalizer.normalize("SELECT 1, 0x1F, 1e5 FROM t_order ORDER BY 1 LIMIT 10").isPresent());
+    }
+    
+    private void assertNormalizedSQL(final String sql, final String expectedSQL, final Object... expectedParameters) {
+        Optional<NormalizedSQL> actual = SQLLiteralNormalizer.normalize(sql);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is(expectedSQL));
+        assertThat(actual.get().getParameters(), is(Arrays.asList(expectedParameters)));
+    }
+}
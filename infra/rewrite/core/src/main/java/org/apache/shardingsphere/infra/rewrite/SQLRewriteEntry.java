@@ -18,7 +18,12 @@
 package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.DeleteStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.UpdateStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
@@ -27,14 +32,19 @@ import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContextDecorato
 import org.apache.shardingsphere.infra.rewrite.engine.GenericSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.RouteSQLRewriteEngine;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlan;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCache;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 /**
  * SQL rewrite entry.
@@ -66,18 +76,43 @@ public final class SQLRewriteEntry {
      * @return route unit and SQL rewrite result map
      */
     public SQLRewriteResult rewrite(final QueryContext queryContext, final RouteContext routeContext) {
-        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(queryContext, routeContext);
         SQLTranslatorRule rule = globalRuleMetaData.getSingleRule(SQLTranslatorRule.class);
-        return routeContext.getRouteUnits().isEmpty()
-                ? new GenericSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(sqlRewriteContext, queryContext)
-                : new RouteSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(sqlRewriteContext, routeContext, queryContext);
+        if (routeContext.getRouteUnits().isEmpty()) {
+            return new GenericSQLRewriteEngine(rule, database, globalRuleMetaData).rewrite(createSQLRewriteContext(queryContext, routeContext, true), queryContext);
+        }
+        RouteSQLRewriteEngine rewriteEngine = new RouteSQLRewriteEngine(rule, database, globalRuleMetaData);
+        if (!isRewritePlanCacheable(queryContext)) {
+            return rewriteEngine.rewrite(createSQLRewriteContext(queryContext, routeContext, true), routeContext, queryContext);
+        }
+        Optional<SQLRewritePlan> plan = SQLRewritePlanCache.find(queryContext.getSqlStatementContext())
+                .filter(optional -> optional.isAvailable(database, globalRuleMetaData, props, routeContext.getRouteUnits()));
+        if (plan.isPresent()) {
+            return rewriteEngine.rewrite(createSQLRewriteContext(queryContext, routeContext, false), routeContext, queryContext, plan.get().getRouteSQLs());
+        }
+        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(queryContext, routeContext, true);
+        Map<RouteUnit, String> routeSQLs = new HashMap<>(routeContext.getRouteUnits().size(), 1F);
+        SQLRewriteResult result = rewriteEngine.rewrite(sqlRewriteContext, routeContext, queryContext, routeSQLs);
+        if (sqlRewriteContext.isSQLTokensReusable()) {
+            SQLRewritePlanCache.put(queryContext.getSqlStatementContext(), new SQLRewritePlan(database, globalRuleMetaData, props, routeContext.getRouteUnits(), routeSQLs));
+        }
+        return result;
     }
     
-    private SQLRewriteContext createSQLRewriteContext(final QueryContext queryContext, final RouteContext routeContext) {
+    private boolean isRewritePlanCacheable(final QueryContext queryContext) {
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.SQL_REWRITE_PLAN_CACHE_ENABLED) || queryContext.getParameters().isEmpty() || queryContext.getHintValueContext().isSkipSQLRewrite()) {
+            return false;
+        }
+        SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
+        return sqlStatementContext instanceof SelectStatementContext || sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext;
+    }
+    
+    private SQLRewriteContext createSQLRewriteContext(final QueryContext queryContext, final RouteContext routeContext, final boolean generateSQLTokens) {
         HintValueContext hintValueContext = queryContext.getHintValueContext();
         SQLRewriteContext result = new SQLRewriteContext(database, queryContext);
         decorate(result, routeContext, hintValueContext);
-        result.generateSQLTokens();
+        if (generateSQLTokens) {
+            result.generateSQLTokens();
+        }
         return result;
     }
     
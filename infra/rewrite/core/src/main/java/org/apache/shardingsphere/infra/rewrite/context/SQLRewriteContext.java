@@ -104,6 +104,15 @@ public final class SQLRewriteContext {
         this.sqlTokenGenerators.addAll(sqlTokenGenerators);
     }
     
+    /**
+     * Judge whether SQL tokens are reusable by other executions of the same SQL statement context and route units.
+     *
+     * @return reusable or not
+     */
+    public boolean isSQLTokensReusable() {
+        return sqlTokenGenerators.isReusable();
+    }
+    
     /**
      * Generate SQL tokens.
      */
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL rewrite plan, which holds rewritten SQL of each route unit for a prepared statement.
+ */
+public final class SQLRewritePlan {
+    
+    private final ShardingSphereDatabase database;
+    
+    private final RuleMetaData globalRuleMetaData;
+    
+    private final ConfigurationProperties props;
+    
+    private final Map<ShardingSphereSchema, Long> schemaVersions;
+    
+    private final List<RouteUnit> routeUnits;
+    
+    @Getter
+    private final Map<RouteUnit, String> routeSQLs;
+    
+    public SQLRewritePlan(final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props,
+                          final Collection<RouteUnit> routeUnits, final Map<RouteUnit, String> routeSQLs) {
+        this.database = database;
+        this.globalRuleMetaData = globalRuleMetaData;
+        this.props = props;
+        schemaVersions = getSchemaVersions(database);
+        this.routeUnits = new ArrayList<>(routeUnits);
+        this.routeSQLs = routeSQLs;
+    }
+    
+    private Map<ShardingSphereSchema, Long> getSchemaVersions(final ShardingSphereDatabase database) {
+        Collection<ShardingSphereSchema> schemas = database.getAllSchemas();
+        Map<ShardingSphereSchema, Long> result = new IdentityHashMap<>(schemas.size());
+        for (ShardingSphereSchema each : schemas) {
+            result.put(each, each.getVersion());
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether plan is available for the execution.
+     *
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @param routeUnits route units of the execution
+     * @return available or not
+     */
+    public boolean isAvailable(final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props, final Collection<RouteUnit> routeUnits) {
+        return this.database == database && this.globalRuleMetaData == globalRuleMetaData && this.props == props && isSameSchemaVersions(database) && isSameRouteUnits(routeUnits);
+    }
+    
+    private boolean isSameSchemaVersions(final ShardingSphereDatabase database) {
+        Collection<ShardingSphereSchema> schemas = database.getAllSchemas();
+        if (schemas.size() != schemaVersions.size()) {
+            return false;
+        }
+        for (ShardingSphereSchema each : schemas) {
+            Long version = schemaVersions.get(each);
+            if (null == version || version != each.getVersion()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSameRouteUnits(final Collection<RouteUnit> routeUnits) {
+        if (routeUnits.size() != this.routeUnits.size()) {
+            return false;
+        }
+        Iterator<RouteUnit> iterator = this.routeUnits.iterator();
+        for (RouteUnit each : routeUnits) {
+            if (!each.equals(iterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
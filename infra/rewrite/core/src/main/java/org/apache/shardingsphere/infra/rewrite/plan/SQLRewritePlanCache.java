@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+
+import java.util.Optional;
+
+/**
+ * SQL rewrite plan cache.
+ * Plans are weakly keyed by identity of SQL statement contexts, which are reused by every execution of a prepared statement and released with it.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLRewritePlanCache {
+    
+    private static final Cache<SQLStatementContext, SQLRewritePlan> CACHE = Caffeine.newBuilder().weakKeys().maximumSize(4096L).build();
+    
+    /**
+     * Find SQL rewrite plan.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @return found SQL rewrite plan
+     */
+    public static Optional<SQLRewritePlan> find(final SQLStatementContext sqlStatementContext) {
+        return Optional.ofNullable(CACHE.getIfPresent(sqlStatementContext));
+    }
+    
+    /**
+     * Put SQL rewrite plan.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param plan SQL rewrite plan
+     */
+    public static void put(final SQLStatementContext sqlStatementContext, final SQLRewritePlan plan) {
+        CACHE.put(sqlStatementContext, plan);
+    }
+}
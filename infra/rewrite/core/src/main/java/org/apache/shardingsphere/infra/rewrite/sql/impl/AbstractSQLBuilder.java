@@ -23,9 +23,11 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.Attachable;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.SQLToken;
 import org.apache.shardingsphere.infra.rewrite.sql.token.common.pojo.Substitutable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.RandomAccess;
 
 /**
  * Abstract SQL builder.
@@ -43,12 +45,14 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
             return sql;
         }
         Collections.sort(sqlTokens);
+        List<SQLToken> sortedSQLTokens = sqlTokens instanceof RandomAccess ? sqlTokens : new ArrayList<>(sqlTokens);
         StringBuilder result = new StringBuilder(sql.length());
-        result.append(sql, 0, sqlTokens.get(0).getStartIndex());
+        result.append(sql, 0, sortedSQLTokens.get(0).getStartIndex());
         Optional<SQLToken> previousToken = Optional.empty();
-        for (SQLToken each : sqlTokens) {
+        for (int i = 0; i < sortedSQLTokens.size(); i++) {
+            SQLToken each = sortedSQLTokens.get(i);
             if (isContainsAttachableToken(each, previousToken.orElse(null)) || each.getStartIndex() > previousToken.map(SQLToken::getStopIndex).orElse(0)) {
-                appendRewriteSQL(each, result);
+                appendRewriteSQL(sortedSQLTokens, i, result);
                 previousToken = Optional.of(each);
             }
         }
@@ -59,16 +63,17 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
         return sqlToken instanceof Attachable || previousToken instanceof Attachable;
     }
     
-    private void appendRewriteSQL(final SQLToken sqlToken, final StringBuilder builder) {
+    private void appendRewriteSQL(final List<SQLToken> sortedSQLTokens, final int sqlTokenIndex, final StringBuilder builder) {
+        SQLToken sqlToken = sortedSQLTokens.get(sqlTokenIndex);
         builder.append(getSQLTokenText(sqlToken));
-        builder.append(getConjunctionText(sqlToken, sqlTokens, sql.length()));
+        builder.append(getConjunctionText(sortedSQLTokens, sqlTokenIndex, sql.length()));
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
     
-    private String getConjunctionText(final SQLToken sqlToken, final List<SQLToken> sqlTokens, final int sqlLength) {
-        int startIndex = getStartIndex(sqlToken, sqlLength);
-        int stopIndex = getStopIndex(sqlToken, sqlTokens, sqlLength, startIndex);
+    private String getConjunctionText(final List<SQLToken> sortedSQLTokens, final int sqlTokenIndex, final int sqlLength) {
+        int startIndex = getStartIndex(sortedSQLTokens.get(sqlTokenIndex), sqlLength);
+        int stopIndex = getStopIndex(sortedSQLTokens, sqlTokenIndex, sqlLength, startIndex);
         return sql.substring(startIndex, stopIndex);
     }
     
@@ -77,9 +82,8 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
         return Math.min(startIndex, sqlLength);
     }
     
-    private int getStopIndex(final SQLToken sqlToken, final List<SQLToken> sqlTokens, final int sqlLength, final int startIndex) {
-        int currentSQLTokenIndex = sqlTokens.indexOf(sqlToken);
-        int stopIndex = sqlTokens.size() - 1 == currentSQLTokenIndex ? sqlLength : sqlTokens.get(currentSQLTokenIndex + 1).getStartIndex();
-        return startIndex <= stopIndex ? stopIndex : getStopIndex(sqlTokens.get(currentSQLTokenIndex + 1), sqlTokens, sqlLength, startIndex);
+    private int getStopIndex(final List<SQLToken> sortedSQLTokens, final int sqlTokenIndex, final int sqlLength, final int startIndex) {
+        int stopIndex = sortedSQLTokens.size() - 1 == sqlTokenIndex ? sqlLength : sortedSQLTokens.get(sqlTokenIndex + 1).getStartIndex();
+        return startIndex <= stopIndex ? stopIndex : getStopIndex(sortedSQLTokens, sqlTokenIndex + 1, sqlLength, startIndex);
     }
 }
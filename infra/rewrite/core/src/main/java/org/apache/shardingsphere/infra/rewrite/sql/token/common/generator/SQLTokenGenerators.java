@@ -50,6 +50,15 @@ public final class SQLTokenGenerators {
         generators.addAll(sqlTokenGenerators);
     }
     
+    /**
+     * Judge whether generated SQL tokens are reusable by other executions of the same SQL statement context and route units.
+     *
+     * @return reusable or not
+     */
+    public boolean isReusable() {
+        return generators.stream().noneMatch(each -> each instanceof ParametersAware || each instanceof ConnectionContextAware);
+    }
+    
     /**
      * Generate SQL tokens.
      *
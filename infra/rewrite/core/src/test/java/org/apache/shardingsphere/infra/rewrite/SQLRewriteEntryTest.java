@@ -19,7 +19,9 @@ package org.apache.shardingsphere.infra.rewrite;
 
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
@@ -28,13 +30,18 @@ import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
 import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlan;
+import org.apache.shardingsphere.infra.rewrite.plan.SQLRewritePlanCache;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.attribute.SQLStatementAttributes;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
 import org.apache.shardingsphere.sqltranslator.context.SQLTranslatorContext;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
@@ -49,6 +56,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -71,12 +79,14 @@ class SQLRewriteEntryTest {
     }
     
     private QueryContext createQueryContext() {
+        return createQueryContext(mock(SQLStatementContext.class, RETURNS_DEEP_STUBS), mock(SQLStatement.class));
+    }
+    
+    private QueryContext createQueryContext(final SQLStatementContext sqlStatementContext, final SQLStatement sqlStatement) {
         QueryContext result = mock(QueryContext.class);
         when(result.getSql()).thenReturn("SELECT ?");
         when(result.getParameters()).thenReturn(Collections.singletonList(1));
-        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
         when(sqlStatementContext.getTablesContext().getDatabaseNames()).thenReturn(Collections.emptyList());
-        SQLStatement sqlStatement = mock(SQLStatement.class);
         when(sqlStatement.getAttributes()).thenReturn(new SQLStatementAttributes());
         when(sqlStatementContext.getSqlStatement()).thenReturn(sqlStatement);
         when(sqlStatementContext.getSqlStatement().getDatabaseType()).thenReturn(databaseType);
@@ -102,6 +112,30 @@ class SQLRewriteEntryTest {
         assertThat(sqlRewriteResult.getSqlRewriteUnits().size(), is(2));
     }
     
+    @Test
+    void assertRewriteWithRewritePlanCache() {
+        ShardingSphereDatabase database = new ShardingSphereDatabase(
+                "foo_db", databaseType, mockResourceMetaData(), mock(RuleMetaData.class), Collections.singleton(new ShardingSphereSchema("test")));
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, new RuleMetaData(Collections.singleton(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build()))),
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.SQL_REWRITE_PLAN_CACHE_ENABLED.getKey(), Boolean.TRUE.toString()))));
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.singleton(new RouteMapper("t_order", "t_order_0")));
+        QueryContext queryContext = createQueryContext(mock(SelectStatementContext.class, RETURNS_DEEP_STUBS), mock(SelectStatement.class));
+        RouteSQLRewriteResult actual = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite(queryContext, createRouteContext(routeUnit));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("SELECT ?"));
+        Optional<SQLRewritePlan> plan = SQLRewritePlanCache.find(queryContext.getSqlStatementContext());
+        assertTrue(plan.isPresent());
+        plan.get().getRouteSQLs().put(routeUnit, "SELECT ? FROM cached_plan");
+        actual = (RouteSQLRewriteResult) sqlRewriteEntry.rewrite(queryContext, createRouteContext(routeUnit));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("SELECT ? FROM cached_plan"));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(1)));
+    }
+    
+    private RouteContext createRouteContext(final RouteUnit routeUnit) {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(routeUnit);
+        return result;
+    }
+    
     private ResourceMetaData mockResourceMetaData() {
         Map<String, StorageUnit> storageUnits = new LinkedHashMap<>(2, 1F);
         StorageUnit storageUnit1 = mock(StorageUnit.class);
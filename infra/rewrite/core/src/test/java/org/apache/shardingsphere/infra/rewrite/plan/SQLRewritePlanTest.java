@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rewrite.plan;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLRewritePlanTest {
+    
+    private final ShardingSphereSchema schema = new ShardingSphereSchema("foo_schema");
+    
+    private final ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+    
+    private final RuleMetaData globalRuleMetaData = new RuleMetaData(Collections.emptyList());
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    private final Collection<RouteUnit> routeUnits = Arrays.asList(createRouteUnit("ds_0"), createRouteUnit("ds_1"));
+    
+    private SQLRewritePlan plan;
+    
+    @BeforeEach
+    void setUp() {
+        when(database.getAllSchemas()).thenReturn(Collections.singleton(schema));
+        plan = new SQLRewritePlan(database, globalRuleMetaData, props, routeUnits, new HashMap<>());
+    }
+    
+    private RouteUnit createRouteUnit(final String actualDataSourceName) {
+        return new RouteUnit(new RouteMapper("foo_ds", actualDataSourceName), Collections.singleton(new RouteMapper("t_order", "t_order_0")));
+    }
+    
+    @Test
+    void assertIsAvailable() {
+        assertTrue(plan.isAvailable(database, globalRuleMetaData, props, Arrays.asList(createRouteUnit("ds_0"), createRouteUnit("ds_1"))));
+    }
+    
+    @Test
+    void assertIsNotAvailableWithDifferentRouteUnits() {
+        assertFalse(plan.isAvailable(database, globalRuleMetaData, props, Collections.singleton(createRouteUnit("ds_0"))));
+        assertFalse(plan.isAvailable(database, globalRuleMetaData, props, Arrays.asList(createRouteUnit("ds_1"), createRouteUnit("ds_0"))));
+    }
+    
+    @Test
+    void assertIsNotAvailableWithChangedRules() {
+        assertFalse(plan.isAvailable(mock(ShardingSphereDatabase.class), globalRuleMetaData, props, routeUnits));
+        assertFalse(plan.isAvailable(database, new RuleMetaData(Collections.emptyList()), props, routeUnits));
+        assertFalse(plan.isAvailable(database, globalRuleMetaData, new ConfigurationProperties(new Properties()), routeUnits));
+    }
+    
+    @Test
+    void assertIsNotAvailableWithChangedMetaData() {
+        schema.removeTable("t_order");
+        assertFalse(plan.isAvailable(database, globalRuleMetaData, props, routeUnits));
+    }
+    
+    @Test
+    void assertIsNotAvailableWithChangedSchemas() {
+        when(database.getAllSchemas()).thenReturn(Arrays.asList(schema, new ShardingSphereSchema("bar_schema")));
+        assertFalse(plan.isAvailable(database, globalRuleMetaData, props, routeUnits));
+    }
+}
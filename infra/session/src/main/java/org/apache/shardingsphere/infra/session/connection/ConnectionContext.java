@@ -28,7 +28,9 @@ import org.apache.shardingsphere.infra.session.connection.transaction.Transactio
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Connection context.
@@ -47,6 +49,8 @@ public final class ConnectionContext implements AutoCloseable {
     
     private final TransactionConnectionContext transactionContext = new TransactionConnectionContext();
     
+    private final Map<String, Long> readWriteSplitLastWriteMillis = new ConcurrentHashMap<>();
+    
     @Setter(AccessLevel.NONE)
     private String currentDatabaseName;
     
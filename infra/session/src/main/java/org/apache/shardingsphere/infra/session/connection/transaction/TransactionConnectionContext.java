@@ -20,7 +20,10 @@ package org.apache.shardingsphere.infra.session.connection.transaction;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -44,6 +47,8 @@ public final class TransactionConnectionContext implements AutoCloseable {
     
     private AtomicReference<TransactionManager> transactionManager;
     
+    private final Map<String, Collection<String>> modifiedTables = new ConcurrentHashMap<>();
+    
     /**
      * Begin transaction.
      *
@@ -92,6 +97,16 @@ public final class TransactionConnectionContext implements AutoCloseable {
         return null == transactionManager ? Optional.empty() : Optional.ofNullable(transactionManager.get());
     }
     
+    /**
+     * Add table modified in transaction.
+     *
+     * @param databaseName database name
+     * @param tableName table name
+     */
+    public void addModifiedTable(final String databaseName, final String tableName) {
+        modifiedTables.computeIfAbsent(databaseName, key -> ConcurrentHashMap.newKeySet()).add(tableName);
+    }
+    
     @Override
     public void close() {
         transactionType = null;
@@ -100,5 +115,6 @@ public final class TransactionConnectionContext implements AutoCloseable {
         exceptionOccur = false;
         readWriteSplitReplicaRoute = null;
         transactionManager = null;
+        modifiedTables.clear();
     }
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.session.connection.transaction;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -67,14 +68,23 @@ class TransactionConnectionContextTest {
         assertThat(transactionConnectionContext.getReadWriteSplitReplicaRoute(), is(Optional.of("foo")));
     }
     
+    @Test
+    void assertAddModifiedTable() {
+        transactionConnectionContext.addModifiedTable("foo_db", "foo_tbl");
+        transactionConnectionContext.addModifiedTable("foo_db", "foo_tbl");
+        assertThat(transactionConnectionContext.getModifiedTables().get("foo_db"), is(Collections.singleton("foo_tbl")));
+    }
+    
     @Test
     void assertClose() {
         transactionConnectionContext.beginTransaction("XA", mock(TransactionManager.class));
+        transactionConnectionContext.addModifiedTable("foo_db", "foo_tbl");
         transactionConnectionContext.close();
         assertFalse(transactionConnectionContext.getTransactionType().isPresent());
         assertFalse(transactionConnectionContext.isInTransaction());
         assertThat(transactionConnectionContext.getBeginMillis(), is(0L));
         assertFalse(transactionConnectionContext.isExceptionOccur());
         assertFalse(transactionConnectionContext.getReadWriteSplitReplicaRoute().isPresent());
+        assertTrue(transactionConnectionContext.getModifiedTables().isEmpty());
     }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.driver.executor.callback.execute;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.driver.executor.callback.execute.impl.PreparedStatementExecuteQueryCallback;
 import org.apache.shardingsphere.driver.executor.callback.execute.impl.StatementExecuteQueryCallback;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -40,10 +41,11 @@ public final class ExecuteQueryCallbackFactory {
      * @return created instance
      */
     public ExecuteQueryCallback newInstance(final ShardingSphereDatabase database, final QueryContext queryContext) {
+        boolean columnarMemoryQueryResultEnabled = queryContext.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.MEMORY_QUERY_RESULT_COLUMNAR_ENABLED);
         return JDBCDriverType.STATEMENT.equals(jdbcDriverType)
                 ? new StatementExecuteQueryCallback(database.getProtocolType(), database.getResourceMetaData(),
-                        queryContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown())
+                        queryContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown(), columnarMemoryQueryResultEnabled)
                 : new PreparedStatementExecuteQueryCallback(database.getProtocolType(), database.getResourceMetaData(),
-                        queryContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown());
+                        queryContext.getSqlStatementContext().getSqlStatement(), SQLExecutorExceptionHandler.isExceptionThrown(), columnarMemoryQueryResultEnabled);
     }
 }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.driver.executor.engine.transaction.DriverTransa
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.connection.kernel.TableDataModifiedNotifier;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -111,7 +112,9 @@ public final class DriverExecuteExecutor {
             return transactionExecutor.execute((TCLStatement) queryContext.getSqlStatementContext().getSqlStatement());
         }
         ExecutionContext executionContext = new KernelProcessor().generateExecutionContext(queryContext, metaData.getGlobalRuleMetaData(), metaData.getProps());
-        return executePushDown(database, executionContext, prepareEngine, executeCallback, addCallback, replayCallback);
+        boolean result = executePushDown(database, executionContext, prepareEngine, executeCallback, addCallback, replayCallback);
+        TableDataModifiedNotifier.notifyExecuted(queryContext, metaData.getGlobalRuleMetaData());
+        return result;
     }
     
     @SuppressWarnings("rawtypes")
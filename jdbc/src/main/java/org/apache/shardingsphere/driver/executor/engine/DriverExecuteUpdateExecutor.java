@@ -25,6 +25,7 @@ import org.apache.shardingsphere.driver.executor.engine.pushdown.jdbc.DriverJDBC
 import org.apache.shardingsphere.driver.executor.engine.pushdown.raw.DriverRawPushDownExecuteUpdateExecutor;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.connection.kernel.TableDataModifiedNotifier;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -72,7 +73,9 @@ public final class DriverExecuteUpdateExecutor {
     public int executeUpdate(final ShardingSphereDatabase database, final QueryContext queryContext, final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
                              final StatementExecuteUpdateCallback updateCallback, final StatementAddCallback addCallback, final StatementReplayCallback replayCallback) throws SQLException {
         ExecutionContext executionContext = new KernelProcessor().generateExecutionContext(queryContext, metaData.getGlobalRuleMetaData(), metaData.getProps());
-        return executeUpdatePushDown(database, prepareEngine, updateCallback, addCallback, replayCallback, executionContext);
+        int result = executeUpdatePushDown(database, prepareEngine, updateCallback, addCallback, replayCallback, executionContext);
+        TableDataModifiedNotifier.notifyExecuted(queryContext, metaData.getGlobalRuleMetaData());
+        return result;
     }
     
     @SuppressWarnings("rawtypes")
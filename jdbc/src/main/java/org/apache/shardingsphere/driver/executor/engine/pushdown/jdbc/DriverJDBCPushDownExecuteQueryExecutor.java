@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.driver.executor.engine.pushdown.jdbc;
 
 import org.apache.shardingsphere.driver.executor.callback.add.StatementAddCallback;
+import org.apache.shardingsphere.driver.executor.callback.execute.ExecuteQueryCallback;
 import org.apache.shardingsphere.driver.executor.callback.execute.ExecuteQueryCallbackFactory;
 import org.apache.shardingsphere.driver.executor.callback.replay.StatementReplayCallback;
 import org.apache.shardingsphere.driver.jdbc.core.connection.ShardingSphereConnection;
 import org.apache.shardingsphere.driver.jdbc.core.resultset.ShardingSphereResultSetFactory;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResultList;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
@@ -38,6 +40,7 @@ import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -111,6 +114,9 @@ public final class DriverJDBCPushDownExecuteQueryExecutor {
         }
         replayCallback.replay();
         ProcessEngine processEngine = new ProcessEngine();
+        if (queryContext.getSqlStatementContext().getSqlStatement() instanceof SelectStatement) {
+            return executeInCompletionOrder(database, queryContext, prepareEngine, executionGroupContext, processEngine);
+        }
         try {
             processEngine.executeSQL(executionGroupContext, queryContext);
             return jdbcExecutor.execute(executionGroupContext, new ExecuteQueryCallbackFactory(prepareEngine.getType()).newInstance(database, queryContext));
@@ -119,6 +125,21 @@ public final class DriverJDBCPushDownExecuteQueryExecutor {
         }
     }
     
+    private List<QueryResult> executeInCompletionOrder(final ShardingSphereDatabase database, final QueryContext queryContext, final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
+                                                       final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext, final ProcessEngine processEngine) throws SQLException {
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        try {
+            processEngine.executeSQL(executionGroupContext, queryContext);
+            ExecuteQueryCallback callback = new ExecuteQueryCallbackFactory(prepareEngine.getType()).newInstance(database, queryContext);
+            CompletionOrderedResultList<QueryResult> result = jdbcExecutor.executeInCompletionOrder(executionGroupContext, callback, callback);
+            result.onCompleted(() -> processEngine.completeSQLExecution(processId));
+            return result;
+        } catch (final SQLException | RuntimeException ex) {
+            processEngine.completeSQLExecution(processId);
+            throw ex;
+        }
+    }
+    
     private Collection<Statement> getStatements(final ExecutionGroup<JDBCExecutionUnit> executionGroup) {
         Collection<Statement> result = new LinkedList<>();
         for (JDBCExecutionUnit each : executionGroup.getInputs()) {
@@ -25,6 +25,7 @@ import lombok.Getter;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.driver.jdbc.adapter.invocation.MethodInvocationRecorder;
 import org.apache.shardingsphere.driver.jdbc.core.savepoint.ShardingSphereSavepoint;
+import org.apache.shardingsphere.infra.connection.kernel.TableDataModifiedNotifier;
 import org.apache.shardingsphere.infra.exception.kernel.connection.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DatabaseConnectionManager;
@@ -157,6 +158,7 @@ public final class DriverDatabaseConnectionManager implements DatabaseConnection
             for (Connection each : getCachedConnections()) {
                 ConnectionSavepointManager.getInstance().transactionFinished(each);
             }
+            TableDataModifiedNotifier.notifyTransactionFinished(connectionContext.getTransactionContext(), contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData());
             connectionContext.close();
             clearCachedConnections();
         }
@@ -180,6 +182,7 @@ public final class DriverDatabaseConnectionManager implements DatabaseConnection
             for (Connection each : getCachedConnections()) {
                 ConnectionSavepointManager.getInstance().transactionFinished(each);
             }
+            TableDataModifiedNotifier.notifyTransactionFinished(connectionContext.getTransactionContext(), contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData());
             connectionContext.close();
             clearCachedConnections();
         }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSpherePrepar
 import org.apache.shardingsphere.driver.jdbc.core.statement.ShardingSphereStatement;
 import org.apache.shardingsphere.driver.jdbc.core.statement.StatementManager;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.connection.kernel.TableDataModifiedNotifier;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
@@ -167,6 +168,7 @@ public final class ShardingSphereConnection extends AbstractConnectionAdapter {
         databaseConnectionManager.setAutoCommit(autoCommit);
         TransactionConnectionContext transactionContext = databaseConnectionManager.getConnectionContext().getTransactionContext();
         if (autoCommit && transactionContext.isInTransaction()) {
+            TableDataModifiedNotifier.notifyTransactionFinished(transactionContext, contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData());
             transactionContext.close();
             return;
         }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.driver.jdbc.core.resultset;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResultList;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
@@ -73,7 +74,12 @@ public final class ShardingSphereResultSetFactory {
                         : columnLabelAndIndexMap);
     }
     
-    private List<ResultSet> getResultSets(final Collection<QueryResult> queryResults) throws SQLException {
+    @SuppressWarnings("unchecked")
+    private List<ResultSet> getResultSets(final List<QueryResult> queryResults) throws SQLException {
+        if (queryResults instanceof CompletionOrderedResultList) {
+            // Transform lazily, metadata only waits for the first result set, while closing waits for all of them
+            return ((CompletionOrderedResultList<QueryResult>) queryResults).transform(each -> each.getJDBCResultSet().orElseThrow(IllegalStateException::new));
+        }
         List<ResultSet> result = new ArrayList<>(statements.size());
         for (QueryResult each : queryResults) {
             Optional<ResultSet> jdbcResultSet = each.getJDBCResultSet();
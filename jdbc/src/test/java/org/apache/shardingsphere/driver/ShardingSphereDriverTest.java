@@ -28,6 +28,9 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.ServiceLoader;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -73,6 +76,24 @@ class ShardingSphereDriverTest {
         }
     }
     
+    @Test
+    void assertQueryAcrossDataSourcesWorks() throws SQLException {
+        try (
+                Connection connection = DriverManager.getConnection("jdbc:shardingsphere:classpath:config/driver/foo-driver-fixture.yaml");
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id INT)");
+            statement.execute("INSERT INTO t_order (order_id, user_id) VALUES (1, 101), (2, 102), (3, 103), (4, 104)");
+            Collection<Integer> actual = new HashSet<>(4, 1F);
+            try (ResultSet resultSet = statement.executeQuery("SELECT order_id FROM t_order")) {
+                while (resultSet.next()) {
+                    actual.add(resultSet.getInt(1));
+                }
+            }
+            assertThat(actual, is(new HashSet<>(Arrays.asList(1, 2, 3, 4))));
+        }
+    }
+    
     @Test
     void assertVarbinaryColumnWorks() throws SQLException {
         try (
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ring buffer pipeline channel.
+ * <p>Push threads claim slots by CAS free sequence, the only fetch thread drains slots without lock.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private final AtomicReferenceArray<List<Record>> slots;
+    
+    private final int mask;
+    
+    private final AtomicLong producerSequence = new AtomicLong();
+    
+    private final AtomicLong consumerSequence = new AtomicLong();
+    
+    private final RingBufferWaitStrategy waitStrategy;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    public RingBufferPipelineChannel(final int bufferSize, final RingBufferWaitStrategy waitStrategy, final PipelineChannelAckCallback ackCallback) {
+        int capacity = bufferSize <= 1 ? 1 : Integer.highestOneBit(bufferSize - 1) << 1;
+        slots = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+        this.waitStrategy = waitStrategy;
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void push(final List<Record> records) {
+        long sequence = producerSequence.getAndIncrement();
+        while (sequence - consumerSequence.get() >= slots.length()) {
+            checkInterrupted();
+            waitStrategy.idle();
+        }
+        slots.lazySet((int) sequence & mask, records);
+    }
+    
+    private void checkInterrupted() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        List<Record> result = null;
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (null == result || result.size() < batchSize) {
+            List<Record> records = take();
+            if (null != records) {
+                result = append(result, records, batchSize);
+                continue;
+            }
+            if (System.nanoTime() - deadlineNanos >= 0L) {
+                break;
+            }
+            checkInterrupted();
+            waitStrategy.idle();
+        }
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    private List<Record> append(final List<Record> result, final List<Record> records, final int batchSize) {
+        if (null == result) {
+            return records.size() < batchSize ? newBatch(records, batchSize) : records;
+        }
+        result.addAll(records);
+        return result;
+    }
+    
+    private List<Record> newBatch(final List<Record> records, final int batchSize) {
+        List<Record> result = new ArrayList<>(batchSize);
+        result.addAll(records);
+        return result;
+    }
+    
+    private List<Record> take() {
+        long sequence = consumerSequence.get();
+        int index = (int) sequence & mask;
+        List<Record> result = slots.get(index);
+        if (null == result) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        consumerSequence.lazySet(sequence + 1L);
+        return result;
+    }
+    
+    @Override
+    public List<Record> peek() {
+        List<Record> result = slots.get((int) consumerSequence.get() & mask);
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public List<Record> poll() {
+        List<Record> result = take();
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+}
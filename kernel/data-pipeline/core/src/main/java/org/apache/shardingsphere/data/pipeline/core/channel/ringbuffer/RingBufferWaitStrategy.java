@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer wait strategy.
+ */
+public enum RingBufferWaitStrategy {
+    
+    BUSY_SPIN, YIELDING, PARKING;
+    
+    private static final long PARK_NANOS = 100_000L;
+    
+    /**
+     * Wait for a while when ring buffer is empty or full.
+     */
+    public void idle() {
+        switch (this) {
+            case YIELDING:
+                Thread.yield();
+                break;
+            case PARKING:
+                LockSupport.parkNanos(PARK_NANOS);
+                break;
+            default:
+                break;
+        }
+    }
+}
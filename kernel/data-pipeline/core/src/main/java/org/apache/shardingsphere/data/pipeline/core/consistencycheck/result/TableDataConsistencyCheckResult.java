@@ -19,6 +19,10 @@ package org.apache.shardingsphere.data.pipeline.core.consistencycheck.result;
 
 import lombok.Getter;
 import lombok.ToString;
+import org.apache.commons.lang3.Range;
+
+import java.util.Collection;
+import java.util.Collections;
 
 /**
  * Table data consistency check result.
@@ -31,14 +35,24 @@ public final class TableDataConsistencyCheckResult {
     
     private final TableDataConsistencyCheckIgnoredType ignoredType;
     
+    private final Collection<Range<Long>> mismatchedRanges;
+    
     public TableDataConsistencyCheckResult(final boolean matched) {
         this.matched = matched;
         ignoredType = null;
+        mismatchedRanges = Collections.emptyList();
     }
     
     public TableDataConsistencyCheckResult(final TableDataConsistencyCheckIgnoredType ignoredType) {
         matched = false;
         this.ignoredType = ignoredType;
+        mismatchedRanges = Collections.emptyList();
+    }
+    
+    public TableDataConsistencyCheckResult(final Collection<Range<Long>> mismatchedRanges) {
+        matched = false;
+        ignoredType = null;
+        this.mismatchedRanges = mismatchedRanges;
     }
     
     /**
@@ -22,6 +22,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.util.yaml.YamlConfiguration;
 
+import java.util.LinkedList;
+import java.util.List;
+
 /**
  * Yaml table data consistency check result config.
  */
@@ -34,6 +37,8 @@ public final class YamlTableDataConsistencyCheckResult implements YamlConfigurat
     
     private String ignoredType;
     
+    private List<String> mismatchedRanges = new LinkedList<>();
+    
     public YamlTableDataConsistencyCheckResult(final boolean matched) {
         this.matched = matched;
     }
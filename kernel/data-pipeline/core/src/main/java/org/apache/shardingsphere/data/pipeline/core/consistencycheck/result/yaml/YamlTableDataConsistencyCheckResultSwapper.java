@@ -18,16 +18,21 @@
 package org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.yaml;
 
 import com.google.common.base.Strings;
+import org.apache.commons.lang3.Range;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckIgnoredType;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
 
+import java.util.stream.Collectors;
+
 /**
  * Yaml table data consistency check result swapper.
  */
 public final class YamlTableDataConsistencyCheckResultSwapper implements YamlConfigurationSwapper<YamlTableDataConsistencyCheckResult, TableDataConsistencyCheckResult> {
     
+    private static final String RANGE_SEPARATOR = "..";
+    
     @Override
     public YamlTableDataConsistencyCheckResult swapToYamlConfiguration(final TableDataConsistencyCheckResult data) {
         YamlTableDataConsistencyCheckResult result = new YamlTableDataConsistencyCheckResult();
@@ -36,6 +41,7 @@ public final class YamlTableDataConsistencyCheckResultSwapper implements YamlCon
             return result;
         }
         result.setMatched(data.isMatched());
+        data.getMismatchedRanges().forEach(each -> result.getMismatchedRanges().add(each.getMinimum() + RANGE_SEPARATOR + each.getMaximum()));
         return result;
     }
     
@@ -47,7 +53,10 @@ public final class YamlTableDataConsistencyCheckResultSwapper implements YamlCon
         if (!Strings.isNullOrEmpty(yamlConfig.getIgnoredType())) {
             return new TableDataConsistencyCheckResult(TableDataConsistencyCheckIgnoredType.valueOf(yamlConfig.getIgnoredType()));
         }
-        return new TableDataConsistencyCheckResult(yamlConfig.isMatched());
+        if (null == yamlConfig.getMismatchedRanges() || yamlConfig.getMismatchedRanges().isEmpty()) {
+            return new TableDataConsistencyCheckResult(yamlConfig.isMatched());
+        }
+        return new TableDataConsistencyCheckResult(yamlConfig.getMismatchedRanges().stream().map(this::swapToRange).collect(Collectors.toList()));
     }
     
     /**
@@ -59,4 +68,9 @@ public final class YamlTableDataConsistencyCheckResultSwapper implements YamlCon
     public TableDataConsistencyCheckResult swapToObject(final String param) {
         return swapToObject(YamlEngine.unmarshal(param, YamlTableDataConsistencyCheckResult.class, true));
     }
+    
+    private Range<Long> swapToRange(final String range) {
+        int separatorIndex = range.indexOf(RANGE_SEPARATOR, 1);
+        return Range.of(Long.parseLong(range.substring(0, separatorIndex)), Long.parseLong(range.substring(separatorIndex + RANGE_SEPARATOR.length())));
+    }
 }
@@ -17,8 +17,15 @@
 
 package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
 
+import com.google.common.base.Strings;
+import lombok.SneakyThrows;
+import org.apache.commons.lang3.concurrent.ConcurrentException;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.CRC32SingleTableInventoryCalculator;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineLazyInitializer;
+import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.option.datatype.DialectDataTypeOption;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.spi.annotation.SPIDescription;
@@ -26,6 +33,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Properties;
 
 /**
  * CRC32 match table data consistency checker.
@@ -33,9 +41,73 @@ import java.util.LinkedList;
 @SPIDescription("Match CRC32 of records.")
 public final class CRC32MatchTableDataConsistencyChecker implements TableDataConsistencyChecker {
     
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final String CONCURRENCY_KEY = "concurrency";
+    
+    private static final String RETRY_TIMES_KEY = "retry-times";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 100000;
+    
+    private static final int DEFAULT_CONCURRENCY = 2;
+    
+    private static final int DEFAULT_RETRY_TIMES = 3;
+    
+    private int chunkSize;
+    
+    private int concurrency;
+    
+    private int retryTimes;
+    
+    private PipelineLazyInitializer<PipelineExecuteEngine> checkExecuteEngineLazyInitializer;
+    
+    @Override
+    public void init(final Properties props) {
+        chunkSize = getIntegerProperty(props, CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE, 1);
+        concurrency = getIntegerProperty(props, CONCURRENCY_KEY, DEFAULT_CONCURRENCY, 1);
+        retryTimes = getIntegerProperty(props, RETRY_TIMES_KEY, DEFAULT_RETRY_TIMES, 0);
+        checkExecuteEngineLazyInitializer = new PipelineLazyInitializer<PipelineExecuteEngine>() {
+            
+            @Override
+            protected PipelineExecuteEngine doInitialize() {
+                return PipelineExecuteEngine.newFixedThreadInstance(concurrency, "crc32-check");
+            }
+        };
+    }
+    
+    private int getIntegerProperty(final Properties props, final String key, final int defaultValue, final int minValue) {
+        String valueText = props.getProperty(key);
+        if (Strings.isNullOrEmpty(valueText)) {
+            return defaultValue;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(valueText);
+        } catch (final NumberFormatException ignore) {
+            throw new PipelineInvalidParameterException("'" + key + "' is not a valid number: `" + valueText + "`");
+        }
+        if (result < minValue) {
+            throw new PipelineInvalidParameterException("Invalid '" + key + "': " + result);
+        }
+        return result;
+    }
+    
     @Override
     public TableInventoryChecker buildTableInventoryChecker(final TableInventoryCheckParameter param) {
-        return new CRC32MatchTableInventoryChecker(param);
+        return isSegmentable(param) ? new SegmentedCRC32TableInventoryChecker(param, getCheckExecuteEngine(), chunkSize, concurrency, retryTimes) : new CRC32MatchTableInventoryChecker(param);
+    }
+    
+    @SneakyThrows(ConcurrentException.class)
+    private PipelineExecuteEngine getCheckExecuteEngine() {
+        return checkExecuteEngineLazyInitializer.get();
+    }
+    
+    private boolean isSegmentable(final TableInventoryCheckParameter param) {
+        if (1 != param.getUniqueKeys().size()) {
+            return false;
+        }
+        DialectDataTypeOption dataTypeOption = new DatabaseTypeRegistry(param.getSourceDataSource().getDatabaseType()).getDialectDatabaseMetaData().getDataTypeOption();
+        return dataTypeOption.isIntegerDataType(param.getUniqueKeys().get(0).getDataType());
     }
     
     @Override
@@ -48,7 +120,11 @@ public final class CRC32MatchTableDataConsistencyChecker implements TableDataCon
     }
     
     @Override
+    @SneakyThrows(ConcurrentException.class)
     public void close() {
+        if (null != checkExecuteEngineLazyInitializer && checkExecuteEngineLazyInitializer.isInitialized()) {
+            checkExecuteEngineLazyInitializer.get().shutdown();
+        }
     }
     
     @Override
@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Range;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.CRC32SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.preparer.inventory.calculator.InventoryPositionCalculator;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
+import org.apache.shardingsphere.infra.exception.external.sql.type.kernel.category.PipelineSQLException;
+import org.apache.shardingsphere.infra.exception.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Segmented CRC32 table inventory checker.
+ * <p>
+ * Split table into ranges of integer unique key by {@link InventoryPositionCalculator}, calculate CRC32 of ranges concurrently on source and target side,
+ * and bisect mismatched range to locate offending records. Checked ranges are persisted as table check positions, so unchecked ranges are resumed only.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class SegmentedCRC32TableInventoryChecker implements TableInventoryChecker {
+    
+    private static final int MAX_RANGES_COUNT = 10000;
+    
+    private static final int MAX_MISMATCHED_RANGES_COUNT = 10;
+    
+    private static final String RANGE_SEPARATOR = "..";
+    
+    private final TableInventoryCheckParameter param;
+    
+    private final PipelineExecuteEngine executeEngine;
+    
+    private final int chunkSize;
+    
+    private final int concurrency;
+    
+    private final int retryTimes;
+    
+    private final AtomicBoolean canceling = new AtomicBoolean(false);
+    
+    private final Collection<SingleTableInventoryCalculator> runningCalculators = ConcurrentHashMap.newKeySet();
+    
+    @Override
+    public TableDataConsistencyCheckResult checkSingleTableInventoryData() {
+        Optional<Range<Long>> uniqueKeyValuesRange = getUniqueKeyValuesRange();
+        if (!uniqueKeyValuesRange.isPresent()) {
+            return new TableDataConsistencyCheckResult(true);
+        }
+        List<Range<Long>> checkedRanges = getCheckedRanges();
+        Collection<Range<Long>> uncheckedRanges = splitRanges(uniqueKeyValuesRange.get()).stream().filter(each -> !isChecked(each, checkedRanges)).collect(Collectors.toList());
+        return checkRanges(uncheckedRanges, checkedRanges);
+    }
+    
+    private Optional<Range<Long>> getUniqueKeyValuesRange() {
+        Optional<Range<Long>> sourceRange = getUniqueKeyValuesRange(param.getSourceDataSource(), param.getSourceTable());
+        Optional<Range<Long>> targetRange = getUniqueKeyValuesRange(param.getTargetDataSource(), param.getTargetTable());
+        if (!sourceRange.isPresent() || !targetRange.isPresent()) {
+            return sourceRange.isPresent() ? sourceRange : targetRange;
+        }
+        return Optional.of(Range.of(Math.min(sourceRange.get().getMinimum(), targetRange.get().getMinimum()), Math.max(sourceRange.get().getMaximum(), targetRange.get().getMaximum())));
+    }
+    
+    private Optional<Range<Long>> getUniqueKeyValuesRange(final PipelineDataSource dataSource, final QualifiedTable table) {
+        String sql = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType()).buildUniqueKeyMinMaxValuesSQL(table.getSchemaName(), table.getTableName(), param.getUniqueKeys().get(0).getName());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            if (null == resultSet.getObject(1)) {
+                return Optional.empty();
+            }
+            return Optional.of(Range.of(resultSet.getLong(1), resultSet.getLong(2)));
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(table, ex);
+        }
+    }
+    
+    private Collection<Range<Long>> splitRanges(final Range<Long> uniqueKeyValuesRange) {
+        long tableRecordsCount = Math.max(getTableRecordsCount(param.getSourceDataSource(), param.getSourceTable()), 1L);
+        long shardingSize = Math.max(chunkSize, (tableRecordsCount + MAX_RANGES_COUNT - 1L) / MAX_RANGES_COUNT);
+        return InventoryPositionCalculator.getPositionByIntegerUniqueKeyRange(tableRecordsCount, uniqueKeyValuesRange, shardingSize).stream()
+                .map(each -> Range.of(((IntegerPrimaryKeyIngestPosition) each).getBeginValue(), ((IntegerPrimaryKeyIngestPosition) each).getEndValue())).collect(Collectors.toList());
+    }
+    
+    private long getTableRecordsCount(final PipelineDataSource dataSource, final QualifiedTable table) {
+        String sql = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType()).buildCountSQL(table.getSchemaName(), table.getTableName());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(table, ex);
+        }
+    }
+    
+    private List<Range<Long>> getCheckedRanges() {
+        Object checkedPosition = param.getProgressContext().getSourceTableCheckPositions().get(param.getSourceTable().getTableName());
+        if (null == checkedPosition) {
+            return new ArrayList<>();
+        }
+        if (checkedPosition instanceof Collection) {
+            return ((Collection<?>) checkedPosition).stream().map(each -> toRange(each.toString())).collect(Collectors.toCollection(ArrayList::new));
+        }
+        List<Range<Long>> result = new ArrayList<>();
+        result.add(Range.of(Long.MIN_VALUE, Long.parseLong(checkedPosition.toString())));
+        return result;
+    }
+    
+    private Range<Long> toRange(final String rangeText) {
+        int separatorIndex = rangeText.indexOf(RANGE_SEPARATOR, 1);
+        return Range.of(Long.parseLong(rangeText.substring(0, separatorIndex)), Long.parseLong(rangeText.substring(separatorIndex + RANGE_SEPARATOR.length())));
+    }
+    
+    private boolean isChecked(final Range<Long> range, final Collection<Range<Long>> checkedRanges) {
+        return checkedRanges.stream().anyMatch(each -> each.containsRange(range));
+    }
+    
+    private TableDataConsistencyCheckResult checkRanges(final Collection<Range<Long>> uncheckedRanges, final List<Range<Long>> checkedRanges) {
+        Iterator<Range<Long>> rangeIterator = uncheckedRanges.iterator();
+        Queue<RangeCalculation> calculations = new LinkedList<>();
+        Collection<Range<Long>> mismatchedRanges = new LinkedList<>();
+        while ((rangeIterator.hasNext() || !calculations.isEmpty()) && mismatchedRanges.size() < MAX_MISMATCHED_RANGES_COUNT) {
+            while (rangeIterator.hasNext() && calculations.size() < concurrency) {
+                calculations.add(submitCalculation(rangeIterator.next()));
+            }
+            RangeCalculation calculation = calculations.poll();
+            SingleTableInventoryCalculatedResult sourceCalculatedResult = waitFuture(calculation.getSourceFuture());
+            SingleTableInventoryCalculatedResult targetCalculatedResult = waitFuture(calculation.getTargetFuture());
+            if (Objects.equals(sourceCalculatedResult, targetCalculatedResult)) {
+                addCheckedRange(checkedRanges, calculation.getRange());
+                param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress(sourceCalculatedResult.getRecordsCount()));
+            } else {
+                bisect(calculation.getRange(), mismatchedRanges);
+            }
+        }
+        calculations.forEach(RangeCalculation::cancel);
+        if (mismatchedRanges.isEmpty()) {
+            return new TableDataConsistencyCheckResult(true);
+        }
+        log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKeys={}, mismatchedRanges={}",
+                param.getJobId(), param.getSourceTable(), param.getTargetTable(), param.getUniqueKeys(), mismatchedRanges);
+        return new TableDataConsistencyCheckResult(mismatchedRanges);
+    }
+    
+    private void addCheckedRange(final List<Range<Long>> checkedRanges, final Range<Long> range) {
+        checkedRanges.add(range);
+        checkedRanges.sort(Comparator.comparing(Range::getMinimum));
+        List<Range<Long>> mergedRanges = new ArrayList<>(checkedRanges.size());
+        for (Range<Long> each : checkedRanges) {
+            Range<Long> last = mergedRanges.isEmpty() ? null : mergedRanges.get(mergedRanges.size() - 1);
+            if (null == last || Long.MAX_VALUE != last.getMaximum() && last.getMaximum() + 1L < each.getMinimum()) {
+                mergedRanges.add(each);
+            } else {
+                mergedRanges.set(mergedRanges.size() - 1, Range.of(last.getMinimum(), Math.max(last.getMaximum(), each.getMaximum())));
+            }
+        }
+        checkedRanges.clear();
+        checkedRanges.addAll(mergedRanges);
+        List<String> checkedPositions = checkedRanges.stream().map(each -> each.getMinimum() + RANGE_SEPARATOR + each.getMaximum()).collect(Collectors.toList());
+        param.getProgressContext().getSourceTableCheckPositions().put(param.getSourceTable().getTableName(), checkedPositions);
+        param.getProgressContext().getTargetTableCheckPositions().put(param.getTargetTable().getTableName(), checkedPositions);
+    }
+    
+    private RangeCalculation submitCalculation(final Range<Long> range) {
+        if (null != param.getReadRateLimitAlgorithm()) {
+            param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
+        }
+        return new RangeCalculation(range, executeEngine.submit(() -> calculate(param.getSourceDataSource(), param.getSourceTable(), range)),
+                executeEngine.submit(() -> calculate(param.getTargetDataSource(), param.getTargetTable(), range)));
+    }
+    
+    private SingleTableInventoryCalculatedResult calculate(final PipelineDataSource dataSource, final QualifiedTable table, final Range<Long> range) {
+        SingleTableInventoryCalculateParameter calculateParam = new SingleTableInventoryCalculateParameter(dataSource, table, param.getColumnNames(), param.getUniqueKeys(), QueryType.RANGE_QUERY);
+        calculateParam.setQueryRange(new QueryRange(range.getMinimum(), true, range.getMaximum()));
+        int retried = 0;
+        while (true) {
+            SingleTableInventoryCalculator calculator = new CRC32SingleTableInventoryCalculator();
+            runningCalculators.add(calculator);
+            try {
+                return calculator.calculate(calculateParam).iterator().next();
+            } catch (final PipelineTableDataConsistencyCheckLoadingFailedException ex) {
+                if (canceling.get() || retried++ >= retryTimes) {
+                    throw ex;
+                }
+                log.warn("Calculate CRC32 of range failed, retry it, table={}, range={}, retried={}", table, range, retried, ex);
+            } finally {
+                runningCalculators.remove(calculator);
+            }
+        }
+    }
+    
+    private void bisect(final Range<Long> range, final Collection<Range<Long>> mismatchedRanges) {
+        if (mismatchedRanges.size() >= MAX_MISMATCHED_RANGES_COUNT) {
+            return;
+        }
+        if (canceling.get() || range.getMinimum().equals(range.getMaximum())) {
+            mismatchedRanges.add(range);
+            return;
+        }
+        long middle = range.getMinimum() + (range.getMaximum() - range.getMinimum()) / 2L;
+        RangeCalculation lowerCalculation = submitCalculation(Range.of(range.getMinimum(), middle));
+        RangeCalculation upperCalculation = submitCalculation(Range.of(middle + 1L, range.getMaximum()));
+        for (RangeCalculation each : new RangeCalculation[]{lowerCalculation, upperCalculation}) {
+            if (!Objects.equals(waitFuture(each.getSourceFuture()), waitFuture(each.getTargetFuture()))) {
+                bisect(each.getRange(), mismatchedRanges);
+            }
+        }
+    }
+    
+    private <T> T waitFuture(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLWrapperException(new SQLException(ex));
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof PipelineSQLException) {
+                throw (PipelineSQLException) ex.getCause();
+            }
+            throw new SQLWrapperException(new SQLException(ex));
+        }
+    }
+    
+    @Override
+    public void cancel() {
+        canceling.set(true);
+        runningCalculators.forEach(SingleTableInventoryCalculator::cancel);
+    }
+    
+    @Override
+    public boolean isCanceling() {
+        return canceling.get();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RangeCalculation {
+        
+        private final Range<Long> range;
+        
+        private final Future<SingleTableInventoryCalculatedResult> sourceFuture;
+        
+        private final Future<SingleTableInventoryCalculatedResult> targetFuture;
+        
+        void cancel() {
+            sourceFuture.cancel(true);
+            targetFuture.cancel(true);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
 import org.apache.shardingsphere.infra.algorithm.core.exception.UnsupportedAlgorithmOnDatabaseTypeException;
 
@@ -49,23 +50,41 @@ public final class CRC32SingleTableInventoryCalculator extends AbstractSingleTab
     }
     
     private CalculatedItem calculateCRC32(final PipelineDataConsistencyCalculateSQLBuilder pipelineSQLBuilder, final SingleTableInventoryCalculateParameter param, final String columnName) {
-        String sql = pipelineSQLBuilder.buildCRC32SQL(param.getTable(), columnName)
-                .orElseThrow(() -> new UnsupportedAlgorithmOnDatabaseTypeException("DataConsistencyCalculate", "CRC32", param.getDatabaseType()));
+        QueryRange queryRange = param.getQueryRange();
+        boolean rangeQuery = null != queryRange && (null != queryRange.getLower() || null != queryRange.getUpper());
+        Optional<String> crc32SQL = rangeQuery
+                ? pipelineSQLBuilder.buildCRC32SQL(param.getTable(), columnName, param.getFirstUniqueKey().getName(), queryRange)
+                : pipelineSQLBuilder.buildCRC32SQL(param.getTable(), columnName);
+        String sql = crc32SQL.orElseThrow(() -> new UnsupportedAlgorithmOnDatabaseTypeException("DataConsistencyCalculate", "CRC32", param.getDatabaseType()));
         try (
                 Connection connection = param.getDataSource().getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(sql);
-                ResultSet resultSet = preparedStatement.executeQuery()) {
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             setCurrentStatement(preparedStatement);
-            resultSet.next();
-            long crc32 = resultSet.getLong(1);
-            int recordsCount = resultSet.getInt(2);
-            return new CalculatedItem(crc32, recordsCount);
+            if (rangeQuery) {
+                setQueryRangeParameters(preparedStatement, queryRange);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                long crc32 = resultSet.getLong(1);
+                int recordsCount = resultSet.getInt(2);
+                return new CalculatedItem(crc32, recordsCount);
+            }
         } catch (final SQLException ex) {
             log.error("Calculate CRC32 failed, sql={}", sql, ex);
             throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getTable(), ex);
         }
     }
     
+    private void setQueryRangeParameters(final PreparedStatement preparedStatement, final QueryRange queryRange) throws SQLException {
+        int parameterIndex = 1;
+        if (null != queryRange.getLower()) {
+            preparedStatement.setObject(parameterIndex++, queryRange.getLower());
+        }
+        if (null != queryRange.getUpper()) {
+            preparedStatement.setObject(parameterIndex, queryRange.getUpper());
+        }
+    }
+    
     @RequiredArgsConstructor
     @Getter
     private static final class CalculatedItem {
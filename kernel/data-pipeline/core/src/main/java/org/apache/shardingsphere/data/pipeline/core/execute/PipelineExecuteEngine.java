@@ -25,10 +25,12 @@ import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFact
 
 import java.util.Collection;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.function.BiConsumer;
 
@@ -97,6 +99,17 @@ public final class PipelineExecuteEngine {
         }, CALLBACK_EXECUTOR);
     }
     
+    /**
+     * Submit a {@code Callable} to execute.
+     *
+     * @param callable callable
+     * @param <T> type of result
+     * @return execute future
+     */
+    public <T> Future<T> submit(final Callable<T> callable) {
+        return executorService.submit(callable);
+    }
+    
     /**
      * Shutdown.
      */
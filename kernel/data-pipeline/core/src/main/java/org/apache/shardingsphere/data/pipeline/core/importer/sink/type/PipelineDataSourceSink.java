@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.core.importer.sink.type;
 
+import com.google.common.collect.Lists;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
@@ -34,17 +35,25 @@ import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.Pipeli
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineImportSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.util.json.JsonUtils;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -54,6 +63,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class PipelineDataSourceSink implements PipelineSink {
     
+    private static final int MAX_PARAMETER_COUNT = Short.MAX_VALUE;
+    
     private final ImporterConfiguration importerConfig;
     
     private final DataSource dataSource;
@@ -62,14 +73,17 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private final DataRecordGroupEngine groupEngine;
     
-    private final AtomicReference<PreparedStatement> runningStatement;
+    private final Map<Thread, PreparedStatement> runningStatements;
+    
+    private final ExecutorService pipelinedWriteExecutor;
     
     public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager) {
         this.importerConfig = importerConfig;
         dataSource = dataSourceManager.getDataSource(importerConfig.getDataSourceConfig());
         importSQLBuilder = new PipelineImportSQLBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
         groupEngine = new DataRecordGroupEngine();
-        runningStatement = new AtomicReference<>();
+        runningStatements = new ConcurrentHashMap<>();
+        pipelinedWriteExecutor = importerConfig.getConcurrency() > 1 ? Executors.newFixedThreadPool(importerConfig.getConcurrency(), ExecutorThreadFactoryBuilder.build("pipeline-sink-%d")) : null;
     }
     
     @Override
@@ -82,14 +96,48 @@ public final class PipelineDataSourceSink implements PipelineSink {
             sequentialWrite(dataRecords);
             return new PipelineJobUpdateProgress(dataRecords.size());
         }
-        for (GroupedDataRecord each : groupEngine.group(dataRecords)) {
-            batchWrite(each.getDeleteDataRecords());
-            batchWrite(each.getInsertDataRecords());
-            batchWrite(each.getUpdateDataRecords());
+        if (null == pipelinedWriteExecutor) {
+            groupEngine.group(dataRecords).forEach(this::writeGroup);
+        } else {
+            pipelinedWrite(groupEngine.group(dataRecords, importerConfig.getConcurrency()));
         }
         return new PipelineJobUpdateProgress((int) dataRecords.stream().filter(each -> PipelineSQLOperationType.INSERT == each.getType()).count());
     }
     
+    @SneakyThrows(Throwable.class)
+    private void pipelinedWrite(final Collection<GroupedDataRecord> groupedDataRecords) {
+        Collection<Future<?>> futures = new LinkedList<>();
+        for (GroupedDataRecord each : groupedDataRecords) {
+            futures.add(pipelinedWriteExecutor.submit(() -> writeGroup(each)));
+        }
+        Throwable firstCause = null;
+        for (Future<?> each : futures) {
+            Optional<Throwable> cause = waitForWritten(each);
+            if (null == firstCause && cause.isPresent()) {
+                firstCause = cause.get();
+            }
+        }
+        if (null != firstCause) {
+            throw firstCause;
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private Optional<Throwable> waitForWritten(final Future<?> future) {
+        try {
+            future.get();
+            return Optional.empty();
+        } catch (final ExecutionException ex) {
+            return Optional.of(ex.getCause());
+        }
+    }
+    
+    private void writeGroup(final GroupedDataRecord groupedDataRecord) {
+        batchWrite(groupedDataRecord.getDeleteDataRecords());
+        batchWrite(groupedDataRecord.getInsertDataRecords());
+        batchWrite(groupedDataRecord.getUpdateDataRecords());
+    }
+    
     private void sequentialWrite(final List<DataRecord> buffer) {
         // TODO It's better to use transaction, but delete operation may not take effect on PostgreSQL sometimes
         try {
@@ -141,19 +189,54 @@ public final class PipelineDataSourceSink implements PipelineSink {
     }
     
     private void executeBatchInsert(final Collection<DataRecord> dataRecords, final boolean firstTimeRun) throws SQLException {
+        // Multi-row INSERT is only used with partitioned writes: each partition then commits its rows in one transaction on its own connection,
+        // while the single writer keeps JDBC batch so that driver side batch rewriting still applies.
+        if (null != pipelinedWriteExecutor && firstTimeRun && dataRecords.size() > 1) {
+            executeMultiRowInsert(dataRecords);
+            return;
+        }
         DataRecord dataRecord = dataRecords.iterator().next();
         String sql = importSQLBuilder.buildInsertSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord);
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            runningStatement.set(preparedStatement);
+            runningStatements.put(Thread.currentThread(), preparedStatement);
             if (firstTimeRun) {
                 executeBatchInsertFirstTime(connection, preparedStatement, dataRecords);
             } else {
                 retryBatchInsert(preparedStatement, dataRecords);
             }
         } finally {
-            runningStatement.set(null);
+            runningStatements.remove(Thread.currentThread());
+        }
+    }
+    
+    private void executeMultiRowInsert(final Collection<DataRecord> dataRecords) throws SQLException {
+        DataRecord dataRecord = dataRecords.iterator().next();
+        String schemaName = importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null);
+        int maxRowCount = Math.max(1, MAX_PARAMETER_COUNT / dataRecord.getColumnCount());
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            for (List<DataRecord> each : Lists.partition(new ArrayList<>(dataRecords), maxRowCount)) {
+                executeMultiRowInsert(connection, importSQLBuilder.buildInsertSQL(schemaName, dataRecord, each.size()), each);
+            }
+            connection.commit();
+        }
+    }
+    
+    private void executeMultiRowInsert(final Connection connection, final String sql, final Collection<DataRecord> dataRecords) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatements.put(Thread.currentThread(), preparedStatement);
+            preparedStatement.setQueryTimeout(30);
+            int parameterIndex = 1;
+            for (DataRecord each : dataRecords) {
+                for (int i = 0; i < each.getColumnCount(); i++) {
+                    preparedStatement.setObject(parameterIndex++, each.getColumn(i).getValue());
+                }
+            }
+            preparedStatement.executeUpdate();
+        } finally {
+            runningStatements.remove(Thread.currentThread());
         }
     }
     
@@ -205,7 +288,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
         String sql = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord, conditionColumns);
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            runningStatement.set(preparedStatement);
+            runningStatements.put(Thread.currentThread(), preparedStatement);
             for (int i = 0; i < setColumns.size(); i++) {
                 preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
             }
@@ -229,7 +312,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
                     sql, setColumns, JsonUtils.toJsonString(shardingColumns), JsonUtils.toJsonString(conditionColumns), ex.getMessage(), dataRecord);
             throw ex;
         } finally {
-            runningStatement.set(null);
+            runningStatements.remove(Thread.currentThread());
         }
     }
     
@@ -251,7 +334,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         String deleteSQL = importSQLBuilder.buildDeleteSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord,
                 RecordUtils.extractConditionColumns(dataRecord, shardingColumns));
         try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSQL)) {
-            runningStatement.set(preparedStatement);
+            runningStatements.put(Thread.currentThread(), preparedStatement);
             preparedStatement.setQueryTimeout(30);
             for (DataRecord each : dataRecords) {
                 List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName()));
@@ -266,12 +349,15 @@ public final class PipelineDataSourceSink implements PipelineSink {
             }
             preparedStatement.executeBatch();
         } finally {
-            runningStatement.set(null);
+            runningStatements.remove(Thread.currentThread());
         }
     }
     
     @Override
     public void close() {
-        Optional.ofNullable(runningStatement.get()).ifPresent(PipelineJdbcUtils::cancelStatement);
+        runningStatements.values().forEach(PipelineJdbcUtils::cancelStatement);
+        if (null != pipelinedWriteExecutor) {
+            pipelinedWriteExecutor.shutdownNow();
+        }
     }
 }
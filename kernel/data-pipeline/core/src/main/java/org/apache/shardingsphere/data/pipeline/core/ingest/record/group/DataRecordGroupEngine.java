@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -90,6 +91,44 @@ public final class DataRecordGroupEngine {
         return result;
     }
     
+    /**
+     * Group by table, type and hash of unique key.
+     * Data records of table which has unique key updated are not partitioned.
+     *
+     * @param dataRecords data records, related table must have primary key or unique key
+     * @param partitionCount partition count of each table
+     * @return grouped data records, data records with the same unique key are always in the same group
+     * @throws IllegalArgumentException if related table has no primary key or unique key
+     */
+    public List<GroupedDataRecord> group(final List<DataRecord> dataRecords, final int partitionCount) {
+        if (partitionCount <= 1) {
+            return group(dataRecords);
+        }
+        List<GroupedDataRecord> result = new ArrayList<>(100);
+        for (GroupedDataRecord each : group(dataRecords)) {
+            if (each.getUpdateDataRecords().stream().anyMatch(this::isUniqueKeyUpdated)) {
+                result.add(each);
+                continue;
+            }
+            Map<Integer, List<DataRecord>> insertPartitions = partition(each.getInsertDataRecords(), partitionCount);
+            Map<Integer, List<DataRecord>> updatePartitions = partition(each.getUpdateDataRecords(), partitionCount);
+            Map<Integer, List<DataRecord>> deletePartitions = partition(each.getDeleteDataRecords(), partitionCount);
+            for (int i = 0; i < partitionCount; i++) {
+                List<DataRecord> insertDataRecords = insertPartitions.getOrDefault(i, Collections.emptyList());
+                List<DataRecord> updateDataRecords = updatePartitions.getOrDefault(i, Collections.emptyList());
+                List<DataRecord> deleteDataRecords = deletePartitions.getOrDefault(i, Collections.emptyList());
+                if (!insertDataRecords.isEmpty() || !updateDataRecords.isEmpty() || !deleteDataRecords.isEmpty()) {
+                    result.add(new GroupedDataRecord(each.getTableName(), insertDataRecords, updateDataRecords, deleteDataRecords));
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<Integer, List<DataRecord>> partition(final Collection<DataRecord> dataRecords, final int partitionCount) {
+        return dataRecords.stream().collect(Collectors.groupingBy(each -> Math.floorMod(each.getKey().hashCode(), partitionCount)));
+    }
+    
     private void mergeInsert(final DataRecord dataRecord, final Map<DataRecord.Key, DataRecord> dataRecords) {
         DataRecord beforeDataRecord = dataRecords.get(dataRecord.getKey());
         ShardingSpherePreconditions.checkState(null == beforeDataRecord || PipelineSQLOperationType.DELETE == beforeDataRecord.getType(),
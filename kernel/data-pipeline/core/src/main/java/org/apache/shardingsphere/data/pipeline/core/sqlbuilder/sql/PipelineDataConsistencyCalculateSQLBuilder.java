@@ -128,4 +128,25 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
         return dialectSQLBuilder.buildCRC32SQL(
                 sqlSegmentBuilder.getQualifiedTableName(qualifiedTable), sqlSegmentBuilder.getEscapedIdentifier(columnName));
     }
+    
+    /**
+     * Build CRC32 SQL restricted to query range of first unique key.
+     *
+     * @param qualifiedTable qualified table
+     * @param columnName column name
+     * @param firstUniqueKey first unique key
+     * @param queryRange query range, lower or upper could be null
+     * @return built SQL
+     */
+    public Optional<String> buildCRC32SQL(final QualifiedTable qualifiedTable, final String columnName, final String firstUniqueKey, final QueryRange queryRange) {
+        Collection<String> conditions = new ArrayList<>(2);
+        if (null != queryRange.getLower()) {
+            conditions.add(buildLowerQueryRangeCondition(queryRange.isLowerInclusive(), firstUniqueKey));
+        }
+        if (null != queryRange.getUpper()) {
+            conditions.add(buildUpperQueryRangeCondition(firstUniqueKey));
+        }
+        Optional<String> result = buildCRC32SQL(qualifiedTable, columnName);
+        return conditions.isEmpty() ? result : result.map(each -> each + " WHERE " + String.join(" AND ", conditions));
+    }
 }
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoa
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -38,6 +39,10 @@ public final class PipelineImportSQLBuilder {
     
     private static final String INSERT_SQL_CACHE_KEY_PREFIX = "INSERT_";
     
+    private static final String MULTI_ROW_INSERT_SQL_CACHE_KEY_PREFIX = "MULTI_ROW_INSERT_";
+    
+    private static final String SQL_CACHE_KEY_SEPARATOR = "\0";
+    
     private static final String UPDATE_SQL_CACHE_KEY_PREFIX = "UPDATE_";
     
     private static final String DELETE_SQL_CACHE_KEY_PREFIX = "DELETE_";
@@ -69,15 +74,39 @@ public final class PipelineImportSQLBuilder {
         return sqlCache.getIfPresent(sqlCacheKey);
     }
     
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @param rowCount row count of values
+     * @return multi-row insert SQL
+     */
+    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        if (1 == rowCount) {
+            return buildInsertSQL(schemaName, dataRecord);
+        }
+        String sqlCacheKey = MULTI_ROW_INSERT_SQL_CACHE_KEY_PREFIX + String.join(SQL_CACHE_KEY_SEPARATOR, String.valueOf(schemaName), dataRecord.getTableName(), String.valueOf(rowCount));
+        if (null == sqlCache.getIfPresent(sqlCacheKey)) {
+            sqlCache.put(sqlCacheKey, buildInsertSQL0(schemaName, dataRecord, rowCount));
+        }
+        return sqlCache.getIfPresent(sqlCacheKey);
+    }
+    
     private String buildInsertSQL0(final String schemaName, final DataRecord dataRecord) {
-        String insertMainClause = buildInsertMainClause(schemaName, dataRecord);
+        return buildInsertSQL0(schemaName, dataRecord, 1);
+    }
+    
+    private String buildInsertSQL0(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        String insertMainClause = buildInsertMainClause(schemaName, dataRecord, rowCount);
         return dialectSQLBuilder.buildInsertOnDuplicateClause(dataRecord).map(optional -> insertMainClause + " " + optional).orElse(insertMainClause);
     }
     
-    private String buildInsertMainClause(final String schemaName, final DataRecord dataRecord) {
+    private String buildInsertMainClause(final String schemaName, final DataRecord dataRecord, final int rowCount) {
         String columnsLiteral = dataRecord.getColumns().stream().map(each -> sqlSegmentBuilder.getEscapedIdentifier(each.getName())).collect(Collectors.joining(","));
-        String valuesLiteral = dataRecord.getColumns().stream().map(each -> "?").collect(Collectors.joining(","));
-        return String.format("INSERT INTO %s(%s) VALUES(%s)", sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral, valuesLiteral);
+        String valuesLiteral = "(" + dataRecord.getColumns().stream().map(each -> "?").collect(Collectors.joining(",")) + ")";
+        return String.format("INSERT INTO %s(%s) VALUES%s", sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral,
+                String.join(",", Collections.nCopies(rowCount, valuesLiteral)));
     }
     
     /**
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertFetchWithZeroTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(100, RingBufferWaitStrategy.PARKING, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.fetch(10, 0L), is(records));
+    }
+    
+    @Test
+    void assertFetchWithoutRecords() {
+        assertThat(new RingBufferPipelineChannel(100, RingBufferWaitStrategy.BUSY_SPIN, new InventoryTaskAckCallback(new AtomicReference<>())).fetch(10, 10L), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertFetchFullBatchWithoutCopy() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(100, RingBufferWaitStrategy.PARKING, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.fetch(1, 0L), sameInstance(records));
+    }
+    
+    @Test
+    void assertFetchWithMultiplePushThreads() throws InterruptedException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(2, RingBufferWaitStrategy.YIELDING, new InventoryTaskAckCallback(new AtomicReference<>()));
+        int threadCount = 4;
+        int recordsCountPerThread = 1000;
+        Collection<Thread> threads = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < recordsCountPerThread; j++) {
+                    channel.push(Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition())));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        int actualRecordsCount = 0;
+        while (actualRecordsCount < threadCount * recordsCountPerThread) {
+            actualRecordsCount += channel.fetch(100, 1000L).size();
+        }
+        for (Thread each : threads) {
+            each.join();
+        }
+        assertThat(actualRecordsCount, is(threadCount * recordsCountPerThread));
+        assertThat(channel.poll(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPeekAndPollWithRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(100, RingBufferWaitStrategy.PARKING, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.poll(), is(records));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPollWithoutRecords() {
+        assertThat(new RingBufferPipelineChannel(0, RingBufferWaitStrategy.PARKING, new InventoryTaskAckCallback(new AtomicReference<>())).poll(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertAck() {
+        InventoryTaskAckCallback callback = mock(InventoryTaskAckCallback.class);
+        List<Record> records = Collections.singletonList(new PlaceholderRecord(new IngestFinishedPosition()));
+        new RingBufferPipelineChannel(100, RingBufferWaitStrategy.PARKING, callback).ack(records);
+        verify(callback).onAck(records);
+    }
+}
@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.yaml;
 
+import org.apache.commons.lang3.Range;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckIgnoredType;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -54,6 +57,14 @@ class YamlTableDataConsistencyCheckResultSwapperTest {
         assertTrue(result.isMatched());
     }
     
+    @Test
+    void assertSwapToYamlConfigurationWithMismatchedRanges() {
+        TableDataConsistencyCheckResult data = new TableDataConsistencyCheckResult(Arrays.asList(Range.of(-5L, -1L), Range.of(3L, 3L)));
+        YamlTableDataConsistencyCheckResult actual = yamlTableDataConsistencyCheckResultSwapper.swapToYamlConfiguration(data);
+        assertFalse(actual.isMatched());
+        assertThat(actual.getMismatchedRanges(), is(Arrays.asList("-5..-1", "3..3")));
+    }
+    
     @Test
     void assertSwapToObjectWithYamlTableDataConsistencyCheckResultIgnoredType() {
         YamlTableDataConsistencyCheckResult yamlConfig = new YamlTableDataConsistencyCheckResult();
@@ -71,6 +82,15 @@ class YamlTableDataConsistencyCheckResultSwapperTest {
         assertTrue(result.isMatched());
     }
     
+    @Test
+    void assertSwapToObjectWithMismatchedRanges() {
+        YamlTableDataConsistencyCheckResult yamlConfig = new YamlTableDataConsistencyCheckResult(false);
+        yamlConfig.setMismatchedRanges(Arrays.asList("-5..-1", "3..3"));
+        TableDataConsistencyCheckResult actual = yamlTableDataConsistencyCheckResultSwapper.swapToObject(yamlConfig);
+        assertFalse(actual.isMatched());
+        assertThat(actual.getMismatchedRanges(), is(Arrays.asList(Range.of(-5L, -1L), Range.of(3L, 3L))));
+    }
+    
     @Test
     void assertSwapToObjectWithNullYamlTableDataConsistencyCheckResult() {
         assertNull(yamlTableDataConsistencyCheckResultSwapper.swapToObject((YamlTableDataConsistencyCheckResult) null));
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CRC32MatchTableDataConsistencyCheckerTest {
+    
+    @Test
+    void assertInitWithInvalidChunkSize() {
+        assertThrows(PipelineInvalidParameterException.class,
+                () -> TypedSPILoader.getService(TableDataConsistencyChecker.class, "CRC32_MATCH", PropertiesBuilder.build(new Property("chunk-size", "foo"))));
+    }
+    
+    @Test
+    void assertInitWithInvalidConcurrency() {
+        assertThrows(PipelineInvalidParameterException.class,
+                () -> TypedSPILoader.getService(TableDataConsistencyChecker.class, "CRC32_MATCH", PropertiesBuilder.build(new Property("concurrency", "0"))));
+    }
+    
+    @Test
+    void assertBuildTableInventoryCheckerWithoutUniqueKey() {
+        try (TableDataConsistencyChecker checker = TypedSPILoader.getService(TableDataConsistencyChecker.class, "CRC32_MATCH")) {
+            TableInventoryCheckParameter param = new TableInventoryCheckParameter("foo_job", null, null, new QualifiedTable(null, "t_order"), new QualifiedTable(null, "t_order"),
+                    Arrays.asList("order_id", "status"), Collections.emptyList(), null, null);
+            assertThat(checker.buildTableInventoryChecker(param), not(instanceOf(SegmentedCRC32TableInventoryChecker.class)));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import org.apache.commons.lang3.Range;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SegmentedCRC32TableInventoryCheckerTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    private final ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "FIXTURE");
+    
+    private final PipelineExecuteEngine executeEngine = PipelineExecuteEngine.newFixedThreadInstance(2, "segmented-crc32-check-test");
+    
+    @AfterEach
+    void tearDown() {
+        executeEngine.shutdown();
+    }
+    
+    @Test
+    void assertCheckMatched() throws SQLException {
+        TableInventoryCheckParameter param = createTableInventoryCheckParameter(mockDataSource(mockPreparedStatement(123L)), mockDataSource(mockPreparedStatement(123L)));
+        assertTrue(new SegmentedCRC32TableInventoryChecker(param, executeEngine, 2, 2, 0).checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(4L));
+        assertThat(progressContext.getSourceTableCheckPositions().get("t_order"), is(Collections.singletonList("1..4")));
+        assertThat(progressContext.getTargetTableCheckPositions().get("t_order"), is(Collections.singletonList("1..4")));
+    }
+    
+    @Test
+    void assertCheckMismatched() throws SQLException {
+        TableInventoryCheckParameter param = createTableInventoryCheckParameter(mockDataSource(mockPreparedStatement(123L)), mockDataSource(mockPreparedStatement(456L)));
+        TableDataConsistencyCheckResult actual = new SegmentedCRC32TableInventoryChecker(param, executeEngine, 2, 2, 0).checkSingleTableInventoryData();
+        assertFalse(actual.isMatched());
+        assertThat(actual.getMismatchedRanges(), is(Arrays.asList(Range.of(1L, 1L), Range.of(2L, 2L), Range.of(3L, 3L), Range.of(4L, 4L))));
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(0L));
+        assertFalse(progressContext.getSourceTableCheckPositions().containsKey("t_order"));
+    }
+    
+    @Test
+    void assertCheckMismatchedInPartialRanges() throws SQLException {
+        PreparedStatement targetPreparedStatement = mockPreparedStatement(123L);
+        ResultSet resultSet = targetPreparedStatement.executeQuery();
+        when(resultSet.getLong(1)).thenReturn(123L, 123L, 456L, 456L);
+        TableInventoryCheckParameter param = createTableInventoryCheckParameter(mockDataSource(mockPreparedStatement(123L)), mockDataSource(targetPreparedStatement));
+        TableDataConsistencyCheckResult actual = new SegmentedCRC32TableInventoryChecker(param, executeEngine, 2, 1, 0).checkSingleTableInventoryData();
+        assertFalse(actual.isMatched());
+        assertThat(actual.getMismatchedRanges(), is(Arrays.asList(Range.of(3L, 3L), Range.of(4L, 4L))));
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(2L));
+        assertThat(progressContext.getSourceTableCheckPositions().get("t_order"), is(Collections.singletonList("1..2")));
+    }
+    
+    @Test
+    void assertCheckFromCheckedPosition() throws SQLException {
+        progressContext.getSourceTableCheckPositions().put("t_order", 2L);
+        TableInventoryCheckParameter param = createTableInventoryCheckParameter(mockDataSource(mockPreparedStatement(123L)), mockDataSource(mockPreparedStatement(123L)));
+        assertTrue(new SegmentedCRC32TableInventoryChecker(param, executeEngine, 2, 2, 0).checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(2L));
+    }
+    
+    @Test
+    void assertCheckFromCheckedRanges() throws SQLException {
+        progressContext.getSourceTableCheckPositions().put("t_order", Collections.singletonList("3..4"));
+        TableInventoryCheckParameter param = createTableInventoryCheckParameter(mockDataSource(mockPreparedStatement(123L)), mockDataSource(mockPreparedStatement(123L)));
+        assertTrue(new SegmentedCRC32TableInventoryChecker(param, executeEngine, 2, 2, 0).checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(2L));
+        assertThat(progressContext.getSourceTableCheckPositions().get("t_order"), is(Collections.singletonList("1..4")));
+    }
+    
+    @Test
+    void assertCheckWithRetry() throws SQLException {
+        PreparedStatement sourcePreparedStatement = mockPreparedStatement(123L);
+        ResultSet resultSet = sourcePreparedStatement.executeQuery();
+        when(sourcePreparedStatement.executeQuery()).thenThrow(new SQLException("")).thenReturn(resultSet);
+        TableInventoryCheckParameter param = createTableInventoryCheckParameter(mockDataSource(sourcePreparedStatement), mockDataSource(mockPreparedStatement(123L)));
+        assertTrue(new SegmentedCRC32TableInventoryChecker(param, executeEngine, 4, 1, 1).checkSingleTableInventoryData().isMatched());
+    }
+    
+    private TableInventoryCheckParameter createTableInventoryCheckParameter(final PipelineDataSource sourceDataSource, final PipelineDataSource targetDataSource) {
+        return new TableInventoryCheckParameter("foo_job", sourceDataSource, targetDataSource, new QualifiedTable(null, "t_order"), new QualifiedTable(null, "t_order"),
+                Arrays.asList("order_id", "status"), Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "int", false, true, true)), null, progressContext);
+    }
+    
+    private PipelineDataSource mockDataSource(final PreparedStatement preparedStatement) throws SQLException {
+        PipelineDataSource result = mock(PipelineDataSource.class);
+        when(result.getDatabaseType()).thenReturn(databaseType);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.getConnection()).thenReturn(connection);
+        ResultSet uniqueKeyValuesResultSet = mock(ResultSet.class);
+        when(uniqueKeyValuesResultSet.getObject(1)).thenReturn(1L);
+        when(uniqueKeyValuesResultSet.getLong(1)).thenReturn(1L);
+        when(uniqueKeyValuesResultSet.getLong(2)).thenReturn(4L);
+        when(connection.createStatement().executeQuery(anyString())).thenReturn(uniqueKeyValuesResultSet);
+        ResultSet countResultSet = mock(ResultSet.class);
+        when(countResultSet.next()).thenReturn(true);
+        when(countResultSet.getLong(1)).thenReturn(4L);
+        when(connection.createStatement().executeQuery(startsWith("SELECT COUNT(*)"))).thenReturn(countResultSet);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        return result;
+    }
+    
+    private PreparedStatement mockPreparedStatement(final long crc32) throws SQLException {
+        PreparedStatement result = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn(crc32);
+        when(resultSet.getInt(2)).thenReturn(2);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+}
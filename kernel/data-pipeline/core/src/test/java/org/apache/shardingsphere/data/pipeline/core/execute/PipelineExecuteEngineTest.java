@@ -75,6 +75,14 @@ class PipelineExecuteEngineTest {
         executeEngine.shutdown();
     }
     
+    @Test
+    void assertSubmitCallable() {
+        PipelineExecuteEngine executeEngine = PipelineExecuteEngine.newFixedThreadInstance(1, PipelineExecuteEngineTest.class.getSimpleName());
+        Future<Integer> future = executeEngine.submit(() -> 1);
+        assertThat(assertTimeout(Duration.ofSeconds(30L), () -> future.get()), is(1));
+        executeEngine.shutdown();
+    }
+    
     private Optional<Throwable> execute(final Future<?> future) throws InterruptedException {
         try {
             future.get();
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 
@@ -236,6 +237,28 @@ class DataRecordGroupEngineTest {
         assertThat(groupedDataRecords.get(0).getDeleteDataRecords().size(), is(1));
     }
     
+    @Test
+    void assertGroupWithPartitions() {
+        List<DataRecord> dataRecords = new LinkedList<>();
+        for (int i = 0; i < 100; i++) {
+            dataRecords.add(mockInsertDataRecord("t1", i, 1, 1));
+        }
+        dataRecords.add(mockInsertDataRecord("t2", 1, 1, 1));
+        List<GroupedDataRecord> actual = groupEngine.group(dataRecords, 4);
+        assertThat(actual.size(), is(5));
+        assertThat(actual.stream().filter(each -> "t1".equals(each.getTableName())).mapToInt(each -> each.getInsertDataRecords().size()).sum(), is(100));
+        assertThat(actual.stream().filter(each -> "t2".equals(each.getTableName())).count(), is(1L));
+    }
+    
+    @Test
+    void assertGroupWithPartitionsOnUniqueKeyUpdated() {
+        List<DataRecord> dataRecords = Arrays.asList(mockInsertDataRecord("order", 1, 1, 1), mockInsertDataRecord("order", 2, 1, 1), mockUpdateDataRecord(3, 4, 1, 1));
+        List<GroupedDataRecord> actual = groupEngine.group(dataRecords, 4);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getInsertDataRecords().size(), is(2));
+        assertThat(actual.get(0).getUpdateDataRecords().size(), is(1));
+    }
+    
     private List<DataRecord> mockDataRecords() {
         return Arrays.asList(
                 mockInsertDataRecord("t1", 1, 1, 1),
@@ -95,4 +95,16 @@ class PipelineDataConsistencyCalculateSQLBuilderTest {
         Optional<String> actual = sqlBuilder.buildCRC32SQL(new QualifiedTable("foo_schema", "foo_tbl"), "foo_col");
         assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl")));
     }
+    
+    @Test
+    void assertBuildCRC32SQLWithQueryRange() {
+        Optional<String> actual = sqlBuilder.buildCRC32SQL(new QualifiedTable("foo_schema", "foo_tbl"), "foo_col", "order_id", new QueryRange(1, true, 5));
+        assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl WHERE order_id>=? AND order_id<=?")));
+    }
+    
+    @Test
+    void assertBuildCRC32SQLWithUnboundedQueryRange() {
+        Optional<String> actual = sqlBuilder.buildCRC32SQL(new QualifiedTable("foo_schema", "foo_tbl"), "foo_col", "order_id", new QueryRange(null, false, null));
+        assertThat(actual, is(Optional.of("SELECT CRC32(foo_col) FROM foo_tbl")));
+    }
 }
@@ -43,6 +43,22 @@ class PipelineImportSQLBuilderTest {
         assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col,col1,col2,col3) VALUES(?,?,?,?,?)"));
     }
     
+    @Test
+    void assertBuildMultiRowInsertSQL() {
+        String actual = sqlBuilder.buildInsertSQL(null, createDataRecordWithUniqueKey(), 2);
+        assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col,col1,col2,col3) VALUES(?,?,?,?,?),(?,?,?,?,?)"));
+    }
+    
+    @Test
+    void assertBuildMultiRowInsertSQLNotCollideWithSingleRowInsertSQL() {
+        DataRecord multiRowDataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 1);
+        multiRowDataRecord.addColumn(new NormalColumn("id", "", false, true));
+        DataRecord singleRowDataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "t_order_2", new IngestPlaceholderPosition(), 2);
+        singleRowDataRecord.addColumn(new NormalColumn("order_id", "", false, true));
+        assertThat(sqlBuilder.buildInsertSQL(null, multiRowDataRecord, 2), is("INSERT INTO t_order(id) VALUES(?),(?)"));
+        assertThat(sqlBuilder.buildInsertSQL(null, singleRowDataRecord), is("INSERT INTO t_order_2(order_id) VALUES(?)"));
+    }
+    
     @Test
     void assertBuildUpdateSQLWithUniqueKey() {
         DataRecord dataRecord = createDataRecordWithUniqueKey();
@@ -93,6 +93,14 @@ public final class MigrationJobItemContext implements TransmissionJobItemContext
         }
     };
     
+    private final LazyInitializer<PipelineSink> sinkLazyInitializer = new LazyInitializer<PipelineSink>() {
+        
+        @Override
+        protected PipelineSink initialize() {
+            return new PipelineDataSourceSink(taskConfig.getImporterConfig(), dataSourceManager);
+        }
+    };
+    
     public MigrationJobItemContext(final MigrationJobConfiguration jobConfig, final int shardingItem, final TransmissionJobItemProgress initProgress,
                                    final TransmissionProcessContext jobProcessContext, final MigrationTaskConfiguration taskConfig, final PipelineDataSourceManager dataSourceManager) {
         this.jobConfig = jobConfig;
@@ -126,8 +134,9 @@ public final class MigrationJobItemContext implements TransmissionJobItemContext
     }
     
     @Override
+    @SneakyThrows(ConcurrentException.class)
     public PipelineSink getSink() {
-        return new PipelineDataSourceSink(taskConfig.getImporterConfig(), dataSourceManager);
+        return sinkLazyInitializer.get();
     }
     
     /**
@@ -33,4 +33,19 @@ public final class SQLFederationRuleConfiguration implements GlobalRuleConfigura
     private final boolean allQueryUseSQLFederation;
     
     private final SQLFederationCacheOption executionPlanCache;
+    
+    private final long queryMemoryLimit;
+    
+    private final long querySpillDiskLimit;
+    
+    private final SQLFederationResultCacheOption resultCache;
+    
+    public SQLFederationRuleConfiguration(final boolean sqlFederationEnabled, final boolean allQueryUseSQLFederation, final SQLFederationCacheOption executionPlanCache) {
+        this(sqlFederationEnabled, allQueryUseSQLFederation, executionPlanCache, 0L, 0L);
+    }
+    
+    public SQLFederationRuleConfiguration(final boolean sqlFederationEnabled, final boolean allQueryUseSQLFederation, final SQLFederationCacheOption executionPlanCache,
+                                          final long queryMemoryLimit, final long querySpillDiskLimit) {
+        this(sqlFederationEnabled, allQueryUseSQLFederation, executionPlanCache, queryMemoryLimit, querySpillDiskLimit, new SQLFederationResultCacheOption(0L, 0L));
+    }
 }
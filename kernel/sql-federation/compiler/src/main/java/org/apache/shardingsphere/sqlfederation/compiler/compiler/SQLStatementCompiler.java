@@ -20,6 +20,8 @@ package org.apache.shardingsphere.sqlfederation.compiler.compiler;
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.plan.Convention;
 import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.metadata.JaninoRelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQueryBase;
@@ -27,9 +29,12 @@ import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.builder.SQLFederationPlannerBuilder;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.metadata.SQLFederationRelMetadataProvider;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.converter.SQLFederationRelConverter;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.rewriter.LogicalScanRelRewriter;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.rewriter.SpillableRelRewriter;
 import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.SQLNodeConverterEngine;
 
 /**
@@ -38,10 +43,18 @@ import org.apache.shardingsphere.sqlfederation.compiler.sql.ast.converter.SQLNod
 @RequiredArgsConstructor
 public final class SQLStatementCompiler {
     
+    private static final JaninoRelMetadataProvider METADATA_PROVIDER = JaninoRelMetadataProvider.of(SQLFederationRelMetadataProvider.INSTANCE);
+    
     private final SQLFederationRelConverter converter;
     
     private final Convention convention;
     
+    private final boolean spillEnabled;
+    
+    public SQLStatementCompiler(final SQLFederationRelConverter converter, final Convention convention) {
+        this(converter, convention, false);
+    }
+    
     /**
      * Compile sql statement to execution plan.
      *
@@ -50,7 +63,7 @@ public final class SQLStatementCompiler {
      * @return sql federation execution plan
      */
     public SQLFederationExecutionPlan compile(final SQLStatement sqlStatement, final String databaseType) {
-        RelMetadataQueryBase.THREAD_PROVIDERS.set(JaninoRelMetadataProvider.DEFAULT);
+        RelMetadataQueryBase.THREAD_PROVIDERS.set(METADATA_PROVIDER);
         SqlNode sqlNode = SQLNodeConverterEngine.convert(sqlStatement);
         RelNode logicalPlan = converter.convertQuery(sqlNode, true, true).rel;
         RelDataType resultColumnType = converter.getValidatedNodeType(sqlNode);
@@ -64,6 +77,23 @@ public final class SQLStatementCompiler {
         RelNode rewrittenPlan = rewriteTableScan(logicalPlan, databaseType);
         RelOptPlanner hepPlanner = SQLFederationPlannerBuilder.buildHepPlanner();
         hepPlanner.setRoot(rewrittenPlan);
+        RelNode result = hepPlanner.findBestExp();
+        return containsStatistic(result) ? reorderJoins(result) : result;
+    }
+    
+    private boolean containsStatistic(final RelNode relNode) {
+        for (RelOptTable each : RelOptUtil.findTables(relNode)) {
+            SQLFederationTable table = each.unwrap(SQLFederationTable.class);
+            if (null != table && table.findStatistic().isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private RelNode reorderJoins(final RelNode relNode) {
+        RelOptPlanner hepPlanner = SQLFederationPlannerBuilder.buildJoinReorderHepPlanner();
+        hepPlanner.setRoot(relNode);
         return hepPlanner.findBestExp();
     }
     
@@ -75,7 +105,8 @@ public final class SQLStatementCompiler {
         } else {
             planner.setRoot(planner.changeTraits(rewrittenPlan, converter.getCluster().traitSet().replace(convention)));
         }
-        return planner.findBestExp();
+        RelNode result = planner.findBestExp();
+        return spillEnabled ? SpillableRelRewriter.rewrite(result) : result;
     }
     
     private RelNode rewriteTableScan(final RelNode logicalPlan, final String databaseType) {
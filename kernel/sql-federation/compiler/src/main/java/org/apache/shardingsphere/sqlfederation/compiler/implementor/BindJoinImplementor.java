@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bind join implementor.
+ */
+@RequiredArgsConstructor
+public final class BindJoinImplementor {
+    
+    private final boolean leftOuter;
+    
+    private final int[] leftKeys;
+    
+    private final int[] rightKeys;
+    
+    private final int rightColumnCount;
+    
+    private final String sql;
+    
+    private final int[] paramIndexes;
+    
+    private final String bindSQL;
+    
+    private final int[] bindParamIndexes;
+    
+    private final int bindKeySize;
+    
+    /**
+     * Implement.
+     *
+     * @param root data context
+     * @param table right table
+     * @param left left rows
+     * @return joined rows
+     */
+    public Enumerable<Object[]> implement(final DataContext root, final SQLFederationTable table, final Enumerable<Object[]> left) {
+        return new AbstractEnumerable<Object[]>() {
+            
+            @Override
+            public Enumerator<Object[]> enumerator() {
+                return Linq4j.enumerator(join(root, table, left.toList()));
+            }
+        };
+    }
+    
+    private List<Object[]> join(final DataContext root, final SQLFederationTable table, final List<Object[]> leftRows) {
+        Map<List<Object>, List<Object>> bindKeys = new LinkedHashMap<>();
+        for (Object[] each : leftRows) {
+            List<Object> key = getKey(each, leftKeys);
+            if (null != key) {
+                bindKeys.putIfAbsent(normalize(key), key);
+            }
+        }
+        Map<List<Object>, List<Object[]>> rightRows = bindKeys.isEmpty() ? Collections.emptyMap() : groupByKey(queryRightRows(root, table, bindKeys.values()));
+        List<Object[]> result = new LinkedList<>();
+        for (Object[] each : leftRows) {
+            List<Object> key = getKey(each, leftKeys);
+            List<Object[]> matchedRows = null == key ? null : rightRows.get(normalize(key));
+            if (null != matchedRows) {
+                for (Object[] matched : matchedRows) {
+                    result.add(concat(each, matched));
+                }
+            } else if (leftOuter) {
+                result.add(concat(each, new Object[rightColumnCount]));
+            }
+        }
+        return result;
+    }
+    
+    private Enumerable<Object> queryRightRows(final DataContext root, final SQLFederationTable table, final Collection<List<Object>> bindKeys) {
+        if (bindKeys.size() > bindKeySize) {
+            return table.implement(root, sql, paramIndexes);
+        }
+        Object[] bindParams = new Object[bindKeySize * rightKeys.length];
+        int index = 0;
+        List<Object> lastKey = null;
+        for (List<Object> each : bindKeys) {
+            for (Object value : each) {
+                bindParams[index++] = value;
+            }
+            lastKey = each;
+        }
+        while (index < bindParams.length) {
+            for (Object value : lastKey) {
+                bindParams[index++] = value;
+            }
+        }
+        return table.implement(root, bindSQL, bindParamIndexes, bindParams);
+    }
+    
+    private Map<List<Object>, List<Object[]>> groupByKey(final Enumerable<Object> rows) {
+        Map<List<Object>, List<Object[]>> result = new HashMap<>();
+        try (Enumerator<Object> enumerator = rows.enumerator()) {
+            while (enumerator.moveNext()) {
+                Object[] row = 1 == rightColumnCount ? new Object[]{enumerator.current()} : (Object[]) enumerator.current();
+                List<Object> key = getKey(row, rightKeys);
+                if (null != key) {
+                    result.computeIfAbsent(normalize(key), unused -> new LinkedList<>()).add(row);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private List<Object> getKey(final Object[] row, final int[] keys) {
+        List<Object> result = new ArrayList<>(keys.length);
+        for (int each : keys) {
+            if (null == row[each]) {
+                return null;
+            }
+            result.add(row[each]);
+        }
+        return result;
+    }
+    
+    private List<Object> normalize(final List<Object> key) {
+        List<Object> result = new ArrayList<>(key.size());
+        for (Object each : key) {
+            result.add(each instanceof Number && isFinite((Number) each) ? new BigDecimal(each.toString()).stripTrailingZeros() : each);
+        }
+        return result;
+    }
+    
+    private boolean isFinite(final Number value) {
+        return !(value instanceof Double) && !(value instanceof Float) || Double.isFinite(value.doubleValue());
+    }
+    
+    private Object[] concat(final Object[] leftRow, final Object[] rightRow) {
+        Object[] result = Arrays.copyOf(leftRow, leftRow.length + rightRow.length);
+        System.arraycopy(rightRow, 0, result, leftRow.length, rightRow.length);
+        return result;
+    }
+}
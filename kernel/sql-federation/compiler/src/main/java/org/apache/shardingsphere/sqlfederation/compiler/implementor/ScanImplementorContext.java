@@ -33,4 +33,10 @@ public final class ScanImplementorContext {
     private final String sql;
     
     private final int[] paramIndexes;
+    
+    private final Object[] bindParams;
+    
+    public ScanImplementorContext(final DataContext root, final String sql, final int[] paramIndexes) {
+        this(root, sql, paramIndexes, new Object[0]);
+    }
 }
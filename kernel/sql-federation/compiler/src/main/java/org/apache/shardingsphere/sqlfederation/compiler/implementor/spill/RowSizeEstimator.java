@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Row size estimator.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RowSizeEstimator {
+    
+    private static final long ROW_OVERHEAD_BYTES = 48L;
+    
+    private static final long REFERENCE_BYTES = 8L;
+    
+    private static final long OBJECT_BYTES = 24L;
+    
+    /**
+     * Estimate bytes of row held in memory.
+     *
+     * @param row row
+     * @return estimated bytes
+     */
+    public static long estimate(final Object[] row) {
+        long result = ROW_OVERHEAD_BYTES;
+        for (Object each : row) {
+            result += REFERENCE_BYTES + estimate(each);
+        }
+        return result;
+    }
+    
+    private static long estimate(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_BYTES + ((String) value).length() * 2L;
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_BYTES + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal) {
+            return OBJECT_BYTES * 2L + ((BigDecimal) value).unscaledValue().bitLength() / Byte.SIZE;
+        }
+        return OBJECT_BYTES;
+    }
+}
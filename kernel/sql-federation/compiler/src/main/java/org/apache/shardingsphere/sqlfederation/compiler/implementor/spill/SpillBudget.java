@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sqlfederation.compiler.exception.SQLFederationSpillDiskLimitExceededException;
+
+/**
+ * Spill budget shared by memory consuming operators of one query.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SpillBudget {
+    
+    public static final String DATA_CONTEXT_NAME = "sqlFederationSpillBudget";
+    
+    private final long memoryLimit;
+    
+    private final long diskLimit;
+    
+    private long usedMemory;
+    
+    private long usedDisk;
+    
+    /**
+     * Get spill budget of data context.
+     *
+     * @param root data context
+     * @return spill budget, unlimited if absent
+     */
+    public static SpillBudget get(final DataContext root) {
+        Object result = root.get(DATA_CONTEXT_NAME);
+        return result instanceof SpillBudget ? (SpillBudget) result : new SpillBudget(0L, 0L);
+    }
+    
+    /**
+     * Try to allocate memory.
+     *
+     * @param bytes estimated bytes
+     * @return whether allocated
+     */
+    public synchronized boolean tryAllocateMemory(final long bytes) {
+        if (memoryLimit > 0L && usedMemory + bytes > memoryLimit) {
+            return false;
+        }
+        usedMemory += bytes;
+        return true;
+    }
+    
+    /**
+     * Allocate memory regardless of memory limit.
+     *
+     * @param bytes estimated bytes
+     */
+    public synchronized void forceAllocateMemory(final long bytes) {
+        usedMemory += bytes;
+    }
+    
+    /**
+     * Release memory.
+     *
+     * @param bytes estimated bytes
+     */
+    public synchronized void releaseMemory(final long bytes) {
+        usedMemory = Math.max(0L, usedMemory - bytes);
+    }
+    
+    /**
+     * Allocate disk.
+     *
+     * @param bytes bytes to be written
+     * @throws SQLFederationSpillDiskLimitExceededException SQL federation spill disk limit exceeded exception
+     */
+    public synchronized void allocateDisk(final long bytes) {
+        ShardingSpherePreconditions.checkState(diskLimit <= 0L || usedDisk + bytes <= diskLimit, () -> new SQLFederationSpillDiskLimitExceededException(diskLimit));
+        usedDisk += bytes;
+    }
+    
+    /**
+     * Release disk.
+     *
+     * @param bytes written bytes
+     */
+    public synchronized void releaseDisk(final long bytes) {
+        usedDisk = Math.max(0L, usedDisk - bytes);
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * Spill file for rows of SQL federation operators.
+ * Each row is written in compact binary format, which is column count followed by type tagged values, values of unknown types are written with java serialization.
+ */
+public final class SpillRowFile implements AutoCloseable {
+    
+    private static final String FILE_PREFIX = "shardingsphere-sql-federation-";
+    
+    private static final String FILE_SUFFIX = ".spill";
+    
+    private static final byte NULL = 0;
+    
+    private static final byte BOOLEAN = 1;
+    
+    private static final byte BYTE = 2;
+    
+    private static final byte SHORT = 3;
+    
+    private static final byte INTEGER = 4;
+    
+    private static final byte LONG = 5;
+    
+    private static final byte FLOAT = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte CHARACTER = 8;
+    
+    private static final byte STRING = 9;
+    
+    private static final byte BIG_DECIMAL = 10;
+    
+    private static final byte BIG_INTEGER = 11;
+    
+    private static final byte BYTES = 12;
+    
+    private static final byte DATE = 13;
+    
+    private static final byte TIME = 14;
+    
+    private static final byte TIMESTAMP = 15;
+    
+    private static final byte SERIALIZED = 127;
+    
+    private final SpillBudget budget;
+    
+    private final Path path;
+    
+    private final ByteArrayOutputStream rowBuffer = new ByteArrayOutputStream(256);
+    
+    private final DataOutputStream rowOutputStream = new DataOutputStream(rowBuffer);
+    
+    private OutputStream outputStream;
+    
+    private DataInputStream inputStream;
+    
+    private long writtenRowCount;
+    
+    private long readRowCount;
+    
+    private long writtenBytes;
+    
+    public SpillRowFile(final SpillBudget budget) throws IOException {
+        this.budget = budget;
+        path = Files.createTempFile(FILE_PREFIX, FILE_SUFFIX);
+        outputStream = new BufferedOutputStream(Files.newOutputStream(path));
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        rowBuffer.reset();
+        rowOutputStream.writeInt(row.length);
+        for (Object each : row) {
+            writeValue(each);
+        }
+        rowOutputStream.flush();
+        budget.allocateDisk(rowBuffer.size());
+        writtenBytes += rowBuffer.size();
+        rowBuffer.writeTo(outputStream);
+        writtenRowCount++;
+    }
+    
+    private void writeValue(final Object value) throws IOException {
+        if (null == value) {
+            rowOutputStream.writeByte(NULL);
+        } else if (value instanceof Integer) {
+            rowOutputStream.writeByte(INTEGER);
+            rowOutputStream.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            rowOutputStream.writeByte(LONG);
+            rowOutputStream.writeLong((Long) value);
+        } else if (value instanceof String) {
+            rowOutputStream.writeByte(STRING);
+            writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof BigDecimal) {
+            rowOutputStream.writeByte(BIG_DECIMAL);
+            rowOutputStream.writeInt(((BigDecimal) value).scale());
+            writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof Double) {
+            rowOutputStream.writeByte(DOUBLE);
+            rowOutputStream.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            rowOutputStream.writeByte(BOOLEAN);
+            rowOutputStream.writeBoolean((Boolean) value);
+        } else {
+            writeOtherValue(value);
+        }
+    }
+    
+    private void writeOtherValue(final Object value) throws IOException {
+        if (value instanceof Byte) {
+            rowOutputStream.writeByte(BYTE);
+            rowOutputStream.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            rowOutputStream.writeByte(SHORT);
+            rowOutputStream.writeShort((Short) value);
+        } else if (value instanceof Float) {
+            rowOutputStream.writeByte(FLOAT);
+            rowOutputStream.writeFloat((Float) value);
+        } else if (value instanceof Character) {
+            rowOutputStream.writeByte(CHARACTER);
+            rowOutputStream.writeChar((Character) value);
+        } else if (value instanceof BigInteger) {
+            rowOutputStream.writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) value).toByteArray());
+        } else if (value instanceof byte[]) {
+            rowOutputStream.writeByte(BYTES);
+            writeBytes((byte[]) value);
+        } else if (Date.class == value.getClass()) {
+            rowOutputStream.writeByte(DATE);
+            rowOutputStream.writeLong(((Date) value).getTime());
+        } else if (Time.class == value.getClass()) {
+            rowOutputStream.writeByte(TIME);
+            rowOutputStream.writeLong(((Time) value).getTime());
+        } else if (Timestamp.class == value.getClass()) {
+            rowOutputStream.writeByte(TIMESTAMP);
+            rowOutputStream.writeLong(((Timestamp) value).getTime());
+            rowOutputStream.writeInt(((Timestamp) value).getNanos());
+        } else {
+            rowOutputStream.writeByte(SERIALIZED);
+            writeBytes(serialize(value));
+        }
+    }
+    
+    private void writeBytes(final byte[] bytes) throws IOException {
+        rowOutputStream.writeInt(bytes.length);
+        rowOutputStream.write(bytes);
+    }
+    
+    private byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Read next row in written order.
+     *
+     * @return next row, null if all rows have been read
+     * @throws IOException IO exception
+     * @throws ClassNotFoundException class not found exception
+     */
+    public Object[] read() throws IOException, ClassNotFoundException {
+        if (null == inputStream) {
+            closeOutputStream();
+            inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        }
+        if (readRowCount >= writtenRowCount) {
+            return null;
+        }
+        Object[] result = new Object[inputStream.readInt()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = readValue();
+        }
+        readRowCount++;
+        return result;
+    }
+    
+    private Object readValue() throws IOException, ClassNotFoundException {
+        byte type = inputStream.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return inputStream.readBoolean();
+            case BYTE:
+                return inputStream.readByte();
+            case SHORT:
+                return inputStream.readShort();
+            case INTEGER:
+                return inputStream.readInt();
+            case LONG:
+                return inputStream.readLong();
+            case FLOAT:
+                return inputStream.readFloat();
+            case DOUBLE:
+                return inputStream.readDouble();
+            case CHARACTER:
+                return inputStream.readChar();
+            case STRING:
+                return new String(readBytes(), StandardCharsets.UTF_8);
+            case BIG_DECIMAL:
+                int scale = inputStream.readInt();
+                return new BigDecimal(new BigInteger(readBytes()), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case BYTES:
+                return readBytes();
+            case DATE:
+                return new Date(inputStream.readLong());
+            case TIME:
+                return new Time(inputStream.readLong());
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(inputStream.readLong());
+                timestamp.setNanos(inputStream.readInt());
+                return timestamp;
+            default:
+                return deserialize(readBytes());
+        }
+    }
+    
+    private byte[] readBytes() throws IOException {
+        byte[] result = new byte[inputStream.readInt()];
+        inputStream.readFully(result);
+        return result;
+    }
+    
+    private Object deserialize(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectInputStream.readObject();
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        closeOutputStream();
+        if (null != inputStream) {
+            inputStream.close();
+            inputStream = null;
+        }
+        Files.deleteIfExists(path);
+        budget.releaseDisk(writtenBytes);
+        writtenBytes = 0L;
+    }
+    
+    private void closeOutputStream() throws IOException {
+        if (null != outputStream) {
+            outputStream.close();
+            outputStream = null;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.sqlfederation.compiler.exception.SQLFederationSpillException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spillable hash join implementor.
+ * Rows of right input are built into hash table until memory limit of query is reached, then rows of both inputs are hash partitioned into local temporary files
+ * and joined partition by partition.
+ */
+@RequiredArgsConstructor
+public final class SpillableHashJoinImplementor {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int MAX_PARTITION_DEPTH = Integer.SIZE / PARTITION_BITS;
+    
+    private static final long ENTRY_OVERHEAD_BYTES = 64L;
+    
+    private final boolean leftOuter;
+    
+    private final int[] leftKeys;
+    
+    private final int[] rightKeys;
+    
+    private final int rightColumnCount;
+    
+    /**
+     * Implement.
+     *
+     * @param root data context
+     * @param left left rows
+     * @param right right rows
+     * @return joined rows
+     */
+    public Enumerable<Object[]> implement(final DataContext root, final Enumerable<Object[]> left, final Enumerable<Object[]> right) {
+        return new AbstractEnumerable<Object[]>() {
+            
+            @Override
+            public Enumerator<Object[]> enumerator() {
+                JoinEnumerator result = new JoinEnumerator(SpillBudget.get(root));
+                boolean started = false;
+                try {
+                    result.start(left, right);
+                    started = true;
+                    return result;
+                } catch (final IOException | ClassNotFoundException ex) {
+                    throw new SQLFederationSpillException(ex);
+                } finally {
+                    if (!started) {
+                        result.close();
+                    }
+                }
+            }
+        };
+    }
+    
+    private static List<Object> getKey(final Object[] row, final int[] keys) {
+        Object[] result = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if (null == row[keys[i]]) {
+                return null;
+            }
+            result[i] = row[keys[i]];
+        }
+        return Arrays.asList(result);
+    }
+    
+    private static int getPartitionIndex(final List<Object> key, final int depth) {
+        if (null == key) {
+            return 0;
+        }
+        int hashCode = key.hashCode();
+        return ((hashCode ^ hashCode >>> 16) >>> depth * PARTITION_BITS) & PARTITION_COUNT - 1;
+    }
+    
+    private Object[] concat(final Object[] leftRow, final Object[] rightRow) {
+        Object[] result = Arrays.copyOf(leftRow, leftRow.length + rightColumnCount);
+        if (null != rightRow) {
+            System.arraycopy(rightRow, 0, result, leftRow.length, rightColumnCount);
+        }
+        return result;
+    }
+    
+    private final class JoinEnumerator implements Enumerator<Object[]> {
+        
+        private final SpillBudget budget;
+        
+        private final Deque<Partition> pendingPartitions = new LinkedList<>();
+        
+        private final Collection<SpillRowFile> spillFiles = new LinkedList<>();
+        
+        private final Map<List<Object>, List<Object[]>> hashTable = new HashMap<>();
+        
+        private long allocatedBytes;
+        
+        private Enumerator<Object[]> leftEnumerator;
+        
+        private RowSource probeSource;
+        
+        private Partition currentPartition;
+        
+        private Object[] probeRow;
+        
+        private Iterator<Object[]> matchedRows = Collections.emptyIterator();
+        
+        private Object[] current;
+        
+        private boolean closed;
+        
+        JoinEnumerator(final SpillBudget budget) {
+            this.budget = budget;
+        }
+        
+        void start(final Enumerable<Object[]> left, final Enumerable<Object[]> right) throws IOException, ClassNotFoundException {
+            SpillRowFile[] rightPartitions;
+            try (Enumerator<Object[]> rightEnumerator = right.enumerator()) {
+                rightPartitions = build(() -> rightEnumerator.moveNext() ? rightEnumerator.current() : null, 0);
+            }
+            leftEnumerator = left.enumerator();
+            Enumerator<Object[]> enumerator = leftEnumerator;
+            RowSource leftSource = () -> enumerator.moveNext() ? enumerator.current() : null;
+            if (null == rightPartitions) {
+                probeSource = leftSource;
+            } else {
+                addPartitions(leftSource, rightPartitions, 0);
+                leftEnumerator.close();
+                leftEnumerator = null;
+            }
+        }
+        
+        private SpillRowFile[] build(final RowSource rightSource, final int depth) throws IOException, ClassNotFoundException {
+            SpillRowFile[] result = null;
+            Object[] row;
+            while (null != (row = rightSource.read())) {
+                List<Object> key = getKey(row, rightKeys);
+                if (null == key) {
+                    continue;
+                }
+                if (null != result) {
+                    result[getPartitionIndex(key, depth)].write(row);
+                    continue;
+                }
+                long bytes = RowSizeEstimator.estimate(row) + ENTRY_OVERHEAD_BYTES;
+                if (!budget.tryAllocateMemory(bytes)) {
+                    if (!hashTable.isEmpty() && depth < MAX_PARTITION_DEPTH) {
+                        result = spillHashTable(depth);
+                        result[getPartitionIndex(key, depth)].write(row);
+                        continue;
+                    }
+                    budget.forceAllocateMemory(bytes);
+                }
+                allocatedBytes += bytes;
+                hashTable.computeIfAbsent(key, unused -> new LinkedList<>()).add(row);
+            }
+            return result;
+        }
+        
+        private SpillRowFile[] spillHashTable(final int depth) throws IOException {
+            SpillRowFile[] result = createPartitions();
+            for (List<Object[]> each : hashTable.values()) {
+                for (Object[] row : each) {
+                    result[getPartitionIndex(getKey(row, rightKeys), depth)].write(row);
+                }
+            }
+            releaseHashTable();
+            return result;
+        }
+        
+        private void releaseHashTable() {
+            hashTable.clear();
+            budget.releaseMemory(allocatedBytes);
+            allocatedBytes = 0L;
+        }
+        
+        private void addPartitions(final RowSource leftSource, final SpillRowFile[] rightPartitions, final int depth) throws IOException, ClassNotFoundException {
+            SpillRowFile[] leftPartitions = createPartitions();
+            Object[] row;
+            while (null != (row = leftSource.read())) {
+                leftPartitions[getPartitionIndex(getKey(row, leftKeys), depth)].write(row);
+            }
+            for (int i = 0; i < PARTITION_COUNT; i++) {
+                pendingPartitions.addFirst(new Partition(leftPartitions[i], rightPartitions[i], depth + 1));
+            }
+        }
+        
+        private SpillRowFile[] createPartitions() throws IOException {
+            SpillRowFile[] result = new SpillRowFile[PARTITION_COUNT];
+            for (int i = 0; i < PARTITION_COUNT; i++) {
+                result[i] = new SpillRowFile(budget);
+                spillFiles.add(result[i]);
+            }
+            return result;
+        }
+        
+        @Override
+        public Object[] current() {
+            return current;
+        }
+        
+        @Override
+        public boolean moveNext() {
+            try {
+                return moveNext0();
+            } catch (final IOException | ClassNotFoundException ex) {
+                throw new SQLFederationSpillException(ex);
+            }
+        }
+        
+        private boolean moveNext0() throws IOException, ClassNotFoundException {
+            while (!closed) {
+                if (matchedRows.hasNext()) {
+                    current = concat(probeRow, matchedRows.next());
+                    return true;
+                }
+                if (null == probeSource) {
+                    if (pendingPartitions.isEmpty()) {
+                        current = null;
+                        return false;
+                    }
+                    startPartition(pendingPartitions.pollFirst());
+                    continue;
+                }
+                probeRow = probeSource.read();
+                if (null == probeRow) {
+                    finishPartition();
+                    continue;
+                }
+                List<Object> key = getKey(probeRow, leftKeys);
+                List<Object[]> matched = null == key ? null : hashTable.get(key);
+                if (null != matched) {
+                    matchedRows = matched.iterator();
+                } else if (leftOuter) {
+                    current = concat(probeRow, null);
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        private void finishPartition() throws IOException {
+            probeSource = null;
+            releaseHashTable();
+            if (null != currentPartition) {
+                closeSpillFile(currentPartition.left);
+                closeSpillFile(currentPartition.right);
+                currentPartition = null;
+            }
+        }
+        
+        private void startPartition(final Partition partition) throws IOException, ClassNotFoundException {
+            currentPartition = partition;
+            SpillRowFile[] rightPartitions = build(partition.right::read, partition.depth);
+            if (null == rightPartitions) {
+                probeSource = partition.left::read;
+                return;
+            }
+            addPartitions(partition.left::read, rightPartitions, partition.depth);
+            finishPartition();
+        }
+        
+        private void closeSpillFile(final SpillRowFile spillFile) throws IOException {
+            spillFile.close();
+            spillFiles.remove(spillFile);
+        }
+        
+        @Override
+        public void reset() {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            current = null;
+            matchedRows = Collections.emptyIterator();
+            releaseHashTable();
+            if (null != leftEnumerator) {
+                leftEnumerator.close();
+            }
+            for (SpillRowFile each : spillFiles) {
+                try {
+                    each.close();
+                } catch (final IOException ignored) {
+                }
+            }
+            spillFiles.clear();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Partition {
+        
+        private final SpillRowFile left;
+        
+        private final SpillRowFile right;
+        
+        private final int depth;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.sqlfederation.compiler.exception.SQLFederationSpillException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Spillable sort implementor.
+ * Rows are sorted in memory until memory limit of query is reached, then sorted runs are spilled into local temporary files and merged when iterating.
+ */
+@RequiredArgsConstructor
+public final class SpillableSortImplementor implements Comparator<Object[]> {
+    
+    private final int[] keys;
+    
+    private final boolean[] descending;
+    
+    private final boolean[] nullsFirst;
+    
+    /**
+     * Implement.
+     *
+     * @param root data context
+     * @param input input rows
+     * @return sorted rows
+     */
+    public Enumerable<Object[]> implement(final DataContext root, final Enumerable<Object[]> input) {
+        return new AbstractEnumerable<Object[]>() {
+            
+            @Override
+            public Enumerator<Object[]> enumerator() {
+                return sort(SpillBudget.get(root), input);
+            }
+        };
+    }
+    
+    private Enumerator<Object[]> sort(final SpillBudget budget, final Enumerable<Object[]> input) {
+        Collection<SpillRowFile> runs = new LinkedList<>();
+        List<Object[]> rows = new ArrayList<>();
+        long allocatedBytes = 0L;
+        boolean completed = false;
+        try (Enumerator<Object[]> enumerator = input.enumerator()) {
+            while (enumerator.moveNext()) {
+                Object[] row = enumerator.current();
+                long bytes = RowSizeEstimator.estimate(row);
+                if (!budget.tryAllocateMemory(bytes)) {
+                    if (!rows.isEmpty()) {
+                        spillSortedRun(budget, rows, runs);
+                        rows.clear();
+                        budget.releaseMemory(allocatedBytes);
+                        allocatedBytes = 0L;
+                    }
+                    budget.forceAllocateMemory(bytes);
+                }
+                rows.add(row);
+                allocatedBytes += bytes;
+            }
+            rows.sort(this);
+            Enumerator<Object[]> result = new MergedEnumerator(budget, runs, rows, allocatedBytes);
+            completed = true;
+            return result;
+        } catch (final IOException | ClassNotFoundException ex) {
+            throw new SQLFederationSpillException(ex);
+        } finally {
+            if (!completed) {
+                closeRuns(runs);
+                budget.releaseMemory(allocatedBytes);
+            }
+        }
+    }
+    
+    private void spillSortedRun(final SpillBudget budget, final List<Object[]> rows, final Collection<SpillRowFile> runs) throws IOException {
+        rows.sort(this);
+        SpillRowFile run = new SpillRowFile(budget);
+        runs.add(run);
+        for (Object[] each : rows) {
+            run.write(each);
+        }
+    }
+    
+    private static void closeRuns(final Collection<SpillRowFile> runs) {
+        for (SpillRowFile each : runs) {
+            try {
+                each.close();
+            } catch (final IOException ignored) {
+            }
+        }
+    }
+    
+    @Override
+    public int compare(final Object[] o1, final Object[] o2) {
+        for (int i = 0; i < keys.length; i++) {
+            int result = compare(o1[keys[i]], o2[keys[i]], descending[i], nullsFirst[i]);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return 0;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compare(final Object value1, final Object value2, final boolean descending, final boolean nullsFirst) {
+        if (null == value1) {
+            return null == value2 ? 0 : nullsFirst ? -1 : 1;
+        }
+        if (null == value2) {
+            return nullsFirst ? 1 : -1;
+        }
+        int result = value1 instanceof Number && value2 instanceof Number && value1.getClass() != value2.getClass()
+                ? new BigDecimal(value1.toString()).compareTo(new BigDecimal(value2.toString()))
+                : ((Comparable) value1).compareTo(value2);
+        return descending ? -result : result;
+    }
+    
+    private final class MergedEnumerator implements Enumerator<Object[]> {
+        
+        private final SpillBudget budget;
+        
+        private final Collection<SpillRowFile> runs;
+        
+        private final long allocatedBytes;
+        
+        private final Queue<RowCursor> cursors;
+        
+        private RowCursor currentCursor;
+        
+        private Object[] current;
+        
+        private boolean closed;
+        
+        MergedEnumerator(final SpillBudget budget, final Collection<SpillRowFile> runs, final List<Object[]> rows, final long allocatedBytes) throws IOException, ClassNotFoundException {
+            this.budget = budget;
+            this.runs = runs;
+            this.allocatedBytes = allocatedBytes;
+            cursors = new PriorityQueue<>(runs.size() + 1, (o1, o2) -> SpillableSortImplementor.this.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+            for (SpillRowFile each : runs) {
+                addCursor(new RowCursor(each::read));
+            }
+            Iterator<Object[]> iterator = rows.iterator();
+            addCursor(new RowCursor(() -> iterator.hasNext() ? iterator.next() : null));
+        }
+        
+        private void addCursor(final RowCursor cursor) throws IOException, ClassNotFoundException {
+            if (cursor.next()) {
+                cursors.offer(cursor);
+            }
+        }
+        
+        @Override
+        public Object[] current() {
+            return current;
+        }
+        
+        @Override
+        public boolean moveNext() {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (null != currentCursor) {
+                    addCursor(currentCursor);
+                }
+            } catch (final IOException | ClassNotFoundException ex) {
+                throw new SQLFederationSpillException(ex);
+            }
+            currentCursor = cursors.poll();
+            if (null == currentCursor) {
+                current = null;
+                return false;
+            }
+            current = currentCursor.getCurrentRow();
+            return true;
+        }
+        
+        @Override
+        public void reset() {
+            throw new UnsupportedOperationException();
+        }
+        
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            cursors.clear();
+            closeRuns(runs);
+            budget.releaseMemory(allocatedBytes);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class RowCursor {
+        
+        private final RowSource rowSource;
+        
+        private Object[] currentRow;
+        
+        boolean next() throws IOException, ClassNotFoundException {
+            currentRow = rowSource.read();
+            return null != currentRow;
+        }
+        
+        Object[] getCurrentRow() {
+            return currentRow;
+        }
+    }
+}
@@ -40,21 +40,25 @@ import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.ModifiableTable;
 import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.Schemas;
 import org.apache.calcite.schema.TranslatableTable;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.TableCardinality;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementor;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementorContext;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.enumerator.EmptyDataRowEnumerator;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistic.SQLFederationStatistic;
 import org.apache.shardingsphere.sqlfederation.compiler.sql.type.SQLFederationDataTypeBuilder;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL federation table.
@@ -68,11 +72,36 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
     
     private final DatabaseType protocolType;
     
+    private volatile SQLFederationStatistic statistic;
+    
     @Override
     public RelDataType getRowType(final RelDataTypeFactory typeFactory) {
         return SQLFederationDataTypeBuilder.build(table, protocolType, typeFactory);
     }
     
+    @Override
+    public Statistic getStatistic() {
+        return null == statistic ? super.getStatistic() : statistic;
+    }
+    
+    /**
+     * Find statistic built from collected table cardinality.
+     *
+     * @return found statistic
+     */
+    public Optional<SQLFederationStatistic> findStatistic() {
+        return Optional.ofNullable(statistic);
+    }
+    
+    /**
+     * Set table cardinality.
+     *
+     * @param cardinality table cardinality, null means no cardinality collected
+     */
+    public void setCardinality(final TableCardinality cardinality) {
+        statistic = null == cardinality ? null : new SQLFederationStatistic(table, cardinality);
+    }
+    
     @Override
     public Expression getExpression(final SchemaPlus schema, final String tableName, final Class clazz) {
         return Schemas.tableExpression(schema, getElementType(), tableName, clazz);
@@ -109,6 +138,22 @@ public final class SQLFederationTable extends AbstractTable implements Modifiabl
         return SCAN_IMPLEMENTOR_HOLDER.get().implement(table, new ScanImplementorContext(root, sql, paramIndexes));
     }
     
+    /**
+     * Implement with bind parameters.
+     *
+     * @param root data context
+     * @param sql sql
+     * @param paramIndexes param indexes, negative index refers to bind parameter
+     * @param bindParams bind parameters
+     * @return enumerable result
+     */
+    public Enumerable<Object> implement(final DataContext root, final String sql, final int[] paramIndexes, final Object[] bindParams) {
+        if (null == SCAN_IMPLEMENTOR_HOLDER.get()) {
+            return createEmptyEnumerable();
+        }
+        return SCAN_IMPLEMENTOR_HOLDER.get().implement(table, new ScanImplementorContext(root, sql, paramIndexes, bindParams));
+    }
+    
     private AbstractEnumerable<Object> createEmptyEnumerable() {
         return new AbstractEnumerable<Object>() {
             
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.metadata.statistic;
+
+import lombok.Getter;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.ColumnCardinality;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.TableCardinality;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL federation statistic.
+ */
+public final class SQLFederationStatistic implements Statistic {
+    
+    @Getter
+    private final TableCardinality cardinality;
+    
+    private final double rowCount;
+    
+    private final List<ColumnCardinality> columnCardinalities;
+    
+    private final List<ImmutableBitSet> keys;
+    
+    public SQLFederationStatistic(final ShardingSphereTable table, final TableCardinality cardinality) {
+        this.cardinality = cardinality;
+        rowCount = cardinality.getRowCount();
+        columnCardinalities = new ArrayList<>(table.getAllColumns().size());
+        ImmutableBitSet.Builder primaryKeyBuilder = ImmutableBitSet.builder();
+        int columnIndex = 0;
+        for (ShardingSphereColumn each : table.getAllColumns()) {
+            columnCardinalities.add(cardinality.findColumnCardinality(each.getName()).orElse(null));
+            if (each.isPrimaryKey()) {
+                primaryKeyBuilder.set(columnIndex);
+            }
+            columnIndex++;
+        }
+        ImmutableBitSet primaryKey = primaryKeyBuilder.build();
+        keys = primaryKey.isEmpty() ? Collections.emptyList() : Collections.singletonList(primaryKey);
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        return keys.stream().anyMatch(columns::contains);
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        return keys;
+    }
+    
+    /**
+     * Find column cardinality.
+     *
+     * @param columnIndex column index
+     * @return found column cardinality
+     */
+    public Optional<ColumnCardinality> findColumnCardinality(final int columnIndex) {
+        return columnIndex < columnCardinalities.size() ? Optional.ofNullable(columnCardinalities.get(columnIndex)) : Optional.empty();
+    }
+}
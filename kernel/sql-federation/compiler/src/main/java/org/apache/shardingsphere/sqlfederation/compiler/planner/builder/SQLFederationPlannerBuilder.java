@@ -33,8 +33,10 @@ import org.apache.calcite.rel.RelCollationTraitDef;
 import org.apache.calcite.rel.rules.AggregateExpandDistinctAggregatesRule;
 import org.apache.calcite.rel.rules.CoreRules;
 import org.apache.calcite.rel.rules.ProjectRemoveRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableBindJoinRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableModifyConverterRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter.EnumerableScanConverterRule;
+import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushAggregateIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushFilterIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation.PushProjectIntoScanRule;
 
@@ -93,6 +95,7 @@ public final class SQLFederationPlannerBuilder {
         planner.addRule(EnumerableRules.ENUMERABLE_MATCH_RULE);
         planner.addRule(EnumerableScanConverterRule.DEFAULT_CONFIG.toRule());
         planner.addRule(EnumerableModifyConverterRule.DEFAULT_CONFIG.toRule());
+        planner.addRule(EnumerableBindJoinRule.Config.DEFAULT.toRule());
     }
     
     /**
@@ -114,6 +117,28 @@ public final class SQLFederationPlannerBuilder {
         return new HepPlanner(builder.build());
     }
     
+    /**
+     * Build new instance of join reorder hep planner, which reorders inner joins by estimated cardinalities.
+     *
+     * @return hep planner instance
+     */
+    public static RelOptPlanner buildJoinReorderHepPlanner() {
+        HepProgramBuilder builder = new HepProgramBuilder();
+        builder.addMatchOrder(HepMatchOrder.BOTTOM_UP).addGroupBegin().addRuleCollection(getMultiJoinRules()).addGroupEnd();
+        builder.addRuleInstance(CoreRules.MULTI_JOIN_OPTIMIZE);
+        builder.addGroupBegin().addRuleCollection(getCalcRules()).addGroupEnd();
+        builder.addMatchLimit(DEFAULT_MATCH_LIMIT);
+        return new HepPlanner(builder.build());
+    }
+    
+    private static Collection<RelOptRule> getMultiJoinRules() {
+        Collection<RelOptRule> result = new LinkedList<>();
+        result.add(CoreRules.JOIN_TO_MULTI_JOIN);
+        result.add(CoreRules.PROJECT_MULTI_JOIN_MERGE);
+        result.add(CoreRules.FILTER_MULTI_JOIN_MERGE);
+        return result;
+    }
+    
     private static Collection<RelOptRule> getSubQueryRules() {
         Collection<RelOptRule> result = new LinkedList<>();
         result.add(CoreRules.FILTER_SUB_QUERY_TO_CORRELATE);
@@ -132,6 +157,7 @@ public final class SQLFederationPlannerBuilder {
         Collection<RelOptRule> result = new LinkedList<>();
         result.add(PushFilterIntoScanRule.Config.DEFAULT.toRule());
         result.add(PushProjectIntoScanRule.Config.DEFAULT.toRule());
+        result.add(PushAggregateIntoScanRule.Config.DEFAULT.toRule());
         return result;
     }
     
@@ -183,6 +209,8 @@ public final class SQLFederationPlannerBuilder {
         Collection<RelOptRule> result = new LinkedList<>();
         result.add(CoreRules.AGGREGATE_MERGE);
         result.add(CoreRules.AGGREGATE_REDUCE_FUNCTIONS);
+        result.add(CoreRules.AGGREGATE_PROJECT_MERGE);
+        result.add(CoreRules.AGGREGATE_JOIN_TRANSPOSE_EXTENDED);
         return result;
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.metadata;
+
+import org.apache.calcite.plan.volcano.RelSubset;
+import org.apache.calcite.rel.metadata.BuiltInMetadata.ColumnOrigin;
+import org.apache.calcite.rel.metadata.MetadataDef;
+import org.apache.calcite.rel.metadata.MetadataHandler;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelColumnOrigin;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.util.Util;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical.EnumerableScan;
+
+import java.util.Set;
+
+/**
+ * SQL federation column origins metadata handler, which maps columns of scan to columns of pushed down rel node.
+ */
+public final class SQLFederationRelMdColumnOrigins implements MetadataHandler<ColumnOrigin> {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(new SQLFederationRelMdColumnOrigins(), ColumnOrigin.Handler.class);
+    
+    @Override
+    public MetadataDef<ColumnOrigin> getDef() {
+        return ColumnOrigin.DEF;
+    }
+    
+    /**
+     * Get column origins of logical scan.
+     *
+     * @param rel logical scan
+     * @param mq metadata query
+     * @param outputColumn output column index
+     * @return column origins
+     */
+    public Set<RelColumnOrigin> getColumnOrigins(final LogicalScan rel, final RelMetadataQuery mq, final int outputColumn) {
+        return mq.getColumnOrigins(rel.peek(), outputColumn);
+    }
+    
+    /**
+     * Get column origins of enumerable scan.
+     *
+     * @param rel enumerable scan
+     * @param mq metadata query
+     * @param outputColumn output column index
+     * @return null because pushed down rel node is not kept by enumerable scan
+     */
+    public Set<RelColumnOrigin> getColumnOrigins(final EnumerableScan rel, final RelMetadataQuery mq, final int outputColumn) {
+        return null;
+    }
+    
+    /**
+     * Get column origins of rel subset.
+     *
+     * @param rel rel subset
+     * @param mq metadata query
+     * @param outputColumn output column index
+     * @return column origins
+     */
+    public Set<RelColumnOrigin> getColumnOrigins(final RelSubset rel, final RelMetadataQuery mq, final int outputColumn) {
+        return mq.getColumnOrigins(Util.first(rel.getOriginal(), rel.getBest()), outputColumn);
+    }
+}
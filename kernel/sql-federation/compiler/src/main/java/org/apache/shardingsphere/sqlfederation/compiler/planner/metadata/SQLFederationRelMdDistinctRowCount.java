@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.metadata;
+
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata.DistinctRowCount;
+import org.apache.calcite.rel.metadata.MetadataDef;
+import org.apache.calcite.rel.metadata.MetadataHandler;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.NumberUtil;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.ColumnCardinality;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistic.SQLFederationStatistic;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical.LogicalScan;
+
+import java.util.Optional;
+
+/**
+ * SQL federation distinct row count metadata handler, which estimates distinct row count with collected table cardinality.
+ */
+public final class SQLFederationRelMdDistinctRowCount implements MetadataHandler<DistinctRowCount> {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(new SQLFederationRelMdDistinctRowCount(), DistinctRowCount.Handler.class);
+    
+    @Override
+    public MetadataDef<DistinctRowCount> getDef() {
+        return DistinctRowCount.DEF;
+    }
+    
+    /**
+     * Get distinct row count of logical scan.
+     *
+     * @param rel logical scan
+     * @param mq metadata query
+     * @param groupKey group key
+     * @param predicate predicate
+     * @return distinct row count
+     */
+    public Double getDistinctRowCount(final LogicalScan rel, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        return mq.getDistinctRowCount(rel.peek(), groupKey, predicate);
+    }
+    
+    /**
+     * Get distinct row count of table scan.
+     *
+     * @param rel table scan
+     * @param mq metadata query
+     * @param groupKey group key
+     * @param predicate predicate
+     * @return distinct row count
+     */
+    public Double getDistinctRowCount(final TableScan rel, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        Optional<Double> distinctCount = findStatistic(rel).flatMap(optional -> estimateDistinctCount(optional, groupKey));
+        if (distinctCount.isPresent()) {
+            return null == predicate || predicate.isAlwaysTrue() ? distinctCount.get() : RelMdUtil.numDistinctVals(distinctCount.get(), mq.getRowCount(rel) * mq.getSelectivity(rel, predicate));
+        }
+        return RelMdUtil.areColumnsDefinitelyUnique(mq, rel, groupKey) ? NumberUtil.multiply(mq.getRowCount(rel), mq.getSelectivity(rel, predicate)) : null;
+    }
+    
+    private Optional<Double> estimateDistinctCount(final SQLFederationStatistic statistic, final ImmutableBitSet groupKey) {
+        double result = 1D;
+        for (int each : groupKey) {
+            Optional<ColumnCardinality> columnCardinality = statistic.findColumnCardinality(each);
+            if (!columnCardinality.isPresent()) {
+                return Optional.empty();
+            }
+            result *= Math.max(columnCardinality.get().getDistinctCount(), 1L);
+        }
+        return Optional.of(Math.min(result, statistic.getRowCount()));
+    }
+    
+    private Optional<SQLFederationStatistic> findStatistic(final TableScan rel) {
+        if (!(rel instanceof LogicalTableScan)) {
+            return Optional.empty();
+        }
+        SQLFederationTable table = rel.getTable().unwrap(SQLFederationTable.class);
+        return null == table ? Optional.empty() : table.findStatistic();
+    }
+}
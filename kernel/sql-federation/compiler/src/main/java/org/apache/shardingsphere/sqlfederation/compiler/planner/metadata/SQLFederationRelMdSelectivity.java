@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.metadata;
+
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata.Selectivity;
+import org.apache.calcite.rel.metadata.MetadataDef;
+import org.apache.calcite.rel.metadata.MetadataHandler;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelColumnOrigin;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.ColumnCardinality;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.statistic.SQLFederationStatistic;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical.LogicalScan;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * SQL federation selectivity metadata handler, which estimates selectivity with collected table cardinality.
+ */
+public final class SQLFederationRelMdSelectivity implements MetadataHandler<Selectivity> {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(new SQLFederationRelMdSelectivity(), Selectivity.Handler.class);
+    
+    @Override
+    public MetadataDef<Selectivity> getDef() {
+        return Selectivity.DEF;
+    }
+    
+    /**
+     * Get selectivity of logical scan.
+     *
+     * @param rel logical scan
+     * @param mq metadata query
+     * @param predicate predicate
+     * @return selectivity
+     */
+    public Double getSelectivity(final LogicalScan rel, final RelMetadataQuery mq, final RexNode predicate) {
+        return mq.getSelectivity(rel.peek(), predicate);
+    }
+    
+    /**
+     * Get selectivity of table scan.
+     *
+     * @param rel table scan
+     * @param mq metadata query
+     * @param predicate predicate
+     * @return selectivity
+     */
+    public Double getSelectivity(final TableScan rel, final RelMetadataQuery mq, final RexNode predicate) {
+        Optional<SQLFederationStatistic> statistic = findStatistic(rel);
+        if (null == predicate || !statistic.isPresent()) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+        return estimateSelectivity(statistic.get(), RexUtil.expandSearch(rel.getCluster().getRexBuilder(), null, predicate));
+    }
+    
+    /**
+     * Get selectivity of join.
+     *
+     * @param rel join
+     * @param mq metadata query
+     * @param predicate predicate
+     * @return selectivity
+     */
+    public Double getSelectivity(final Join rel, final RelMetadataQuery mq, final RexNode predicate) {
+        if (rel.isSemiJoin()) {
+            RexBuilder rexBuilder = rel.getCluster().getRexBuilder();
+            RexNode semiJoinSelectivity = RelMdUtil.makeSemiJoinSelectivityRexNode(mq, rel);
+            return mq.getSelectivity(rel.getLeft(), null == predicate ? semiJoinSelectivity : rexBuilder.makeCall(SqlStdOperatorTable.AND, semiJoinSelectivity, predicate));
+        }
+        if (null == predicate) {
+            return RelMdUtil.guessSelectivity(null);
+        }
+        double result = 1D;
+        for (RexNode each : RelOptUtil.conjunctions(predicate)) {
+            result *= estimateJoinSelectivity(rel, mq, each);
+        }
+        return result;
+    }
+    
+    private double estimateJoinSelectivity(final Join join, final RelMetadataQuery mq, final RexNode condition) {
+        if (SqlKind.EQUALS != condition.getKind()) {
+            return RelMdUtil.guessSelectivity(condition);
+        }
+        RexNode first = RexUtil.removeCast(((RexCall) condition).getOperands().get(0));
+        RexNode second = RexUtil.removeCast(((RexCall) condition).getOperands().get(1));
+        if (!(first instanceof RexInputRef) || !(second instanceof RexInputRef)) {
+            return RelMdUtil.guessSelectivity(condition);
+        }
+        int leftFieldCount = join.getLeft().getRowType().getFieldCount();
+        int firstIndex = ((RexInputRef) first).getIndex();
+        int secondIndex = ((RexInputRef) second).getIndex();
+        if (firstIndex < leftFieldCount == secondIndex < leftFieldCount) {
+            return RelMdUtil.guessSelectivity(condition);
+        }
+        int leftIndex = Math.min(firstIndex, secondIndex);
+        int rightIndex = Math.max(firstIndex, secondIndex) - leftFieldCount;
+        Optional<Double> leftDistinctCount = findDistinctCount(join.getLeft(), mq, leftIndex);
+        Optional<Double> rightDistinctCount = findDistinctCount(join.getRight(), mq, rightIndex);
+        if (!leftDistinctCount.isPresent() && !rightDistinctCount.isPresent()) {
+            return RelMdUtil.guessSelectivity(condition);
+        }
+        double distinctCount = Math.max(leftDistinctCount.orElse(1D), rightDistinctCount.orElse(1D));
+        return distinctCount < 1D ? 1D : 1D / distinctCount;
+    }
+    
+    private Optional<Double> findDistinctCount(final RelNode input, final RelMetadataQuery mq, final int columnIndex) {
+        RelColumnOrigin columnOrigin = mq.getColumnOrigin(input, columnIndex);
+        if (null == columnOrigin || columnOrigin.isDerived()) {
+            return Optional.empty();
+        }
+        SQLFederationTable table = columnOrigin.getOriginTable().unwrap(SQLFederationTable.class);
+        Optional<ColumnCardinality> columnCardinality = null == table ? Optional.empty()
+                : table.findStatistic().flatMap(optional -> optional.findColumnCardinality(columnOrigin.getOriginColumnOrdinal()));
+        if (!columnCardinality.isPresent()) {
+            return Optional.empty();
+        }
+        Double result = mq.getDistinctRowCount(input, ImmutableBitSet.of(columnIndex), null);
+        return Optional.of(null == result ? (double) columnCardinality.get().getDistinctCount() : result);
+    }
+    
+    private double estimateSelectivity(final SQLFederationStatistic statistic, final RexNode predicate) {
+        switch (predicate.getKind()) {
+            case AND:
+                double andResult = 1D;
+                for (RexNode each : ((RexCall) predicate).getOperands()) {
+                    andResult *= estimateSelectivity(statistic, each);
+                }
+                return andResult;
+            case OR:
+                double orResult = 0D;
+                for (RexNode each : ((RexCall) predicate).getOperands()) {
+                    orResult += estimateSelectivity(statistic, each);
+                }
+                return Math.min(orResult, 1D);
+            case EQUALS:
+            case NOT_EQUALS:
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return estimateComparisonSelectivity(statistic, (RexCall) predicate);
+            default:
+                return RelMdUtil.guessSelectivity(predicate);
+        }
+    }
+    
+    private double estimateComparisonSelectivity(final SQLFederationStatistic statistic, final RexCall predicate) {
+        RexNode left = RexUtil.removeCast(predicate.getOperands().get(0));
+        RexNode right = RexUtil.removeCast(predicate.getOperands().get(1));
+        boolean reversed = !(left instanceof RexInputRef);
+        RexNode column = reversed ? right : left;
+        RexNode value = reversed ? left : right;
+        Optional<ColumnCardinality> columnCardinality = column instanceof RexInputRef ? statistic.findColumnCardinality(((RexInputRef) column).getIndex()) : Optional.empty();
+        if (!columnCardinality.isPresent() || value instanceof RexInputRef) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+        SqlKind kind = reversed ? predicate.getKind().reverse() : predicate.getKind();
+        if (SqlKind.EQUALS == kind || SqlKind.NOT_EQUALS == kind) {
+            long distinctCount = columnCardinality.get().getDistinctCount();
+            if (distinctCount <= 0L) {
+                return RelMdUtil.guessSelectivity(predicate);
+            }
+            return SqlKind.EQUALS == kind ? 1D / distinctCount : 1D - 1D / distinctCount;
+        }
+        return estimateRangeSelectivity(columnCardinality.get(), kind, value).orElseGet(() -> RelMdUtil.guessSelectivity(predicate));
+    }
+    
+    private Optional<Double> estimateRangeSelectivity(final ColumnCardinality columnCardinality, final SqlKind kind, final RexNode value) {
+        Double minValue = columnCardinality.getMinValue();
+        Double maxValue = columnCardinality.getMaxValue();
+        if (null == minValue || null == maxValue || maxValue <= minValue || !(value instanceof RexLiteral) || !SqlTypeUtil.isNumeric(value.getType())) {
+            return Optional.empty();
+        }
+        BigDecimal literalValue = ((RexLiteral) value).getValueAs(BigDecimal.class);
+        if (null == literalValue) {
+            return Optional.empty();
+        }
+        double lowerFraction = (literalValue.doubleValue() - minValue) / (maxValue - minValue);
+        double result = SqlKind.LESS_THAN == kind || SqlKind.LESS_THAN_OR_EQUAL == kind ? lowerFraction : 1D - lowerFraction;
+        return Optional.of(Math.max(0D, Math.min(1D, result)));
+    }
+    
+    private Optional<SQLFederationStatistic> findStatistic(final TableScan rel) {
+        if (!(rel instanceof LogicalTableScan)) {
+            return Optional.empty();
+        }
+        SQLFederationTable table = rel.getTable().unwrap(SQLFederationTable.class);
+        return null == table ? Optional.empty() : table.findStatistic();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.converter;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.builder.BindFilterRelBuilder;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical.EnumerableBindJoin;
+import org.immutables.value.Value;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Enumerable bind join rule, which converts join of small input and large scan to bind join.
+ */
+@Value.Enclosing
+public final class EnumerableBindJoinRule extends RelRule<EnumerableBindJoinRule.Config> {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new CaseInsensitiveSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private static final double MIN_ROW_COUNT_RATIO = 10D;
+    
+    private EnumerableBindJoinRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        if (JoinRelType.INNER != logicalJoin.getJoinType() && JoinRelType.LEFT != logicalJoin.getJoinType()) {
+            return false;
+        }
+        LogicalScan logicalScan = call.rel(2);
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each)) {
+                return false;
+            }
+        }
+        JoinInfo joinInfo = logicalJoin.analyzeCondition();
+        if (!joinInfo.isEqui() || joinInfo.leftKeys.isEmpty() || !isBindableKeys(logicalJoin.getLeft().getRowType(), logicalScan.getRowType(), joinInfo)) {
+            return false;
+        }
+        RelMetadataQuery mq = call.getMetadataQuery();
+        double leftRowCount = call.rel(1) instanceof LogicalScan ? mq.getRowCount(((LogicalScan) call.rel(1)).peek()) : mq.getRowCount(logicalJoin.getLeft());
+        return leftRowCount <= EnumerableBindJoin.MAX_BIND_KEY_SIZE && leftRowCount * MIN_ROW_COUNT_RATIO <= mq.getRowCount(logicalScan.peek());
+    }
+    
+    private boolean isBindableKeys(final RelDataType leftRowType, final RelDataType rightRowType, final JoinInfo joinInfo) {
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            RelDataType leftKeyType = leftRowType.getFieldList().get(joinInfo.leftKeys.get(i)).getType();
+            RelDataType rightKeyType = rightRowType.getFieldList().get(joinInfo.rightKeys.get(i)).getType();
+            boolean numeric = SqlTypeUtil.isNumeric(leftKeyType) && SqlTypeUtil.isNumeric(rightKeyType);
+            if (!numeric && !(SqlTypeUtil.inCharFamily(leftKeyType) && SqlTypeUtil.inCharFamily(rightKeyType))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalJoin logicalJoin = call.rel(0);
+        LogicalScan logicalScan = call.rel(2);
+        JoinInfo joinInfo = logicalJoin.analyzeCondition();
+        Optional<RelNode> bindRelNode = BindFilterRelBuilder.build(logicalScan.peek(), joinInfo.rightKeys, EnumerableBindJoin.MAX_BIND_KEY_SIZE);
+        if (!bindRelNode.isPresent()) {
+            return;
+        }
+        RelNode input = convert(logicalJoin.getLeft(), logicalJoin.getLeft().getTraitSet().replace(EnumerableConvention.INSTANCE));
+        call.transformTo(new EnumerableBindJoin(logicalJoin.getCluster(), logicalJoin.getTraitSet(), input, logicalScan.getTable(), logicalJoin.getJoinType(),
+                joinInfo.leftKeys, joinInfo.rightKeys, logicalJoin.getRowType(), logicalScan.peek(), bindRelNode.get(), logicalScan.getDatabaseType()));
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutableEnumerableBindJoinRule.Config.builder().description(EnumerableBindJoinRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalJoin.class).inputs(b1 -> b1.operand(RelNode.class).anyInputs(), b2 -> b2.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default EnumerableBindJoinRule toRule() {
+            return new EnumerableBindJoinRule(this);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.planner.rule.transformation;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.core.Aggregate.Group;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Push partial aggregate into scan rule, final aggregate above scan combines partial results from storage nodes.
+ */
+@Value.Enclosing
+public final class PushAggregateIntoScanRule extends RelRule<PushAggregateIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new CaseInsensitiveSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private static final Collection<SqlKind> SPLITTABLE_AGGREGATIONS = EnumSet.of(SqlKind.SUM, SqlKind.SUM0, SqlKind.COUNT, SqlKind.MIN, SqlKind.MAX);
+    
+    private PushAggregateIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalScan logicalScan = call.rel(1);
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each)) {
+                return false;
+            }
+        }
+        if (logicalScan.isAggregatePushedDown()) {
+            return false;
+        }
+        LogicalAggregate logicalAggregate = call.rel(0);
+        if (Group.SIMPLE != logicalAggregate.getGroupType()) {
+            return false;
+        }
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            if (!isSplittable(each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSplittable(final AggregateCall aggregateCall) {
+        return SPLITTABLE_AGGREGATIONS.contains(aggregateCall.getAggregation().getKind()) && !aggregateCall.isDistinct() && !aggregateCall.hasFilter()
+                && aggregateCall.getCollation().getFieldCollations().isEmpty() && null != aggregateCall.getAggregation().getRollup();
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalAggregate logicalAggregate = call.rel(0);
+        LogicalScan logicalScan = call.rel(1);
+        logicalScan.pushDown(createPartialAggregate(logicalAggregate));
+        int groupCount = logicalAggregate.getGroupCount();
+        List<AggregateCall> finalAggregateCalls = new ArrayList<>(logicalAggregate.getAggCallList().size());
+        int index = groupCount;
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            finalAggregateCalls.add(createFinalAggregateCall(each, index++));
+        }
+        call.transformTo(LogicalAggregate.create(logicalScan, logicalAggregate.getHints(), ImmutableBitSet.range(groupCount), null, finalAggregateCalls));
+    }
+    
+    private LogicalAggregate createPartialAggregate(final LogicalAggregate logicalAggregate) {
+        List<AggregateCall> partialAggregateCalls = new ArrayList<>(logicalAggregate.getAggCallList().size());
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            partialAggregateCalls.add(SqlKind.SUM0 == each.getAggregation().getKind() ? createPartialSumAggregateCall(logicalAggregate, each) : each);
+        }
+        return logicalAggregate.copy(logicalAggregate.getTraitSet(), logicalAggregate.getInput(), logicalAggregate.getGroupSet(), null, partialAggregateCalls);
+    }
+    
+    private AggregateCall createPartialSumAggregateCall(final LogicalAggregate logicalAggregate, final AggregateCall sum0AggregateCall) {
+        // SUM0 is not supported by storage nodes, partial SUM could be null and will be coalesced by final SUM0
+        RelDataType type = logicalAggregate.getCluster().getTypeFactory().createTypeWithNullability(sum0AggregateCall.getType(), true);
+        return AggregateCall.create(SqlStdOperatorTable.SUM, false, false, false, Collections.emptyList(), sum0AggregateCall.getArgList(), -1, null, RelCollations.EMPTY,
+                type, sum0AggregateCall.getName());
+    }
+    
+    private AggregateCall createFinalAggregateCall(final AggregateCall partialAggregateCall, final int partialResultIndex) {
+        SqlAggFunction rollup = Objects.requireNonNull(partialAggregateCall.getAggregation().getRollup());
+        return AggregateCall.create(rollup, false, false, false, Collections.emptyList(), Collections.singletonList(partialResultIndex), -1, null, RelCollations.EMPTY,
+                partialAggregateCall.getType(), partialAggregateCall.getName());
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushAggregateIntoScanRule.Config.builder().description(PushAggregateIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalAggregate.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushAggregateIntoScanRule toRule() {
+            return new PushAggregateIntoScanRule(this);
+        }
+    }
+}
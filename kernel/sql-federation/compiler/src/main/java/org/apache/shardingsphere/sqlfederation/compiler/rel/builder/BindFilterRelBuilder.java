@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.builder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.Aggregate.Group;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.tools.RelBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Bind filter rel builder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BindFilterRelBuilder {
+    
+    /**
+     * Build rel node filtered by bind keys, key columns of each row should equal to one group of bind parameters.
+     *
+     * @param pushDownRelNode push down rel node
+     * @param keyIndexes key indexes of push down rel node
+     * @param bindKeySize size of bind key groups
+     * @return built rel node, empty if key columns can not be traced to table scan
+     */
+    public static Optional<RelNode> build(final RelNode pushDownRelNode, final List<Integer> keyIndexes, final int bindKeySize) {
+        RelNode relNode = pushDownRelNode;
+        while (!(relNode instanceof TableScan)) {
+            if (relNode.getInputs().isEmpty()) {
+                return Optional.empty();
+            }
+            relNode = relNode.getInput(0);
+        }
+        RelBuilder relBuilder = LogicalScanPushDownRelBuilder.create((TableScan) relNode);
+        return build(relBuilder, pushDownRelNode, keyIndexes, bindKeySize) ? Optional.of(relBuilder.build()) : Optional.empty();
+    }
+    
+    private static boolean build(final RelBuilder relBuilder, final RelNode relNode, final List<Integer> keyIndexes, final int bindKeySize) {
+        if (relNode instanceof TableScan) {
+            relBuilder.push(relNode).filter(createBindCondition(relBuilder, keyIndexes, bindKeySize));
+            return true;
+        }
+        if (relNode instanceof Filter) {
+            return buildFilter(relBuilder, (Filter) relNode, keyIndexes, bindKeySize);
+        }
+        if (relNode instanceof Project) {
+            return buildProject(relBuilder, (Project) relNode, keyIndexes, bindKeySize);
+        }
+        if (relNode instanceof Aggregate) {
+            return buildAggregate(relBuilder, (Aggregate) relNode, keyIndexes, bindKeySize);
+        }
+        return false;
+    }
+    
+    private static boolean buildFilter(final RelBuilder relBuilder, final Filter filter, final List<Integer> keyIndexes, final int bindKeySize) {
+        if (filter.getInput() instanceof TableScan) {
+            relBuilder.push(filter.getInput()).filter(filter.getVariablesSet(), createBindCondition(relBuilder, keyIndexes, bindKeySize), filter.getCondition());
+            return true;
+        }
+        if (!build(relBuilder, filter.getInput(), keyIndexes, bindKeySize)) {
+            return false;
+        }
+        relBuilder.filter(filter.getVariablesSet(), filter.getCondition());
+        return true;
+    }
+    
+    private static boolean buildProject(final RelBuilder relBuilder, final Project project, final List<Integer> keyIndexes, final int bindKeySize) {
+        List<Integer> inputKeyIndexes = new ArrayList<>(keyIndexes.size());
+        for (int each : keyIndexes) {
+            RexNode expression = project.getProjects().get(each);
+            if (!(expression instanceof RexInputRef)) {
+                return false;
+            }
+            inputKeyIndexes.add(((RexInputRef) expression).getIndex());
+        }
+        if (!build(relBuilder, project.getInput(), inputKeyIndexes, bindKeySize)) {
+            return false;
+        }
+        relBuilder.project(project.getProjects(), project.getRowType().getFieldNames());
+        return true;
+    }
+    
+    private static boolean buildAggregate(final RelBuilder relBuilder, final Aggregate aggregate, final List<Integer> keyIndexes, final int bindKeySize) {
+        if (Group.SIMPLE != aggregate.getGroupType()) {
+            return false;
+        }
+        List<Integer> groupIndexes = aggregate.getGroupSet().asList();
+        List<Integer> inputKeyIndexes = new ArrayList<>(keyIndexes.size());
+        for (int each : keyIndexes) {
+            if (each >= groupIndexes.size()) {
+                return false;
+            }
+            inputKeyIndexes.add(groupIndexes.get(each));
+        }
+        if (!build(relBuilder, aggregate.getInput(), inputKeyIndexes, bindKeySize)) {
+            return false;
+        }
+        relBuilder.aggregate(relBuilder.groupKey(aggregate.getGroupSet()), aggregate.getAggCallList());
+        return true;
+    }
+    
+    private static RexNode createBindCondition(final RelBuilder relBuilder, final List<Integer> keyIndexes, final int bindKeySize) {
+        RexBuilder rexBuilder = relBuilder.getRexBuilder();
+        List<RexNode> result = new ArrayList<>(bindKeySize);
+        for (int i = 0; i < bindKeySize; i++) {
+            List<RexNode> equalities = new ArrayList<>(keyIndexes.size());
+            for (int j = 0; j < keyIndexes.size(); j++) {
+                RexNode field = relBuilder.field(keyIndexes.get(j));
+                equalities.add(relBuilder.equals(field, rexBuilder.makeDynamicParam(field.getType(), getBindParamIndex(i * keyIndexes.size() + j))));
+            }
+            result.add(relBuilder.and(equalities));
+        }
+        return relBuilder.or(result);
+    }
+    
+    /**
+     * Get dynamic parameter index of bind parameter, negative index is used to distinguish from parameters of original SQL.
+     *
+     * @param bindParamIndex index of bind parameter
+     * @return dynamic parameter index
+     */
+    public static int getBindParamIndex(final int bindParamIndex) {
+        return -1 - bindParamIndex;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.checker;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelVisitor;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.calcite.util.Util;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical.EnumerableScan;
+
+/**
+ * Deterministic rel checker.
+ *
+ * <p>Rel node is not deterministic if any expression calls non-deterministic function, such as RAND, or dynamic function, such as CURRENT_TIMESTAMP and CURRENT_USER.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DeterministicRelChecker extends RelVisitor {
+    
+    private final RexShuttle rexShuttle = new NonDeterministicCallFinder();
+    
+    @Override
+    public void visit(final RelNode node, final int ordinal, final RelNode parent) {
+        if (node instanceof EnumerableScan && !((EnumerableScan) node).isDeterministic()) {
+            throw Util.FoundOne.NULL;
+        }
+        node.accept(rexShuttle);
+        super.visit(node, ordinal, parent);
+    }
+    
+    /**
+     * Judge whether rel node is deterministic.
+     *
+     * @param relNode rel node
+     * @return rel node is deterministic or not
+     */
+    public static boolean isDeterministic(final RelNode relNode) {
+        try {
+            new DeterministicRelChecker().go(relNode);
+            return true;
+        } catch (final Util.FoundOne ignored) {
+            return false;
+        }
+    }
+    
+    private static final class NonDeterministicCallFinder extends RexShuttle {
+        
+        @Override
+        public RexNode visitCall(final RexCall call) {
+            SqlOperator operator = call.getOperator();
+            if (!operator.isDeterministic() || operator.isDynamicFunction()) {
+                throw Util.FoundOne.NULL;
+            }
+            return super.visitCall(call);
+        }
+    }
+}
@@ -20,10 +20,13 @@ package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.logical;
 import lombok.Getter;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.Aggregate;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalAggregate;
 import org.apache.calcite.rel.logical.LogicalFilter;
 import org.apache.calcite.rel.logical.LogicalProject;
 import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.builder.LogicalScanPushDownRelBuilder;
 
 import java.util.Collections;
@@ -71,6 +74,32 @@ public final class LogicalScan extends TableScan {
         resetRowType(logicalProject);
     }
     
+    /**
+     * Push down logical aggregate.
+     *
+     * @param logicalAggregate logical aggregate
+     */
+    public void pushDown(final LogicalAggregate logicalAggregate) {
+        pushDownRelBuilder.aggregate(pushDownRelBuilder.groupKey(logicalAggregate.getGroupSet()), logicalAggregate.getAggCallList());
+        resetRowType(logicalAggregate);
+    }
+    
+    /**
+     * Judge whether aggregate is pushed down.
+     *
+     * @return whether aggregate is pushed down or not
+     */
+    public boolean isAggregatePushedDown() {
+        RelNode relNode = pushDownRelBuilder.peek();
+        while (!relNode.getInputs().isEmpty()) {
+            if (relNode instanceof Aggregate) {
+                return true;
+            }
+            relNode = relNode.getInput(0);
+        }
+        return false;
+    }
+    
     /**
      * Peek rel node.
      *
@@ -80,6 +109,11 @@ public final class LogicalScan extends TableScan {
         return pushDownRelBuilder.peek();
     }
     
+    @Override
+    public double estimateRowCount(final RelMetadataQuery mq) {
+        return mq.getRowCount(pushDownRelBuilder.peek());
+    }
+    
     @Override
     public boolean deepEquals(final Object other) {
         if (pushDownRelBuilder.peek() instanceof LogicalTableScan) {
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical;
+
+import lombok.Getter;
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.rel2sql.RelToSqlConverter;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.SqlDialect;
+import org.apache.calcite.sql.util.SqlString;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.BindJoinImplementor;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.dialect.SQLDialectFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Enumerable bind join, which sends distinct join keys of input to storage nodes to filter rows of right table.
+ */
+@Getter
+public final class EnumerableBindJoin extends SingleRel implements EnumerableRel {
+    
+    public static final int MAX_BIND_KEY_SIZE = 100;
+    
+    private final RelOptTable table;
+    
+    private final JoinRelType joinType;
+    
+    private final ImmutableIntList leftKeys;
+    
+    private final ImmutableIntList rightKeys;
+    
+    private final RelDataType joinRowType;
+    
+    private final RelDataType rightRowType;
+    
+    private final SqlString sqlString;
+    
+    private final SqlString bindSQLString;
+    
+    public EnumerableBindJoin(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode input, final RelOptTable table, final JoinRelType joinType,
+                              final ImmutableIntList leftKeys, final ImmutableIntList rightKeys, final RelDataType joinRowType, final RelNode pushDownRelNode, final RelNode bindRelNode,
+                              final String databaseType) {
+        this(cluster, traitSet, input, table, joinType, leftKeys, rightKeys, joinRowType, pushDownRelNode.getRowType(),
+                createSQLString(pushDownRelNode, databaseType), createSQLString(bindRelNode, databaseType));
+    }
+    
+    public EnumerableBindJoin(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode input, final RelOptTable table, final JoinRelType joinType,
+                              final ImmutableIntList leftKeys, final ImmutableIntList rightKeys, final RelDataType joinRowType, final RelDataType rightRowType,
+                              final SqlString sqlString, final SqlString bindSQLString) {
+        super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), input);
+        this.table = table;
+        this.joinType = joinType;
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+        this.joinRowType = joinRowType;
+        this.rightRowType = rightRowType;
+        this.sqlString = sqlString;
+        this.bindSQLString = bindSQLString;
+    }
+    
+    private static SqlString createSQLString(final RelNode relNode, final String databaseType) {
+        SqlDialect sqlDialect = SQLDialectFactory.getSQLDialect(databaseType);
+        return new RelToSqlConverter(sqlDialect).visitRoot(relNode).asStatement().toSqlString(sqlDialect);
+    }
+    
+    @Override
+    public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
+        return new EnumerableBindJoin(getCluster(), traitSet, sole(inputs), table, joinType, leftKeys, rightKeys, joinRowType, rightRowType, sqlString, bindSQLString);
+    }
+    
+    @Override
+    public RelDataType deriveRowType() {
+        return joinRowType;
+    }
+    
+    @Override
+    public double estimateRowCount(final RelMetadataQuery mq) {
+        return mq.getRowCount(getInput());
+    }
+    
+    @Override
+    public RelOptCost computeSelfCost(final RelOptPlanner planner, final RelMetadataQuery mq) {
+        double rowCount = mq.getRowCount(this);
+        return planner.getCostFactory().makeCost(rowCount, rowCount + mq.getRowCount(getInput()), 0D);
+    }
+    
+    @Override
+    public RelWriter explainTerms(final RelWriter relWriter) {
+        return super.explainTerms(relWriter).item("table", table.getQualifiedName()).item("joinType", joinType.lowerName).item("leftKeys", leftKeys).item("rightKeys", rightKeys)
+                .item("sql", sqlString.getSql().replaceAll(System.lineSeparator(), " ")).item("dynamicParameters", sqlString.getDynamicParameters());
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        BlockBuilder builder = new BlockBuilder();
+        Result leftResult = implementor.visitChild(this, 0, (EnumerableRel) getInput(), Prefer.ARRAY);
+        Expression leftExpression = builder.append("left", leftResult.block);
+        Expression leftArrayExpression = builder.append("leftArray", leftResult.physType.convertTo(leftExpression, JavaRowFormat.ARRAY));
+        Expression bindJoinImplementor = Expressions.new_(BindJoinImplementor.class, Expressions.constant(JoinRelType.LEFT == joinType), Expressions.constant(leftKeys.toIntArray()),
+                Expressions.constant(rightKeys.toIntArray()), Expressions.constant(rightRowType.getFieldCount()), Expressions.constant(getSQL(sqlString)),
+                Expressions.constant(getParamIndexes(sqlString)), Expressions.constant(getSQL(bindSQLString)), Expressions.constant(getParamIndexes(bindSQLString)),
+                Expressions.constant(MAX_BIND_KEY_SIZE));
+        builder.add(Expressions.call(bindJoinImplementor, "implement", implementor.getRootExpression(), Objects.requireNonNull(table.getExpression(SQLFederationTable.class)), leftArrayExpression));
+        PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY, false);
+        return implementor.result(physType, builder.toBlock());
+    }
+    
+    private String getSQL(final SqlString sqlString) {
+        return sqlString.getSql().replace("u&'\\", "'\\u");
+    }
+    
+    private int[] getParamIndexes(final SqlString sqlString) {
+        if (null == sqlString.getDynamicParameters()) {
+            return new int[]{};
+        }
+        Collection<Integer> dynamicParameters = sqlString.getDynamicParameters();
+        int[] result = new int[dynamicParameters.size()];
+        int index = 0;
+        for (Integer each : dynamicParameters) {
+            result[index++] = each;
+        }
+        return result;
+    }
+}
@@ -31,17 +31,20 @@ import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rel.rel2sql.RelToSqlConverter;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.sql.SqlDialect;
 import org.apache.calcite.sql.util.SqlString;
 import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.checker.DeterministicRelChecker;
 import org.apache.shardingsphere.sqlfederation.compiler.sql.dialect.SQLDialectFactory;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Enumerable scan.
@@ -53,26 +56,42 @@ public final class EnumerableScan extends TableScan implements EnumerableRel {
     
     private final RelDataType pushDownRowType;
     
+    private final double pushDownRowCount;
+    
+    private final boolean deterministic;
+    
     public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final RelNode pushDownRelNode, final String databaseType) {
         super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
         sqlString = createSQLString(pushDownRelNode, databaseType);
         pushDownRowType = pushDownRelNode.getRowType();
+        pushDownRowCount = cluster.getMetadataQuery().getRowCount(pushDownRelNode);
+        deterministic = DeterministicRelChecker.isDeterministic(pushDownRelNode);
     }
     
-    public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final SqlString sqlString, final RelDataType pushDownRowType) {
+    public EnumerableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final SqlString sqlString, final RelDataType pushDownRowType,
+                          final double pushDownRowCount, final boolean deterministic) {
         super(cluster, traitSet.replace(EnumerableConvention.INSTANCE), Collections.emptyList(), table);
         this.sqlString = sqlString;
         this.pushDownRowType = pushDownRowType;
+        this.pushDownRowCount = pushDownRowCount;
+        this.deterministic = deterministic;
     }
     
     @Override
     public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
-        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType);
+        return new EnumerableScan(getCluster(), traitSet, table, sqlString, pushDownRowType, pushDownRowCount, deterministic);
+    }
+    
+    @Override
+    public double estimateRowCount(final RelMetadataQuery mq) {
+        return pushDownRowCount;
     }
     
     @Override
     public RelWriter explainTerms(final RelWriter relWriter) {
-        return super.explainTerms(relWriter).item("sql", sqlString.getSql().replaceAll(System.lineSeparator(), " ")).item("dynamicParameters", sqlString.getDynamicParameters());
+        boolean statisticsPresent = Optional.ofNullable(table.unwrap(SQLFederationTable.class)).flatMap(SQLFederationTable::findStatistic).isPresent();
+        return super.explainTerms(relWriter).item("sql", sqlString.getSql().replaceAll(System.lineSeparator(), " ")).item("dynamicParameters", sqlString.getDynamicParameters())
+                .itemIf("estimatedRowCount", pushDownRowCount, statisticsPresent);
     }
     
     @Override
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.linq4j.tree.Types;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.CorrelationId;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.hint.RelHint;
+import org.apache.calcite.rex.RexNode;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.spill.SpillableHashJoinImplementor;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Enumerable spillable hash join, which hash partitions rows of both inputs into local temporary files when memory limit of query is reached.
+ */
+public final class EnumerableSpillableHashJoin extends Join implements EnumerableRel {
+    
+    public EnumerableSpillableHashJoin(final RelOptCluster cluster, final RelTraitSet traitSet, final List<RelHint> hints, final RelNode left, final RelNode right, final RexNode condition,
+                                       final Set<CorrelationId> variablesSet, final JoinRelType joinType) {
+        super(cluster, traitSet, hints, left, right, condition, variablesSet, joinType);
+    }
+    
+    @Override
+    public Join copy(final RelTraitSet traitSet, final RexNode conditionExpr, final RelNode left, final RelNode right, final JoinRelType joinType, final boolean semiJoinDone) {
+        return new EnumerableSpillableHashJoin(getCluster(), traitSet, getHints(), left, right, conditionExpr, variablesSet, joinType);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        BlockBuilder builder = new BlockBuilder();
+        Result leftResult = implementor.visitChild(this, 0, (EnumerableRel) getLeft(), Prefer.ARRAY);
+        Expression leftExpression = builder.append("left", leftResult.block);
+        Expression leftArrayExpression = builder.append("leftArray", leftResult.physType.convertTo(leftExpression, JavaRowFormat.ARRAY));
+        Result rightResult = implementor.visitChild(this, 1, (EnumerableRel) getRight(), Prefer.ARRAY);
+        Expression rightExpression = builder.append("right", rightResult.block);
+        Expression rightArrayExpression = builder.append("rightArray", rightResult.physType.convertTo(rightExpression, JavaRowFormat.ARRAY));
+        JoinInfo joinInfo = analyzeCondition();
+        Expression joinImplementor = Expressions.new_(SpillableHashJoinImplementor.class, Expressions.constant(JoinRelType.LEFT == joinType), Expressions.constant(joinInfo.leftKeys.toIntArray()),
+                Expressions.constant(joinInfo.rightKeys.toIntArray()), Expressions.constant(getRight().getRowType().getFieldCount()));
+        builder.add(Expressions.call(joinImplementor, Types.lookupMethod(SpillableHashJoinImplementor.class, "implement", DataContext.class, Enumerable.class, Enumerable.class),
+                implementor.getRootExpression(), leftArrayExpression, rightArrayExpression));
+        PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY, false);
+        return implementor.result(physType, builder.toBlock());
+    }
+}
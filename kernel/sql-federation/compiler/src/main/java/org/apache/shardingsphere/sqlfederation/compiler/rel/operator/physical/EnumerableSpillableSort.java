@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.linq4j.tree.Types;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.Direction;
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rex.RexNode;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.spill.SpillableSortImplementor;
+
+import java.util.List;
+
+/**
+ * Enumerable spillable sort, which spills sorted runs into local temporary files when memory limit of query is reached.
+ */
+public final class EnumerableSpillableSort extends Sort implements EnumerableRel {
+    
+    public EnumerableSpillableSort(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode input, final RelCollation collation) {
+        super(cluster, traitSet, input, collation);
+    }
+    
+    @Override
+    public Sort copy(final RelTraitSet traitSet, final RelNode newInput, final RelCollation newCollation, final RexNode offset, final RexNode fetch) {
+        return new EnumerableSpillableSort(getCluster(), traitSet, newInput, newCollation);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        BlockBuilder builder = new BlockBuilder();
+        Result inputResult = implementor.visitChild(this, 0, (EnumerableRel) getInput(), Prefer.ARRAY);
+        Expression inputExpression = builder.append("input", inputResult.block);
+        Expression inputArrayExpression = builder.append("inputArray", inputResult.physType.convertTo(inputExpression, JavaRowFormat.ARRAY));
+        List<RelFieldCollation> fieldCollations = collation.getFieldCollations();
+        int[] keys = new int[fieldCollations.size()];
+        boolean[] descending = new boolean[fieldCollations.size()];
+        boolean[] nullsFirst = new boolean[fieldCollations.size()];
+        for (int i = 0; i < fieldCollations.size(); i++) {
+            keys[i] = fieldCollations.get(i).getFieldIndex();
+            descending[i] = Direction.DESCENDING == fieldCollations.get(i).getDirection();
+            nullsFirst[i] = NullDirection.FIRST == fieldCollations.get(i).nullDirection;
+        }
+        Expression sortImplementor = Expressions.new_(SpillableSortImplementor.class, Expressions.constant(keys), Expressions.constant(descending), Expressions.constant(nullsFirst));
+        builder.add(Expressions.call(sortImplementor, Types.lookupMethod(SpillableSortImplementor.class, "implement", DataContext.class, Enumerable.class),
+                implementor.getRootExpression(), inputArrayExpression));
+        PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY, false);
+        return implementor.result(physType, builder.toBlock());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.rewriter;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.adapter.enumerable.EnumerableAggregate;
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.adapter.enumerable.EnumerableSort;
+import org.apache.calcite.adapter.enumerable.EnumerableSortedAggregate;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelShuttleImpl;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical.EnumerableSpillableHashJoin;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.operator.physical.EnumerableSpillableSort;
+
+/**
+ * Spillable rel rewriter, which replaces memory consuming enumerable operators with spillable ones.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillableRelRewriter extends RelShuttleImpl {
+    
+    @Override
+    public RelNode visit(final RelNode other) {
+        RelNode result = super.visit(other);
+        if (result instanceof EnumerableSort && null == ((Sort) result).offset && null == ((Sort) result).fetch) {
+            return new EnumerableSpillableSort(result.getCluster(), result.getTraitSet(), ((Sort) result).getInput(), ((Sort) result).getCollation());
+        }
+        if (result instanceof EnumerableHashJoin && isSpillableJoin((Join) result)) {
+            Join join = (Join) result;
+            return new EnumerableSpillableHashJoin(join.getCluster(), join.getTraitSet(), join.getHints(), join.getLeft(), join.getRight(), join.getCondition(), join.getVariablesSet(),
+                    join.getJoinType());
+        }
+        if (result instanceof EnumerableAggregate && isSpillableAggregate((Aggregate) result)) {
+            return createSortedAggregate((Aggregate) result);
+        }
+        return result;
+    }
+    
+    private boolean isSpillableJoin(final Join join) {
+        if (JoinRelType.INNER != join.getJoinType() && JoinRelType.LEFT != join.getJoinType()) {
+            return false;
+        }
+        JoinInfo joinInfo = join.analyzeCondition();
+        return joinInfo.isEqui() && !joinInfo.leftKeys.isEmpty() && RelOptUtil.conjunctions(join.getCondition()).stream().allMatch(each -> each.isA(SqlKind.EQUALS));
+    }
+    
+    private boolean isSpillableAggregate(final Aggregate aggregate) {
+        if (!Aggregate.isSimple(aggregate) || aggregate.getGroupSet().isEmpty()) {
+            return false;
+        }
+        for (AggregateCall each : aggregate.getAggCallList()) {
+            if (each.isDistinct() || each.hasFilter() || !each.getCollation().getFieldCollations().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private RelNode createSortedAggregate(final Aggregate aggregate) {
+        RelCollation inputCollation = RelCollations.of(ImmutableIntList.copyOf(aggregate.getGroupSet().asList()));
+        RelNode input = new EnumerableSpillableSort(aggregate.getCluster(), aggregate.getInput().getTraitSet().replace(inputCollation), aggregate.getInput(), inputCollation);
+        RelCollation collation = RelCollations.of(ImmutableIntList.identity(aggregate.getGroupCount()));
+        return new EnumerableSortedAggregate(aggregate.getCluster(), aggregate.getTraitSet().replace(collation), input, aggregate.getGroupSet(), aggregate.getGroupSets(), aggregate.getAggCallList());
+    }
+    
+    /**
+     * Rewrite memory consuming enumerable operators to spillable operators.
+     *
+     * @param relNode rel node
+     * @return rewritten rel node
+     */
+    public static RelNode rewrite(final RelNode relNode) {
+        return relNode.accept(new SpillableRelRewriter());
+    }
+}
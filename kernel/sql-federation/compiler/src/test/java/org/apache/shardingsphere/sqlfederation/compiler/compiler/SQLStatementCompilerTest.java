@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.compiler;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRel.Prefer;
+import org.apache.calcite.config.CalciteConnectionConfigImpl;
+import org.apache.calcite.jdbc.CalciteSchema;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.sql.fun.SqlLibrary;
+import org.apache.calcite.sql.fun.SqlLibraryOperatorTableFactory;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.ColumnCardinality;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.TableCardinality;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.spill.SpillBudget;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.converter.SQLFederationRelConverter;
+import org.apache.shardingsphere.sqlfederation.compiler.sql.function.mysql.MySQLOperatorTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLStatementCompilerTest {
+    
+    private static final String SCHEMA_NAME = "foo_schema";
+    
+    private final SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
+    
+    private CalciteSchema calciteSchema;
+    
+    private SQLStatementCompiler sqlStatementCompiler;
+    
+    private SQLStatementCompiler spillableSQLStatementCompiler;
+    
+    @BeforeEach
+    void setUp() {
+        ShardingSphereTable orderTable = new ShardingSphereTable("t_order", Arrays.asList(createColumn("order_id", true), createColumn("merchant_id", false)),
+                Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable orderItemTable = new ShardingSphereTable("t_order_item", Arrays.asList(createColumn("item_id", true), createColumn("order_id", false)),
+                Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable merchantTable = new ShardingSphereTable("t_merchant", Arrays.asList(createColumn("merchant_id", true), createColumn("country_id", false)),
+                Collections.emptyList(), Collections.emptyList());
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "H2");
+        calciteSchema = CalciteSchema.createRootSchema(true);
+        calciteSchema.add(SCHEMA_NAME, new SQLFederationSchema(SCHEMA_NAME, new ShardingSphereSchema("foo_db", Arrays.asList(orderTable, orderItemTable, merchantTable), Collections.emptyList()),
+                databaseType));
+        CompilerContext compilerContext = new CompilerContext(mock(SQLParserRule.class), calciteSchema, new CalciteConnectionConfigImpl(new Properties()),
+                Arrays.asList(new MySQLOperatorTable(), SqlLibraryOperatorTableFactory.INSTANCE.getOperatorTable(Arrays.asList(SqlLibrary.STANDARD, SqlLibrary.MYSQL))));
+        sqlStatementCompiler = new SQLStatementCompiler(
+                new SQLFederationRelConverter(compilerContext, Collections.singletonList(SCHEMA_NAME), databaseType, EnumerableConvention.INSTANCE), EnumerableConvention.INSTANCE);
+        spillableSQLStatementCompiler = new SQLStatementCompiler(
+                new SQLFederationRelConverter(compilerContext, Collections.singletonList(SCHEMA_NAME), databaseType, EnumerableConvention.INSTANCE), EnumerableConvention.INSTANCE, true);
+    }
+    
+    private ShardingSphereColumn createColumn(final String name, final boolean primaryKey) {
+        return new ShardingSphereColumn(name, Types.INTEGER, primaryKey, false, false, true, false, false);
+    }
+    
+    @Test
+    void assertCompileWithoutCardinality() {
+        assertThat(compile("SELECT o.order_id FROM t_order o JOIN t_merchant m ON o.merchant_id = m.merchant_id WHERE m.country_id = 1"), not(containsString("estimatedRowCount")));
+    }
+    
+    @Test
+    void assertCompileWithCardinality() {
+        setCardinality("t_order", 1000000L, createColumnCardinality("order_id", 1000000L, 1D, 1000000D), createColumnCardinality("merchant_id", 100L, 1D, 100D));
+        setCardinality("t_order_item", 5000000L, createColumnCardinality("item_id", 5000000L, 1D, 5000000D), createColumnCardinality("order_id", 1000000L, 1D, 1000000D));
+        setCardinality("t_merchant", 100L, createColumnCardinality("merchant_id", 100L, 1D, 100D), createColumnCardinality("country_id", 10L, 1D, 10D));
+        String actual = compile("SELECT i.item_id FROM t_order_item i JOIN t_order o ON i.order_id = o.order_id JOIN t_merchant m ON o.merchant_id = m.merchant_id WHERE m.country_id = 1");
+        String expected = "EnumerableCalc(expr#0..5=[{inputs}], item_id=[$t0])   EnumerableHashJoin(condition=[=($1, $2)], joinType=[inner])     "
+                + "EnumerableScan(table=[[foo_schema, t_order_item]], sql=[SELECT * FROM `foo_schema`.`t_order_item`], dynamicParameters=[null], estimatedRowCount=[5000000.0])     "
+                + "EnumerableHashJoin(condition=[=($1, $2)], joinType=[inner])       "
+                + "EnumerableScan(table=[[foo_schema, t_order]], sql=[SELECT * FROM `foo_schema`.`t_order`], dynamicParameters=[null], estimatedRowCount=[1000000.0])       "
+                + "EnumerableScan(table=[[foo_schema, t_merchant]], sql=[SELECT * FROM `foo_schema`.`t_merchant` WHERE CAST(`country_id` AS SIGNED) = 1], dynamicParameters=[null], "
+                + "estimatedRowCount=[10.0]) ";
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    void assertCompileWithSpillEnabled() {
+        SQLStatement sqlStatement = parse("SELECT o.merchant_id, COUNT(*) FROM t_order o JOIN t_merchant m ON o.merchant_id = m.merchant_id GROUP BY o.merchant_id ORDER BY o.merchant_id DESC");
+        RelNode actual = spillableSQLStatementCompiler.compile(sqlStatement, "MySQL").getPhysicalPlan();
+        String explain = actual.explain();
+        assertThat(explain, containsString("EnumerableSpillableSort"));
+        assertThat(explain, containsString("EnumerableSortedAggregate"));
+        assertThat(explain, containsString("EnumerableSpillableHashJoin"));
+        assertThat(explain, not(containsString("EnumerableHashJoin")));
+        SQLFederationTable orderTable = (SQLFederationTable) calciteSchema.plus().subSchemas().get(SCHEMA_NAME).tables().get("t_order");
+        orderTable.setScanImplementor((table, scanContext) -> Linq4j.asEnumerable("t_order".equals(table.getName())
+                ? Arrays.asList(new Object[]{10, 1L}, new Object[]{20, 1L}, new Object[]{10, 1L}, new Object[]{30, 1L})
+                : Arrays.<Object>asList(new Object[]{10, 1L}, new Object[]{20, 1L})));
+        SpillBudget budget = new SpillBudget(1L, 0L);
+        DataContext dataContext = mock(DataContext.class);
+        when(dataContext.getRootSchema()).thenReturn(calciteSchema.plus());
+        when(dataContext.get(SpillBudget.DATA_CONTEXT_NAME)).thenReturn(budget);
+        List<Object> rows = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) actual, Prefer.ARRAY).bind(dataContext).toList();
+        orderTable.clearScanImplementor();
+        assertThat(rows.size(), is(2));
+        assertThat(rows.get(0), is(new Object[]{20, 1L}));
+        assertThat(rows.get(1), is(new Object[]{10, 2L}));
+        assertThat(budget.getUsedMemory(), is(0L));
+        assertThat(budget.getUsedDisk(), is(0L));
+    }
+    
+    private Map.Entry<String, ColumnCardinality> createColumnCardinality(final String columnName, final long distinctCount, final Double minValue, final Double maxValue) {
+        return new HashMap.SimpleEntry<>(columnName, new ColumnCardinality(distinctCount, minValue, maxValue));
+    }
+    
+    @SafeVarargs
+    private final void setCardinality(final String tableName, final long rowCount, final Map.Entry<String, ColumnCardinality>... columnCardinalities) {
+        Map<String, ColumnCardinality> columnCardinalityMap = new HashMap<>(columnCardinalities.length, 1F);
+        for (Map.Entry<String, ColumnCardinality> each : columnCardinalities) {
+            columnCardinalityMap.put(each.getKey(), each.getValue());
+        }
+        ((SQLFederationTable) calciteSchema.plus().subSchemas().get(SCHEMA_NAME).tables().get(tableName)).setCardinality(
+                new TableCardinality(rowCount, Collections.singletonMap("ds_0." + tableName, rowCount), columnCardinalityMap));
+    }
+    
+    private String compile(final String sql) {
+        return sqlStatementCompiler.compile(parse(sql), "MySQL").getPhysicalPlan().explain().replaceAll(System.lineSeparator(), " ");
+    }
+    
+    private SQLStatement parse(final String sql) {
+        return sqlParserRule.getSQLParserEngine(TypedSPILoader.getService(DatabaseType.class, "MySQL")).parse(sql, false);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BindJoinImplementorTest {
+    
+    private final DataContext root = mock(DataContext.class);
+    
+    private final SQLFederationTable table = mock(SQLFederationTable.class);
+    
+    @Test
+    void assertImplementWithBindKeys() {
+        int[] bindParamIndexes = {-1, -2, -3};
+        when(table.implement(root, "bind_sql", bindParamIndexes, new Object[]{1, 2, 2})).thenReturn(createRightRows());
+        List<Object[]> actual = new BindJoinImplementor(false, new int[]{0}, new int[]{1}, 2, "sql", new int[0], "bind_sql", bindParamIndexes, 3)
+                .implement(root, table, Linq4j.asEnumerable(Arrays.asList(new Object[]{1, "foo"}, new Object[]{2, "bar"}, new Object[]{1, "foo"}, new Object[]{null, "null"}))).toList();
+        assertThat(actual.size(), is(5));
+        assertThat(actual.get(0), is(new Object[]{1, "foo", 10L, 1L}));
+        assertThat(actual.get(1), is(new Object[]{1, "foo", 11L, 1L}));
+        assertThat(actual.get(2), is(new Object[]{2, "bar", 20L, 2L}));
+        assertThat(actual.get(3), is(new Object[]{1, "foo", 10L, 1L}));
+        assertThat(actual.get(4), is(new Object[]{1, "foo", 11L, 1L}));
+        verify(table, never()).implement(root, "sql", new int[0]);
+    }
+    
+    @Test
+    void assertImplementWithTooManyBindKeys() {
+        when(table.implement(root, "sql", new int[0])).thenReturn(createRightRows());
+        List<Object[]> actual = new BindJoinImplementor(true, new int[]{0}, new int[]{1}, 2, "sql", new int[0], "bind_sql", new int[]{-1}, 1)
+                .implement(root, table, Linq4j.asEnumerable(Arrays.asList(new Object[]{2L}, new Object[]{4L}))).toList();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0), is(new Object[]{2L, 20L, 2L}));
+        assertThat(actual.get(1)[0], is(4L));
+        assertThat(actual.get(1)[1], is(nullValue()));
+        assertThat(actual.get(1)[2], is(nullValue()));
+    }
+    
+    @Test
+    void assertImplementWithoutBindKeys() {
+        List<Object[]> actual = new BindJoinImplementor(false, new int[]{0}, new int[]{0}, 1, "sql", new int[0], "bind_sql", new int[]{-1}, 1)
+                .implement(root, table, Linq4j.asEnumerable(Collections.singletonList(new Object[]{null}))).toList();
+        assertThat(actual.size(), is(0));
+        verify(table, never()).implement(any(), anyString(), any(), any());
+    }
+    
+    private Enumerable<Object> createRightRows() {
+        return Linq4j.asEnumerable(Arrays.asList(new Object[]{10L, 1L}, new Object[]{11L, 1L}, new Object[]{20L, 2L}, new Object[]{30L, 3L}));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import org.apache.shardingsphere.sqlfederation.compiler.exception.SQLFederationSpillDiskLimitExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SpillRowFileTest {
+    
+    @Test
+    void assertWriteAndRead() throws IOException, ClassNotFoundException {
+        SpillBudget budget = new SpillBudget(0L, 0L);
+        Timestamp timestamp = new Timestamp(1700000000123L);
+        timestamp.setNanos(123456789);
+        Object[] row = {null, true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.6D, 'c', "foo", new BigDecimal("-12.340"), new BigInteger("123456789012345678901234567890"),
+                new byte[]{1, 2}, new Date(86400000L), new Time(3600000L), timestamp, LocalDate.of(2024, 1, 1)};
+        try (SpillRowFile spillRowFile = new SpillRowFile(budget)) {
+            spillRowFile.write(row);
+            spillRowFile.write(new Object[]{"bar"});
+            assertThat(budget.getUsedDisk() > 0L, is(true));
+            assertThat(spillRowFile.read(), is(row));
+            assertThat(spillRowFile.read(), is(new Object[]{"bar"}));
+            assertThat(spillRowFile.read(), is(nullValue()));
+        }
+        assertThat(budget.getUsedDisk(), is(0L));
+    }
+    
+    @Test
+    void assertWriteWithDiskLimitExceeded() throws IOException {
+        try (SpillRowFile spillRowFile = new SpillRowFile(new SpillBudget(0L, 16L))) {
+            spillRowFile.write(new Object[]{1L});
+            assertThrows(SQLFederationSpillDiskLimitExceededException.class, () -> spillRowFile.write(new Object[]{2L}));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.sqlfederation.compiler.exception.SQLFederationSpillDiskLimitExceededException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpillableHashJoinImplementorTest {
+    
+    private final DataContext root = mock(DataContext.class);
+    
+    @Test
+    void assertImplementInnerJoinInMemory() {
+        when(root.get(SpillBudget.DATA_CONTEXT_NAME)).thenReturn(new SpillBudget(0L, 0L));
+        List<List<Object>> actual = join(new SpillableHashJoinImplementor(false, new int[]{1}, new int[]{0}, 2));
+        assertThat(actual, is(Arrays.asList(Arrays.asList(1, 10, 10, "foo"), Arrays.asList(2, 20, 20, "bar"), Arrays.asList(3, 10, 10, "foo"))));
+    }
+    
+    @Test
+    void assertImplementLeftJoinWithSpill() {
+        SpillBudget budget = new SpillBudget(1L, 0L);
+        when(root.get(SpillBudget.DATA_CONTEXT_NAME)).thenReturn(budget);
+        List<List<Object>> actual = join(new SpillableHashJoinImplementor(true, new int[]{1}, new int[]{0}, 2));
+        assertThat(actual, is(Arrays.asList(Arrays.asList(1, 10, 10, "foo"), Arrays.asList(2, 20, 20, "bar"), Arrays.asList(3, 10, 10, "foo"),
+                Arrays.asList(4, null, null, null), Arrays.asList(5, 30, null, null))));
+        assertThat(budget.getUsedMemory(), is(0L));
+        assertThat(budget.getUsedDisk(), is(0L));
+    }
+    
+    @Test
+    void assertImplementWithDiskLimitExceeded() {
+        when(root.get(SpillBudget.DATA_CONTEXT_NAME)).thenReturn(new SpillBudget(1L, 1L));
+        assertThrows(SQLFederationSpillDiskLimitExceededException.class, () -> join(new SpillableHashJoinImplementor(false, new int[]{1}, new int[]{0}, 2)));
+    }
+    
+    private List<List<Object>> join(final SpillableHashJoinImplementor joinImplementor) {
+        List<Object[]> leftRows = Arrays.asList(new Object[]{1, 10}, new Object[]{2, 20}, new Object[]{3, 10}, new Object[]{4, null}, new Object[]{5, 30});
+        List<Object[]> rightRows = Arrays.asList(new Object[]{10, "foo"}, new Object[]{20, "bar"}, new Object[]{40, "baz"}, new Object[]{null, "null"});
+        return joinImplementor.implement(root, Linq4j.asEnumerable(leftRows), Linq4j.asEnumerable(rightRows)).toList().stream()
+                .sorted(Comparator.comparingInt(each -> (Integer) each[0])).map(Arrays::asList).collect(Collectors.toList());
+    }
+}
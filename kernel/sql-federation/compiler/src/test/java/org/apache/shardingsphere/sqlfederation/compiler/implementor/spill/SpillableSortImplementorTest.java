@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.implementor.spill;
+
+import org.apache.calcite.DataContext;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SpillableSortImplementorTest {
+    
+    private final DataContext root = mock(DataContext.class);
+    
+    @Test
+    void assertImplementInMemory() {
+        when(root.get(SpillBudget.DATA_CONTEXT_NAME)).thenReturn(new SpillBudget(0L, 0L));
+        List<List<Object>> actual = sort(new SpillableSortImplementor(new int[]{0}, new boolean[]{false}, new boolean[]{false}));
+        assertThat(actual, is(Arrays.asList(Arrays.asList(1, "a"), Arrays.asList(2, "c"), Arrays.asList(2, "b"), Arrays.asList(3, "d"), Arrays.asList(null, "e"))));
+    }
+    
+    @Test
+    void assertImplementWithSpill() {
+        SpillBudget budget = new SpillBudget(100L, 0L);
+        when(root.get(SpillBudget.DATA_CONTEXT_NAME)).thenReturn(budget);
+        List<List<Object>> actual = sort(new SpillableSortImplementor(new int[]{0, 1}, new boolean[]{true, false}, new boolean[]{true, false}));
+        assertThat(actual, is(Arrays.asList(Arrays.asList(null, "e"), Arrays.asList(3, "d"), Arrays.asList(2, "b"), Arrays.asList(2, "c"), Arrays.asList(1, "a"))));
+        assertThat(budget.getUsedMemory(), is(0L));
+        assertThat(budget.getUsedDisk(), is(0L));
+    }
+    
+    private List<List<Object>> sort(final SpillableSortImplementor sortImplementor) {
+        List<Object[]> rows = Arrays.asList(new Object[]{2, "c"}, new Object[]{null, "e"}, new Object[]{3, "d"}, new Object[]{1, "a"}, new Object[]{2, "b"});
+        return sortImplementor.implement(root, Linq4j.asEnumerable(rows)).toList().stream().map(Arrays::asList).collect(Collectors.toList());
+    }
+}
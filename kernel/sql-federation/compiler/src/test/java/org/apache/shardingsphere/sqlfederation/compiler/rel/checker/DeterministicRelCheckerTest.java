@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.rel.checker;
+
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
+import org.apache.calcite.rel.core.RelFactories;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.tools.RelBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeterministicRelCheckerTest {
+    
+    private final RelBuilder relBuilder = RelFactories.LOGICAL_BUILDER.create(
+            RelOptCluster.create(new HepPlanner(HepProgram.builder().build()), new RexBuilder(new JavaTypeFactoryImpl())), null);
+    
+    @Test
+    void assertIsDeterministic() {
+        relBuilder.values(new String[]{"id"}, 1, 2);
+        assertTrue(DeterministicRelChecker.isDeterministic(relBuilder.filter(relBuilder.equals(relBuilder.field("id"), relBuilder.literal(1))).build()));
+    }
+    
+    @Test
+    void assertIsNotDeterministicWithNonDeterministicFunction() {
+        relBuilder.values(new String[]{"id"}, 1, 2);
+        assertFalse(DeterministicRelChecker.isDeterministic(relBuilder.project(relBuilder.field("id"), relBuilder.call(SqlStdOperatorTable.RAND)).build()));
+    }
+    
+    @Test
+    void assertIsNotDeterministicWithDynamicFunction() {
+        relBuilder.values(new String[]{"id"}, 1, 2);
+        assertFalse(DeterministicRelChecker.isDeterministic(relBuilder.project(relBuilder.field("id"), relBuilder.call(SqlStdOperatorTable.CURRENT_USER)).build()));
+    }
+    
+    @Test
+    void assertIsNotDeterministicWithDynamicFunctionInInput() {
+        relBuilder.values(new String[]{"id"}, 1, 2);
+        relBuilder.filter(relBuilder.call(SqlStdOperatorTable.GREATER_THAN, relBuilder.call(SqlStdOperatorTable.CURRENT_TIMESTAMP), relBuilder.literal("2020-01-01 00:00:00")));
+        assertFalse(DeterministicRelChecker.isDeterministic(relBuilder.project(relBuilder.field("id")).build()));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.cache;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.spill.RowSizeEstimator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result caching data row enumerator, which puts rows into result cache when all rows are enumerated.
+ */
+public final class ResultCachingDataRowEnumerator implements Enumerator<Object> {
+    
+    private final Enumerator<Object> delegate;
+    
+    private final SQLFederationResultCache resultCache;
+    
+    private final SQLFederationResultCacheKey resultCacheKey;
+    
+    private List<Object> rows = new ArrayList<>();
+    
+    private long estimatedBytes;
+    
+    public ResultCachingDataRowEnumerator(final Enumerator<Object> delegate, final SQLFederationResultCache resultCache, final SQLFederationResultCacheKey resultCacheKey) {
+        this.delegate = delegate;
+        this.resultCache = resultCache;
+        this.resultCacheKey = resultCacheKey;
+    }
+    
+    @Override
+    public Object current() {
+        return delegate.current();
+    }
+    
+    @Override
+    public boolean moveNext() {
+        if (delegate.moveNext()) {
+            record(delegate.current());
+            return true;
+        }
+        if (null != rows) {
+            resultCache.put(resultCacheKey, new SQLFederationCachedResult(rows, estimatedBytes));
+            rows = null;
+        }
+        return false;
+    }
+    
+    private void record(final Object row) {
+        if (null == rows) {
+            return;
+        }
+        estimatedBytes += RowSizeEstimator.estimate(row instanceof Object[] ? (Object[]) row : new Object[]{row});
+        if (estimatedBytes > resultCache.getMaximumBytes()) {
+            rows = null;
+            return;
+        }
+        rows.add(row);
+    }
+    
+    @Override
+    public void reset() {
+        delegate.reset();
+        rows = null;
+    }
+    
+    @Override
+    public void close() {
+        rows = null;
+        delegate.close();
+    }
+}
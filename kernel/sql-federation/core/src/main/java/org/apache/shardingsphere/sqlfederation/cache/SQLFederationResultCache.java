@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import org.apache.shardingsphere.sqlfederation.config.SQLFederationResultCacheOption;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL federation result cache.
+ *
+ * <p>Cache keys contain versions of referenced logic tables, the version of a table is increased after data of the table is modified through ShardingSphere
+ * and again when the transaction of the modification is finished, so that results based on modified tables are never hit again and will be evicted by size or time to live.</p>
+ *
+ * <p>Referenced tables include base tables of views, and results of plans calling non-deterministic or dynamic functions are never cached.</p>
+ */
+public final class SQLFederationResultCache {
+    
+    @Getter
+    private final long maximumBytes;
+    
+    private final Cache<SQLFederationResultCacheKey, SQLFederationCachedResult> cache;
+    
+    // versions are local to this compute node, modifications through other compute nodes are only bounded by time to live
+    private final Map<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+    
+    public SQLFederationResultCache(final SQLFederationResultCacheOption resultCacheOption) {
+        maximumBytes = resultCacheOption.getMaximumBytes();
+        cache = resultCacheOption.isEnabled() ? build(resultCacheOption) : null;
+    }
+    
+    private Cache<SQLFederationResultCacheKey, SQLFederationCachedResult> build(final SQLFederationResultCacheOption resultCacheOption) {
+        Caffeine<SQLFederationResultCacheKey, SQLFederationCachedResult> result = Caffeine.newBuilder().recordStats().maximumWeight(resultCacheOption.getMaximumBytes())
+                .weigher((SQLFederationResultCacheKey key, SQLFederationCachedResult value) -> (int) Math.min(Integer.MAX_VALUE, value.getEstimatedBytes()));
+        return resultCacheOption.getTimeToLiveMilliseconds() > 0L ? result.expireAfterWrite(resultCacheOption.getTimeToLiveMilliseconds(), TimeUnit.MILLISECONDS).build() : result.build();
+    }
+    
+    /**
+     * Judge whether result cache is enabled.
+     *
+     * @return result cache is enabled or not
+     */
+    public boolean isEnabled() {
+        return null != cache;
+    }
+    
+    /**
+     * Get table version.
+     *
+     * @param databaseName database name
+     * @param tableName logic table name
+     * @return table version
+     */
+    public long getTableVersion(final String databaseName, final String tableName) {
+        AtomicLong result = tableVersions.get(getTableKey(databaseName, tableName));
+        return null == result ? 0L : result.get();
+    }
+    
+    /**
+     * Increase table version.
+     *
+     * @param databaseName database name
+     * @param tableName logic table name
+     */
+    public void increaseTableVersion(final String databaseName, final String tableName) {
+        tableVersions.computeIfAbsent(getTableKey(databaseName, tableName), key -> new AtomicLong()).incrementAndGet();
+    }
+    
+    /**
+     * Get table key.
+     *
+     * @param databaseName database name
+     * @param tableName logic table name
+     * @return table key
+     */
+    public String getTableKey(final String databaseName, final String tableName) {
+        return databaseName.toLowerCase() + "." + tableName.toLowerCase();
+    }
+    
+    /**
+     * Find cached rows.
+     *
+     * @param key result cache key
+     * @return cached rows
+     */
+    public Optional<List<Object>> find(final SQLFederationResultCacheKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key)).map(SQLFederationCachedResult::getRows);
+    }
+    
+    /**
+     * Put rows.
+     *
+     * @param key result cache key
+     * @param result result to be cached
+     */
+    public void put(final SQLFederationResultCacheKey key, final SQLFederationCachedResult result) {
+        cache.put(key, result);
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return isEnabled() ? cache.stats().hitCount() : 0L;
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return isEnabled() ? cache.stats().missCount() : 0L;
+    }
+    
+    /**
+     * Get eviction count.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return isEnabled() ? cache.stats().evictionCount() : 0L;
+    }
+    
+    /**
+     * Get estimated size.
+     *
+     * @return estimated count of cached results
+     */
+    public long getEstimatedSize() {
+        return isEnabled() ? cache.estimatedSize() : 0L;
+    }
+}
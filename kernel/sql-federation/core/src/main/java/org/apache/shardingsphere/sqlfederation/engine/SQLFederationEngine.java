@@ -238,7 +238,7 @@ public final class SQLFederationEngine implements AutoCloseable {
     
     private SQLFederationExecutionPlan compileQuery(final SQLFederationRelConverter converter, final String databaseName, final String schemaName, final ShardingSphereMetaData metaData,
                                                     final SQLStatementContext sqlStatementContext, final String sql, final Convention convention) {
-        SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(converter, convention);
+        SQLStatementCompiler sqlStatementCompiler = new SQLStatementCompiler(converter, convention, sqlFederationRule.getConfiguration().getQueryMemoryLimit() > 0L);
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine(databaseName, schemaName, sqlFederationRule.getConfiguration().getExecutionPlanCache());
         return compilerEngine.compile(buildCacheKey(metaData, sqlStatementContext, sql, sqlStatementCompiler), false);
     }
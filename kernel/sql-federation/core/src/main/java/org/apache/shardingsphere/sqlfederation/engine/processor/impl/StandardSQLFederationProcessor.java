@@ -23,11 +23,15 @@ import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
 import org.apache.calcite.adapter.enumerable.EnumerableRel;
 import org.apache.calcite.adapter.enumerable.EnumerableRel.Prefer;
 import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
 import org.apache.calcite.plan.Convention;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.runtime.Bindable;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.schema.Table;
 import org.apache.shardingsphere.database.connector.core.metadata.database.metadata.DialectDatabaseMetaData;
+import org.apache.shardingsphere.database.connector.core.metadata.database.system.SystemDatabase;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
@@ -42,25 +46,35 @@ import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecuti
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sqlfederation.cache.ResultCachingDataRowEnumerator;
+import org.apache.shardingsphere.sqlfederation.cache.SQLFederationResultCache;
+import org.apache.shardingsphere.sqlfederation.cache.SQLFederationResultCacheKey;
 import org.apache.shardingsphere.sqlfederation.compiler.SQLFederationExecutionPlan;
 import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
 import org.apache.shardingsphere.sqlfederation.compiler.exception.SQLFederationSchemaNotFoundException;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.spill.SpillBudget;
 import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.checker.DeterministicRelChecker;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.converter.SQLFederationRelConverter;
+import org.apache.shardingsphere.sqlfederation.config.SQLFederationRuleConfiguration;
 import org.apache.shardingsphere.sqlfederation.context.SQLFederationContext;
 import org.apache.shardingsphere.sqlfederation.engine.processor.SQLFederationProcessor;
 import org.apache.shardingsphere.sqlfederation.executor.context.ExecutorBindContext;
 import org.apache.shardingsphere.sqlfederation.executor.context.ExecutorContext;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.implementor.EnumerableScanImplementor;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
+import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Standard sql federation processor.
@@ -81,8 +95,9 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
         if (null == schemaPlus) {
             return;
         }
-        executorContext =
-                new ExecutorContext(prepareEngine, jdbcExecutor, callback, statistics, currentDatabaseName, currentSchemaName, federationContext.isPreview(), federationContext.getProcessId());
+        ExecutorService scanExecutorService = federationContext.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLFederationRule.class).getScanExecutorService();
+        executorContext = new ExecutorContext(prepareEngine, jdbcExecutor, callback, statistics, currentDatabaseName, currentSchemaName, federationContext.isPreview(),
+                federationContext.getProcessId(), scanExecutorService);
         EnumerableScanImplementor scanImplementor = new EnumerableScanImplementor(federationContext.getQueryContext(), compilerContext, executorContext);
         SQLStatementContext sqlStatementContext = federationContext.getQueryContext().getSqlStatementContext();
         Collection<SimpleTableSegment> simpleTables = sqlStatementContext.getTablesContext().getSimpleTables();
@@ -117,6 +132,10 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
     
     @Override
     public void release(final String currentDatabaseName, final String currentSchemaName, final QueryContext queryContext, final SchemaPlus schemaPlus) {
+        if (null != executorContext) {
+            executorContext.getAsyncEnumerators().forEach(Enumerator::close);
+            executorContext.getAsyncEnumerators().clear();
+        }
         Collection<SimpleTableSegment> simpleTables = queryContext.getSqlStatementContext().getTablesContext().getSimpleTables();
         for (SimpleTableSegment each : simpleTables) {
             Table table = getTable(currentDatabaseName, currentSchemaName, schemaPlus, each, queryContext.getSqlStatementContext().getSqlStatement().getDatabaseType(), queryContext.getSql());
@@ -126,14 +145,22 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
         }
     }
     
-    @SuppressWarnings("unchecked")
     @Override
     public ResultSet executePlan(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final JDBCExecutorCallback<? extends ExecuteResult> callback,
                                  final SQLFederationExecutionPlan executionPlan, final SQLFederationRelConverter converter, final SQLFederationContext federationContext,
                                  final SchemaPlus schemaPlus) {
-        Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) executionPlan.getPhysicalPlan(), Prefer.ARRAY);
-        Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
-        Enumerator<Object> enumerator = executablePlan.bind(new ExecutorBindContext(converter, params)).enumerator();
+        SQLFederationRule rule = federationContext.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLFederationRule.class);
+        Optional<SQLFederationResultCacheKey> resultCacheKey = createResultCacheKey(rule.getResultCache(), federationContext, executionPlan);
+        Optional<List<Object>> cachedRows = resultCacheKey.flatMap(optional -> rule.getResultCache().find(optional));
+        Enumerator<Object> enumerator;
+        if (cachedRows.isPresent()) {
+            enumerator = Linq4j.enumerator(cachedRows.get());
+        } else {
+            enumerator = createEnumerator(executionPlan, converter, federationContext, rule.getConfiguration());
+            if (resultCacheKey.isPresent()) {
+                enumerator = new ResultCachingDataRowEnumerator(enumerator, rule.getResultCache(), resultCacheKey.get());
+            }
+        }
         SelectStatementContext selectStatementContext = (SelectStatementContext) federationContext.getQueryContext().getSqlStatementContext();
         List<Projection> expandProjections = selectStatementContext.getProjectionsContext().getExpandProjections();
         SQLFederationResultSet result = new SQLFederationResultSet(
@@ -144,6 +171,44 @@ public final class StandardSQLFederationProcessor implements SQLFederationProces
         return result;
     }
     
+    private Optional<SQLFederationResultCacheKey> createResultCacheKey(final SQLFederationResultCache resultCache, final SQLFederationContext federationContext,
+                                                                       final SQLFederationExecutionPlan executionPlan) {
+        QueryContext queryContext = federationContext.getQueryContext();
+        if (!resultCache.isEnabled() || federationContext.isPreview() || queryContext.getConnectionContext().getTransactionContext().isInTransaction() || containsSystemSchema(queryContext)
+                || !DeterministicRelChecker.isDeterministic(executionPlan.getPhysicalPlan())) {
+            return Optional.empty();
+        }
+        Map<String, Long> tableVersions = new HashMap<>();
+        for (SimpleTableSegment each : queryContext.getSqlStatementContext().getTablesContext().getSimpleTables()) {
+            String databaseName = each.getTableName().getTableBoundInfo().map(optional -> optional.getOriginalDatabase().getValue()).orElse(executorContext.getCurrentDatabaseName());
+            String tableName = each.getTableName().getIdentifier().getValue();
+            tableVersions.put(resultCache.getTableKey(databaseName, tableName), resultCache.getTableVersion(databaseName, tableName));
+        }
+        // base tables of views are only visible in plan after views are expanded
+        for (RelOptTable each : RelOptUtil.findAllTables(executionPlan.getPhysicalPlan())) {
+            List<String> qualifiedName = each.getQualifiedName();
+            String databaseName = qualifiedName.get(0);
+            String tableName = qualifiedName.get(qualifiedName.size() - 1);
+            tableVersions.put(resultCache.getTableKey(databaseName, tableName), resultCache.getTableVersion(databaseName, tableName));
+        }
+        return Optional.of(new SQLFederationResultCacheKey(
+                executorContext.getCurrentDatabaseName(), executorContext.getCurrentSchemaName(), queryContext.getSql(), new ArrayList<>(queryContext.getParameters()), tableVersions));
+    }
+    
+    private boolean containsSystemSchema(final QueryContext queryContext) {
+        Collection<String> systemSchemas = new SystemDatabase(queryContext.getSqlStatementContext().getSqlStatement().getDatabaseType()).getSystemSchemas();
+        return queryContext.getSqlStatementContext().getTablesContext().getSchemaNames().stream().anyMatch(systemSchemas::contains);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Enumerator<Object> createEnumerator(final SQLFederationExecutionPlan executionPlan, final SQLFederationRelConverter converter, final SQLFederationContext federationContext,
+                                                final SQLFederationRuleConfiguration ruleConfig) {
+        Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) executionPlan.getPhysicalPlan(), Prefer.ARRAY);
+        Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
+        SpillBudget spillBudget = new SpillBudget(ruleConfig.getQueryMemoryLimit(), ruleConfig.getQuerySpillDiskLimit());
+        return executablePlan.bind(new ExecutorBindContext(converter, params, spillBudget)).enumerator();
+    }
+    
     private Map<String, Object> createParameters(final List<Object> params) {
         Map<String, Object> result = new HashMap<>(params.size(), 1F);
         int index = 0;
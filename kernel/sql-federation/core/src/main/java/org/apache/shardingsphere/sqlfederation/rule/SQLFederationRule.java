@@ -17,34 +17,61 @@
 
 package org.apache.shardingsphere.sqlfederation.rule;
 
+import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.schema.Table;
+import org.apache.calcite.schema.lookup.LikePattern;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.scope.GlobalRule;
+import org.apache.shardingsphere.sqlfederation.cache.SQLFederationResultCache;
 import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
 import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContextFactory;
 import org.apache.shardingsphere.sqlfederation.compiler.exception.InvalidExecutionPlanCacheConfigException;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationRuleConfiguration;
 import org.apache.shardingsphere.sqlfederation.constant.SQLFederationOrder;
+import org.apache.shardingsphere.sqlfederation.rule.attribute.SQLFederationTableCardinalityChangedListenerRuleAttribute;
+import org.apache.shardingsphere.sqlfederation.rule.attribute.SQLFederationTableDataModifiedListenerRuleAttribute;
 
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * SQL federation rule.
  */
 @Getter
-public final class SQLFederationRule implements GlobalRule {
+public final class SQLFederationRule implements GlobalRule, AutoCloseable {
     
     private final SQLFederationRuleConfiguration configuration;
     
     private final AtomicReference<CompilerContext> compilerContext;
     
-    public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Collection<ShardingSphereDatabase> databases) {
+    private final SQLFederationResultCache resultCache;
+    
+    private final ExecutorService scanExecutorService;
+    
+    private final RuleAttributes attributes;
+    
+    public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Collection<ShardingSphereDatabase> databases, final ConfigurationProperties props) {
         configuration = ruleConfig;
         compilerContext = new AtomicReference<>(CompilerContextFactory.create(databases));
         checkExecutionPlanCacheConfig(ruleConfig.getExecutionPlanCache());
+        resultCache = new SQLFederationResultCache(ruleConfig.getResultCache());
+        scanExecutorService = createScanExecutorService(props.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        attributes = resultCache.isEnabled()
+                ? new RuleAttributes(new SQLFederationTableCardinalityChangedListenerRuleAttribute(compilerContext), new SQLFederationTableDataModifiedListenerRuleAttribute(resultCache))
+                : new RuleAttributes(new SQLFederationTableCardinalityChangedListenerRuleAttribute(compilerContext));
     }
     
     private void checkExecutionPlanCacheConfig(final SQLFederationCacheOption executionPlanCache) {
@@ -53,9 +80,33 @@ public final class SQLFederationRule implements GlobalRule {
         ShardingSpherePreconditions.checkState(executionPlanCache.getMaximumSize() > 0, () -> new InvalidExecutionPlanCacheConfigException("maximumSize", executionPlanCache.getMaximumSize()));
     }
     
+    private ExecutorService createScanExecutorService(final int kernelExecutorSize) {
+        int maximumPoolSize = kernelExecutorSize > 0 ? kernelExecutorSize : Runtime.getRuntime().availableProcessors() * 2;
+        return TtlExecutors.getTtlExecutorService(
+                new ThreadPoolExecutor(0, maximumPoolSize, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), ExecutorThreadFactoryBuilder.build("sql-federation-scan-%d")));
+    }
+    
     @Override
     public void refresh(final Collection<ShardingSphereDatabase> databases, final GlobalRuleChangedType changedType) {
-        compilerContext.set(CompilerContextFactory.create(databases));
+        CompilerContext refreshedCompilerContext = CompilerContextFactory.create(databases);
+        copyTableCardinalities(compilerContext.get().getCalciteSchema().plus(), refreshedCompilerContext.getCalciteSchema().plus());
+        compilerContext.set(refreshedCompilerContext);
+    }
+    
+    private void copyTableCardinalities(final SchemaPlus originalSchema, final SchemaPlus refreshedSchema) {
+        for (String each : refreshedSchema.tables().getNames(LikePattern.any())) {
+            Table originalTable = originalSchema.tables().get(each);
+            Table refreshedTable = refreshedSchema.tables().get(each);
+            if (originalTable instanceof SQLFederationTable && refreshedTable instanceof SQLFederationTable) {
+                ((SQLFederationTable) originalTable).findStatistic().ifPresent(optional -> ((SQLFederationTable) refreshedTable).setCardinality(optional.getCardinality()));
+            }
+        }
+        for (String each : refreshedSchema.subSchemas().getNames(LikePattern.any())) {
+            SchemaPlus originalSubSchema = originalSchema.subSchemas().get(each);
+            if (null != originalSubSchema) {
+                copyTableCardinalities(originalSubSchema, refreshedSchema.subSchemas().get(each));
+            }
+        }
     }
     
     /**
@@ -71,4 +122,9 @@ public final class SQLFederationRule implements GlobalRule {
     public int getOrder() {
         return SQLFederationOrder.ORDER;
     }
+    
+    @Override
+    public void close() {
+        scanExecutorService.shutdownNow();
+    }
 }
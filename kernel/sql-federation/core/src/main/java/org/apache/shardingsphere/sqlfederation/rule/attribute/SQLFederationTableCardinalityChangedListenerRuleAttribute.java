@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.rule.attribute;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.schema.Table;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.TableCardinality;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableCardinalityChangedListenerRuleAttribute;
+import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * SQL federation table cardinality changed listener rule attribute.
+ */
+@RequiredArgsConstructor
+public final class SQLFederationTableCardinalityChangedListenerRuleAttribute implements TableCardinalityChangedListenerRuleAttribute {
+    
+    private final AtomicReference<CompilerContext> compilerContext;
+    
+    @Override
+    public void onTableCardinalityChanged(final String databaseName, final String schemaName, final String tableName, final TableCardinality cardinality) {
+        findTable(compilerContext.get().getCalciteSchema().plus(), databaseName, schemaName, tableName).ifPresent(optional -> optional.setCardinality(cardinality));
+    }
+    
+    private Optional<SQLFederationTable> findTable(final SchemaPlus rootSchema, final String databaseName, final String schemaName, final String tableName) {
+        SchemaPlus databaseSchema = rootSchema.subSchemas().get(databaseName);
+        if (null == databaseSchema) {
+            return Optional.empty();
+        }
+        SchemaPlus schema = databaseSchema.subSchemas().get(schemaName);
+        Table result = (null == schema ? databaseSchema : schema).tables().get(tableName);
+        return result instanceof SQLFederationTable ? Optional.of((SQLFederationTable) result) : Optional.empty();
+    }
+}
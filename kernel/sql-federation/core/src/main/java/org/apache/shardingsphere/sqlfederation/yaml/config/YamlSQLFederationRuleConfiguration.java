@@ -37,6 +37,12 @@ public final class YamlSQLFederationRuleConfiguration implements YamlGlobalRuleC
     
     private YamlSQLFederationExecutionPlanCacheRuleConfiguration executionPlanCache;
     
+    private long queryMemoryLimit;
+    
+    private long querySpillDiskLimit;
+    
+    private YamlSQLFederationResultCacheRuleConfiguration resultCache;
+    
     @Override
     public Class<SQLFederationRuleConfiguration> getRuleConfigurationType() {
         return SQLFederationRuleConfiguration.class;
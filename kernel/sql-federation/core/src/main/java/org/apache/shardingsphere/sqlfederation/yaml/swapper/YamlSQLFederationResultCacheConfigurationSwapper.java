@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.yaml.swapper;
+
+import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
+import org.apache.shardingsphere.sqlfederation.config.SQLFederationResultCacheOption;
+import org.apache.shardingsphere.sqlfederation.yaml.config.YamlSQLFederationResultCacheRuleConfiguration;
+
+/**
+ * YAML SQL federation result cache configuration swapper.
+ */
+public final class YamlSQLFederationResultCacheConfigurationSwapper implements YamlConfigurationSwapper<YamlSQLFederationResultCacheRuleConfiguration, SQLFederationResultCacheOption> {
+    
+    @Override
+    public YamlSQLFederationResultCacheRuleConfiguration swapToYamlConfiguration(final SQLFederationResultCacheOption data) {
+        YamlSQLFederationResultCacheRuleConfiguration result = new YamlSQLFederationResultCacheRuleConfiguration();
+        result.setMaximumBytes(data.getMaximumBytes());
+        result.setTimeToLiveMilliseconds(data.getTimeToLiveMilliseconds());
+        return result;
+    }
+    
+    @Override
+    public SQLFederationResultCacheOption swapToObject(final YamlSQLFederationResultCacheRuleConfiguration yamlConfig) {
+        return new SQLFederationResultCacheOption(yamlConfig.getMaximumBytes(), yamlConfig.getTimeToLiveMilliseconds());
+    }
+}
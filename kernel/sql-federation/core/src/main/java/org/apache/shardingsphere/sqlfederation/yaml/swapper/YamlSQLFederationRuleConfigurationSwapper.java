@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sqlfederation.yaml.swapper;
 
 import org.apache.shardingsphere.infra.yaml.config.swapper.rule.YamlRuleConfigurationSwapper;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
+import org.apache.shardingsphere.sqlfederation.config.SQLFederationResultCacheOption;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationRuleConfiguration;
 import org.apache.shardingsphere.sqlfederation.constant.SQLFederationOrder;
 import org.apache.shardingsphere.sqlfederation.yaml.config.YamlSQLFederationRuleConfiguration;
@@ -30,19 +31,30 @@ public final class YamlSQLFederationRuleConfigurationSwapper implements YamlRule
     
     private final YamlSQLFederationExecutionPlanCacheConfigurationSwapper executionPlanCacheConfigSwapper = new YamlSQLFederationExecutionPlanCacheConfigurationSwapper();
     
+    private final YamlSQLFederationResultCacheConfigurationSwapper resultCacheConfigSwapper = new YamlSQLFederationResultCacheConfigurationSwapper();
+    
     @Override
     public YamlSQLFederationRuleConfiguration swapToYamlConfiguration(final SQLFederationRuleConfiguration data) {
         YamlSQLFederationRuleConfiguration result = new YamlSQLFederationRuleConfiguration();
         result.setSqlFederationEnabled(data.isSqlFederationEnabled());
         result.setAllQueryUseSQLFederation(data.isAllQueryUseSQLFederation());
         result.setExecutionPlanCache(executionPlanCacheConfigSwapper.swapToYamlConfiguration(data.getExecutionPlanCache()));
+        result.setQueryMemoryLimit(data.getQueryMemoryLimit());
+        result.setQuerySpillDiskLimit(data.getQuerySpillDiskLimit());
+        if (data.getResultCache().isEnabled()) {
+            result.setResultCache(resultCacheConfigSwapper.swapToYamlConfiguration(data.getResultCache()));
+        }
         return result;
     }
     
     @Override
     public SQLFederationRuleConfiguration swapToObject(final YamlSQLFederationRuleConfiguration yamlConfig) {
         SQLFederationCacheOption executionPlanCacheConfig = executionPlanCacheConfigSwapper.swapToObject(yamlConfig.getExecutionPlanCache());
-        return new SQLFederationRuleConfiguration(yamlConfig.isSqlFederationEnabled(), yamlConfig.isAllQueryUseSQLFederation(), executionPlanCacheConfig);
+        SQLFederationResultCacheOption resultCacheConfig = null == yamlConfig.getResultCache()
+                ? new SQLFederationResultCacheOption(0L, 0L)
+                : resultCacheConfigSwapper.swapToObject(yamlConfig.getResultCache());
+        return new SQLFederationRuleConfiguration(yamlConfig.isSqlFederationEnabled(), yamlConfig.isAllQueryUseSQLFederation(), executionPlanCacheConfig,
+                yamlConfig.getQueryMemoryLimit(), yamlConfig.getQuerySpillDiskLimit(), resultCacheConfig);
     }
     
     @Override
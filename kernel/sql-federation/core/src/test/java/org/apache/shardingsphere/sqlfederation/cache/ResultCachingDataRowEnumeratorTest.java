@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.cache;
+
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.shardingsphere.sqlfederation.config.SQLFederationResultCacheOption;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultCachingDataRowEnumeratorTest {
+    
+    private final SQLFederationResultCacheKey key = new SQLFederationResultCacheKey("foo_db", "foo_db", "SELECT * FROM t_order", Collections.emptyList(), Collections.emptyMap());
+    
+    @Test
+    void assertCacheWhenAllRowsEnumerated() {
+        SQLFederationResultCache resultCache = new SQLFederationResultCache(new SQLFederationResultCacheOption(1024L * 1024L, 0L));
+        ResultCachingDataRowEnumerator actual = new ResultCachingDataRowEnumerator(Linq4j.enumerator(Arrays.asList(new Object[]{1, "foo"}, new Object[]{2, "bar"})), resultCache, key);
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(new Object[]{1, "foo"}));
+        assertFalse(resultCache.find(key).isPresent());
+        assertTrue(actual.moveNext());
+        assertFalse(actual.moveNext());
+        actual.close();
+        Optional<List<Object>> actualRows = resultCache.find(key);
+        assertTrue(actualRows.isPresent());
+        assertThat(actualRows.get().size(), is(2));
+        assertThat(actualRows.get().get(0), is(new Object[]{1, "foo"}));
+        assertThat(actualRows.get().get(1), is(new Object[]{2, "bar"}));
+    }
+    
+    @Test
+    void assertNotCacheWhenClosedBeforeAllRowsEnumerated() {
+        SQLFederationResultCache resultCache = new SQLFederationResultCache(new SQLFederationResultCacheOption(1024L * 1024L, 0L));
+        ResultCachingDataRowEnumerator actual = new ResultCachingDataRowEnumerator(Linq4j.enumerator(Arrays.asList(1, 2)), resultCache, key);
+        assertTrue(actual.moveNext());
+        actual.close();
+        assertFalse(resultCache.find(key).isPresent());
+    }
+    
+    @Test
+    void assertNotCacheWhenExceedMaximumBytes() {
+        SQLFederationResultCache resultCache = new SQLFederationResultCache(new SQLFederationResultCacheOption(64L, 0L));
+        ResultCachingDataRowEnumerator actual = new ResultCachingDataRowEnumerator(Linq4j.enumerator(Arrays.asList("foo", "bar")), resultCache, key);
+        assertTrue(actual.moveNext());
+        assertTrue(actual.moveNext());
+        assertFalse(actual.moveNext());
+        assertFalse(resultCache.find(key).isPresent());
+    }
+}
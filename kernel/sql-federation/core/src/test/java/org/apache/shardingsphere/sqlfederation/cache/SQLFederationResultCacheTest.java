@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.cache;
+
+import org.apache.shardingsphere.sqlfederation.config.SQLFederationResultCacheOption;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFederationResultCacheTest {
+    
+    @Test
+    void assertIsNotEnabled() {
+        SQLFederationResultCache actual = new SQLFederationResultCache(new SQLFederationResultCacheOption(0L, 0L));
+        assertFalse(actual.isEnabled());
+        assertThat(actual.getHitCount(), is(0L));
+        assertThat(actual.getEstimatedSize(), is(0L));
+    }
+    
+    @Test
+    void assertFindWithTableVersion() {
+        SQLFederationResultCache actual = new SQLFederationResultCache(new SQLFederationResultCacheOption(1024L * 1024L, 60000L));
+        assertTrue(actual.isEnabled());
+        SQLFederationResultCacheKey key = createKey(actual);
+        assertFalse(actual.find(key).isPresent());
+        actual.put(key, new SQLFederationCachedResult(Arrays.asList(1, 2), 128L));
+        Optional<List<Object>> actualRows = actual.find(createKey(actual));
+        assertTrue(actualRows.isPresent());
+        assertThat(actualRows.get(), is(Arrays.asList(1, 2)));
+        actual.increaseTableVersion("FOO_DB", "T_ORDER");
+        assertThat(actual.getTableVersion("foo_db", "t_order"), is(1L));
+        assertFalse(actual.find(createKey(actual)).isPresent());
+        assertThat(actual.getHitCount(), is(1L));
+        assertThat(actual.getMissCount(), is(2L));
+    }
+    
+    private SQLFederationResultCacheKey createKey(final SQLFederationResultCache resultCache) {
+        return new SQLFederationResultCacheKey("foo_db", "foo_db", "SELECT * FROM t_order o JOIN t_user u ON o.user_id = u.user_id WHERE o.status = ?", Collections.singletonList("OK"),
+                Collections.singletonMap(resultCache.getTableKey("foo_db", "t_order"), resultCache.getTableVersion("foo_db", "t_order")));
+    }
+}
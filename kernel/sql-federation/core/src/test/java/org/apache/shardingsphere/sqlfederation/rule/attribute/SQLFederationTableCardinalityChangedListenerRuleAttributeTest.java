@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.rule.attribute;
+
+import org.apache.calcite.jdbc.CalciteSchema;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.TableCardinality;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.compiler.metadata.schema.SQLFederationTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationTableCardinalityChangedListenerRuleAttributeTest {
+    
+    private CalciteSchema calciteSchema;
+    
+    private SQLFederationTableCardinalityChangedListenerRuleAttribute ruleAttribute;
+    
+    @BeforeEach
+    void setUp() {
+        ShardingSphereTable table = new ShardingSphereTable("foo_tbl", Collections.singleton(new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false, false)),
+                Collections.emptyList(), Collections.emptyList());
+        calciteSchema = CalciteSchema.createRootSchema(true);
+        calciteSchema.add("foo_db", new SQLFederationSchema("foo_db", new ShardingSphereSchema("foo_db", Collections.singleton(table), Collections.emptyList()),
+                TypedSPILoader.getService(DatabaseType.class, "MySQL")));
+        CompilerContext compilerContext = mock(CompilerContext.class);
+        when(compilerContext.getCalciteSchema()).thenReturn(calciteSchema);
+        ruleAttribute = new SQLFederationTableCardinalityChangedListenerRuleAttribute(new AtomicReference<>(compilerContext));
+    }
+    
+    @Test
+    void assertOnTableCardinalityChanged() {
+        ruleAttribute.onTableCardinalityChanged("foo_db", "foo_db", "foo_tbl", new TableCardinality(10L, Collections.emptyMap(), Collections.emptyMap()));
+        assertThat(getTable().getStatistic().getRowCount(), is(10D));
+    }
+    
+    @Test
+    void assertOnTableCardinalityChangedWithUnknownDatabase() {
+        ruleAttribute.onTableCardinalityChanged("bar_db", "bar_db", "foo_tbl", new TableCardinality(10L, Collections.emptyMap(), Collections.emptyMap()));
+        assertFalse(getTable().findStatistic().isPresent());
+    }
+    
+    private SQLFederationTable getTable() {
+        return (SQLFederationTable) calciteSchema.plus().subSchemas().get("foo_db").tables().get("foo_tbl");
+    }
+}
@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.sqlfederation.yaml;
 
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationCacheOption;
+import org.apache.shardingsphere.sqlfederation.config.SQLFederationResultCacheOption;
 import org.apache.shardingsphere.sqlfederation.config.SQLFederationRuleConfiguration;
 import org.apache.shardingsphere.test.it.yaml.YamlRuleConfigurationIT;
 
 class SQLFederationRuleConfigurationYamlIT extends YamlRuleConfigurationIT {
     
     SQLFederationRuleConfigurationYamlIT() {
-        super("yaml/sql-federation-rule.yaml", new SQLFederationRuleConfiguration(true, true, new SQLFederationCacheOption(128, 1024)));
+        super("yaml/sql-federation-rule.yaml", new SQLFederationRuleConfiguration(true, true, new SQLFederationCacheOption(128, 1024), 67108864L, 1073741824L,
+                new SQLFederationResultCacheOption(33554432L, 60000L)));
     }
 }
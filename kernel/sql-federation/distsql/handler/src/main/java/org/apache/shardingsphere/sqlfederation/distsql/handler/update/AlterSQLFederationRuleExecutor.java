@@ -42,7 +42,8 @@ public final class AlterSQLFederationRuleExecutor implements GlobalRuleDefinitio
         SQLFederationCacheOption executionPlanCache = null == sqlStatement.getExecutionPlanCache()
                 ? rule.getConfiguration().getExecutionPlanCache()
                 : createCacheOption(rule.getConfiguration().getExecutionPlanCache(), sqlStatement.getExecutionPlanCache());
-        return new SQLFederationRuleConfiguration(sqlFederationEnabled, allQueryUseSQLFederation, executionPlanCache);
+        return new SQLFederationRuleConfiguration(sqlFederationEnabled, allQueryUseSQLFederation, executionPlanCache,
+                rule.getConfiguration().getQueryMemoryLimit(), rule.getConfiguration().getQuerySpillDiskLimit(), rule.getConfiguration().getResultCache());
     }
     
     private SQLFederationCacheOption createCacheOption(final SQLFederationCacheOption cacheOption, final CacheOptionSegment segment) {
@@ -23,6 +23,7 @@ import org.apache.calcite.DataContext;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
 import org.apache.calcite.linq4j.QueryProvider;
 import org.apache.calcite.schema.SchemaPlus;
+import org.apache.shardingsphere.sqlfederation.compiler.implementor.spill.SpillBudget;
 import org.apache.shardingsphere.sqlfederation.compiler.rel.converter.SQLFederationRelConverter;
 
 import java.util.Map;
@@ -38,6 +39,8 @@ public final class ExecutorBindContext implements DataContext {
     @Getter
     private final Map<String, Object> parameters;
     
+    private final SpillBudget spillBudget;
+    
     @Override
     public SchemaPlus getRootSchema() {
         return converter.getSchemaPlus();
@@ -55,6 +58,6 @@ public final class ExecutorBindContext implements DataContext {
     
     @Override
     public Object get(final String name) {
-        return parameters.get(name);
+        return SpillBudget.DATA_CONTEXT_NAME.equals(name) ? spillBudget : parameters.get(name);
     }
 }
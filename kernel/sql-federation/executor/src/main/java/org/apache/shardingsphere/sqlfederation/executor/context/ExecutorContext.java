@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sqlfederation.executor.context;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -33,6 +34,7 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Executor context.
@@ -47,6 +49,8 @@ public final class ExecutorContext {
     
     private final Collection<ExecutionUnit> previewExecutionUnits = new LinkedList<>();
     
+    private final Collection<Enumerator<Object>> asyncEnumerators = new LinkedList<>();
+    
     private final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine;
     
     private final JDBCExecutor jdbcExecutor;
@@ -62,4 +66,6 @@ public final class ExecutorContext {
     private final boolean preview;
     
     private final String processId;
+    
+    private final ExecutorService scanExecutorService;
 }
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.async;
+
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.shardingsphere.infra.exception.kernel.connection.SQLExecutionInterruptedException;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Async data row enumerator, which pulls rows of delegate enumerator in another thread into bounded buffer.
+ * Rows are put into buffer in groups which grow from one row up to batch size, and a partial group is put as soon as consumer is waiting for rows.
+ *
+ * <p>Groups only batch the handoff between producer and consumer, it is not a columnar execution path: rows are still boxed object arrays,
+ * and filters and projections which are not pushed down are evaluated row by row by Calcite.</p>
+ */
+public final class AsyncDataRowEnumerator implements Enumerator<Object> {
+    
+    private static final Object[] END_BATCH = new Object[0];
+    
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+    
+    private final Collection<Statement> statements;
+    
+    private final int batchSize;
+    
+    private final BlockingQueue<Object[]> buffer;
+    
+    private final Future<?> producerFuture;
+    
+    private volatile boolean closed;
+    
+    private volatile Exception producerException;
+    
+    private volatile boolean consumerWaiting;
+    
+    private boolean finished;
+    
+    private Object[] currentBatch = END_BATCH;
+    
+    private int currentIndex;
+    
+    private Object currentRow;
+    
+    public AsyncDataRowEnumerator(final Callable<Enumerator<Object>> delegateCreator, final Collection<Statement> statements, final int batchSize, final int bufferBatchCount,
+                                  final ExecutorService executorService) {
+        this.statements = statements;
+        this.batchSize = batchSize;
+        buffer = new ArrayBlockingQueue<>(bufferBatchCount);
+        producerFuture = executorService.submit(() -> produce(delegateCreator));
+    }
+    
+    private void produce(final Callable<Enumerator<Object>> delegateCreator) {
+        try (Enumerator<Object> delegate = delegateCreator.call()) {
+            Object[] batch = new Object[1];
+            int size = 0;
+            while (!closed && delegate.moveNext()) {
+                batch[size++] = delegate.current();
+                if (batch.length == size) {
+                    put(batch);
+                    batch = new Object[Math.min(batch.length * 2, batchSize)];
+                    size = 0;
+                } else if (consumerWaiting) {
+                    consumerWaiting = false;
+                    put(Arrays.copyOf(batch, size));
+                    size = 0;
+                }
+            }
+            if (size > 0) {
+                put(Arrays.copyOf(batch, size));
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            producerException = ex;
+        } finally {
+            put(END_BATCH);
+        }
+    }
+    
+    private void put(final Object[] batch) {
+        boolean offered = false;
+        try {
+            while (!closed && !offered) {
+                offered = buffer.offer(batch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            closed = true;
+        }
+    }
+    
+    @Override
+    public Object current() {
+        return currentRow;
+    }
+    
+    @SneakyThrows(Exception.class)
+    @Override
+    public boolean moveNext() {
+        if (finished || closed) {
+            return false;
+        }
+        if (currentIndex == currentBatch.length) {
+            currentBatch = take();
+            currentIndex = 0;
+        }
+        if (END_BATCH == currentBatch) {
+            finished = true;
+            currentRow = null;
+            if (null != producerException) {
+                throw producerException;
+            }
+            return false;
+        }
+        currentRow = currentBatch[currentIndex++];
+        return true;
+    }
+    
+    private Object[] take() {
+        Object[] result = buffer.poll();
+        if (null != result) {
+            return result;
+        }
+        consumerWaiting = true;
+        try {
+            return buffer.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLExecutionInterruptedException();
+        } finally {
+            consumerWaiting = false;
+        }
+    }
+    
+    @Override
+    public void reset() {
+    }
+    
+    @SneakyThrows(ExecutionException.class)
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer.clear();
+        currentBatch = END_BATCH;
+        currentRow = null;
+        if (!producerFuture.isDone()) {
+            cancelStatements();
+        }
+        try {
+            producerFuture.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void cancelStatements() {
+        for (Statement each : statements) {
+            try {
+                each.cancel();
+            } catch (final SQLException ignored) {
+            }
+        }
+    }
+}
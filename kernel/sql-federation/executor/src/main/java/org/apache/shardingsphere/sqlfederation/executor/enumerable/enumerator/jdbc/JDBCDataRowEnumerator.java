@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc;
 
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.calcite.linq4j.Enumerator;
 import org.apache.shardingsphere.infra.exception.external.sql.type.wrapper.SQLWrapperException;
@@ -33,18 +32,25 @@ import java.util.Collection;
 
 /**
  * JDBC data row enumerator.
+ *
+ * <p>Values are read from merged result cell by cell into one boxed row, typed column batches are not built.</p>
  */
-@RequiredArgsConstructor
 public final class JDBCDataRowEnumerator implements Enumerator<Object> {
     
     private final MergedResult queryResult;
     
-    private final QueryResultMetaData metaData;
-    
     private final Collection<Statement> statements;
     
+    private final int columnCount;
+    
     private Object currentRow;
     
+    public JDBCDataRowEnumerator(final MergedResult queryResult, final QueryResultMetaData metaData, final Collection<Statement> statements) throws SQLException {
+        this.queryResult = queryResult;
+        this.statements = statements;
+        columnCount = metaData.getColumnCount();
+    }
+    
     @Override
     public Object current() {
         return currentRow;
@@ -65,11 +71,15 @@ public final class JDBCDataRowEnumerator implements Enumerator<Object> {
     }
     
     private void setCurrentRow() throws SQLException {
-        Object[] rowValues = new Object[metaData.getColumnCount()];
-        for (int i = 0; i < metaData.getColumnCount(); i++) {
+        if (1 == columnCount) {
+            currentRow = getValue(0);
+            return;
+        }
+        Object[] rowValues = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
             rowValues[i] = getValue(i);
         }
-        currentRow = 1 == metaData.getColumnCount() ? rowValues[0] : rowValues;
+        currentRow = rowValues;
     }
     
     private Object getValue(final int index) throws SQLException {
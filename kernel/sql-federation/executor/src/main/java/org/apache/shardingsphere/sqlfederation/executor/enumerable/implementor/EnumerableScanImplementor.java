@@ -53,7 +53,9 @@ import org.apache.shardingsphere.sqlfederation.compiler.context.CompilerContext;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementor;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.ScanImplementorContext;
 import org.apache.shardingsphere.sqlfederation.compiler.implementor.enumerator.EmptyDataRowEnumerator;
+import org.apache.shardingsphere.sqlfederation.compiler.rel.builder.BindFilterRelBuilder;
 import org.apache.shardingsphere.sqlfederation.executor.context.ExecutorContext;
+import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.async.AsyncDataRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc.JDBCDataRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.memory.MemoryDataRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.memory.MemoryTableStatisticsBuilder;
@@ -67,6 +69,9 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -75,6 +80,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public final class EnumerableScanImplementor implements ScanImplementor {
     
+    private static final int ASYNC_SCAN_BATCH_SIZE = 256;
+    
+    private static final int ASYNC_SCAN_BUFFER_BATCH_COUNT = 4;
+    
     private final QueryContext queryContext;
     
     private final CompilerContext compilerContext;
@@ -95,7 +104,12 @@ public final class EnumerableScanImplementor implements ScanImplementor {
             executorContext.getPreviewExecutionUnits().addAll(executionContext.getExecutionUnits());
             return createEmptyEnumerable();
         }
-        return createJDBCEnumerable(scanQueryContext, queryContext.getMetaData().getDatabase(executorContext.getCurrentDatabaseName()), executionContext);
+        ShardingSphereDatabase database = queryContext.getMetaData().getDatabase(executorContext.getCurrentDatabaseName());
+        return isAsyncScanAvailable(scanContext) ? createAsyncJDBCEnumerable(scanQueryContext, database, executionContext) : createJDBCEnumerable(scanQueryContext, database, executionContext);
+    }
+    
+    private boolean isAsyncScanAvailable(final ScanImplementorContext scanContext) {
+        return null != executorContext.getScanExecutorService() && 0 == scanContext.getBindParams().length && !queryContext.getConnectionContext().getTransactionContext().isInDistributedTransaction();
     }
     
     private boolean containsSystemSchema(final SQLStatementContext sqlStatementContext) {
@@ -115,21 +129,63 @@ public final class EnumerableScanImplementor implements ScanImplementor {
             @SneakyThrows
             @Override
             public Enumerator<Object> enumerator() {
-                computeConnectionOffsets(executionContext);
-                ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepare(database, executionContext);
-                setParameters(executionGroupContext.getInputGroups());
-                ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(executorContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
-                processEngine.executeSQL(executionGroupContext, queryContext);
-                List<QueryResult> queryResults =
-                        executorContext.getJdbcExecutor().execute(executionGroupContext, executorContext.getCallback()).stream().map(QueryResult.class::cast).collect(Collectors.toList());
-                MergeEngine mergeEngine = new MergeEngine(queryContext.getMetaData(), database, queryContext.getMetaData().getProps(), queryContext.getConnectionContext());
-                MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
-                Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
-                return new JDBCDataRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+                ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareExecution(queryContext, database, executionContext);
+                return execute(queryContext, database, executionGroupContext);
+            }
+        };
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private AbstractEnumerable<Object> createAsyncJDBCEnumerable(final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext executionContext) {
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareExecution(queryContext, database, executionContext);
+        Callable<Enumerator<Object>> preparedExecution = () -> execute(queryContext, database, executionGroupContext);
+        Optional<Enumerator<Object>> asyncEnumerator = createAsyncEnumerator(preparedExecution, getStatements(executionGroupContext.getInputGroups()));
+        AbstractEnumerable<Object> jdbcEnumerable = createJDBCEnumerable(queryContext, database, executionContext);
+        AtomicBoolean preparedExecutionUsed = new AtomicBoolean();
+        return new AbstractEnumerable<Object>() {
+            
+            @SneakyThrows(Exception.class)
+            @Override
+            public Enumerator<Object> enumerator() {
+                if (!preparedExecutionUsed.compareAndSet(false, true)) {
+                    return jdbcEnumerable.enumerator();
+                }
+                return asyncEnumerator.isPresent() ? asyncEnumerator.get() : preparedExecution.call();
             }
         };
     }
     
+    private Optional<Enumerator<Object>> createAsyncEnumerator(final Callable<Enumerator<Object>> preparedExecution, final Collection<Statement> statements) {
+        try {
+            Enumerator<Object> result = new AsyncDataRowEnumerator(preparedExecution, statements, ASYNC_SCAN_BATCH_SIZE, ASYNC_SCAN_BUFFER_BATCH_COUNT, executorContext.getScanExecutorService());
+            executorContext.getAsyncEnumerators().add(result);
+            return Optional.of(result);
+        } catch (final RejectedExecutionException ignored) {
+            // all scan threads are busy, execute on calling thread because queuing could deadlock with scans waiting for buffer space
+            return Optional.empty();
+        }
+    }
+    
+    private ExecutionGroupContext<JDBCExecutionUnit> prepareExecution(final QueryContext queryContext, final ShardingSphereDatabase database,
+                                                                      final ExecutionContext executionContext) throws SQLException {
+        computeConnectionOffsets(executionContext);
+        ExecutionGroupContext<JDBCExecutionUnit> result = prepare(database, executionContext);
+        setParameters(result.getInputGroups());
+        ShardingSpherePreconditions.checkState(!ProcessRegistry.getInstance().get(executorContext.getProcessId()).isInterrupted(), SQLExecutionInterruptedException::new);
+        processEngine.executeSQL(result, queryContext);
+        return result;
+    }
+    
+    private Enumerator<Object> execute(final QueryContext queryContext, final ShardingSphereDatabase database,
+                                       final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
+        List<QueryResult> queryResults =
+                executorContext.getJdbcExecutor().execute(executionGroupContext, executorContext.getCallback()).stream().map(QueryResult.class::cast).collect(Collectors.toList());
+        MergeEngine mergeEngine = new MergeEngine(queryContext.getMetaData(), database, queryContext.getMetaData().getProps(), queryContext.getConnectionContext());
+        MergedResult mergedResult = mergeEngine.merge(queryResults, queryContext.getSqlStatementContext());
+        Collection<Statement> statements = getStatements(executionGroupContext.getInputGroups());
+        return new JDBCDataRowEnumerator(mergedResult, queryResults.get(0).getMetaData(), statements);
+    }
+    
     private ExecutionGroupContext<JDBCExecutionUnit> prepare(final ShardingSphereDatabase database, final ExecutionContext executionContext) throws SQLException {
         // TODO pass grantee from proxy and jdbc adapter
         return executorContext.getPrepareEngine().prepare(database.getName(), executionContext.getRouteContext(), executorContext.getConnectionOffsets(), executionContext.getExecutionUnits(),
@@ -201,19 +257,19 @@ public final class EnumerableScanImplementor implements ScanImplementor {
     private QueryContext createQueryContext(final ShardingSphereMetaData metaData, final ScanImplementorContext sqlString, final DatabaseType databaseType, final boolean useCache) {
         String sql = sqlString.getSql().replace(System.lineSeparator(), " ");
         SQLStatement sqlStatement = compilerContext.getSqlParserRule().getSQLParserEngine(databaseType).parse(sql, useCache);
-        List<Object> params = getParameters(sqlString.getParamIndexes());
+        List<Object> params = getParameters(sqlString.getParamIndexes(), sqlString.getBindParams());
         HintValueContext hintValueContext = new HintValueContext();
         SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, executorContext.getCurrentDatabaseName(), hintValueContext).bind(sqlStatement);
         return new QueryContext(sqlStatementContext, sql, params, hintValueContext, queryContext.getConnectionContext(), metaData, useCache);
     }
     
-    private List<Object> getParameters(final int[] paramIndexes) {
+    private List<Object> getParameters(final int[] paramIndexes, final Object[] bindParams) {
         if (null == paramIndexes) {
             return Collections.emptyList();
         }
         List<Object> result = new ArrayList<>(paramIndexes.length);
         for (int each : paramIndexes) {
-            result.add(queryContext.getParameters().get(each));
+            result.add(each < 0 ? bindParams[BindFilterRelBuilder.getBindParamIndex(each)] : queryContext.getParameters().get(each));
         }
         return result;
     }
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.async;
+
+import lombok.SneakyThrows;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class AsyncDataRowEnumeratorTest {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newCachedThreadPool();
+    
+    @AfterAll
+    static void tearDown() {
+        EXECUTOR_SERVICE.shutdown();
+    }
+    
+    @Test
+    void assertMoveNext() {
+        Enumerator<Object> delegate = spy(Linq4j.enumerator(Arrays.asList(new Object[]{1, "foo"}, null, 2)));
+        try (AsyncDataRowEnumerator actual = new AsyncDataRowEnumerator(() -> delegate, Collections.emptyList(), 1, 1, EXECUTOR_SERVICE)) {
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), is(new Object[]{1, "foo"}));
+            assertTrue(actual.moveNext());
+            assertNull(actual.current());
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), is(2));
+            assertFalse(actual.moveNext());
+            assertFalse(actual.moveNext());
+        }
+        verify(delegate).close();
+    }
+    
+    @Test
+    void assertMoveNextWithBatches() {
+        Enumerator<Object> delegate = Linq4j.enumerator(Arrays.asList(1, null, 3, 4, 5));
+        try (AsyncDataRowEnumerator actual = new AsyncDataRowEnumerator(() -> delegate, Collections.emptyList(), 2, 1, EXECUTOR_SERVICE)) {
+            List<Object> actualRows = new LinkedList<>();
+            while (actual.moveNext()) {
+                actualRows.add(actual.current());
+            }
+            assertThat(actualRows, is(Arrays.asList(1, null, 3, 4, 5)));
+            assertFalse(actual.moveNext());
+        }
+    }
+    
+    @Test
+    void assertMoveNextWithPartialBatchWhenConsumerWaiting() {
+        CountDownLatch firstRowConsumed = new CountDownLatch(1);
+        Iterator<Object> rows = new Iterator<Object>() {
+            
+            private int index;
+            
+            @Override
+            public boolean hasNext() {
+                return index < 2;
+            }
+            
+            @SneakyThrows(InterruptedException.class)
+            @Override
+            public Object next() {
+                if (1 == index) {
+                    assertTrue(firstRowConsumed.await(10L, TimeUnit.SECONDS));
+                }
+                return ++index;
+            }
+        };
+        try (AsyncDataRowEnumerator actual = new AsyncDataRowEnumerator(() -> Linq4j.iterableEnumerator(() -> rows), Collections.emptyList(), 256, 1, EXECUTOR_SERVICE)) {
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), is(1));
+            firstRowConsumed.countDown();
+            assertTrue(actual.moveNext());
+            assertThat(actual.current(), is(2));
+            assertFalse(actual.moveNext());
+        }
+    }
+    
+    @Test
+    void assertMoveNextWithException() {
+        try (AsyncDataRowEnumerator actual = new AsyncDataRowEnumerator(() -> {
+            throw new SQLException("foo");
+        }, Collections.emptyList(), 1, 1, EXECUTOR_SERVICE)) {
+            assertThrows(SQLException.class, actual::moveNext);
+        }
+    }
+    
+    @Test
+    void assertCloseBeforeConsumed() {
+        Enumerator<Object> delegate = spy(Linq4j.enumerator(Collections.nCopies(100, (Object) 1)));
+        AsyncDataRowEnumerator actual = new AsyncDataRowEnumerator(() -> delegate, Collections.emptyList(), 1, 1, EXECUTOR_SERVICE);
+        assertTrue(actual.moveNext());
+        actual.close();
+        verify(delegate).close();
+        assertFalse(actual.moveNext());
+    }
+    
+    @Test
+    void assertCloseCancelsRunningStatements() throws SQLException, InterruptedException {
+        CountDownLatch executionStarted = new CountDownLatch(1);
+        CountDownLatch executionCancelled = new CountDownLatch(1);
+        Statement statement = mock(Statement.class);
+        doAnswer(invocation -> {
+            executionCancelled.countDown();
+            return null;
+        }).when(statement).cancel();
+        AsyncDataRowEnumerator actual = new AsyncDataRowEnumerator(() -> {
+            executionStarted.countDown();
+            executionCancelled.await(10L, TimeUnit.SECONDS);
+            throw new SQLException("cancelled");
+        }, Collections.singletonList(statement), 1, 1, EXECUTOR_SERVICE);
+        executionStarted.await();
+        actual.close();
+        verify(statement).cancel();
+    }
+}
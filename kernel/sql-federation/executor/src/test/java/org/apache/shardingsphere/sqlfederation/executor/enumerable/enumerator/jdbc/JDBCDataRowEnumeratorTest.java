@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.executor.enumerable.enumerator.jdbc;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JDBCDataRowEnumeratorTest {
+    
+    @Test
+    void assertMoveNextWithMultipleColumns() throws SQLException {
+        MergedResult queryResult = mock(MergedResult.class);
+        when(queryResult.next()).thenReturn(true, true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, 2);
+        when(queryResult.getValue(2, Object.class)).thenReturn(LocalDateTime.of(2024, 1, 1, 0, 0), null);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(2);
+        Statement statement = mock(Statement.class);
+        JDBCDataRowEnumerator actual = new JDBCDataRowEnumerator(queryResult, metaData, Collections.singleton(statement));
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(new Object[]{1, Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0))}));
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is(new Object[]{2, null}));
+        assertFalse(actual.moveNext());
+        actual.close();
+        verify(metaData, times(1)).getColumnCount();
+        verify(statement).close();
+    }
+    
+    @Test
+    void assertMoveNextWithSingleColumn() throws SQLException {
+        MergedResult queryResult = mock(MergedResult.class);
+        when(queryResult.next()).thenReturn(true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn("foo");
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        JDBCDataRowEnumerator actual = new JDBCDataRowEnumerator(queryResult, metaData, Collections.emptyList());
+        assertTrue(actual.moveNext());
+        assertThat(actual.current(), is("foo"));
+        assertFalse(actual.moveNext());
+    }
+}
@@ -22,8 +22,12 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.statistics.DatabaseStatistics;
 import org.apache.shardingsphere.infra.metadata.statistics.SchemaStatistics;
 import org.apache.shardingsphere.infra.metadata.statistics.TableStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.TableCardinality;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableCardinalityChangedListenerRuleAttribute;
 import org.apache.shardingsphere.infra.yaml.data.pojo.YamlRowStatistics;
+import org.apache.shardingsphere.infra.yaml.data.pojo.YamlTableCardinality;
 import org.apache.shardingsphere.infra.yaml.data.swapper.YamlRowStatisticsSwapper;
+import org.apache.shardingsphere.infra.yaml.data.swapper.YamlTableCardinalitySwapper;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 
 import java.util.ArrayList;
@@ -157,4 +161,24 @@ public final class StatisticsManager {
         metaDataContexts.getStatistics().getDatabaseStatistics(databaseName).getSchemaStatistics(schemaName).getTableStatistics(tableName).getRows()
                 .removeIf(each -> uniqueKey.equals(each.getUniqueKey()));
     }
+    
+    /**
+     * Alter table cardinality.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param yamlTableCardinality YAML table cardinality
+     */
+    public synchronized void alterTableCardinality(final String databaseName, final String schemaName, final String tableName, final YamlTableCardinality yamlTableCardinality) {
+        if (!metaDataContexts.getMetaData().containsDatabase(databaseName) || !metaDataContexts.getMetaData().getDatabase(databaseName).containsSchema(schemaName)
+                || !metaDataContexts.getMetaData().getDatabase(databaseName).getSchema(schemaName).containsTable(tableName)) {
+            return;
+        }
+        TableCardinality tableCardinality = new YamlTableCardinalitySwapper().swapToObject(yamlTableCardinality);
+        metaDataContexts.getStatistics().putTableCardinality(databaseName, schemaName, tableName, tableCardinality);
+        for (TableCardinalityChangedListenerRuleAttribute each : metaDataContexts.getMetaData().getGlobalRuleMetaData().getAttributes(TableCardinalityChangedListenerRuleAttribute.class)) {
+            each.onTableCardinalityChanged(databaseName, schemaName, tableName, tableCardinality);
+        }
+    }
 }
@@ -24,12 +24,16 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.statistics.DatabaseStatistics;
 import org.apache.shardingsphere.infra.metadata.statistics.SchemaStatistics;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.TableCardinality;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.data.pojo.YamlRowStatistics;
 import org.apache.shardingsphere.infra.yaml.data.swapper.YamlRowStatisticsSwapper;
+import org.apache.shardingsphere.infra.yaml.data.swapper.YamlTableCardinalitySwapper;
 import org.apache.shardingsphere.mode.metadata.persist.metadata.service.TableRowDataPersistService;
 import org.apache.shardingsphere.mode.node.path.engine.generator.NodePathGenerator;
 import org.apache.shardingsphere.mode.node.path.type.database.statistics.StatisticsDatabaseNodePath;
 import org.apache.shardingsphere.mode.node.path.type.database.statistics.StatisticsSchemaNodePath;
+import org.apache.shardingsphere.mode.node.path.type.database.statistics.StatisticsTableCardinalityNodePath;
 import org.apache.shardingsphere.mode.node.path.type.database.statistics.StatisticsTableNodePath;
 import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
 
@@ -84,7 +88,7 @@ public final class StatisticsPersistService {
         for (String each : repository.getChildrenKeys(NodePathGenerator.toPath(new StatisticsTableNodePath(databaseName, schema.getName(), null))).stream()
                 .filter(schema::containsTable).collect(Collectors.toList())) {
             result.putTableStatistics(each, tableRowDataPersistService.load(databaseName, schema.getName(), schema.getTable(each)));
-            
+        
         }
         return result;
     }
@@ -135,6 +139,19 @@ public final class StatisticsPersistService {
                 alteredDatabaseStatistics.getDeletedRows());
     }
     
+    /**
+     * Persist table cardinality.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param tableCardinality table cardinality
+     */
+    public void persistTableCardinality(final String databaseName, final String schemaName, final String tableName, final TableCardinality tableCardinality) {
+        repository.persist(NodePathGenerator.toPath(new StatisticsTableCardinalityNodePath(String.join(".", databaseName, schemaName, tableName))),
+                YamlEngine.marshal(new YamlTableCardinalitySwapper().swapToYamlConfiguration(tableCardinality)));
+    }
+    
     /**
      * Delete sharding sphere database data.
      *
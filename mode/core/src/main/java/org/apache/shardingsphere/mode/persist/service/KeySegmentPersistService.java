@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.persist.service;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.mode.node.path.engine.generator.NodePathGenerator;
+import org.apache.shardingsphere.mode.node.path.type.global.reservation.KeySegmentReservationNodePath;
+import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
+
+/**
+ * Key segment persist service.
+ */
+@RequiredArgsConstructor
+public final class KeySegmentPersistService {
+    
+    private final PersistRepository repository;
+    
+    /**
+     * Lease key segment.
+     * Caller should make sure leases of same segment name are not executed concurrently.
+     *
+     * @param segmentName segment name
+     * @param step step of key segment
+     * @return first key of leased key segment
+     */
+    public long lease(final String segmentName, final int step) {
+        String path = NodePathGenerator.toPath(new KeySegmentReservationNodePath(segmentName));
+        String leasedMaxKey = repository.query(path);
+        long result = Strings.isNullOrEmpty(leasedMaxKey) ? 1L : Long.parseLong(leasedMaxKey) + 1L;
+        repository.persist(path, String.valueOf(result + step - 1L));
+        return result;
+    }
+}
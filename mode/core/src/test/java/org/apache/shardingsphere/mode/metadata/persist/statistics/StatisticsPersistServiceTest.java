@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.statistics.SchemaStatistics;
 import org.apache.shardingsphere.infra.metadata.statistics.TableStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.TableCardinality;
 import org.apache.shardingsphere.infra.yaml.data.pojo.YamlRowStatistics;
 import org.apache.shardingsphere.mode.metadata.persist.metadata.service.TableRowDataPersistService;
 import org.apache.shardingsphere.mode.spi.repository.PersistRepository;
@@ -38,6 +39,8 @@ import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -123,6 +126,12 @@ class StatisticsPersistServiceTest {
         verify(tableRowDataPersistService).delete("foo_db", "foo_schema", "foo_tbl", deletedRows);
     }
     
+    @Test
+    void assertPersistTableCardinality() {
+        persistService.persistTableCardinality("foo_db", "foo_schema", "foo_tbl", new TableCardinality(10L, Collections.emptyMap(), Collections.emptyMap()));
+        verify(repository).persist(eq("/statistics/cardinalities/foo_db.foo_schema.foo_tbl"), contains("rowCount: 10"));
+    }
+    
     @Test
     void assertDelete() {
         persistService.delete("foo_db");
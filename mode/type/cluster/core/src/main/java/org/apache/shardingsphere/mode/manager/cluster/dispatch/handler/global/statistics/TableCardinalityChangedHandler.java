@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.dispatch.handler.global.statistics;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.data.pojo.YamlTableCardinality;
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.cluster.dispatch.handler.global.GlobalDataChangedEventHandler;
+import org.apache.shardingsphere.mode.node.path.NodePath;
+import org.apache.shardingsphere.mode.node.path.engine.searcher.NodePathSearcher;
+import org.apache.shardingsphere.mode.node.path.type.database.statistics.StatisticsTableCardinalityNodePath;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Table cardinality changed handler.
+ */
+public final class TableCardinalityChangedHandler implements GlobalDataChangedEventHandler {
+    
+    @Override
+    public NodePath getSubscribedNodePath() {
+        return new StatisticsTableCardinalityNodePath(null);
+    }
+    
+    @Override
+    public Collection<Type> getSubscribedTypes() {
+        return Arrays.asList(Type.ADDED, Type.UPDATED);
+    }
+    
+    @Override
+    public void handle(final ContextManager contextManager, final DataChangedEvent event) {
+        if (Strings.isNullOrEmpty(event.getValue())) {
+            return;
+        }
+        Optional<String> qualifiedTableName = NodePathSearcher.find(event.getKey(), StatisticsTableCardinalityNodePath.createQualifiedTableNameSearchCriteria());
+        if (!qualifiedTableName.isPresent()) {
+            return;
+        }
+        List<String> qualifiedTableNames = Splitter.on(".").splitToList(qualifiedTableName.get());
+        if (qualifiedTableNames.size() != 3) {
+            return;
+        }
+        contextManager.getMetaDataContextManager().getStatisticsManager().alterTableCardinality(
+                qualifiedTableNames.get(0), qualifiedTableNames.get(1), qualifiedTableNames.get(2), YamlEngine.unmarshal(event.getValue(), YamlTableCardinality.class));
+    }
+}
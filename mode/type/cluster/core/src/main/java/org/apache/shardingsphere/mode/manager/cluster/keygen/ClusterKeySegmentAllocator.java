@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.keygen;
+
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocatedException;
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocator;
+import org.apache.shardingsphere.mode.manager.cluster.lock.global.GlobalLockDefinition;
+import org.apache.shardingsphere.mode.manager.cluster.lock.global.GlobalLockPersistService;
+import org.apache.shardingsphere.mode.persist.service.KeySegmentPersistService;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+
+/**
+ * Key segment allocator for cluster mode.
+ */
+public final class ClusterKeySegmentAllocator implements KeySegmentAllocator {
+    
+    private static final long LOCK_TIMEOUT_MILLIS = 5000L;
+    
+    private final GlobalLockPersistService globalLockPersistService;
+    
+    private final KeySegmentPersistService keySegmentPersistService;
+    
+    public ClusterKeySegmentAllocator(final ClusterPersistRepository repository) {
+        globalLockPersistService = new GlobalLockPersistService(repository);
+        keySegmentPersistService = new KeySegmentPersistService(repository);
+    }
+    
+    @Override
+    public long allocate(final String segmentName, final int step) {
+        GlobalLockDefinition lockDefinition = new GlobalLockDefinition(new KeySegmentLock(segmentName));
+        ShardingSpherePreconditions.checkState(globalLockPersistService.tryLock(lockDefinition, LOCK_TIMEOUT_MILLIS), () -> new KeySegmentAllocatedException(segmentName));
+        try {
+            return keySegmentPersistService.lease(segmentName, step);
+        } finally {
+            globalLockPersistService.unlock(lockDefinition);
+        }
+    }
+}
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.mode.manager.cluster.statistics;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.database.connector.core.metadata.database.system.SystemDatabase;
 import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.temporary.TemporaryConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
@@ -29,12 +31,14 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.statistics.DatabaseStatistics;
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.cardinality.TableCardinalityCollector;
 import org.apache.shardingsphere.infra.metadata.statistics.collector.DialectDatabaseStatisticsCollector;
 import org.apache.shardingsphere.infra.metadata.statistics.collector.shardingsphere.ShardingSphereStatisticsCollector;
 import org.apache.shardingsphere.mode.lock.LockContext;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.manager.cluster.lock.global.GlobalLockDefinition;
 
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -67,12 +71,15 @@ public final class StatisticsRefreshEngine {
      */
     public void refresh() {
         try {
-            if (contextManager.getMetaDataContexts().getMetaData().getTemporaryProps().getValue(TemporaryConfigurationPropertyKey.PROXY_META_DATA_COLLECTOR_ENABLED)) {
+            TemporaryConfigurationProperties temporaryProps = contextManager.getMetaDataContexts().getMetaData().getTemporaryProps();
+            boolean statisticsEnabled = temporaryProps.getValue(TemporaryConfigurationPropertyKey.PROXY_META_DATA_COLLECTOR_ENABLED);
+            boolean tableCardinalityEnabled = temporaryProps.getValue(TemporaryConfigurationPropertyKey.PROXY_META_DATA_COLLECTOR_TABLE_CARDINALITY_ENABLED);
+            if (statisticsEnabled || tableCardinalityEnabled) {
                 LockContext lockContext = contextManager.getLockContext();
                 GlobalLockDefinition lockDefinition = new GlobalLockDefinition(new StatisticsLock());
                 if (lockContext.tryLock(lockDefinition, 5000L)) {
                     try {
-                        refreshStatistics();
+                        refresh(statisticsEnabled, tableCardinalityEnabled);
                     } finally {
                         lockContext.unlock(lockDefinition);
                     }
@@ -86,6 +93,15 @@ public final class StatisticsRefreshEngine {
         }
     }
     
+    private void refresh(final boolean statisticsEnabled, final boolean tableCardinalityEnabled) {
+        if (statisticsEnabled) {
+            refreshStatistics();
+        }
+        if (tableCardinalityEnabled) {
+            refreshTableCardinalities();
+        }
+    }
+    
     private void refreshStatistics() {
         ShardingSphereMetaData metaData = contextManager.getMetaDataContexts().getMetaData();
         for (ShardingSphereDatabase each : metaData.getAllDatabases()) {
@@ -121,6 +137,30 @@ public final class StatisticsRefreshEngine {
         }
     }
     
+    private void refreshTableCardinalities() {
+        for (ShardingSphereDatabase each : contextManager.getMetaDataContexts().getMetaData().getAllDatabases()) {
+            Collection<String> systemSchemas = new SystemDatabase(each.getProtocolType()).getSystemSchemas();
+            TableCardinalityCollector collector = new TableCardinalityCollector(each);
+            for (ShardingSphereSchema schema : each.getAllSchemas()) {
+                if (systemSchemas.contains(schema.getName()) || "shardingsphere".equalsIgnoreCase(schema.getName())) {
+                    continue;
+                }
+                for (ShardingSphereTable table : schema.getAllTables()) {
+                    refreshTableCardinality(collector, each.getName(), schema.getName(), table);
+                }
+            }
+        }
+    }
+    
+    private void refreshTableCardinality(final TableCardinalityCollector collector, final String databaseName, final String schemaName, final ShardingSphereTable table) {
+        try {
+            collector.collect(table).ifPresent(optional -> contextManager.getPersistServiceFacade().getMetaDataFacade().getStatisticsService()
+                    .persistTableCardinality(databaseName, schemaName, table.getName(), optional));
+        } catch (final SQLException ex) {
+            log.warn("Refresh {}.{}.{} cardinality failed.", databaseName, schemaName, table.getName(), ex);
+        }
+    }
+    
     private void cleanStatisticsData() {
         try {
             ShardingSphereMetaData metaData = contextManager.getMetaDataContexts().getMetaData();
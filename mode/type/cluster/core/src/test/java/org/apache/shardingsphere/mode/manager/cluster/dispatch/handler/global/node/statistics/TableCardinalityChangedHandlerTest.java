@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.dispatch.handler.global.node.statistics;
+
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.yaml.data.pojo.YamlTableCardinality;
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.cluster.dispatch.handler.global.GlobalDataChangedEventHandler;
+import org.apache.shardingsphere.mode.node.path.engine.generator.NodePathGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TableCardinalityChangedHandlerTest {
+    
+    private GlobalDataChangedEventHandler handler;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ContextManager contextManager;
+    
+    @BeforeEach
+    void setUp() {
+        handler = ShardingSphereServiceLoader.getServiceInstances(GlobalDataChangedEventHandler.class).stream()
+                .filter(each -> "/statistics/cardinalities".equals(NodePathGenerator.toPath(each.getSubscribedNodePath()))).findFirst().orElse(null);
+    }
+    
+    @Test
+    void assertHandleWithTableCardinalityUpdated() {
+        handler.handle(contextManager, new DataChangedEvent("/statistics/cardinalities/foo_db.foo_schema.foo_tbl", "rowCount: 10", Type.UPDATED));
+        verify(contextManager.getMetaDataContextManager().getStatisticsManager()).alterTableCardinality(
+                eq("foo_db"), eq("foo_schema"), eq("foo_tbl"), argThat(each -> 10L == each.getRowCount()));
+    }
+    
+    @Test
+    void assertHandleWithInvalidQualifiedTableName() {
+        handler.handle(contextManager, new DataChangedEvent("/statistics/cardinalities/foo_db.foo_tbl", "rowCount: 10", Type.ADDED));
+        verify(contextManager.getMetaDataContextManager().getStatisticsManager(), never()).alterTableCardinality(any(), any(), any(), any(YamlTableCardinality.class));
+    }
+}
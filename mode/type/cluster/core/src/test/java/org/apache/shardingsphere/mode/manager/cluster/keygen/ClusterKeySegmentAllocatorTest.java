@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.keygen;
+
+import org.apache.shardingsphere.infra.instance.keygen.KeySegmentAllocatedException;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.lock.DistributedLock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterKeySegmentAllocatorTest {
+    
+    @Mock
+    private ClusterPersistRepository repository;
+    
+    @Mock
+    private DistributedLock distributedLock;
+    
+    @Test
+    void assertAllocate() {
+        when(repository.getDistributedLock("/lock/global/locks/key_segment_foo_db.foo_tbl")).thenReturn(Optional.of(distributedLock));
+        when(distributedLock.tryLock(5000L)).thenReturn(true);
+        when(repository.query("/reservation/key_segment/foo_db.foo_tbl")).thenReturn("100");
+        assertThat(new ClusterKeySegmentAllocator(repository).allocate("foo_db.foo_tbl", 100), is(101L));
+        verify(repository).persist("/reservation/key_segment/foo_db.foo_tbl", "200");
+        verify(distributedLock).unlock();
+    }
+    
+    @Test
+    void assertAllocateWithLockTimeout() {
+        when(repository.getDistributedLock("/lock/global/locks/key_segment_bar_db.bar_tbl")).thenReturn(Optional.of(distributedLock));
+        assertThrows(KeySegmentAllocatedException.class, () -> new ClusterKeySegmentAllocator(repository).allocate("bar_db.bar_tbl", 100));
+        verify(repository, never()).persist(anyString(), anyString());
+        verify(distributedLock, never()).unlock();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.recognizer;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Simple DML lexer, which refuses comments, hints, escaped quotes and any character beyond simple DML statement.
+ */
+@RequiredArgsConstructor
+final class SimpleDMLLexer {
+    
+    private static final Collection<String> TWO_CHARS_SYMBOLS = new HashSet<>(Arrays.asList("<=", ">=", "<>", "!="));
+    
+    private static final String SINGLE_CHAR_SYMBOLS = "=<>(),.*";
+    
+    private final String sql;
+    
+    private final char identifierQuote;
+    
+    private final boolean dollarParameterMarkerEnabled;
+    
+    private int position;
+    
+    /**
+     * Tokenize SQL.
+     *
+     * @return tokens ended with end token, empty if SQL contains characters out of simple DML statement
+     */
+    Optional<List<SimpleDMLToken>> tokenize() {
+        List<SimpleDMLToken> result = new ArrayList<>(32);
+        skipWhitespaces();
+        while (position < sql.length()) {
+            Optional<SimpleDMLToken> token = nextToken();
+            if (!token.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(token.get());
+            skipWhitespaces();
+        }
+        result.add(new SimpleDMLToken(SimpleDMLTokenType.END, "", sql.length(), sql.length()));
+        return Optional.of(result);
+    }
+    
+    private void skipWhitespaces() {
+        while (position < sql.length() && Character.isWhitespace(sql.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private Optional<SimpleDMLToken> nextToken() {
+        char current = sql.charAt(position);
+        if (isWordStart(current)) {
+            return Optional.of(createToken(SimpleDMLTokenType.WORD, skipWordCharacters(position + 1)));
+        }
+        if (isDigit(current)) {
+            return scanNumber();
+        }
+        if ('\'' == current) {
+            return scanQuoted(SimpleDMLTokenType.STRING, '\'');
+        }
+        if (identifierQuote == current) {
+            return scanQuoted(SimpleDMLTokenType.QUOTED_IDENTIFIER, identifierQuote);
+        }
+        if ('?' == current) {
+            return isWordCharacter(position + 1) ? Optional.empty() : Optional.of(createToken(SimpleDMLTokenType.QUESTION_MARKER, position + 1));
+        }
+        if ('$' == current && dollarParameterMarkerEnabled) {
+            return scanDollarMarker();
+        }
+        return scanSymbol();
+    }
+    
+    private Optional<SimpleDMLToken> scanNumber() {
+        int end = skipDigits(position + 1);
+        if (end + 1 < sql.length() && '.' == sql.charAt(end) && isDigit(sql.charAt(end + 1))) {
+            end = skipDigits(end + 1);
+        }
+        return isWordCharacter(end) || end < sql.length() && '.' == sql.charAt(end) ? Optional.empty() : Optional.of(createToken(SimpleDMLTokenType.NUMBER, end));
+    }
+    
+    private Optional<SimpleDMLToken> scanQuoted(final SimpleDMLTokenType type, final char quote) {
+        int closeIndex = sql.indexOf(quote, position + 1);
+        if (closeIndex <= position + 1 || closeIndex + 1 < sql.length() && quote == sql.charAt(closeIndex + 1) || sql.substring(position + 1, closeIndex).indexOf('\\') >= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(createToken(type, closeIndex + 1));
+    }
+    
+    private Optional<SimpleDMLToken> scanDollarMarker() {
+        int end = skipDigits(position + 1);
+        if (end == position + 1 || '0' == sql.charAt(position + 1) || isWordCharacter(end)) {
+            return Optional.empty();
+        }
+        return Optional.of(createToken(SimpleDMLTokenType.DOLLAR_MARKER, end));
+    }
+    
+    private Optional<SimpleDMLToken> scanSymbol() {
+        if (position + 1 < sql.length() && TWO_CHARS_SYMBOLS.contains(sql.substring(position, position + 2))) {
+            return Optional.of(createToken(SimpleDMLTokenType.SYMBOL, position + 2));
+        }
+        return SINGLE_CHAR_SYMBOLS.indexOf(sql.charAt(position)) >= 0 ? Optional.of(createToken(SimpleDMLTokenType.SYMBOL, position + 1)) : Optional.empty();
+    }
+    
+    private SimpleDMLToken createToken(final SimpleDMLTokenType type, final int end) {
+        SimpleDMLToken result = new SimpleDMLToken(type, sql.substring(position, end), position, end - 1);
+        position = end;
+        return result;
+    }
+    
+    private int skipWordCharacters(final int start) {
+        int result = start;
+        while (isWordCharacter(result)) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int skipDigits(final int start) {
+        int result = start;
+        while (result < sql.length() && isDigit(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private boolean isWordCharacter(final int index) {
+        return index < sql.length() && (isWordStart(sql.charAt(index)) || isDigit(sql.charAt(index)));
+    }
+    
+    private boolean isWordStart(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || '_' == ch;
+    }
+    
+    private boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+}
@@ -0,0 +1,411 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.recognizer;
+
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.QuoteCharacter;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.AliasSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.statement.core.value.literal.impl.NumberLiteralValue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Simple DML parser, which builds SQL statement from tokens of simple DML statement.
+ */
+final class SimpleDMLParser {
+    
+    private static final Collection<String> RESERVED_WORDS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    
+    private static final Collection<String> COMPARISON_OPERATORS = Arrays.asList("=", "<>", "!=", "<", ">", "<=", ">=");
+    
+    static {
+        RESERVED_WORDS.addAll(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE", "FROM", "WHERE", "AND", "OR", "XOR", "NOT", "AS", "INTO", "VALUES", "VALUE", "SET", "DISTINCT", "ALL",
+                "NULL", "IS", "IN", "LIKE", "BETWEEN", "EXISTS", "CASE", "WHEN", "THEN", "ELSE", "END", "TRUE", "FALSE", "DEFAULT", "GROUP", "ORDER", "BY", "HAVING", "LIMIT", "OFFSET",
+                "FETCH", "WINDOW", "UNION", "EXCEPT", "INTERSECT", "MINUS", "JOIN", "INNER", "LEFT", "RIGHT", "FULL", "OUTER", "CROSS", "NATURAL", "STRAIGHT_JOIN", "ON", "USING", "FOR",
+                "LOCK", "PARTITION", "USE", "FORCE", "IGNORE", "ONLY", "LATERAL", "WITH", "RETURNING", "TABLESAMPLE", "DUPLICATE", "KEY"));
+    }
+    
+    private final String sql;
+    
+    private final List<SimpleDMLToken> tokens;
+    
+    private final QuoteCharacter identifierQuoteCharacter;
+    
+    private final DatabaseType databaseType;
+    
+    private final Collection<ParameterMarkerSegment> parameterMarkers = new LinkedList<>();
+    
+    private ParameterMarkerType parameterMarkerType;
+    
+    private int position;
+    
+    SimpleDMLParser(final String sql, final List<SimpleDMLToken> tokens, final QuoteCharacter identifierQuoteCharacter, final DatabaseType databaseType) {
+        this.sql = sql;
+        this.tokens = tokens;
+        this.identifierQuoteCharacter = identifierQuoteCharacter;
+        this.databaseType = databaseType;
+    }
+    
+    /**
+     * Parse SQL statement.
+     *
+     * @return parsed SQL statement, empty if tokens are out of simple DML statement
+     */
+    Optional<SQLStatement> parse() {
+        Optional<SQLStatement> result = parseStatement();
+        if (!result.isPresent() || SimpleDMLTokenType.END != current().getType()) {
+            return Optional.empty();
+        }
+        result.get().addParameterMarkers(parameterMarkers);
+        return result;
+    }
+    
+    private Optional<SQLStatement> parseStatement() {
+        if (acceptKeyword("SELECT")) {
+            return parseSelect();
+        }
+        if (acceptKeyword("INSERT")) {
+            return parseInsert();
+        }
+        if (acceptKeyword("UPDATE")) {
+            return parseUpdate();
+        }
+        return acceptKeyword("DELETE") ? parseDelete() : Optional.empty();
+    }
+    
+    private Optional<SQLStatement> parseSelect() {
+        Optional<ProjectionsSegment> projections = parseProjections();
+        if (!projections.isPresent() || !acceptKeyword("FROM")) {
+            return Optional.empty();
+        }
+        Optional<SimpleTableSegment> table = parseTable(true);
+        if (!table.isPresent()) {
+            return Optional.empty();
+        }
+        SelectStatement result = new SelectStatement(databaseType);
+        result.setProjections(projections.get());
+        result.setFrom(table.get());
+        if (!isKeyword(current(), "WHERE")) {
+            return Optional.of(result);
+        }
+        Optional<WhereSegment> where = parseWhere();
+        where.ifPresent(result::setWhere);
+        return where.isPresent() ? Optional.of(result) : Optional.empty();
+    }
+    
+    private Optional<ProjectionsSegment> parseProjections() {
+        SimpleDMLToken token = current();
+        if (isSymbol(token, "*")) {
+            position++;
+            ProjectionsSegment result = new ProjectionsSegment(token.getStartIndex(), token.getStopIndex());
+            result.getProjections().add(new ShorthandProjectionSegment(token.getStartIndex(), token.getStopIndex()));
+            return Optional.of(result);
+        }
+        List<ColumnSegment> columns = parseColumns(true);
+        if (columns.isEmpty()) {
+            return Optional.empty();
+        }
+        ProjectionsSegment result = new ProjectionsSegment(columns.get(0).getStartIndex(), columns.get(columns.size() - 1).getStopIndex());
+        for (ColumnSegment each : columns) {
+            result.getProjections().add(new ColumnProjectionSegment(each));
+        }
+        return Optional.of(result);
+    }
+    
+    private Optional<SQLStatement> parseInsert() {
+        if (!acceptKeyword("INTO")) {
+            return Optional.empty();
+        }
+        Optional<SimpleTableSegment> table = parseTable(false);
+        final SimpleDMLToken leftParenthesis = current();
+        if (!table.isPresent() || !acceptSymbol("(")) {
+            return Optional.empty();
+        }
+        List<ColumnSegment> columns = parseColumns(false);
+        SimpleDMLToken rightParenthesis = current();
+        if (columns.isEmpty() || !acceptSymbol(")") || !acceptKeyword("VALUES")) {
+            return Optional.empty();
+        }
+        InsertStatement result = new InsertStatement(databaseType);
+        result.setTable(table.get());
+        result.setInsertColumns(new InsertColumnsSegment(leftParenthesis.getStartIndex(), rightParenthesis.getStopIndex(), columns));
+        do {
+            Optional<InsertValuesSegment> values = parseInsertValues();
+            if (!values.isPresent()) {
+                return Optional.empty();
+            }
+            result.getValues().add(values.get());
+        } while (acceptSymbol(","));
+        return Optional.of(result);
+    }
+    
+    private Optional<InsertValuesSegment> parseInsertValues() {
+        SimpleDMLToken leftParenthesis = current();
+        if (!acceptSymbol("(")) {
+            return Optional.empty();
+        }
+        List<ExpressionSegment> values = new LinkedList<>();
+        do {
+            Optional<ExpressionSegment> value = parseValue();
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            values.add(value.get());
+        } while (acceptSymbol(","));
+        SimpleDMLToken rightParenthesis = current();
+        return acceptSymbol(")") ? Optional.of(new InsertValuesSegment(leftParenthesis.getStartIndex(), rightParenthesis.getStopIndex(), values)) : Optional.empty();
+    }
+    
+    private Optional<SQLStatement> parseUpdate() {
+        Optional<SimpleTableSegment> table = parseTable(false);
+        final SimpleDMLToken setToken = current();
+        if (!table.isPresent() || !acceptKeyword("SET")) {
+            return Optional.empty();
+        }
+        Collection<ColumnAssignmentSegment> assignments = new LinkedList<>();
+        int stopIndex;
+        do {
+            Optional<ColumnAssignmentSegment> assignment = parseAssignment();
+            if (!assignment.isPresent()) {
+                return Optional.empty();
+            }
+            assignments.add(assignment.get());
+            stopIndex = assignment.get().getStopIndex();
+        } while (acceptSymbol(","));
+        UpdateStatement result = new UpdateStatement(databaseType);
+        result.setTable(table.get());
+        result.setSetAssignment(new SetAssignmentSegment(setToken.getStartIndex(), stopIndex, assignments));
+        if (!isKeyword(current(), "WHERE")) {
+            return Optional.of(result);
+        }
+        Optional<WhereSegment> where = parseWhere();
+        where.ifPresent(result::setWhere);
+        return where.isPresent() ? Optional.of(result) : Optional.empty();
+    }
+    
+    private Optional<ColumnAssignmentSegment> parseAssignment() {
+        Optional<ColumnSegment> column = parseColumn(false);
+        if (!column.isPresent() || !acceptSymbol("=")) {
+            return Optional.empty();
+        }
+        Optional<ExpressionSegment> value = parseValue();
+        if (!value.isPresent()) {
+            return Optional.empty();
+        }
+        List<ColumnSegment> columns = new LinkedList<>();
+        columns.add(column.get());
+        return Optional.of(new ColumnAssignmentSegment(column.get().getStartIndex(), value.get().getStopIndex(), columns, value.get()));
+    }
+    
+    private Optional<SQLStatement> parseDelete() {
+        if (!acceptKeyword("FROM")) {
+            return Optional.empty();
+        }
+        Optional<SimpleTableSegment> table = parseTable(false);
+        if (!table.isPresent()) {
+            return Optional.empty();
+        }
+        DeleteStatement result = new DeleteStatement(databaseType);
+        result.setTable(table.get());
+        if (!isKeyword(current(), "WHERE")) {
+            return Optional.of(result);
+        }
+        Optional<WhereSegment> where = parseWhere();
+        where.ifPresent(result::setWhere);
+        return where.isPresent() ? Optional.of(result) : Optional.empty();
+    }
+    
+    private Optional<SimpleTableSegment> parseTable(final boolean aliasAllowed) {
+        SimpleDMLToken tableToken = current();
+        Optional<IdentifierValue> tableName = getIdentifier(tableToken);
+        if (!tableName.isPresent()) {
+            return Optional.empty();
+        }
+        position++;
+        SimpleTableSegment result = new SimpleTableSegment(new TableNameSegment(tableToken.getStartIndex(), tableToken.getStopIndex(), tableName.get()));
+        if (!aliasAllowed) {
+            return Optional.of(result);
+        }
+        boolean explicitAlias = acceptKeyword("AS");
+        SimpleDMLToken aliasToken = current();
+        Optional<IdentifierValue> alias = getIdentifier(aliasToken);
+        if (!alias.isPresent()) {
+            return explicitAlias ? Optional.empty() : Optional.of(result);
+        }
+        position++;
+        result.setAlias(new AliasSegment(aliasToken.getStartIndex(), aliasToken.getStopIndex(), alias.get()));
+        return Optional.of(result);
+    }
+    
+    private List<ColumnSegment> parseColumns(final boolean ownerAllowed) {
+        List<ColumnSegment> result = new LinkedList<>();
+        do {
+            Optional<ColumnSegment> column = parseColumn(ownerAllowed);
+            if (!column.isPresent()) {
+                return new LinkedList<>();
+            }
+            result.add(column.get());
+        } while (acceptSymbol(","));
+        return result;
+    }
+    
+    private Optional<ColumnSegment> parseColumn(final boolean ownerAllowed) {
+        SimpleDMLToken firstToken = current();
+        Optional<IdentifierValue> firstIdentifier = getIdentifier(firstToken);
+        if (!firstIdentifier.isPresent()) {
+            return Optional.empty();
+        }
+        position++;
+        if (!ownerAllowed || !acceptSymbol(".")) {
+            return Optional.of(new ColumnSegment(firstToken.getStartIndex(), firstToken.getStopIndex(), firstIdentifier.get()));
+        }
+        SimpleDMLToken columnToken = current();
+        Optional<IdentifierValue> columnIdentifier = getIdentifier(columnToken);
+        if (!columnIdentifier.isPresent()) {
+            return Optional.empty();
+        }
+        position++;
+        ColumnSegment result = new ColumnSegment(firstToken.getStartIndex(), columnToken.getStopIndex(), columnIdentifier.get());
+        result.setOwner(new OwnerSegment(firstToken.getStartIndex(), firstToken.getStopIndex(), firstIdentifier.get()));
+        return Optional.of(result);
+    }
+    
+    private Optional<WhereSegment> parseWhere() {
+        SimpleDMLToken whereToken = current();
+        position++;
+        Optional<ExpressionSegment> expr = parseComparison();
+        while (expr.isPresent() && isKeyword(current(), "AND")) {
+            String operator = current().getText();
+            position++;
+            Optional<ExpressionSegment> right = parseComparison();
+            expr = right.isPresent() ? Optional.of(createBinaryOperationExpression(expr.get(), right.get(), operator)) : Optional.empty();
+        }
+        return expr.map(optional -> new WhereSegment(whereToken.getStartIndex(), optional.getStopIndex(), optional));
+    }
+    
+    private Optional<ExpressionSegment> parseComparison() {
+        Optional<ColumnSegment> column = parseColumn(true);
+        SimpleDMLToken operatorToken = current();
+        if (!column.isPresent() || SimpleDMLTokenType.SYMBOL != operatorToken.getType() || !COMPARISON_OPERATORS.contains(operatorToken.getText())) {
+            return Optional.empty();
+        }
+        position++;
+        return parseValue().map(optional -> createBinaryOperationExpression(column.get(), optional, operatorToken.getText()));
+    }
+    
+    private BinaryOperationExpression createBinaryOperationExpression(final ExpressionSegment left, final ExpressionSegment right, final String operator) {
+        return new BinaryOperationExpression(left.getStartIndex(), right.getStopIndex(), left, right, operator, sql.substring(left.getStartIndex(), right.getStopIndex() + 1));
+    }
+    
+    private Optional<ExpressionSegment> parseValue() {
+        Optional<ExpressionSegment> result = createValue(current());
+        if (result.isPresent()) {
+            position++;
+        }
+        return result;
+    }
+    
+    private Optional<ExpressionSegment> createValue(final SimpleDMLToken token) {
+        switch (token.getType()) {
+            case QUESTION_MARKER:
+                return createParameterMarker(token, ParameterMarkerType.QUESTION, parameterMarkers.size());
+            case DOLLAR_MARKER:
+                return createParameterMarker(token, ParameterMarkerType.DOLLAR, Integer.parseInt(token.getText().substring(1)) - 1);
+            case NUMBER:
+                return Optional.of(new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new NumberLiteralValue(token.getText()).getValue()));
+            case STRING:
+                return Optional.of(new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), token.getText().substring(1, token.getText().length() - 1)));
+            default:
+                return Optional.empty();
+        }
+    }
+    
+    private Optional<ExpressionSegment> createParameterMarker(final SimpleDMLToken token, final ParameterMarkerType type, final int parameterMarkerIndex) {
+        if (null != parameterMarkerType && type != parameterMarkerType) {
+            return Optional.empty();
+        }
+        parameterMarkerType = type;
+        ParameterMarkerExpressionSegment result = new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterMarkerIndex, type);
+        parameterMarkers.add(result);
+        return Optional.of(result);
+    }
+    
+    private Optional<IdentifierValue> getIdentifier(final SimpleDMLToken token) {
+        if (SimpleDMLTokenType.QUOTED_IDENTIFIER == token.getType()) {
+            return Optional.of(new IdentifierValue(identifierQuoteCharacter.unwrap(token.getText()), identifierQuoteCharacter));
+        }
+        return SimpleDMLTokenType.WORD != token.getType() || RESERVED_WORDS.contains(token.getText()) ? Optional.empty() : Optional.of(new IdentifierValue(token.getText(), QuoteCharacter.NONE));
+    }
+    
+    private boolean acceptKeyword(final String keyword) {
+        if (isKeyword(current(), keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean acceptSymbol(final String symbol) {
+        if (isSymbol(current(), symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean isKeyword(final SimpleDMLToken token, final String keyword) {
+        return SimpleDMLTokenType.WORD == token.getType() && keyword.equalsIgnoreCase(token.getText());
+    }
+    
+    private boolean isSymbol(final SimpleDMLToken token, final String symbol) {
+        return SimpleDMLTokenType.SYMBOL == token.getType() && symbol.equals(token.getText());
+    }
+    
+    private SimpleDMLToken current() {
+        return tokens.get(position);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.recognizer;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.QuoteCharacter;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Simple DML statement recognizer, which builds the same SQL statement as ANTLR visitor for single table SELECT, INSERT, UPDATE and DELETE,
+ * whose projections are columns or shorthand, whose predicates are comparisons between columns and values joined by AND,
+ * and whose values are parameter markers, numbers or strings.
+ */
+@RequiredArgsConstructor
+public final class SimpleDMLStatementRecognizer {
+    
+    private final QuoteCharacter identifierQuoteCharacter;
+    
+    private final boolean dollarParameterMarkerEnabled;
+    
+    /**
+     * Recognize SQL statement.
+     *
+     * @param sql SQL to be recognized
+     * @param databaseType database type
+     * @return recognized SQL statement, empty if SQL is out of simple DML statement
+     */
+    public Optional<SQLStatement> recognize(final String sql, final DatabaseType databaseType) {
+        Optional<List<SimpleDMLToken>> tokens = new SimpleDMLLexer(sql, identifierQuoteCharacter.getStartDelimiter().charAt(0), dollarParameterMarkerEnabled).tokenize();
+        return tokens.isPresent() ? new SimpleDMLParser(sql, tokens.get(), identifierQuoteCharacter, databaseType).parse() : Optional.empty();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.spi;
+
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.Optional;
+
+/**
+ * Dialect SQL statement recognizer, which builds SQL statement without ANTLR parsing.
+ */
+@SingletonSPI
+public interface DialectSQLStatementRecognizer extends DatabaseTypedSPI {
+    
+    /**
+     * Recognize SQL statement.
+     *
+     * @param sql SQL to be recognized
+     * @param databaseType database type
+     * @return recognized SQL statement, empty if SQL is out of the recognizable subset
+     */
+    Optional<SQLStatement> recognize(String sql, DatabaseType databaseType);
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.recognizer;
+
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.QuoteCharacter;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.UpdateStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Iterator;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimpleDMLStatementRecognizerTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    private final SimpleDMLStatementRecognizer recognizer = new SimpleDMLStatementRecognizer(QuoteCharacter.BACK_QUOTE, false);
+    
+    @Test
+    void assertRecognizeSelect() {
+        String sql = "SELECT o.order_id, `status` FROM t_order AS o WHERE o.order_id = ? and user_id >= 10";
+        Optional<SQLStatement> actual = recognizer.recognize(sql, databaseType);
+        assertTrue(actual.isPresent());
+        SelectStatement selectStatement = (SelectStatement) actual.get();
+        assertThat(selectStatement.getProjections().getStartIndex(), is(7));
+        assertThat(selectStatement.getProjections().getStopIndex(), is(26));
+        ColumnSegment firstColumn = ((ColumnProjectionSegment) selectStatement.getProjections().getProjections().get(0)).getColumn();
+        assertThat(firstColumn.getIdentifier().getValue(), is("order_id"));
+        assertThat(firstColumn.getOwner().get().getIdentifier().getValue(), is("o"));
+        assertThat(((ColumnProjectionSegment) selectStatement.getProjections().getProjections().get(1)).getColumn().getIdentifier().getQuoteCharacter(), is(QuoteCharacter.BACK_QUOTE));
+        SimpleTableSegment table = (SimpleTableSegment) selectStatement.getFrom().get();
+        assertThat(table.getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(table.getAliasName().get(), is("o"));
+        BinaryOperationExpression where = (BinaryOperationExpression) selectStatement.getWhere().get().getExpr();
+        assertThat(where.getOperator(), is("and"));
+        assertThat(where.getText(), is("o.order_id = ? and user_id >= 10"));
+        assertThat(((BinaryOperationExpression) where.getLeft()).getRight(), instanceOf(ParameterMarkerExpressionSegment.class));
+        assertThat(((LiteralExpressionSegment) ((BinaryOperationExpression) where.getRight()).getRight()).getLiterals(), is(10));
+        assertThat(actual.get().getParameterCount(), is(1));
+    }
+    
+    @Test
+    void assertRecognizeSelectShorthand() {
+        Optional<SQLStatement> actual = recognizer.recognize("select * from t_order", databaseType);
+        assertTrue(actual.isPresent());
+        assertThat(((SelectStatement) actual.get()).getProjections().getProjections().iterator().next(), instanceOf(ShorthandProjectionSegment.class));
+        assertFalse(((SelectStatement) actual.get()).getWhere().isPresent());
+    }
+    
+    @Test
+    void assertRecognizeInsert() {
+        Optional<SQLStatement> actual = recognizer.recognize("INSERT INTO t_order (order_id, status) VALUES (?, 'init'), (?, ?)", databaseType);
+        assertTrue(actual.isPresent());
+        InsertStatement insertStatement = (InsertStatement) actual.get();
+        assertThat(insertStatement.getTable().get().getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(insertStatement.getColumns().size(), is(2));
+        assertThat(insertStatement.getValues().size(), is(2));
+        Iterator<InsertValuesSegment> values = insertStatement.getValues().iterator();
+        assertThat(((LiteralExpressionSegment) values.next().getValues().get(1)).getLiterals(), is("init"));
+        assertThat(((ParameterMarkerExpressionSegment) values.next().getValues().get(1)).getParameterMarkerIndex(), is(2));
+        assertThat(actual.get().getParameterCount(), is(3));
+    }
+    
+    @Test
+    void assertRecognizeUpdate() {
+        Optional<SQLStatement> actual = recognizer.recognize("UPDATE t_order SET status = ?, user_id = 1.5 WHERE order_id = ?", databaseType);
+        assertTrue(actual.isPresent());
+        UpdateStatement updateStatement = (UpdateStatement) actual.get();
+        assertThat(updateStatement.getSetAssignment().getStartIndex(), is(15));
+        assertThat(updateStatement.getSetAssignment().getAssignments().size(), is(2));
+        ColumnAssignmentSegment firstAssignment = updateStatement.getSetAssignment().getAssignments().iterator().next();
+        assertThat(firstAssignment.getColumns().get(0).getIdentifier().getValue(), is("status"));
+        assertThat(((ParameterMarkerExpressionSegment) ((BinaryOperationExpression) updateStatement.getWhere().get().getExpr()).getRight()).getParameterMarkerIndex(), is(1));
+    }
+    
+    @Test
+    void assertRecognizeDelete() {
+        Optional<SQLStatement> actual = recognizer.recognize("DELETE FROM t_order WHERE order_id = ?", databaseType);
+        assertTrue(actual.isPresent());
+        assertThat(((DeleteStatement) actual.get()).getWhere().get().getStartIndex(), is(20));
+        assertThat(actual.get().getParameterCount(), is(1));
+    }
+    
+    @Test
+    void assertRecognizeWithDollarParameterMarkers() {
+        Optional<SQLStatement> actual = new SimpleDMLStatementRecognizer(QuoteCharacter.QUOTE, true).recognize("SELECT \"Id\" FROM t_order WHERE \"Id\" = $2 AND user_id = $1", databaseType);
+        assertTrue(actual.isPresent());
+        BinaryOperationExpression where = (BinaryOperationExpression) ((SelectStatement) actual.get()).getWhere().get().getExpr();
+        ParameterMarkerExpressionSegment parameterMarker = (ParameterMarkerExpressionSegment) ((BinaryOperationExpression) where.getLeft()).getRight();
+        assertThat(parameterMarker.getParameterMarkerIndex(), is(1));
+        assertThat(parameterMarker.getParameterMarkerType(), is(ParameterMarkerType.DOLLAR));
+        assertThat(actual.get().getParameterCount(), is(2));
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+            "SELECT * FROM t_order WHERE order_id = ? OR user_id = ?", "SELECT * FROM t_order WHERE order_id IN (?, ?)", "SELECT order_id FROM t_order ORDER BY order_id",
+            "SELECT order_id FROM t_order LIMIT 1", "SELECT order_id FROM t_order o JOIN t_order_item i ON o.order_id = i.order_id", "SELECT COUNT(*) FROM t_order",
+            "SELECT order_id AS id FROM t_order", "SELECT * FROM t_order WHERE order_id = ? FOR UPDATE", "SELECT * FROM db.t_order", "SELECT * FROM t_order WHERE order_id = -1",
+            "SELECT * FROM t_order WHERE status = 'it''s'", "SELECT * FROM t_order WHERE status = 'a\\'b'", "SELECT * FROM t_order WHERE order_id = ?;",
+            "SELECT * FROM t_order /* comment */ WHERE order_id = ?", "SELECT * FROM t_order WHERE order_id = ? -- comment", "SELECT * FROM t_order WHERE order_id = $1",
+            "SELECT * FROM t_order WHERE \"order_id\" = ?", "SELECT * FROM t_order WHERE order_id = 1e5", "INSERT INTO t_order VALUES (?, ?)",
+            "INSERT INTO t_order (order_id) VALUES (?) ON DUPLICATE KEY UPDATE order_id = ?", "INSERT INTO t_order (order_id) SELECT order_id FROM t_order_item",
+            "UPDATE t_order o SET o.status = ? WHERE o.order_id = ?", "DELETE FROM t_order WHERE order_id = ? LIMIT 1", "SHOW TABLES", "SELECT"})
+    void assertNotRecognize(final String sql) {
+        assertFalse(recognizer.recognize(sql, databaseType).isPresent());
+    }
+    
+    @Test
+    void assertNotRecognizeMixedParameterMarkers() {
+        assertFalse(new SimpleDMLStatementRecognizer(QuoteCharacter.QUOTE, true).recognize("SELECT * FROM t_order WHERE order_id = ? AND user_id = $2", databaseType).isPresent());
+    }
+}
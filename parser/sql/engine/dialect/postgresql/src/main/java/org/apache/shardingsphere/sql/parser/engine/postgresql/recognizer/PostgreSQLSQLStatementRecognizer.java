@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.postgresql.recognizer;
+
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.QuoteCharacter;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.engine.core.database.recognizer.SimpleDMLStatementRecognizer;
+import org.apache.shardingsphere.sql.parser.engine.spi.DialectSQLStatementRecognizer;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.Optional;
+
+/**
+ * SQL statement recognizer for PostgreSQL.
+ */
+public final class PostgreSQLSQLStatementRecognizer implements DialectSQLStatementRecognizer {
+    
+    private final SimpleDMLStatementRecognizer recognizer = new SimpleDMLStatementRecognizer(QuoteCharacter.QUOTE, true);
+    
+    @Override
+    public Optional<SQLStatement> recognize(final String sql, final DatabaseType databaseType) {
+        return recognizer.recognize(sql, databaseType);
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
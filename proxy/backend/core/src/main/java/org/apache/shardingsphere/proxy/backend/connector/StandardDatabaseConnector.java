@@ -30,9 +30,11 @@ import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertS
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.connection.kernel.TableDataModifiedNotifier;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.kernel.metadata.resource.storageunit.EmptyStorageUnitException;
 import org.apache.shardingsphere.infra.exception.kernel.metadata.rule.EmptyRuleException;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResultList;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -127,6 +129,8 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     
     private MergedResult mergedResult;
     
+    private CompletionOrderedResultList<ExecuteResult> pendingExecuteResults;
+    
     public StandardDatabaseConnector(final String driverType, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
         this.driverType = driverType;
         this.queryContext = queryContext;
@@ -242,6 +246,7 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         List<ExecuteResult> executeResults = advancedExecutors.isEmpty()
                 ? proxySQLExecutor.execute(executionContext)
                 : advancedExecutors.iterator().next().execute(executionContext, contextManager, database, this);
+        TableDataModifiedNotifier.notifyExecuted(queryContext, contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData());
         if (isNeedImplicitCommit(queryContext.getSqlStatementContext().getSqlStatement())) {
             BackendTransactionManager transactionManager = new BackendTransactionManager(databaseConnectionManager);
             transactionManager.commit();
@@ -249,10 +254,18 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         pushDownMetaDataRefreshEngine.refresh(queryContext.getSqlStatementContext(), executionContext.getRouteContext().getRouteUnits());
         Object executeResultSample = executeResults.iterator().next();
         return executeResultSample instanceof QueryResult
-                ? processExecuteQuery(queryContext.getSqlStatementContext(), executeResults.stream().map(QueryResult.class::cast).collect(Collectors.toList()), (QueryResult) executeResultSample)
+                ? processExecuteQuery(queryContext.getSqlStatementContext(), getQueryResults(executeResults), (QueryResult) executeResultSample)
                 : processExecuteUpdate(executeResults.stream().map(UpdateResult.class::cast).collect(Collectors.toList()));
     }
     
+    private List<QueryResult> getQueryResults(final List<ExecuteResult> executeResults) {
+        if (executeResults instanceof CompletionOrderedResultList) {
+            pendingExecuteResults = (CompletionOrderedResultList<ExecuteResult>) executeResults;
+            return pendingExecuteResults.transform(QueryResult.class::cast);
+        }
+        return executeResults.stream().map(QueryResult.class::cast).collect(Collectors.toList());
+    }
+    
     private boolean isNeedImplicitCommit(final SQLStatement sqlStatement) {
         DialectTransactionOption transactionOption = new DatabaseTypeRegistry(sqlStatement.getDatabaseType()).getDialectDatabaseMetaData().getTransactionOption();
         return !databaseConnectionManager.getConnectionSession().isAutoCommit() && sqlStatement instanceof DDLStatement && transactionOption.isDDLNeedImplicitCommit();
@@ -362,9 +375,19 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         return new QueryResponseRow(cells);
     }
     
+    @Override
+    public List<Object> getRowValues() throws SQLException {
+        List<Object> result = new ArrayList<>(queryHeaders.size());
+        for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
+            result.add(mergedResult.getValue(columnIndex, Object.class));
+        }
+        return result;
+    }
+    
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        result.addAll(awaitPendingExecuteResults());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -376,6 +399,15 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         throw ex;
     }
     
+    private Collection<SQLException> awaitPendingExecuteResults() {
+        if (null == pendingExecuteResults) {
+            return Collections.emptyList();
+        }
+        Collection<SQLException> result = pendingExecuteResults.awaitCompletion();
+        pendingExecuteResults = null;
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction;
 
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.connection.kernel.TableDataModifiedNotifier;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
@@ -131,6 +132,7 @@ public final class BackendTransactionManager implements TransactionManager {
             for (Connection each : connection.getCachedConnections().values()) {
                 ConnectionSavepointManager.getInstance().transactionFinished(each);
             }
+            notifyTransactionFinished();
             connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
             connection.getConnectionSession().getConnectionContext().close();
         }
@@ -165,12 +167,17 @@ public final class BackendTransactionManager implements TransactionManager {
                 for (Connection each : connection.getCachedConnections().values()) {
                     ConnectionSavepointManager.getInstance().transactionFinished(each);
                 }
+                notifyTransactionFinished();
                 connection.getConnectionSession().getTransactionStatus().setInTransaction(false);
                 connection.getConnectionSession().getConnectionContext().close();
             }
         }
     }
     
+    private void notifyTransactionFinished() {
+        TableDataModifiedNotifier.notifyTransactionFinished(getTransactionContext(), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData());
+    }
+    
     private TransactionConnectionContext getTransactionContext() {
         return connection.getConnectionSession().getConnectionContext().getTransactionContext();
     }
@@ -21,6 +21,9 @@ import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.parser.normalize.NormalizedSQL;
+import org.apache.shardingsphere.infra.parser.normalize.SQLLiteralNormalizer;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
@@ -28,6 +31,9 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatemen
 import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dal.EmptyStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.util.SQLUtils;
 
+import java.util.Collections;
+import java.util.Optional;
+
 /**
  * Proxy SQL com query parser.
  */
@@ -51,6 +57,40 @@ public final class ProxySQLComQueryParser {
         return rule.getSQLParserEngine(parserDatabaseType).parse(sql, false);
     }
     
+    /**
+     * Parse SQL of com query, numeric literals of which are normalized into parameters if SQL literal normalization is enabled.
+     *
+     * @param sql SQL to be parsed
+     * @param databaseType database type
+     * @param connectionSession connection session
+     * @return parse result
+     */
+    public static ProxySQLComQueryParseResult parseComQuery(final String sql, final DatabaseType databaseType, final ConnectionSession connectionSession) {
+        Optional<NormalizedSQL> normalizedSQL = !sql.isEmpty() && isLiteralNormalizationEnabled() ? SQLLiteralNormalizer.normalize(sql) : Optional.empty();
+        if (normalizedSQL.isPresent()) {
+            Optional<SQLStatement> sqlStatement = parseNormalizedSQL(normalizedSQL.get().getSql(), getParserDatabaseType(databaseType, connectionSession));
+            if (sqlStatement.isPresent()) {
+                return new ProxySQLComQueryParseResult(normalizedSQL.get().getSql(), sqlStatement.get(), normalizedSQL.get().getParameters());
+            }
+        }
+        return new ProxySQLComQueryParseResult(sql, parse(sql, databaseType, connectionSession), Collections.emptyList());
+    }
+    
+    private static boolean isLiteralNormalizationEnabled() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_SQL_LITERAL_NORMALIZATION_ENABLED);
+    }
+    
+    private static Optional<SQLStatement> parseNormalizedSQL(final String normalizedSQL, final DatabaseType parserDatabaseType) {
+        SQLParserRule rule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        try {
+            return Optional.of(rule.getSQLParserEngine(parserDatabaseType).parse(normalizedSQL, true));
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ignored) {
+            // CHECKSTYLE:ON
+            return Optional.empty();
+        }
+    }
+    
     private static DatabaseType getParserDatabaseType(final DatabaseType defaultDatabaseType, final ConnectionSession connectionSession) {
         String databaseName = connectionSession.getUsedDatabaseName();
         return Strings.isNullOrEmpty(databaseName) || !ProxyContext.getInstance().databaseExists(databaseName)
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.handler.tcl;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.connection.kernel.TableDataModifiedNotifier;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
@@ -98,6 +99,8 @@ public final class XATCLHandler implements ProxyBackendHandler {
         try {
             return backendHandler.execute();
         } finally {
+            TableDataModifiedNotifier.notifyTransactionFinished(connectionSession.getConnectionContext().getTransactionContext(),
+                    ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData());
             connectionSession.getConnectionContext().clearTransactionContext();
             connectionSession.getConnectionContext().clearCursorContext();
         }
@@ -22,6 +22,8 @@ import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoa
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderedResultList;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
@@ -77,11 +79,16 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doThrow;
@@ -270,6 +277,29 @@ class StandardDatabaseConnectorTest {
         assertThat(actual.getNextException().getNextException(), is(sqlExceptionByStatement));
     }
     
+    @Test
+    void assertCloseWithPendingExecuteResults() throws SQLException, ReflectiveOperationException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getDatabaseNames()).thenReturn(Collections.emptyList());
+        when(sqlStatementContext.getSqlStatement().getDatabaseType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
+        DatabaseConnector engine = createDatabaseConnector(JDBCDriverType.STATEMENT, createQueryContext(sqlStatementContext));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            CompletionService<Collection<ExecuteResult>> completionService = new ExecutorCompletionService<>(executorService);
+            completionService.submit(() -> {
+                engine.add(statement);
+                return Collections.emptyList();
+            });
+            Plugins.getMemberAccessor().set(StandardDatabaseConnector.class.getDeclaredField("pendingExecuteResults"), engine,
+                    new CompletionOrderedResultList<>(Collections.emptyList(), completionService, 1));
+            engine.close();
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(statement).close();
+        assertNull(getField(engine, "pendingExecuteResults"));
+    }
+    
     @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private <T> T getField(final DatabaseConnector target, final String fieldName) {
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.handler;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.test.infra.framework.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.infra.framework.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+class ProxySQLComQueryParserTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @Test
+    void assertParseComQueryWithLiteralNormalization() {
+        mockContextManager(true);
+        ProxySQLComQueryParseResult actual = ProxySQLComQueryParser.parseComQuery("SELECT * FROM t_order WHERE order_id = 1", databaseType, mock(ConnectionSession.class));
+        assertThat(actual.getSql(), is("SELECT * FROM t_order WHERE order_id = ?"));
+        assertThat(actual.getSqlStatement().getParameterCount(), is(1));
+        assertThat(actual.getParameters(), is(Collections.singletonList(1)));
+    }
+    
+    @Test
+    void assertParseComQueryWithoutLiteralNormalization() {
+        mockContextManager(false);
+        ProxySQLComQueryParseResult actual = ProxySQLComQueryParser.parseComQuery("SELECT * FROM t_order WHERE order_id = 1", databaseType, mock(ConnectionSession.class));
+        assertThat(actual.getSql(), is("SELECT * FROM t_order WHERE order_id = 1"));
+        assertThat(actual.getSqlStatement().getParameterCount(), is(0));
+        assertTrue(actual.getParameters().isEmpty());
+    }
+    
+    private void mockContextManager(final boolean literalNormalizationEnabled) {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        ConfigurationProperties props = new ConfigurationProperties(
+                PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_SQL_LITERAL_NORMALIZATION_ENABLED.getKey(), String.valueOf(literalNormalizationEnabled))));
+        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(props);
+        when(contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData())
+                .thenReturn(new RuleMetaData(Collections.singleton(new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build()))));
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+    }
+}
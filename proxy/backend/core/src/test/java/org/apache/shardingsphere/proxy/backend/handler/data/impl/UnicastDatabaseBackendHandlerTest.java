@@ -134,6 +134,17 @@ class UnicastDatabaseBackendHandlerTest {
         }
     }
     
+    @Test
+    void assertGetRowValues() throws SQLException {
+        ContextManager contextManager = mockContextManager();
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        ShardingSphereDatabase database = createDatabases().iterator().next();
+        when(contextManager.getDatabase("db_0")).thenReturn(database);
+        unicastDatabaseBackendHandler.execute();
+        when(databaseConnector.getRowValues()).thenReturn(Collections.singletonList(1));
+        assertThat(unicastDatabaseBackendHandler.getRowValues(), is(Collections.singletonList(1)));
+    }
+    
     private ContextManager mockContextManager() {
         ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         ShardingSphereMetaData metaData = new ShardingSphereMetaData(createDatabases(), mock(), mock(), mock());
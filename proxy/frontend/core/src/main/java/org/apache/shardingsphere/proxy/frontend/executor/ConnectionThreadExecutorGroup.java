@@ -18,12 +18,16 @@
 package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadExecutorServiceFactory;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,15 +37,20 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * If virtual thread is enabled, all commands of each connection run in a dedicated virtual thread which lives as long as the connection.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class ConnectionThreadExecutorGroup {
     
     private static final ConnectionThreadExecutorGroup INSTANCE = new ConnectionThreadExecutorGroup();
     
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    @Getter
+    private volatile boolean virtualThreadEnabled;
+    
     /**
      * Get connection thread executor group.
      *
@@ -51,13 +60,32 @@ public final class ConnectionThreadExecutorGroup {
         return INSTANCE;
     }
     
+    /**
+     * Set whether run commands of each connection in a dedicated virtual thread.
+     *
+     * @param virtualThreadEnabled virtual thread enabled or not, ignored if virtual thread is not supported by current JVM
+     */
+    public void setVirtualThreadEnabled(final boolean virtualThreadEnabled) {
+        if (virtualThreadEnabled && !VirtualThreadExecutorServiceFactory.isSupported()) {
+            log.warn("Virtual thread is not supported by current JVM, connection virtual thread is disabled.");
+            return;
+        }
+        this.virtualThreadEnabled = virtualThreadEnabled;
+    }
+    
     /**
      * Register connection.
      *
      * @param connectionId connection id
      */
     public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+        executorServices.put(connectionId, virtualThreadEnabled ? newVirtualThreadExecutorService(connectionId) : newSingleThreadExecutorService(connectionId));
+    }
+    
+    private ExecutorService newVirtualThreadExecutorService(final int connectionId) {
+        ThreadFactory threadFactory = VirtualThreadExecutorServiceFactory.createThreadFactory(String.format("Connection-%d-ThreadExecutor", connectionId))
+                .orElseThrow(() -> new IllegalStateException("Virtual thread is not supported by current JVM."));
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
@@ -42,7 +42,7 @@ public final class OKProxyState implements ProxyState {
     }
     
     private ExecutorService determineSuitableExecutorService(final ConnectionSession connectionSession) {
-        return requireOccupyThreadForConnection(connectionSession)
+        return ConnectionThreadExecutorGroup.getInstance().isVirtualThreadEnabled() || requireOccupyThreadForConnection(connectionSession)
                 ? ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId())
                 : UserExecutorGroup.getInstance().getExecutorService();
     }
@@ -17,8 +17,12 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadExecutorServiceFactory;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -39,4 +43,19 @@ class ConnectionThreadExecutorGroupTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
     }
+    
+    @Test
+    void assertSetVirtualThreadEnabled() {
+        ConnectionThreadExecutorGroup.getInstance().setVirtualThreadEnabled(true);
+        try {
+            assertThat(ConnectionThreadExecutorGroup.getInstance().isVirtualThreadEnabled(), is(VirtualThreadExecutorServiceFactory.isSupported()));
+            int connectionId = 3;
+            ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+            assertNotNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
+            ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        } finally {
+            ConnectionThreadExecutorGroup.getInstance().setVirtualThreadEnabled(false);
+        }
+        assertFalse(ConnectionThreadExecutorGroup.getInstance().isVirtualThreadEnabled());
+    }
 }
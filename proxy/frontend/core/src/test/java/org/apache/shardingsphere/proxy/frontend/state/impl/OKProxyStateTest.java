@@ -86,12 +86,29 @@ class OKProxyStateTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
     }
     
+    @Test
+    @SneakyThrows(ReflectiveOperationException.class)
+    void assertExecuteWithConnectionVirtualThreadEnabled() {
+        ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(connectionSession.getConnectionId()).thenReturn(2);
+        ExecutorService executorService = registerMockExecutorService(2);
+        Plugins.getMemberAccessor().set(ConnectionThreadExecutorGroup.class.getDeclaredField("virtualThreadEnabled"), ConnectionThreadExecutorGroup.getInstance(), true);
+        try {
+            new OKProxyState().execute(context, null, mock(DatabaseProtocolFrontendEngine.class), connectionSession);
+            verify(executorService).execute(any(CommandExecutorTask.class));
+        } finally {
+            Plugins.getMemberAccessor().set(ConnectionThreadExecutorGroup.class.getDeclaredField("virtualThreadEnabled"), ConnectionThreadExecutorGroup.getInstance(), false);
+            ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(2);
+        }
+    }
+    
     private ContextManager mockContextManager() {
         ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
         when(metaData.getDatabase("foo_db")).thenReturn(mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS));
         when(metaData.getAllDatabases()).thenReturn(Collections.singleton(mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS)));
         when(metaData.getAllDatabases().iterator().next().getProtocolType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "FIXTURE"));
         when(metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(0);
+        when(metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
         when(metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.PERSIST_SCHEMAS_TO_REPOSITORY_ENABLED)).thenReturn(true);
         TransactionRule transactionRule = mock(TransactionRule.class);
         when(transactionRule.getDefaultType()).thenReturn(TransactionType.XA);
@@ -101,7 +118,7 @@ class OKProxyStateTest {
         return new ContextManager(new MetaDataContexts(metaData, ShardingSphereStatisticsFactory.create(metaData, new ShardingSphereStatistics())), computeNodeInstanceContext, mock(), mock());
     }
     
-    @SuppressWarnings({"unchecked", "SameParameterValue"})
+    @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private ExecutorService registerMockExecutorService(final int connectionId) {
         Map<Integer, ExecutorService> executorServices = (Map<Integer, ExecutorService>) Plugins.getMemberAccessor()
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementCont
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.connection.kernel.TableDataModifiedNotifier;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -147,7 +148,11 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
                         new ExecutionGroupReportContext(connectionSession.getProcessId(), connectionSession.getUsedDatabaseName(), connectionSession.getConnectionContext().getGrantee()));
         batchExecutor.init(executionGroupContext);
         executeAddBatch(executionGroupContext);
-        return new MultiStatementsUpdateResponseHeader(buildUpdateResponseHeaders(batchExecutor.executeBatch(multiSQLQueryContexts.iterator().next().getSqlStatementContext())));
+        int[] updateCounts = batchExecutor.executeBatch(multiSQLQueryContexts.iterator().next().getSqlStatementContext());
+        for (QueryContext each : multiSQLQueryContexts) {
+            TableDataModifiedNotifier.notifyExecuted(each, metaDataContexts.getMetaData().getGlobalRuleMetaData());
+        }
+        return new MultiStatementsUpdateResponseHeader(buildUpdateResponseHeaders(updateCounts));
     }
     
     private List<ExecutionUnit> createExecutionUnits() {
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.database.protocol.opengauss.packet.command.Open
 import org.apache.shardingsphere.database.protocol.opengauss.packet.command.bind.OpenGaussComBatchBindPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.PostgreSQLBatchedPacketRange;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.close.PostgreSQLComClosePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
@@ -57,6 +58,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -123,8 +125,11 @@ class OpenGaussCommandExecutorFactoryTest {
         PostgreSQLComParsePacket parsePacket = mock(PostgreSQLComParsePacket.class);
         when(parsePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.PARSE_COMMAND);
         PostgreSQLComBindPacket bindPacket = mock(PostgreSQLComBindPacket.class);
+        when(bindPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.BIND_COMMAND);
         PostgreSQLComDescribePacket describePacket = mock(PostgreSQLComDescribePacket.class);
+        when(describePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.DESCRIBE_COMMAND);
         PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+        when(executePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.EXECUTE_COMMAND);
         PostgreSQLComClosePacket closePacket = mock(PostgreSQLComClosePacket.class);
         when(closePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.CLOSE_COMMAND);
         PostgreSQLComSyncPacket syncPacket = mock(PostgreSQLComSyncPacket.class);
@@ -135,13 +140,21 @@ class OpenGaussCommandExecutorFactoryTest {
         when(packet.isContainsBatchedStatements()).thenReturn(true);
         when(packet.getPackets()).thenReturn(
                 Arrays.asList(parsePacket, bindPacket, describePacket, executePacket, bindPacket, describePacket, executePacket, closePacket, syncPacket, terminationPacket));
-        when(packet.getBatchPacketBeginIndex()).thenReturn(1);
-        when(packet.getBatchPacketEndIndex()).thenReturn(6);
+        when(packet.getBatchPacketRanges()).thenReturn(Collections.singletonList(new PostgreSQLBatchedPacketRange(1, 6)));
         CommandExecutor actual = OpenGaussCommandExecutorFactory.newInstance(null, packet, connectionSession, portalContext);
         assertThat(actual, isA(PostgreSQLAggregatedCommandExecutor.class));
         Iterator<CommandExecutor> actualPacketsIterator = getExecutorsFromAggregatedCommandExecutor((PostgreSQLAggregatedCommandExecutor) actual).iterator();
         assertThat(actualPacketsIterator.next(), isA(PostgreSQLComParseExecutor.class));
-        assertThat(actualPacketsIterator.next(), isA(PostgreSQLAggregatedBatchedStatementsCommandExecutor.class));
+        CommandExecutor actualBatchedExecutor = actualPacketsIterator.next();
+        assertThat(actualBatchedExecutor, isA(PostgreSQLAggregatedBatchedStatementsCommandExecutor.class));
+        Iterator<CommandExecutor> actualSequentialExecutorsIterator =
+                getSequentialExecutorsFromBatchedExecutor((PostgreSQLAggregatedBatchedStatementsCommandExecutor) actualBatchedExecutor).iterator();
+        for (int i = 0; i < 2; i++) {
+            assertThat(actualSequentialExecutorsIterator.next(), isA(PostgreSQLComBindExecutor.class));
+            assertThat(actualSequentialExecutorsIterator.next(), isA(PostgreSQLComDescribeExecutor.class));
+            assertThat(actualSequentialExecutorsIterator.next(), isA(PostgreSQLComExecuteExecutor.class));
+        }
+        assertFalse(actualSequentialExecutorsIterator.hasNext());
         assertThat(actualPacketsIterator.next(), isA(PostgreSQLComCloseExecutor.class));
         assertThat(actualPacketsIterator.next(), isA(PostgreSQLComSyncExecutor.class));
         assertThat(actualPacketsIterator.next(), isA(PostgreSQLComTerminationExecutor.class));
@@ -153,4 +166,10 @@ class OpenGaussCommandExecutorFactoryTest {
     private List<CommandExecutor> getExecutorsFromAggregatedCommandExecutor(final PostgreSQLAggregatedCommandExecutor executor) {
         return (List<CommandExecutor>) Plugins.getMemberAccessor().get(PostgreSQLAggregatedCommandExecutor.class.getDeclaredField("executors"), executor);
     }
+    
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(ReflectiveOperationException.class)
+    private List<CommandExecutor> getSequentialExecutorsFromBatchedExecutor(final PostgreSQLAggregatedBatchedStatementsCommandExecutor executor) {
+        return (List<CommandExecutor>) Plugins.getMemberAccessor().get(PostgreSQLAggregatedBatchedStatementsCommandExecutor.class.getDeclaredField("sequentialExecutors"), executor);
+    }
 }
@@ -30,6 +30,10 @@ import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.Pos
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.UpdateStatement;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -39,6 +43,7 @@ import java.util.List;
 
 /**
  * Aggregated batched statements command executor for PostgreSQL.
+ * Only INSERT, UPDATE and DELETE without RETURNING are executed as a batch, other statements are executed by the sequential executors.
  */
 @RequiredArgsConstructor
 public final class PostgreSQLAggregatedBatchedStatementsCommandExecutor implements CommandExecutor {
@@ -47,9 +52,14 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutor implemen
     
     private final List<PostgreSQLCommandPacket> packets;
     
+    private final List<CommandExecutor> sequentialExecutors;
+    
     @Override
     public Collection<DatabasePacket> execute() throws SQLException {
         PostgreSQLServerPreparedStatement preparedStatement = getPreparedStatement();
+        if (!isBatchable(preparedStatement.getSqlStatementContext().getSqlStatement())) {
+            return executeSequentially();
+        }
         PostgreSQLBatchedStatementsExecutor executor = new PostgreSQLBatchedStatementsExecutor(connectionSession, preparedStatement, readParameterSets(preparedStatement.getParameterTypes()));
         Collection<DatabasePacket> result = new ArrayList<>(packets.size());
         int totalInserted = executor.executeBatch();
@@ -74,6 +84,31 @@ public final class PostgreSQLAggregatedBatchedStatementsCommandExecutor implemen
         return connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(bindPacket.getStatementId());
     }
     
+    private boolean isBatchable(final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof InsertStatement) {
+            return !((InsertStatement) sqlStatement).getReturning().isPresent();
+        }
+        if (sqlStatement instanceof UpdateStatement) {
+            return !((UpdateStatement) sqlStatement).getReturning().isPresent();
+        }
+        if (sqlStatement instanceof DeleteStatement) {
+            return !((DeleteStatement) sqlStatement).getReturning().isPresent();
+        }
+        return false;
+    }
+    
+    private Collection<DatabasePacket> executeSequentially() throws SQLException {
+        Collection<DatabasePacket> result = new LinkedList<>();
+        for (CommandExecutor each : sequentialExecutors) {
+            try {
+                result.addAll(each.execute());
+            } finally {
+                each.close();
+            }
+        }
+        return result;
+    }
+    
     private List<List<Object>> readParameterSets(final List<PostgreSQLColumnType> parameterTypes) {
         List<List<Object>> result = new LinkedList<>();
         for (PostgreSQLCommandPacket each : packets) {
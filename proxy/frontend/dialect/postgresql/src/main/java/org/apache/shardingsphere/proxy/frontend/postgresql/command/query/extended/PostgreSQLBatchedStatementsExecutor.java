@@ -24,6 +24,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementCont
 import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.connection.kernel.TableDataModifiedNotifier;
 import org.apache.shardingsphere.infra.executor.audit.SQLAuditEngine;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -148,7 +149,9 @@ public final class PostgreSQLBatchedStatementsExecutor {
     public int executeBatch() throws SQLException {
         connectionSession.getDatabaseConnectionManager().handleAutoCommit();
         addBatchedParametersToPreparedStatements();
-        return executeBatchedPreparedStatements();
+        int result = executeBatchedPreparedStatements();
+        TableDataModifiedNotifier.notifyExecuted(anyExecutionContext.getQueryContext(), metaDataContexts.getMetaData().getGlobalRuleMetaData());
+        return result;
     }
     
     private void addBatchedParametersToPreparedStatements() throws SQLException {
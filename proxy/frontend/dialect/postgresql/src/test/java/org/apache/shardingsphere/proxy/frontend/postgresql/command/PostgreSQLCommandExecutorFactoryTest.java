@@ -23,6 +23,7 @@ import lombok.SneakyThrows;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.PostgreSQLBatchedPacketRange;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.close.PostgreSQLComClosePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
@@ -54,6 +55,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -134,19 +136,56 @@ class PostgreSQLCommandExecutorFactoryTest {
         PostgreSQLComParsePacket parsePacket = mock(PostgreSQLComParsePacket.class);
         when(parsePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.PARSE_COMMAND);
         PostgreSQLComBindPacket bindPacket = mock(PostgreSQLComBindPacket.class);
+        when(bindPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.BIND_COMMAND);
         PostgreSQLComDescribePacket describePacket = mock(PostgreSQLComDescribePacket.class);
+        when(describePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.DESCRIBE_COMMAND);
         PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+        when(executePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.EXECUTE_COMMAND);
         PostgreSQLComSyncPacket syncPacket = mock(PostgreSQLComSyncPacket.class);
         when(syncPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.SYNC_COMMAND);
         PostgreSQLAggregatedCommandPacket packet = mock(PostgreSQLAggregatedCommandPacket.class);
         when(packet.isContainsBatchedStatements()).thenReturn(true);
         when(packet.getPackets()).thenReturn(Arrays.asList(parsePacket, bindPacket, describePacket, executePacket, bindPacket, describePacket, executePacket, syncPacket));
-        when(packet.getBatchPacketBeginIndex()).thenReturn(1);
-        when(packet.getBatchPacketEndIndex()).thenReturn(6);
+        when(packet.getBatchPacketRanges()).thenReturn(Collections.singletonList(new PostgreSQLBatchedPacketRange(1, 6)));
         CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(null, packet, connectionSession, portalContext);
         assertThat(actual, isA(PostgreSQLAggregatedCommandExecutor.class));
         Iterator<CommandExecutor> actualPacketsIterator = getExecutorsFromAggregatedCommandExecutor((PostgreSQLAggregatedCommandExecutor) actual).iterator();
         assertThat(actualPacketsIterator.next(), isA(PostgreSQLComParseExecutor.class));
+        CommandExecutor actualBatchedExecutor = actualPacketsIterator.next();
+        assertThat(actualBatchedExecutor, isA(PostgreSQLAggregatedBatchedStatementsCommandExecutor.class));
+        Iterator<CommandExecutor> actualSequentialExecutorsIterator =
+                getSequentialExecutorsFromBatchedExecutor((PostgreSQLAggregatedBatchedStatementsCommandExecutor) actualBatchedExecutor).iterator();
+        for (int i = 0; i < 2; i++) {
+            assertThat(actualSequentialExecutorsIterator.next(), isA(PostgreSQLComBindExecutor.class));
+            assertThat(actualSequentialExecutorsIterator.next(), isA(PostgreSQLComDescribeExecutor.class));
+            assertThat(actualSequentialExecutorsIterator.next(), isA(PostgreSQLComExecuteExecutor.class));
+        }
+        assertFalse(actualSequentialExecutorsIterator.hasNext());
+        assertThat(actualPacketsIterator.next(), isA(PostgreSQLComSyncExecutor.class));
+        assertFalse(actualPacketsIterator.hasNext());
+    }
+    
+    @Test
+    void assertAggregatedPacketWithMultipleBatchedStatements() throws SQLException {
+        PostgreSQLComParsePacket parsePacket = mock(PostgreSQLComParsePacket.class);
+        when(parsePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.PARSE_COMMAND);
+        PostgreSQLComBindPacket bindPacket = mock(PostgreSQLComBindPacket.class);
+        when(bindPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.BIND_COMMAND);
+        PostgreSQLComExecutePacket executePacket = mock(PostgreSQLComExecutePacket.class);
+        when(executePacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.EXECUTE_COMMAND);
+        PostgreSQLComSyncPacket syncPacket = mock(PostgreSQLComSyncPacket.class);
+        when(syncPacket.getIdentifier()).thenReturn(PostgreSQLCommandPacketType.SYNC_COMMAND);
+        PostgreSQLAggregatedCommandPacket packet = mock(PostgreSQLAggregatedCommandPacket.class);
+        when(packet.isContainsBatchedStatements()).thenReturn(true);
+        when(packet.getPackets()).thenReturn(Arrays.asList(
+                parsePacket, bindPacket, executePacket, bindPacket, executePacket, parsePacket, bindPacket, executePacket, bindPacket, executePacket, syncPacket));
+        when(packet.getBatchPacketRanges()).thenReturn(Arrays.asList(new PostgreSQLBatchedPacketRange(1, 4), new PostgreSQLBatchedPacketRange(6, 9)));
+        CommandExecutor actual = PostgreSQLCommandExecutorFactory.newInstance(null, packet, connectionSession, portalContext);
+        assertThat(actual, isA(PostgreSQLAggregatedCommandExecutor.class));
+        Iterator<CommandExecutor> actualPacketsIterator = getExecutorsFromAggregatedCommandExecutor((PostgreSQLAggregatedCommandExecutor) actual).iterator();
+        assertThat(actualPacketsIterator.next(), isA(PostgreSQLComParseExecutor.class));
+        assertThat(actualPacketsIterator.next(), isA(PostgreSQLAggregatedBatchedStatementsCommandExecutor.class));
+        assertThat(actualPacketsIterator.next(), isA(PostgreSQLComParseExecutor.class));
         assertThat(actualPacketsIterator.next(), isA(PostgreSQLAggregatedBatchedStatementsCommandExecutor.class));
         assertThat(actualPacketsIterator.next(), isA(PostgreSQLComSyncExecutor.class));
         assertFalse(actualPacketsIterator.hasNext());
@@ -174,6 +213,12 @@ class PostgreSQLCommandExecutorFactoryTest {
         return (List<CommandExecutor>) Plugins.getMemberAccessor().get(PostgreSQLAggregatedCommandExecutor.class.getDeclaredField("executors"), executor);
     }
     
+    @SuppressWarnings("unchecked")
+    @SneakyThrows(ReflectiveOperationException.class)
+    private List<CommandExecutor> getSequentialExecutorsFromBatchedExecutor(final PostgreSQLAggregatedBatchedStatementsCommandExecutor executor) {
+        return (List<CommandExecutor>) Plugins.getMemberAccessor().get(PostgreSQLAggregatedBatchedStatementsCommandExecutor.class.getDeclaredField("sequentialExecutors"), executor);
+    }
+    
     @RequiredArgsConstructor
     @Getter
     private static final class InputOutput {
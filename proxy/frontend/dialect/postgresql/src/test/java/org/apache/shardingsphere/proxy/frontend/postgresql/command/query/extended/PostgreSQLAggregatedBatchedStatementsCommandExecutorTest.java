@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extend
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.PostgreSQLNoDataPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLBindCompletePacket;
@@ -29,6 +30,7 @@ import org.apache.shardingsphere.database.protocol.postgresql.packet.command.que
 import org.apache.shardingsphere.database.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -47,6 +49,7 @@ import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBack
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementRegistry;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.apache.shardingsphere.sqltranslator.rule.builder.DefaultSQLTranslatorRuleConfigurationBuilder;
@@ -62,6 +65,7 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -73,6 +77,8 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(AutoMockExtension.class)
@@ -86,6 +92,8 @@ class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
     
     private static final String SQL = "INSERT INTO t_order (id) VALUES (?)";
     
+    private static final String SELECT_SQL = "SELECT id FROM t_order WHERE id = ?";
+    
     private static final int BATCH_SIZE = 10;
     
     private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "PostgreSQL");
@@ -94,8 +102,8 @@ class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
     
     @Test
     void assertExecute() throws SQLException {
-        ConnectionSession connectionSession = mockConnectionSession();
-        PostgreSQLAggregatedBatchedStatementsCommandExecutor executor = new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, createPackets());
+        ConnectionSession connectionSession = mockConnectionSession(SQL, mock(InsertStatementContext.class));
+        PostgreSQLAggregatedBatchedStatementsCommandExecutor executor = new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, createPackets(), Collections.emptyList());
         ContextManager contextManager = mockContextManager();
         when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
         List<DatabasePacket> actualPackets = new ArrayList<>(executor.execute());
@@ -107,10 +115,29 @@ class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
         }
     }
     
-    private ConnectionSession mockConnectionSession() throws SQLException {
+    @Test
+    void assertExecuteSelectSequentially() throws SQLException {
+        ConnectionSession connectionSession = mockConnectionSession(SELECT_SQL, mock(SelectStatementContext.class));
+        CommandExecutor bindExecutor = mock(CommandExecutor.class);
+        when(bindExecutor.execute()).thenReturn(Collections.singletonList(PostgreSQLBindCompletePacket.getInstance()));
+        PostgreSQLDataRowPacket dataRowPacket = new PostgreSQLDataRowPacket(Collections.singleton(1));
+        CommandExecutor executeExecutor = mock(CommandExecutor.class);
+        when(executeExecutor.execute()).thenReturn(Arrays.asList(dataRowPacket, new PostgreSQLCommandCompletePacket("SELECT", 1L)));
+        PostgreSQLAggregatedBatchedStatementsCommandExecutor executor =
+                new PostgreSQLAggregatedBatchedStatementsCommandExecutor(connectionSession, createPackets(), Arrays.asList(bindExecutor, executeExecutor));
+        List<DatabasePacket> actualPackets = new ArrayList<>(executor.execute());
+        assertThat(actualPackets.size(), is(3));
+        assertThat(actualPackets.get(0), is(PostgreSQLBindCompletePacket.getInstance()));
+        assertThat(actualPackets.get(1), is(dataRowPacket));
+        assertThat(actualPackets.get(2), isA(PostgreSQLCommandCompletePacket.class));
+        verify(bindExecutor).close();
+        verify(executeExecutor).close();
+        verify(connectionSession, never()).getDatabaseConnectionManager();
+    }
+    
+    private ConnectionSession mockConnectionSession(final String sql, final SQLStatementContext sqlStatementContext) throws SQLException {
         ConnectionSession result = mock(ConnectionSession.class);
-        SQLStatementContext sqlStatementContext = mock(InsertStatementContext.class);
-        when(sqlStatementContext.getSqlStatement()).thenReturn(parserEngine.parse(SQL, false));
+        when(sqlStatementContext.getSqlStatement()).thenReturn(parserEngine.parse(sql, false));
         when(result.getCurrentDatabaseName()).thenReturn("foo_db");
         when(result.getUsedDatabaseName()).thenReturn("foo_db");
         ConnectionContext connectionContext = new ConnectionContext(Collections::emptySet);
@@ -118,7 +145,7 @@ class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
         when(result.getConnectionContext()).thenReturn(connectionContext);
         when(result.getServerPreparedStatementRegistry()).thenReturn(new ServerPreparedStatementRegistry());
         result.getServerPreparedStatementRegistry().addPreparedStatement(STATEMENT_ID,
-                new PostgreSQLServerPreparedStatement(SQL, sqlStatementContext, new HintValueContext(), Collections.singletonList(PostgreSQLColumnType.INT4), Collections.singletonList(0)));
+                new PostgreSQLServerPreparedStatement(sql, sqlStatementContext, new HintValueContext(), Collections.singletonList(PostgreSQLColumnType.INT4), Collections.singletonList(0)));
         when(result.getConnectionId()).thenReturn(CONNECTION_ID);
         ProxyDatabaseConnectionManager databaseConnectionManager = mock(ProxyDatabaseConnectionManager.class);
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
@@ -152,8 +179,10 @@ class PostgreSQLAggregatedBatchedStatementsCommandExecutorTest {
     private ContextManager mockContextManager() {
         ContextManager result = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         when(result.getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(0);
+        when(result.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
         when(result.getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY)).thenReturn(1);
         when(result.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)).thenReturn(false);
+        when(result.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_REWRITE_PLAN_CACHE_ENABLED)).thenReturn(false);
         RuleMetaData globalRuleMetaData = new RuleMetaData(Collections.singleton(new SQLTranslatorRule(new DefaultSQLTranslatorRuleConfigurationBuilder().build())));
         when(result.getMetaDataContexts().getMetaData().getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
         ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.it.sql.parser.internal;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.engine.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.engine.api.SQLStatementVisitorEngine;
+import org.apache.shardingsphere.sql.parser.engine.spi.DialectSQLStatementRecognizer;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.SQLCaseAssertContext;
+import org.apache.shardingsphere.test.it.sql.parser.internal.asserts.statement.SQLStatementAssert;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.SQLParserTestCases;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.jaxb.SQLParserTestCase;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.parser.registry.SQLParserTestCasesRegistry;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.sql.SQLCases;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.sql.registry.SQLCasesRegistry;
+import org.apache.shardingsphere.test.it.sql.parser.internal.cases.sql.type.SQLCaseType;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.support.ParameterDeclarations;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Internal SQL statement recognizer integrate test, which asserts SQL statements recognized without ANTLR parsing by the same expected results and ANTLR visitor results.
+ */
+public abstract class InternalSQLStatementRecognizerIT {
+    
+    private static final SQLCases SQL_CASES = SQLCasesRegistry.getInstance().getCases();
+    
+    private static final SQLParserTestCases SQL_PARSER_TEST_CASES = SQLParserTestCasesRegistry.getInstance().getCases();
+    
+    @ParameterizedTest(name = "{0} ({1}) -> {2}")
+    @ArgumentsSource(TestCaseArgumentsProvider.class)
+    void assertRecognizedSQL(final String sqlCaseId, final SQLCaseType sqlCaseType, final String databaseType) {
+        String sql = SQL_CASES.getSQL(sqlCaseId, sqlCaseType, SQL_PARSER_TEST_CASES.get(sqlCaseId).getParameters());
+        Optional<SQLStatement> actual = recognize(databaseType, sql);
+        assertTrue(actual.isPresent());
+        SQLParserTestCase expected = SQL_PARSER_TEST_CASES.get(sqlCaseId);
+        SQLStatementAssert.assertIs(new SQLCaseAssertContext(sqlCaseId, sql, expected.getParameters(), sqlCaseType), actual.get(), expected);
+        SQLStatement parsed = new SQLStatementVisitorEngine(databaseType).visit(new SQLParserEngine(databaseType, new CacheOption(128, 1024L)).parse(sql, false));
+        assertThat(actual.get().getClass().getName(), is(parsed.getClass().getName()));
+        assertThat(actual.get().getParameterCount(), is(parsed.getParameterCount()));
+        assertThat(actual.get().getParameterMarkers().size(), is(parsed.getParameterMarkers().size()));
+    }
+    
+    private static Optional<SQLStatement> recognize(final String databaseType, final String sql) {
+        DatabaseType type = TypedSPILoader.getService(DatabaseType.class, databaseType);
+        return DatabaseTypedSPILoader.findService(DialectSQLStatementRecognizer.class, type).flatMap(optional -> optional.recognize(sql, type));
+    }
+    
+    private static class TestCaseArgumentsProvider implements ArgumentsProvider {
+        
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ParameterDeclarations parameters, final ExtensionContext context) {
+            InternalSQLParserITSettings settings = context.getRequiredTestClass().getAnnotation(InternalSQLParserITSettings.class);
+            Preconditions.checkNotNull(settings, "Annotation InternalSQLParserITSettings is required.");
+            return getTestParameters(settings.value()).stream();
+        }
+        
+        private Collection<Arguments> getTestParameters(final String... databaseTypes) {
+            Collection<Arguments> result = new LinkedList<>();
+            for (InternalSQLParserTestParameter each : SQL_CASES.generateTestParameters(Arrays.stream(databaseTypes).collect(Collectors.toSet()))) {
+                if (isRecognized(each)) {
+                    result.add(Arguments.arguments(each.getSqlCaseId(), each.getSqlCaseType(), each.getDatabaseType()));
+                }
+            }
+            return result;
+        }
+        
+        private boolean isRecognized(final InternalSQLParserTestParameter testParam) {
+            SQLParserTestCase testCase = SQL_PARSER_TEST_CASES.get(testParam.getSqlCaseId());
+            if (SQLCaseType.PLACEHOLDER == testParam.getSqlCaseType() && testCase.getParameters().isEmpty()) {
+                return false;
+            }
+            return recognize(testParam.getDatabaseType(), SQL_CASES.getSQL(testParam.getSqlCaseId(), testParam.getSqlCaseType(), testCase.getParameters())).isPresent();
+        }
+    }
+}
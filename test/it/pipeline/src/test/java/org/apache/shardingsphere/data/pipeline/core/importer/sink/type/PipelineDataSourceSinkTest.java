@@ -51,9 +51,12 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -112,6 +115,24 @@ class PipelineDataSourceSinkTest {
         verify(preparedStatement).addBatch();
     }
     
+    @Test
+    void assertWriteMultiRowInsertDataRecords() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        List<Record> records = new LinkedList<>();
+        for (int i = 1; i <= 4; i++) {
+            DataRecord insertRecord = new DataRecord(PipelineSQLOperationType.INSERT, TABLE_NAME, new IngestPlaceholderPosition(), 3);
+            insertRecord.addColumn(new NormalColumn("id", null, i, false, true));
+            insertRecord.addColumn(new NormalColumn("user", null, 10, true, false));
+            insertRecord.addColumn(new NormalColumn("status", null, PipelineSQLOperationType.INSERT, true, false));
+            records.add(insertRecord);
+        }
+        try (PipelineDataSourceSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(), mockPipelineDataSourceManager())) {
+            assertThat(pipelineSink.write("", records).getProcessedRecordsCount(), is(4));
+        }
+        verify(preparedStatement, atLeastOnce()).executeUpdate();
+        verify(connection, atLeastOnce()).commit();
+    }
+    
     @Test
     void assertDeleteDataRecord() throws SQLException {
         DataRecord deleteRecord = getDataRecord(PipelineSQLOperationType.DELETE);